@@ -151,6 +151,17 @@ public final class BinaryRecordData extends BinarySection implements RecordData,
         return BinarySegmentUtils.readStringData(segments, offset, fieldOffset, offsetAndLen);
     }
 
+    /**
+     * Hashes the payload bytes of a variable-length field (like strings and binaries) in place,
+     * which is equivalent to hashing the bytes of {@link #getString} or {@link #getBinary} result.
+     */
+    public int hashVariableLengthField(int pos) {
+        assertIndexIsValid(pos);
+        int fieldOffset = getFieldOffset(pos);
+        final long offsetAndLen = segments[0].getLong(fieldOffset);
+        return BinarySegmentUtils.hashVariablePartData(segments, offset, fieldOffset, offsetAndLen);
+    }
+
     @Override
     public DecimalData getDecimal(int pos, int precision, int scale) {
         assertIndexIsValid(pos);
@@ -1096,6 +1096,32 @@ public final class BinarySegmentUtils {
         }
     }
 
+    /**
+     * Hashes the payload of a variable-length field stored by {@link
+     * #readStringData(MemorySegment[], int, int, long)} or {@link #readBinary(MemorySegment[], int,
+     * int, long)} in place, without materializing it.
+     */
+    public static int hashVariablePartData(
+            MemorySegment[] segments,
+            int baseOffset,
+            int fieldOffset,
+            long variablePartOffsetAndLen) {
+        long mark = variablePartOffsetAndLen & HIGHEST_FIRST_BIT;
+        if (mark == 0) {
+            final int subOffset = (int) (variablePartOffsetAndLen >> 32);
+            final int len = (int) variablePartOffsetAndLen;
+            return hash(segments, baseOffset + subOffset, len);
+        } else {
+            int len = (int) ((variablePartOffsetAndLen & HIGHEST_SECOND_TO_EIGHTH_BIT) >>> 56);
+            if (BinarySegmentUtils.LITTLE_ENDIAN) {
+                return hash(segments, fieldOffset, len);
+            } else {
+                // fieldOffset + 1 to skip header.
+                return hash(segments, fieldOffset + 1, len);
+            }
+        }
+    }
+
     /** Gets an instance of {@link RecordData} from underlying {@link MemorySegment}. */
     public static RecordData readRecordData(
             MemorySegment[] segments, int numFields, int baseOffset, long offsetAndSize) {
@@ -17,12 +17,17 @@
 
 package org.apache.flink.cdc.common.event;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * An {@link Event} from {@code SchemaOperator} to notify {@code DataSinkWriterOperator} that it
  * start flushing.
+ *
+ * <p>A {@link FlushEvent} is immutable, so that it could be broadcast to all downstream subTasks
+ * without being copied.
  */
 public class FlushEvent implements Event {
     /** The sink table(s) that need to be flushed. */
@@ -38,7 +43,7 @@ public class FlushEvent implements Event {
             int sourceSubTaskId,
             List<TableId> tableIds,
             SchemaChangeEventType schemaChangeEventType) {
-        this.tableIds = tableIds;
+        this.tableIds = Collections.unmodifiableList(new ArrayList<>(tableIds));
         this.sourceSubTaskId = sourceSubTaskId;
         this.schemaChangeEventType = schemaChangeEventType;
     }
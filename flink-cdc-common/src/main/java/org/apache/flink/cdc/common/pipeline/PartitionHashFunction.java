@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.pipeline;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+/**
+ * Hash function used to distribute data change events to sink subtasks, if the sink does not
+ * provide its own partitioning.
+ */
+@PublicEvolving
+public enum PartitionHashFunction {
+
+    /** Hashes table ID and primary key values as Java objects. */
+    DEFAULT,
+
+    /**
+     * Hashes primary key fields straight from binary records with Murmur3 finalization. Primitive,
+     * string and binary keys are hashed without allocating any objects per record.
+     */
+    MURMUR3
+}
@@ -120,5 +120,40 @@ public class PipelineOptions {
                     .withDescription(
                             "The timeout time for SchemaOperator to wait downstream SchemaChangeEvent applying finished, the default value is 3 minutes.");
 
+    public static final ConfigOption<Boolean> PIPELINE_SCHEMA_OPERATOR_ASYNC_EVOLUTION =
+            ConfigOptions.key("schema-operator.async-evolution.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether SchemaOperator keeps forwarding data change events of unaffected tables while waiting for downstream SchemaChangeEvent applying. "
+                                    + "Only takes effect for the regular pipeline topology.");
+
+    public static final ConfigOption<Integer> PIPELINE_SCHEMA_OPERATOR_MAX_BUFFERED_RECORDS =
+            ConfigOptions.key("schema-operator.async-evolution.max-buffered-records")
+                    .intType()
+                    .defaultValue(10000)
+                    .withDescription(
+                            "The maximum number of data change events of evolving tables held back by SchemaOperator during asynchronous schema evolution. "
+                                    + "SchemaOperator blocks until the pending schema change finishes once the limit is reached.");
+
+    public static final ConfigOption<PartitionHashFunction> PIPELINE_PARTITION_HASH_FUNCTION =
+            ConfigOptions.key("partition.hash-function")
+                    .enumType(PartitionHashFunction.class)
+                    .defaultValue(PartitionHashFunction.DEFAULT)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Hash function used to distribute data change events to sink subtasks. "
+                                                    + "Only takes effect if the sink uses the default partitioning. ")
+                                    .linebreak()
+                                    .add(
+                                            ListElement.list(
+                                                    text(
+                                                            "DEFAULT: Hash table ID and primary key values as Java objects."),
+                                                    text(
+                                                            "MURMUR3: Hash primary key fields directly from binary records, without per-record allocation for primitive, string and binary keys. "
+                                                                    + "Note that events are routed to different subtasks than with DEFAULT.")))
+                                    .build());
+
     private PipelineOptions() {}
 }
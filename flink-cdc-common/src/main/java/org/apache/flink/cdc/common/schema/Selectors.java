@@ -37,12 +37,14 @@ public class Selectors {
      * A {@link Selector} that determines whether a table identified by a given {@link TableId} is
      * to be included.
      */
-    private static class Selector {
+    static class Selector {
         private final Predicate<String> namespacePred;
         private final Predicate<String> schemaNamePred;
         private final Predicate<String> tableNamePred;
+        private final String tableNamePattern;
 
         public Selector(String namespace, String schemaName, String tableName) {
+            this.tableNamePattern = tableName;
             this.namespacePred =
                     namespace == null ? (namespacePred) -> false : Predicates.includes(namespace);
             this.schemaNamePred =
@@ -53,6 +55,11 @@ public class Selectors {
                     tableName == null ? (tableNamePred) -> false : Predicates.includes(tableName);
         }
 
+        /** Returns the raw regular expressions for table name, or null if absent. */
+        String getTableNamePattern() {
+            return tableNamePattern;
+        }
+
         public boolean isMatch(TableId tableId) {
 
             String namespace = tableId.getNamespace();
@@ -71,6 +78,10 @@ public class Selectors {
         }
     }
 
+    List<Selector> getSelectors() {
+        return selectors;
+    }
+
     /** Match the {@link TableId} against the {@link Selector}s. * */
     public boolean isMatch(TableId tableId) {
         for (Selector selector : selectors) {
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.schema;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.utils.Predicates;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A compiled index matching {@link TableId}s against an ordered list of rules, each of which is
+ * identified by its {@link Selectors}.
+ *
+ * <p>Table name patterns of all rules are compiled once. Literal patterns are put into a hash map,
+ * and regular expressions starting with literal characters are put into a prefix trie. Matching a
+ * {@link TableId} walks through its table name once to collect candidate rules, and only evaluates
+ * {@link Selectors} of these candidates. Rules with a table name pattern that has no literal prefix
+ * are always evaluated.
+ *
+ * <p>Patterns are matched case-insensitively for ASCII characters only, which is consistent with
+ * {@link Predicates#includes(String)}.
+ */
+@Internal
+public class SelectorsIndex<T> {
+
+    private final List<T> rules;
+    private final List<Selectors> ruleSelectors;
+
+    /** Lower-cased literal table name -> rules having it as one of table name patterns. */
+    private final Map<String, BitSet> literalTableNames;
+
+    /** Rules having a table name pattern that starts with some literal characters. */
+    private final PrefixTrieNode prefixTrie;
+
+    /** Rules having a table name pattern that can not be indexed. */
+    private final BitSet unindexedRules;
+
+    public SelectorsIndex(List<T> rules, Function<T, Selectors> selectorsGetter) {
+        this.rules = new ArrayList<>(rules);
+        this.ruleSelectors = new ArrayList<>(rules.size());
+        this.literalTableNames = new HashMap<>();
+        this.prefixTrie = new PrefixTrieNode();
+        this.unindexedRules = new BitSet();
+        for (int i = 0; i < this.rules.size(); i++) {
+            Selectors selectors = selectorsGetter.apply(this.rules.get(i));
+            ruleSelectors.add(selectors);
+            for (Selectors.Selector selector : selectors.getSelectors()) {
+                indexTableNamePattern(i, selector.getTableNamePattern());
+            }
+        }
+    }
+
+    /** Returns all rules that match given {@link TableId}, in their original order. */
+    public List<T> match(TableId tableId) {
+        String tableName = toLowerCase(tableId.getTableName());
+        BitSet candidates = (BitSet) unindexedRules.clone();
+        BitSet literalMatches = literalTableNames.get(tableName);
+        if (literalMatches != null) {
+            candidates.or(literalMatches);
+        }
+        prefixTrie.collect(tableName, candidates);
+
+        List<T> matchedRules = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (ruleSelectors.get(i).isMatch(tableId)) {
+                matchedRules.add(rules.get(i));
+            }
+        }
+        return matchedRules;
+    }
+
+    private void indexTableNamePattern(int ruleIndex, String tableNamePattern) {
+        if (tableNamePattern == null) {
+            return;
+        }
+        // Keep consistent with Predicates#includes, which splits patterns by comma again
+        Set<String> patterns =
+                Predicates.setOf(
+                        tableNamePattern, Predicates.RegExSplitterByComma::split, (str) -> str);
+        for (String pattern : patterns) {
+            String prefix = literalPrefix(pattern);
+            if (prefix.isEmpty()) {
+                unindexedRules.set(ruleIndex);
+            } else if (prefix.length() == pattern.length()) {
+                literalTableNames
+                        .computeIfAbsent(toLowerCase(pattern), (name) -> new BitSet())
+                        .set(ruleIndex);
+            } else {
+                prefixTrie.insert(toLowerCase(prefix), ruleIndex);
+            }
+        }
+    }
+
+    /**
+     * Returns the leading literal characters that every string fully matched by given regular
+     * expression must start with. Returns an empty string if there is no such prefix.
+     */
+    static String literalPrefix(String pattern) {
+        if (pattern.indexOf('|') >= 0) {
+            // Alternatives might not share a common prefix
+            return "";
+        }
+        int end = 0;
+        while (end < pattern.length() && !isMetaCharacter(pattern.charAt(end))) {
+            end++;
+        }
+        if (end > 0 && end < pattern.length()) {
+            char quantifier = pattern.charAt(end);
+            if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                // The last literal character is optional
+                end--;
+            }
+        }
+        return pattern.substring(0, end);
+    }
+
+    private static boolean isMetaCharacter(char c) {
+        switch (c) {
+            case '\\':
+            case '[':
+            case ']':
+            case '(':
+            case ')':
+            case '{':
+            case '}':
+            case '.':
+            case '*':
+            case '+':
+            case '?':
+            case '^':
+            case '$':
+            case '|':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** Lower-cases ASCII characters only, just like {@link java.util.regex.Pattern} does. */
+    static String toLowerCase(String str) {
+        char[] chars = null;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (chars == null) {
+                    chars = str.toCharArray();
+                }
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+        return chars == null ? str : new String(chars);
+    }
+
+    /** A node of the trie indexing rules by literal prefixes of their table name patterns. */
+    private static class PrefixTrieNode {
+        private final Map<Character, PrefixTrieNode> children = new HashMap<>();
+        private final BitSet rules = new BitSet();
+
+        private void insert(String prefix, int ruleIndex) {
+            PrefixTrieNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), (c) -> new PrefixTrieNode());
+            }
+            node.rules.set(ruleIndex);
+        }
+
+        private void collect(String tableName, BitSet candidates) {
+            PrefixTrieNode node = this;
+            for (int i = 0; i < tableName.length(); i++) {
+                node = node.children.get(tableName.charAt(i));
+                if (node == null) {
+                    return;
+                }
+                candidates.or(node.rules);
+            }
+        }
+    }
+}
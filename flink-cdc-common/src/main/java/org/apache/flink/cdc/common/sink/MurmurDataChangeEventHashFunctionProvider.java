@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.sink;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.RecordData.FieldGetter;
+import org.apache.flink.cdc.common.data.TimeData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.MurmurHashUtils;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link HashFunctionProvider} for data change events which hashes primary key fields straight
+ * from {@link BinaryRecordData}. Primitive fields are hashed from their primitive values and
+ * strings or binaries are hashed over their bytes in place, so no objects are allocated per record
+ * for them. Other types, such as decimals and timestamps, are read as objects and hashed with their
+ * {@code hashCode}. Hash of the table ID is computed once when the hash function is created.
+ */
+public class MurmurDataChangeEventHashFunctionProvider
+        implements HashFunctionProvider<DataChangeEvent> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public HashFunction<DataChangeEvent> getHashFunction(@Nullable TableId tableId, Schema schema) {
+        return new MurmurDataChangeEventHashFunction(tableId, schema);
+    }
+
+    /** A {@link HashFunction} hashing primary keys of binary records in place where possible. */
+    static class MurmurDataChangeEventHashFunction implements HashFunction<DataChangeEvent> {
+
+        private static final int NULL_HASH = 0;
+
+        @Nullable private final TableId tableId;
+        private final int tableIdHash;
+        private final int[] primaryKeyIndexes;
+        private final DataType[] primaryKeyTypes;
+        private final FieldGetter[] primaryKeyGetters;
+
+        MurmurDataChangeEventHashFunction(@Nullable TableId tableId, Schema schema) {
+            this.tableId = tableId;
+            this.tableIdHash = tableId == null ? 0 : hashTableId(tableId);
+
+            List<String> primaryKeys = schema.primaryKeys();
+            List<String> columnNames = schema.getColumnNames();
+            this.primaryKeyIndexes = new int[primaryKeys.size()];
+            this.primaryKeyTypes = new DataType[primaryKeys.size()];
+            this.primaryKeyGetters = new FieldGetter[primaryKeys.size()];
+            for (int i = 0; i < primaryKeys.size(); i++) {
+                String primaryKey = primaryKeys.get(i);
+                int index = columnNames.indexOf(primaryKey);
+                if (index == -1) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Unable to find column \"%s\" which is defined as primary key",
+                                    primaryKey));
+                }
+                DataType type = schema.getColumns().get(index).getType();
+                primaryKeyIndexes[i] = index;
+                primaryKeyTypes[i] = type;
+                primaryKeyGetters[i] = RecordData.createFieldGetter(type, index);
+            }
+        }
+
+        @Override
+        public int hashcode(DataChangeEvent event) {
+            TableId eventTableId = event.tableId();
+            int hash =
+                    tableId != null && tableId.equals(eventTableId)
+                            ? tableIdHash
+                            : hashTableId(eventTableId);
+
+            RecordData data =
+                    event.op().equals(OperationType.DELETE) ? event.before() : event.after();
+            if (data instanceof BinaryRecordData) {
+                BinaryRecordData binaryData = (BinaryRecordData) data;
+                for (int i = 0; i < primaryKeyIndexes.length; i++) {
+                    hash = 31 * hash + hashBinaryField(binaryData, i);
+                }
+            } else {
+                for (FieldGetter primaryKeyGetter : primaryKeyGetters) {
+                    hash = 31 * hash + hashObject(primaryKeyGetter.getFieldOrNull(data));
+                }
+            }
+            return MurmurHashUtils.fmix(hash) & 0x7FFFFFFF;
+        }
+
+        private int hashBinaryField(BinaryRecordData data, int keyIndex) {
+            int pos = primaryKeyIndexes[keyIndex];
+            if (data.isNullAt(pos)) {
+                return NULL_HASH;
+            }
+            switch (primaryKeyTypes[keyIndex].getTypeRoot()) {
+                case BOOLEAN:
+                    return Boolean.hashCode(data.getBoolean(pos));
+                case TINYINT:
+                    return data.getByte(pos);
+                case SMALLINT:
+                    return data.getShort(pos);
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    return data.getInt(pos);
+                case BIGINT:
+                    return Long.hashCode(data.getLong(pos));
+                case FLOAT:
+                    return Float.hashCode(data.getFloat(pos));
+                case DOUBLE:
+                    return Double.hashCode(data.getDouble(pos));
+                case CHAR:
+                case VARCHAR:
+                case BINARY:
+                case VARBINARY:
+                    return data.hashVariableLengthField(pos);
+                default:
+                    return hashObject(primaryKeyGetters[keyIndex].getFieldOrNull(data));
+            }
+        }
+
+        /**
+         * Hashes a field in its internal object form, consistently with {@link
+         * #hashBinaryField(BinaryRecordData, int)}.
+         */
+        private static int hashObject(@Nullable Object field) {
+            if (field instanceof byte[]) {
+                byte[] bytes = (byte[]) field;
+                return MurmurHashUtils.hashBytes(MemorySegmentFactory.wrap(bytes), 0, bytes.length);
+            } else if (field instanceof DateData) {
+                return ((DateData) field).toEpochDay();
+            } else if (field instanceof TimeData) {
+                return ((TimeData) field).toMillisOfDay();
+            }
+            return Objects.hashCode(field);
+        }
+
+        private static int hashTableId(TableId tableId) {
+            int hash = Objects.hashCode(tableId.getNamespace());
+            hash = 31 * hash + Objects.hashCode(tableId.getSchemaName());
+            return 31 * hash + tableId.getTableName().hashCode();
+        }
+    }
+}
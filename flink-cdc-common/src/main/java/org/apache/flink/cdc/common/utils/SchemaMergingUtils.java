@@ -318,6 +318,26 @@ public class SchemaMergingUtils {
         return coercedRow;
     }
 
+    /**
+     * Coercing a single {@code upcomingField} with {@code upcomingType} into {@code currentType}.
+     * Returns {@code null} if it could not be coerced and {@code toleranceMode} is enabled.
+     */
+    public static Object coerceField(
+            String timezone,
+            Object upcomingField,
+            DataType upcomingType,
+            DataType currentType,
+            boolean toleranceMode) {
+        try {
+            return coerceObject(timezone, upcomingField, upcomingType, currentType);
+        } catch (IllegalArgumentException e) {
+            if (!toleranceMode) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
     /**
      * Try to merge given {@link Schema}s and ensure they're identical. The only difference allowed
      * is nullability, string and varchar precision, default value, and comments.
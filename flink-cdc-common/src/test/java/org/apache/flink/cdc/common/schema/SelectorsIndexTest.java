@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.schema;
+
+import org.apache.flink.cdc.common.event.TableId;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link SelectorsIndex}. */
+class SelectorsIndexTest {
+
+    private static final List<String> RULES =
+            Arrays.asList(
+                    "db.sc1.orders",
+                    "db.sc1.orders_[0-9]+",
+                    "db.sc2.Orders_\\d?",
+                    "sc1.shipments,sc1.ship_.*",
+                    "customers",
+                    "db.sc1.(orders|users)_copy",
+                    "db.sc1.[a-z]+",
+                    "db.sc1.a?b.*",
+                    "\\.*.\\.*.\\.*");
+
+    private static final List<TableId> TABLE_IDS =
+            Arrays.asList(
+                    TableId.tableId("db", "sc1", "orders"),
+                    TableId.tableId("db", "sc1", "ORDERS"),
+                    TableId.tableId("db", "sc1", "orders_12"),
+                    TableId.tableId("db", "sc1", "orders_"),
+                    TableId.tableId("db", "sc2", "orders_"),
+                    TableId.tableId("db", "sc2", "orders_3"),
+                    TableId.tableId("db", "sc2", "orders_33"),
+                    TableId.tableId("sc1", "shipments"),
+                    TableId.tableId("sc1", "ship_1"),
+                    TableId.tableId("sc1", "shipping"),
+                    TableId.tableId("customers"),
+                    TableId.tableId("Customers"),
+                    TableId.tableId("db", "sc1", "users_copy"),
+                    TableId.tableId("db", "sc1", "bcd"),
+                    TableId.tableId("db", "sc1", "abcd"),
+                    TableId.tableId("db", "sc1", "a1"),
+                    TableId.tableId("db", "sc3", "customers"));
+
+    @Test
+    void testMatchConsistentWithSelectors() {
+        List<Selectors> rules =
+                RULES.stream()
+                        .map(rule -> new Selectors.SelectorsBuilder().includeTables(rule).build())
+                        .collect(Collectors.toList());
+        SelectorsIndex<Selectors> index = new SelectorsIndex<>(rules, selectors -> selectors);
+
+        for (TableId tableId : TABLE_IDS) {
+            List<Selectors> expected =
+                    rules.stream()
+                            .filter(selectors -> selectors.isMatch(tableId))
+                            .collect(Collectors.toList());
+            assertThat(index.match(tableId)).as("Matching %s", tableId).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testLiteralPrefix() {
+        assertThat(SelectorsIndex.literalPrefix("orders")).isEqualTo("orders");
+        assertThat(SelectorsIndex.literalPrefix("orders_[0-9]+")).isEqualTo("orders_");
+        assertThat(SelectorsIndex.literalPrefix("orders_\\d")).isEqualTo("orders_");
+        assertThat(SelectorsIndex.literalPrefix("orders?")).isEqualTo("order");
+        assertThat(SelectorsIndex.literalPrefix("orders*")).isEqualTo("order");
+        assertThat(SelectorsIndex.literalPrefix("orders{0,1}")).isEqualTo("order");
+        assertThat(SelectorsIndex.literalPrefix("orders+")).isEqualTo("orders");
+        assertThat(SelectorsIndex.literalPrefix("orders|users")).isEmpty();
+        assertThat(SelectorsIndex.literalPrefix(".*")).isEmpty();
+        assertThat(SelectorsIndex.literalPrefix("(?i)orders")).isEmpty();
+    }
+}
@@ -20,11 +20,16 @@ package org.apache.flink.cdc.composer.flink;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.configuration.Configuration;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.function.HashFunctionProvider;
+import org.apache.flink.cdc.common.pipeline.PartitionHashFunction;
 import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.pipeline.RuntimeExecutionMode;
 import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
 import org.apache.flink.cdc.common.sink.DataSink;
+import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+import org.apache.flink.cdc.common.sink.MurmurDataChangeEventHashFunctionProvider;
 import org.apache.flink.cdc.common.source.DataSource;
 import org.apache.flink.cdc.composer.PipelineComposer;
 import org.apache.flink.cdc.composer.PipelineExecution;
@@ -159,7 +164,11 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         schemaChangeBehavior,
                         schemaOperatorUid,
                         pipelineDefConfig.get(PipelineOptions.PIPELINE_SCHEMA_OPERATOR_RPC_TIMEOUT),
-                        pipelineDefConfig.get(PipelineOptions.PIPELINE_LOCAL_TIME_ZONE));
+                        pipelineDefConfig.get(PipelineOptions.PIPELINE_LOCAL_TIME_ZONE),
+                        pipelineDefConfig.get(
+                                PipelineOptions.PIPELINE_SCHEMA_OPERATOR_ASYNC_EVOLUTION),
+                        pipelineDefConfig.get(
+                                PipelineOptions.PIPELINE_SCHEMA_OPERATOR_MAX_BUFFERED_RECORDS));
         DataSinkTranslator sinkTranslator = new DataSinkTranslator();
 
         // And required constructors
@@ -170,6 +179,8 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 sinkTranslator.createDataSink(pipelineDef.getSink(), pipelineDefConfig, env);
 
         boolean isParallelMetadataSource = dataSource.isParallelMetadataSource();
+        HashFunctionProvider<DataChangeEvent> hashFunctionProvider =
+                getHashFunctionProvider(dataSink, parallelism, pipelineDefConfig);
 
         // O ---> Source
         DataStream<Event> stream =
@@ -208,7 +219,7 @@ public class FlinkPipelineComposer implements PipelineComposer {
                             stream,
                             parallelism,
                             parallelism,
-                            dataSink.getDataChangeEventHashFunctionProvider(parallelism));
+                            hashFunctionProvider);
 
             // Partitioning -> Schema Operator
             stream =
@@ -245,7 +256,7 @@ public class FlinkPipelineComposer implements PipelineComposer {
                             parallelism,
                             isBatchMode,
                             schemaOperatorIDGenerator.generate(),
-                            dataSink.getDataChangeEventHashFunctionProvider(parallelism),
+                            hashFunctionProvider,
                             operatorUidGenerator);
         }
 
@@ -259,6 +270,20 @@ public class FlinkPipelineComposer implements PipelineComposer {
                 operatorUidGenerator);
     }
 
+    private HashFunctionProvider<DataChangeEvent> getHashFunctionProvider(
+            DataSink dataSink, int parallelism, Configuration pipelineDefConfig) {
+        HashFunctionProvider<DataChangeEvent> sinkProvider =
+                dataSink.getDataChangeEventHashFunctionProvider(parallelism);
+        // Only replace the default partitioning, as sinks with their own hash function rely on it
+        // for correctness
+        if (sinkProvider.getClass() == DefaultDataChangeEventHashFunctionProvider.class
+                && PartitionHashFunction.MURMUR3.equals(
+                        pipelineDefConfig.get(PipelineOptions.PIPELINE_PARTITION_HASH_FUNCTION))) {
+            return new MurmurDataChangeEventHashFunctionProvider();
+        }
+        return sinkProvider;
+    }
+
     private void addFrameworkJars() {
         try {
             Set<URI> frameworkJars = new HashSet<>();
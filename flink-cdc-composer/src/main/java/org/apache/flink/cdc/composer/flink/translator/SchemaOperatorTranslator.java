@@ -43,16 +43,36 @@ public class SchemaOperatorTranslator {
     private final String schemaOperatorUid;
     private final Duration rpcTimeOut;
     private final String timezone;
+    private final boolean asyncSchemaEvolution;
+    private final int maxBufferedRecords;
 
     public SchemaOperatorTranslator(
             SchemaChangeBehavior schemaChangeBehavior,
             String schemaOperatorUid,
             Duration rpcTimeOut,
             String timezone) {
+        this(
+                schemaChangeBehavior,
+                schemaOperatorUid,
+                rpcTimeOut,
+                timezone,
+                false,
+                Integer.MAX_VALUE);
+    }
+
+    public SchemaOperatorTranslator(
+            SchemaChangeBehavior schemaChangeBehavior,
+            String schemaOperatorUid,
+            Duration rpcTimeOut,
+            String timezone,
+            boolean asyncSchemaEvolution,
+            int maxBufferedRecords) {
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.schemaOperatorUid = schemaOperatorUid;
         this.rpcTimeOut = rpcTimeOut;
         this.timezone = timezone;
+        this.asyncSchemaEvolution = asyncSchemaEvolution;
+        this.maxBufferedRecords = maxBufferedRecords;
     }
 
     public DataStream<Event> translateRegular(
@@ -120,7 +140,9 @@ public class SchemaOperatorTranslator {
                                 routingRules,
                                 rpcTimeOut,
                                 schemaChangeBehavior,
-                                timezone));
+                                timezone,
+                                asyncSchemaEvolution,
+                                maxBufferedRecords));
         stream.uid(schemaOperatorUid).setParallelism(parallelism);
         return stream;
     }
@@ -57,6 +57,8 @@ import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.SI
 import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.SINK_LABEL_PREFIX;
 import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.SINK_MAX_RETRIES;
 import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.SINK_USE_CACHE;
+import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.STREAM_LOAD_DEFAULT_CSV_ENCLOSE;
+import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.STREAM_LOAD_DEFAULT_CSV_ESCAPE;
 import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.STREAM_LOAD_PROP_PREFIX;
 import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.TABLE_CREATE_AUTO_PARTITION_PROPERTIES_PREFIX;
 import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.TABLE_CREATE_PROPERTIES_PREFIX;
@@ -116,6 +118,10 @@ public class DorisDataSinkFactory implements DataSinkFactory {
         Map<String, String> streamLoadProp =
                 DorisDataSinkOptions.getPropertiesByPrefix(config, STREAM_LOAD_PROP_PREFIX);
         properties.putAll(streamLoadProp);
+        if ("csv".equalsIgnoreCase(properties.getProperty("format"))) {
+            properties.putIfAbsent("enclose", STREAM_LOAD_DEFAULT_CSV_ENCLOSE);
+            properties.putIfAbsent("escape", STREAM_LOAD_DEFAULT_CSV_ESCAPE);
+        }
         executionBuilder.setStreamLoadProp(properties);
 
         return new DorisDataSink(
@@ -156,6 +156,9 @@ public class DorisDataSinkOptions {
 
     // Prefix for Doris StreamLoad specific properties.
     public static final String STREAM_LOAD_PROP_PREFIX = "sink.properties.";
+    // Default enclose and escape characters of CSV stream load, strings are always enclosed.
+    public static final String STREAM_LOAD_DEFAULT_CSV_ENCLOSE = "\"";
+    public static final String STREAM_LOAD_DEFAULT_CSV_ESCAPE = "\\";
     // Prefix for Doris Create table.
     public static final String TABLE_CREATE_PROPERTIES_PREFIX = "table.create.properties.";
     // Prefix for Doris Create auto partition table.
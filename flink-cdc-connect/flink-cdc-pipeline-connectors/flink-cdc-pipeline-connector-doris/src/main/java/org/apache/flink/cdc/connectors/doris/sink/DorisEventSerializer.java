@@ -28,37 +28,37 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
-import org.apache.flink.cdc.common.types.DataType;
-import org.apache.flink.cdc.common.types.DateType;
-import org.apache.flink.cdc.common.types.LocalZonedTimestampType;
-import org.apache.flink.cdc.common.types.TimestampType;
-import org.apache.flink.cdc.common.types.ZonedTimestampType;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.connectors.doris.utils.DorisSchemaUtils;
 
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
-
 import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecordSerializer;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
-import static org.apache.doris.flink.sink.util.DeleteOperation.addDeleteSign;
+import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.SINK_ENABLE_DELETE;
+import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.STREAM_LOAD_DEFAULT_CSV_ENCLOSE;
+import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.STREAM_LOAD_DEFAULT_CSV_ESCAPE;
+import static org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions.STREAM_LOAD_PROP_PREFIX;
 
-/** A serializer for Event to DorisRecord. */
+/**
+ * A serializer for Event to DorisRecord.
+ *
+ * <p>The rows are encoded by a {@link DorisRowEncoder} of each table in the format of stream load,
+ * i.e. JSON objects by default or CSV lines if {@code sink.properties.format} is {@code csv}.
+ */
 public class DorisEventSerializer implements DorisRecordSerializer<Event> {
-    private ObjectMapper objectMapper = new ObjectMapper();
     private Map<TableId, Schema> schemaMaps = new HashMap<>();
 
+    /** The encoders of the latest schema of each table. */
+    private Map<TableId, DorisRowEncoder> rowEncoders = new HashMap<>();
+
     /** Format DATE type data. */
     public static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -95,59 +95,84 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
                         SchemaUtils.applySchemaChangeEvent(
                                 schemaMaps.get(tableId), schemaChangeEvent));
             }
+            rowEncoders.put(tableId, createRowEncoder(tableId, schemaMaps.get(tableId)));
         }
         return null;
     }
 
-    private DorisRecord applyDataChangeEvent(DataChangeEvent event) throws JsonProcessingException {
+    private DorisRecord applyDataChangeEvent(DataChangeEvent event) {
         TableId tableId = event.tableId();
-        Schema schema = schemaMaps.get(tableId);
-        Preconditions.checkNotNull(schema, event.tableId() + " is not existed");
-        Map<String, Object> valueMap;
+        DorisRowEncoder rowEncoder = rowEncoders.get(tableId);
+        Preconditions.checkNotNull(rowEncoder, event.tableId() + " is not existed");
+        byte[] row;
         OperationType op = event.op();
         switch (op) {
             case INSERT:
             case UPDATE:
             case REPLACE:
-                valueMap = serializerRecord(event.after(), schema);
-                addDeleteSign(valueMap, false);
+                row = rowEncoder.encode(event.after(), false);
                 break;
             case DELETE:
-                valueMap = serializerRecord(event.before(), schema);
-                addDeleteSign(valueMap, true);
+                row = rowEncoder.encode(event.before(), true);
                 break;
             default:
                 throw new UnsupportedOperationException("Unsupport Operation " + op);
         }
+        return DorisRecord.of(tableId.getSchemaName(), tableId.getTableName(), row);
+    }
 
-        // get partition info from config
+    private DorisRowEncoder createRowEncoder(TableId tableId, Schema schema) {
+        Map<String, String> streamLoadProp = dorisConfig.toMap();
+        // get partition info from config, whose null values are filled by default value
         Tuple2<String, String> partitionInfo =
                 DorisSchemaUtils.getPartitionInfo(dorisConfig, schema, tableId);
-        if (!Objects.isNull(partitionInfo)) {
-            String partitionKey = partitionInfo.f0;
-            Object partitionValue = valueMap.get(partitionKey);
-            // fill partition column by default value if null
-            if (Objects.isNull(partitionValue)) {
-                schema.getColumn(partitionKey)
-                        .ifPresent(
-                                column -> {
-                                    DataType dataType = column.getType();
-                                    if (dataType instanceof DateType) {
-                                        valueMap.put(partitionKey, DorisSchemaUtils.DEFAULT_DATE);
-                                    } else if (dataType instanceof LocalZonedTimestampType
-                                            || dataType instanceof TimestampType
-                                            || dataType instanceof ZonedTimestampType) {
-                                        valueMap.put(
-                                                partitionKey, DorisSchemaUtils.DEFAULT_DATETIME);
-                                    }
-                                });
-            }
+        if ("csv".equalsIgnoreCase(streamLoadProp.get(STREAM_LOAD_PROP_PREFIX + "format"))) {
+            String columnSeparator =
+                    streamLoadProp.getOrDefault(
+                            STREAM_LOAD_PROP_PREFIX + "column_separator", "\t");
+            return DorisRowEncoder.createCsvEncoder(
+                    schema,
+                    pipelineZoneId,
+                    unescapeSeparator(columnSeparator),
+                    getCsvCharacter(streamLoadProp, "enclose", STREAM_LOAD_DEFAULT_CSV_ENCLOSE),
+                    getCsvCharacter(streamLoadProp, "escape", STREAM_LOAD_DEFAULT_CSV_ESCAPE),
+                    dorisConfig.get(SINK_ENABLE_DELETE),
+                    partitionInfo);
         }
+        return DorisRowEncoder.createJsonEncoder(schema, pipelineZoneId, partitionInfo);
+    }
 
-        return DorisRecord.of(
-                tableId.getSchemaName(),
-                tableId.getTableName(),
-                objectMapper.writeValueAsString(valueMap).getBytes(StandardCharsets.UTF_8));
+    /** Returns the single character of the given CSV stream load property. */
+    private static char getCsvCharacter(
+            Map<String, String> streamLoadProp, String key, String defaultValue) {
+        String value = streamLoadProp.getOrDefault(STREAM_LOAD_PROP_PREFIX + key, defaultValue);
+        Preconditions.checkArgument(
+                value.length() == 1,
+                "The stream load property %s must be a single character, but is %s.",
+                key,
+                value);
+        return value.charAt(0);
+    }
+
+    /**
+     * Converts the separator of stream load properties into the written one, i.e. the escaped tab
+     * and hex characters like {@code \x01} are unescaped.
+     */
+    static String unescapeSeparator(String separator) {
+        if ("\\t".equals(separator)) {
+            return "\t";
+        }
+        StringBuilder builder = new StringBuilder(separator.length());
+        int i = 0;
+        while (i < separator.length()) {
+            if (separator.startsWith("\\x", i) && i + 4 <= separator.length()) {
+                builder.append((char) Integer.parseInt(separator.substring(i + 2, i + 4), 16));
+                i += 4;
+            } else {
+                builder.append(separator.charAt(i++));
+            }
+        }
+        return builder.toString();
     }
 
     /** serializer RecordData to Doris Value. */
@@ -0,0 +1,516 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.doris.sink;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DateType;
+import org.apache.flink.cdc.common.types.LocalZonedTimestampType;
+import org.apache.flink.cdc.common.types.TimestampType;
+import org.apache.flink.cdc.common.types.ZonedTimestampType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+import org.apache.flink.cdc.connectors.doris.utils.DorisSchemaUtils;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Encodes the {@link RecordData} of a specific {@link Schema} into a row of Doris stream load, i.e.
+ * a JSON object or a CSV line, which is written straight from the record into a reusable buffer.
+ *
+ * <p>The column names, separators and field encoders are prepared once per schema, so no
+ * intermediate map is built for each row. Values are formatted in the same way as {@link
+ * DorisRowConverter}, which is still used for the types without a dedicated encoder.
+ */
+public class DorisRowEncoder {
+
+    /** The column of Doris unique key model which marks the row as deleted. */
+    static final String DELETE_SIGN = "__DORIS_DELETE_SIGN__";
+
+    private static final byte[] JSON_NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /** The null value of Doris CSV stream load. */
+    private static final byte[] CSV_NULL = "\\N".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /** The bytes preceding each value, i.e. the quoted column name or the column separator. */
+    private final byte[][] fieldPrefixes;
+
+    private final FieldEncoder[] fieldEncoders;
+
+    /** The bytes written for each null value, which are the default value of partition column. */
+    private final byte[][] nullValues;
+
+    private final byte[] upsertSuffix;
+
+    private final byte[] deleteSuffix;
+
+    /** The characters enclosing and escaping the CSV strings, which are unused by JSON. */
+    private final byte enclose;
+
+    private final byte escape;
+
+    private byte[] buffer = new byte[256];
+
+    private int position;
+
+    private DorisRowEncoder(
+            Schema schema,
+            ZoneId pipelineZoneId,
+            boolean csv,
+            String columnSeparator,
+            char enclose,
+            char escape,
+            boolean csvWithDeleteSign,
+            @Nullable String partitionKey) {
+        Preconditions.checkArgument(
+                enclose < 0x80 && escape < 0x80,
+                "The enclose and escape characters of CSV must be single-byte.");
+        this.enclose = (byte) enclose;
+        this.escape = (byte) escape;
+        List<Column> columns = schema.getColumns();
+        int fieldCount = columns.size();
+        this.fieldPrefixes = new byte[fieldCount][];
+        this.fieldEncoders = new FieldEncoder[fieldCount];
+        this.nullValues = new byte[fieldCount][];
+        byte[] separator = columnSeparator.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < fieldCount; i++) {
+            Column column = columns.get(i);
+            if (csv) {
+                fieldPrefixes[i] = i == 0 ? new byte[0] : separator;
+            } else {
+                fieldPrefixes[i] = encodeJsonFieldName(i == 0 ? "{" : ",", column.getName());
+            }
+            fieldEncoders[i] = createFieldEncoder(column.getType(), pipelineZoneId, csv);
+            String nullValue =
+                    column.getName().equals(partitionKey)
+                            ? getPartitionDefaultValue(column.getType())
+                            : null;
+            if (nullValue == null) {
+                nullValues[i] = csv ? CSV_NULL : JSON_NULL;
+            } else {
+                nullValues[i] =
+                        (csv ? nullValue : "\"" + nullValue + "\"")
+                                .getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        if (!csv) {
+            this.upsertSuffix = jsonSuffix(fieldCount, "0");
+            this.deleteSuffix = jsonSuffix(fieldCount, "1");
+        } else if (csvWithDeleteSign) {
+            this.upsertSuffix = csvSuffix(fieldCount, separator, "0");
+            this.deleteSuffix = csvSuffix(fieldCount, separator, "1");
+        } else {
+            this.upsertSuffix = new byte[0];
+            this.deleteSuffix = new byte[0];
+        }
+    }
+
+    /**
+     * Creates an encoder of JSON objects, which contain the delete sign like the ones built by
+     * {@link DorisEventSerializer#serializerRecord}.
+     */
+    public static DorisRowEncoder createJsonEncoder(
+            Schema schema, ZoneId pipelineZoneId, @Nullable Tuple2<String, String> partitionInfo) {
+        return new DorisRowEncoder(
+                schema,
+                pipelineZoneId,
+                false,
+                "",
+                '"',
+                '\\',
+                false,
+                getPartitionKey(partitionInfo));
+    }
+
+    /**
+     * Creates an encoder of CSV lines, the delete sign is appended as the last column if
+     * csvWithDeleteSign is true. Strings are surrounded by the enclose character, inside which the
+     * enclose and escape characters are escaped, so values may contain separators.
+     */
+    public static DorisRowEncoder createCsvEncoder(
+            Schema schema,
+            ZoneId pipelineZoneId,
+            String columnSeparator,
+            char enclose,
+            char escape,
+            boolean csvWithDeleteSign,
+            @Nullable Tuple2<String, String> partitionInfo) {
+        return new DorisRowEncoder(
+                schema,
+                pipelineZoneId,
+                true,
+                columnSeparator,
+                enclose,
+                escape,
+                csvWithDeleteSign,
+                getPartitionKey(partitionInfo));
+    }
+
+    /** Encodes the record and returns a copy of the encoded bytes. */
+    public byte[] encode(RecordData record, boolean isDelete) {
+        Preconditions.checkState(
+                fieldEncoders.length == record.getArity(),
+                "Column size does not match the data size");
+        position = 0;
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            writeBytes(fieldPrefixes[i]);
+            if (record.isNullAt(i)) {
+                writeBytes(nullValues[i]);
+            } else {
+                fieldEncoders[i].encode(record, i, this);
+            }
+        }
+        writeBytes(isDelete ? deleteSuffix : upsertSuffix);
+        return Arrays.copyOf(buffer, position);
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Field encoders
+    // ------------------------------------------------------------------------------------------
+
+    private static FieldEncoder createFieldEncoder(
+            DataType type, ZoneId pipelineZoneId, boolean csv) {
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                if (csv) {
+                    return (record, pos, encoder) ->
+                            encoder.writeCsvString(record.getString(pos).toBytes());
+                }
+                return (record, pos, encoder) ->
+                        encoder.writeJsonString(record.getString(pos).toBytes());
+            case BOOLEAN:
+                return (record, pos, encoder) ->
+                        encoder.writeAscii(record.getBoolean(pos) ? "true" : "false");
+            case BINARY:
+            case VARBINARY:
+                // the same as the base64 string written by Jackson for byte arrays
+                return (record, pos, encoder) ->
+                        encoder.writeQuotedAscii(
+                                Base64.getEncoder().encodeToString(record.getBinary(pos)), csv);
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(type);
+                final int decimalScale = getScale(type);
+                return (record, pos, encoder) ->
+                        encoder.writeAscii(
+                                record.getDecimal(pos, decimalPrecision, decimalScale)
+                                        .toBigDecimal()
+                                        .toString());
+            case TINYINT:
+                return (record, pos, encoder) -> encoder.writeLong(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, encoder) -> encoder.writeLong(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, encoder) -> encoder.writeLong(record.getInt(pos));
+            case BIGINT:
+                return (record, pos, encoder) -> encoder.writeLong(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, encoder) -> {
+                    float value = record.getFloat(pos);
+                    encoder.writeNumber(Float.toString(value), Float.isFinite(value), csv);
+                };
+            case DOUBLE:
+                return (record, pos, encoder) -> {
+                    double value = record.getDouble(pos);
+                    encoder.writeNumber(Double.toString(value), Double.isFinite(value), csv);
+                };
+            case DATE:
+                return (record, pos, encoder) -> {
+                    encoder.writeQuote(csv);
+                    encoder.writeDate(record.getDate(pos).toLocalDate());
+                    encoder.writeQuote(csv);
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(type);
+                return (record, pos, encoder) -> {
+                    encoder.writeQuote(csv);
+                    encoder.writeDateTime(
+                            record.getTimestamp(pos, timestampPrecision).toLocalDateTime());
+                    encoder.writeQuote(csv);
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(type);
+                return (record, pos, encoder) -> {
+                    encoder.writeQuote(csv);
+                    encoder.writeDateTime(
+                            ZonedDateTime.ofInstant(
+                                            record.getLocalZonedTimestampData(
+                                                            pos, localZonedPrecision)
+                                                    .toInstant(),
+                                            pipelineZoneId)
+                                    .toLocalDateTime());
+                    encoder.writeQuote(csv);
+                };
+            default:
+                // the other types are rarely used, they are converted as before
+                final DorisRowConverter.SerializationConverter converter =
+                        DorisRowConverter.createExternalConverter(type, pipelineZoneId);
+                if (csv) {
+                    return (record, pos, encoder) ->
+                            encoder.writeCsvString(
+                                    String.valueOf(converter.serialize(pos, record))
+                                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return (record, pos, encoder) -> {
+                    try {
+                        encoder.writeBytes(
+                                OBJECT_MAPPER.writeValueAsBytes(converter.serialize(pos, record)));
+                    } catch (JsonProcessingException e) {
+                        throw new RuntimeException(e);
+                    }
+                };
+        }
+    }
+
+    @Nullable
+    private static String getPartitionKey(@Nullable Tuple2<String, String> partitionInfo) {
+        return partitionInfo == null ? null : partitionInfo.f0;
+    }
+
+    /** Returns the value to fill the null partition column, the same as the serializer. */
+    @Nullable
+    private static String getPartitionDefaultValue(DataType dataType) {
+        if (dataType instanceof DateType) {
+            return DorisSchemaUtils.DEFAULT_DATE;
+        } else if (dataType instanceof LocalZonedTimestampType
+                || dataType instanceof TimestampType
+                || dataType instanceof ZonedTimestampType) {
+            return DorisSchemaUtils.DEFAULT_DATETIME;
+        }
+        return null;
+    }
+
+    /** Encodes the escaped column name with the preceding bytes by the buffer of this encoder. */
+    private byte[] encodeJsonFieldName(String prefix, String name) {
+        position = 0;
+        writeAscii(prefix);
+        writeJsonString(name.getBytes(StandardCharsets.UTF_8));
+        writeByte(':');
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private static byte[] jsonSuffix(int fieldCount, String deleteSign) {
+        String prefix = fieldCount == 0 ? "{" : ",";
+        return (prefix + "\"" + DELETE_SIGN + "\":\"" + deleteSign + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] csvSuffix(int fieldCount, byte[] separator, String deleteSign) {
+        byte[] sign = deleteSign.getBytes(StandardCharsets.UTF_8);
+        if (fieldCount == 0) {
+            return sign;
+        }
+        byte[] suffix = Arrays.copyOf(separator, separator.length + sign.length);
+        System.arraycopy(sign, 0, suffix, separator.length, sign.length);
+        return suffix;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Primitive writers
+    // ------------------------------------------------------------------------------------------
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    /** Writes a string which only contains ASCII characters. */
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeQuote(boolean csv) {
+        if (!csv) {
+            writeByte('"');
+        }
+    }
+
+    private void writeQuotedAscii(String value, boolean csv) {
+        writeQuote(csv);
+        writeAscii(value);
+        writeQuote(csv);
+    }
+
+    /** Writes a floating point number, which is quoted in JSON if it is NaN or infinity. */
+    private void writeNumber(String value, boolean isFinite, boolean csv) {
+        if (isFinite) {
+            writeAscii(value);
+        } else {
+            writeQuotedAscii(value, csv);
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value >= 0 && value < 10) {
+            writeByte('0' + (int) value);
+        } else {
+            writeAscii(Long.toString(value));
+        }
+    }
+
+    /** Writes the UTF-8 bytes as an enclosed CSV string. */
+    private void writeCsvString(byte[] utf8) {
+        ensureCapacity(utf8.length + 2);
+        buffer[position++] = enclose;
+        for (byte b : utf8) {
+            if (b == enclose || b == escape) {
+                ensureCapacity(2);
+                buffer[position++] = escape;
+                buffer[position++] = b;
+            } else {
+                ensureCapacity(1);
+                buffer[position++] = b;
+            }
+        }
+        ensureCapacity(1);
+        buffer[position++] = enclose;
+    }
+
+    /** Writes the UTF-8 bytes as a quoted JSON string. */
+    private void writeJsonString(byte[] utf8) {
+        ensureCapacity(utf8.length + 2);
+        buffer[position++] = '"';
+        for (byte b : utf8) {
+            if (b == '"' || b == '\\') {
+                ensureCapacity(2);
+                buffer[position++] = '\\';
+                buffer[position++] = b;
+            } else if (b >= 0 && b < 0x20) {
+                writeControlCharacter(b);
+            } else {
+                ensureCapacity(1);
+                buffer[position++] = b;
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeControlCharacter(byte b) {
+        ensureCapacity(6);
+        buffer[position++] = '\\';
+        switch (b) {
+            case '\b':
+                buffer[position++] = 'b';
+                break;
+            case '\t':
+                buffer[position++] = 't';
+                break;
+            case '\n':
+                buffer[position++] = 'n';
+                break;
+            case '\f':
+                buffer[position++] = 'f';
+                break;
+            case '\r':
+                buffer[position++] = 'r';
+                break;
+            default:
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX_DIGITS[b >> 4];
+                buffer[position++] = HEX_DIGITS[b & 0xF];
+        }
+    }
+
+    /** Writes the date in the format of {@link DorisEventSerializer#DATE_FORMATTER}. */
+    private void writeDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            writeAscii(date.format(DorisEventSerializer.DATE_FORMATTER));
+            return;
+        }
+        writeDigits(year, 4);
+        writeByte('-');
+        writeDigits(date.getMonthValue(), 2);
+        writeByte('-');
+        writeDigits(date.getDayOfMonth(), 2);
+    }
+
+    /** Writes the date time in the format of {@link DorisEventSerializer#DATE_TIME_FORMATTER}. */
+    private void writeDateTime(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            writeAscii(dateTime.format(DorisEventSerializer.DATE_TIME_FORMATTER));
+            return;
+        }
+        writeDate(dateTime.toLocalDate());
+        writeByte(' ');
+        writeDigits(dateTime.getHour(), 2);
+        writeByte(':');
+        writeDigits(dateTime.getMinute(), 2);
+        writeByte(':');
+        writeDigits(dateTime.getSecond(), 2);
+        writeByte('.');
+        writeDigits(dateTime.getNano() / 1000, 6);
+    }
+
+    /** Writes the non-negative value as the given number of digits, padded with zeros. */
+    private void writeDigits(int value, int digits) {
+        ensureCapacity(digits);
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    /** Writes a non-null field of a {@link RecordData} into the encoder. */
+    @FunctionalInterface
+    private interface FieldEncoder {
+        void encode(RecordData record, int pos, DorisRowEncoder encoder);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.doris.sink;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.cdc.common.configuration.Configuration;
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.doris.flink.sink.util.DeleteOperation.addDeleteSign;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link DorisRowEncoder}. */
+class DorisRowEncoderTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Shanghai");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("flag", DataTypes.BOOLEAN())
+                    .physicalColumn("tiny", DataTypes.TINYINT())
+                    .physicalColumn("small", DataTypes.SMALLINT())
+                    .physicalColumn("big", DataTypes.BIGINT())
+                    .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("ratio", DataTypes.FLOAT())
+                    .physicalColumn("score", DataTypes.DOUBLE())
+                    .physicalColumn("name \"quoted\"", DataTypes.STRING())
+                    .physicalColumn("bytes", DataTypes.VARBINARY(10))
+                    .physicalColumn("create_date", DataTypes.DATE())
+                    .physicalColumn("create_time", DataTypes.TIMESTAMP(6))
+                    .physicalColumn("update_time", DataTypes.TIMESTAMP_LTZ(3))
+                    .primaryKey("id")
+                    .build();
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator(SCHEMA.getColumnDataTypes().toArray(new DataType[0]));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testJsonEncoding() throws Exception {
+        DorisEventSerializer serializer =
+                new DorisEventSerializer(ZONE_ID, Configuration.fromMap(new HashMap<>()));
+        DorisRowEncoder encoder = DorisRowEncoder.createJsonEncoder(SCHEMA, ZONE_ID, null);
+        for (RecordData record :
+                new RecordData[] {
+                    GENERATOR.generate(row("a\"b\\c\n\u0001é")),
+                    GENERATOR.generate(new Object[SCHEMA.getColumnCount()]),
+                    GENERATOR.generate(nanRow())
+                }) {
+            for (boolean isDelete : new boolean[] {false, true}) {
+                Map<String, Object> expected = serializer.serializerRecord(record, SCHEMA);
+                addDeleteSign(expected, isDelete);
+                assertThat(objectMapper.readTree(encoder.encode(record, isDelete)))
+                        .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(expected)));
+            }
+        }
+    }
+
+    @Test
+    void testCsvEncoding() {
+        DorisRowEncoder encoder =
+                DorisRowEncoder.createCsvEncoder(SCHEMA, ZONE_ID, "|", '"', '\\', true, null);
+        assertThat(
+                        new String(
+                                encoder.encode(GENERATOR.generate(row("apple")), false),
+                                StandardCharsets.UTF_8))
+                .isEqualTo(
+                        "1|true|-1|2|9223372036854775807|12.50|5.1|1.5|\"apple\"|AQID|2025-01-16"
+                                + "|2025-01-16 08:00:00.123456|2025-01-16 16:00:00.120000|0");
+        assertThat(
+                        new String(
+                                encoder.encode(
+                                        GENERATOR.generate(new Object[SCHEMA.getColumnCount()]),
+                                        true),
+                                StandardCharsets.UTF_8))
+                .isEqualTo("\\N|\\N|\\N|\\N|\\N|\\N|\\N|\\N|\\N|\\N|\\N|\\N|\\N|1");
+
+        encoder = DorisRowEncoder.createCsvEncoder(SCHEMA, ZONE_ID, "\t", '"', '\\', false, null);
+        assertThat(
+                        new String(
+                                encoder.encode(GENERATOR.generate(row("apple")), true),
+                                StandardCharsets.UTF_8))
+                .endsWith("\t2025-01-16 16:00:00.120000");
+    }
+
+    @Test
+    void testCsvEncodingWithSeparatorInValue() throws Exception {
+        DorisRowEncoder encoder =
+                DorisRowEncoder.createCsvEncoder(SCHEMA, ZONE_ID, ",", '"', '\\', false, null);
+        assertThat(
+                        new String(
+                                encoder.encode(GENERATOR.generate(row("a,b\n\"c\"\\d")), false),
+                                StandardCharsets.UTF_8))
+                .isEqualTo(
+                        "1,true,-1,2,9223372036854775807,12.50,5.1,1.5,\"a,b\n\\\"c\\\"\\\\d\""
+                                + ",AQID,2025-01-16,2025-01-16 08:00:00.123456"
+                                + ",2025-01-16 16:00:00.120000");
+
+        Map<String, String> config = new HashMap<>();
+        config.put("sink.properties.format", "csv");
+        config.put("sink.properties.column_separator", "\\x01");
+        config.put("sink.properties.enclose", "'");
+        config.put("sink.properties.escape", "|");
+        DorisEventSerializer serializer =
+                new DorisEventSerializer(ZONE_ID, Configuration.fromMap(config));
+        TableId tableId = TableId.tableId("db", "tbl");
+        serializer.serialize(new CreateTableEvent(tableId, SCHEMA));
+        DorisRecord record =
+                serializer.serialize(
+                        DataChangeEvent.insertEvent(
+                                tableId, GENERATOR.generate(row("it's\u0001a|b"))));
+        assertThat(new String(record.getRow(), StandardCharsets.UTF_8))
+                .contains("\u00011.5\u0001'it|'s\u0001a||b'\u0001AQID\u0001");
+    }
+
+    @Test
+    void testPartitionColumnDefaultValue() throws Exception {
+        DorisRowEncoder encoder =
+                DorisRowEncoder.createJsonEncoder(
+                        SCHEMA, ZONE_ID, Tuple2.of("create_time", "year"));
+        byte[] encoded =
+                encoder.encode(GENERATOR.generate(new Object[SCHEMA.getColumnCount()]), false);
+        assertThat(objectMapper.readTree(encoded).get("create_time").asText())
+                .isEqualTo("1970-01-01 00:00:00");
+        assertThat(objectMapper.readTree(encoded).get("create_date").isNull()).isTrue();
+
+        encoder =
+                DorisRowEncoder.createCsvEncoder(
+                        SCHEMA,
+                        ZONE_ID,
+                        ",",
+                        '"',
+                        '\\',
+                        false,
+                        Tuple2.of("create_date", "year"));
+        assertThat(
+                        new String(
+                                encoder.encode(
+                                        GENERATOR.generate(new Object[SCHEMA.getColumnCount()]),
+                                        false),
+                                StandardCharsets.UTF_8))
+                .isEqualTo("\\N,\\N,\\N,\\N,\\N,\\N,\\N,\\N,\\N,\\N,1970-01-01,\\N,\\N");
+    }
+
+    @Test
+    void testUnescapeSeparator() {
+        assertThat(DorisEventSerializer.unescapeSeparator("\\t")).isEqualTo("\t");
+        assertThat(DorisEventSerializer.unescapeSeparator("\\x01")).isEqualTo("\u0001");
+        assertThat(DorisEventSerializer.unescapeSeparator("\\x01\\x02")).isEqualTo("\u0001\u0002");
+        assertThat(DorisEventSerializer.unescapeSeparator(",")).isEqualTo(",");
+    }
+
+    private static Object[] row(String name) {
+        return new Object[] {
+            1,
+            true,
+            (byte) -1,
+            (short) 2,
+            Long.MAX_VALUE,
+            DecimalData.fromBigDecimal(new BigDecimal("12.50"), 10, 2),
+            5.1f,
+            1.5d,
+            BinaryStringData.fromString(name),
+            new byte[] {1, 2, 3},
+            DateData.fromEpochDay(20104),
+            TimestampData.fromMillis(1_737_014_400_123L, 456_000),
+            LocalZonedTimestampData.fromInstant(Instant.parse("2025-01-16T08:00:00.120Z"))
+        };
+    }
+
+    private static Object[] nanRow() {
+        Object[] row = new Object[SCHEMA.getColumnCount()];
+        row[0] = 2;
+        row[6] = Float.NaN;
+        row[7] = Double.NEGATIVE_INFINITY;
+        return row;
+    }
+}
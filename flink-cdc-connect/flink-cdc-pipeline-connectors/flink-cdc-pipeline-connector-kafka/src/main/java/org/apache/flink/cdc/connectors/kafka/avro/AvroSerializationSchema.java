@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.connectors.kafka.registry.BinaryBytesWriter;
+import org.apache.flink.cdc.connectors.kafka.registry.RegistrySerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaRegistryClient;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaType;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static java.lang.String.format;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Serialization schema that serializes an object of FlinkCDC pipeline internal data structure
+ * {@link Event} into Avro binary encoding, whose Avro schemas are derived from the {@link Schema}
+ * of the tables and registered in a {@link SchemaRegistryClient}.
+ *
+ * <p>Values are written as a Debezium-like envelope record with the fields {@code before}, {@code
+ * after}, {@code op} and {@code source}, keys are written as a record with the table id and the
+ * primary key columns.
+ */
+public class AvroSerializationSchema extends RegistrySerializationSchema {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private static final int MILLIS_PRECISION = 3;
+
+    public AvroSerializationSchema(SchemaRegistryClient registryClient, boolean isKey) {
+        super(registryClient, isKey);
+    }
+
+    @Override
+    protected SchemaType getSchemaType() {
+        return SchemaType.AVRO;
+    }
+
+    @Override
+    protected TableWriter createTableWriter(TableId tableId, Schema schema) {
+        String namespace = toNamespace(tableId);
+        if (isKey) {
+            return new KeyWriter(tableId, schema, namespace);
+        }
+        return new EnvelopeWriter(tableId, schema, namespace);
+    }
+
+    /** Writes the primary key of the changes as a record led by the table id. */
+    private static class KeyWriter implements TableWriter {
+
+        private final String schemaString;
+
+        private final byte[] tableIdBytes;
+
+        private final RecordWriter primaryKeyWriter;
+
+        private KeyWriter(TableId tableId, Schema schema, String namespace) {
+            this.primaryKeyWriter = new RecordWriter(schema, schema.primaryKeys());
+            this.tableIdBytes = tableId.toString().getBytes(StandardCharsets.UTF_8);
+
+            ArrayNode fields = NODE_FACTORY.arrayNode();
+            fields.add(field("TableId", NODE_FACTORY.textNode("string")));
+            fields.addAll(primaryKeyWriter.fieldSchemas);
+            this.schemaString = record("Key", namespace, fields).toString();
+        }
+
+        @Override
+        public String getSchemaString() {
+            return schemaString;
+        }
+
+        @Override
+        public void write(DataChangeEvent dataChangeEvent, BinaryBytesWriter writer) {
+            writeBytes(tableIdBytes, writer);
+            primaryKeyWriter.write(getKeyRecord(dataChangeEvent), writer);
+        }
+    }
+
+    /** Writes the changes as a Debezium-like envelope record. */
+    private static class EnvelopeWriter implements TableWriter {
+
+        private final String schemaString;
+
+        private final RecordWriter valueWriter;
+
+        /** The encoded source record, which is the same for all changes of the table. */
+        private final byte[] sourceBytes;
+
+        private EnvelopeWriter(TableId tableId, Schema schema, String namespace) {
+            this.valueWriter = new RecordWriter(schema, schema.getColumnNames());
+
+            BinaryBytesWriter sourceWriter = new BinaryBytesWriter(64);
+            if (tableId.getSchemaName() == null) {
+                sourceWriter.writeZigZagLong(0);
+            } else {
+                sourceWriter.writeZigZagLong(1);
+                writeBytes(tableId.getSchemaName().getBytes(StandardCharsets.UTF_8), sourceWriter);
+            }
+            writeBytes(tableId.getTableName().getBytes(StandardCharsets.UTF_8), sourceWriter);
+            this.sourceBytes = sourceWriter.toByteArray();
+
+            ArrayNode sourceFields = NODE_FACTORY.arrayNode();
+            sourceFields.add(nullableField("db", NODE_FACTORY.textNode("string")));
+            sourceFields.add(field("table", NODE_FACTORY.textNode("string")));
+
+            ArrayNode fields = NODE_FACTORY.arrayNode();
+            fields.add(nullableField("before", record("Value", null, valueWriter.fieldSchemas)));
+            fields.add(nullableField("after", NODE_FACTORY.textNode("Value")));
+            fields.add(field("op", NODE_FACTORY.textNode("string")));
+            fields.add(field("source", record("Source", null, sourceFields)));
+            this.schemaString = record("Envelope", namespace, fields).toString();
+        }
+
+        @Override
+        public String getSchemaString() {
+            return schemaString;
+        }
+
+        @Override
+        public void write(DataChangeEvent dataChangeEvent, BinaryBytesWriter writer) {
+            String op = getDebeziumOperation(dataChangeEvent.op());
+            switch (dataChangeEvent.op()) {
+                case INSERT:
+                    writeNullableRecord(null, writer);
+                    writeNullableRecord(dataChangeEvent.after(), writer);
+                    break;
+                case DELETE:
+                    writeNullableRecord(dataChangeEvent.before(), writer);
+                    writeNullableRecord(null, writer);
+                    break;
+                default:
+                    writeNullableRecord(dataChangeEvent.before(), writer);
+                    writeNullableRecord(dataChangeEvent.after(), writer);
+            }
+            // the operation codes are single ASCII characters
+            writer.writeZigZagLong(1);
+            writer.writeByte(op.charAt(0));
+            writer.writeBytes(sourceBytes);
+        }
+
+        private void writeNullableRecord(@Nullable RecordData record, BinaryBytesWriter writer) {
+            if (record == null) {
+                writer.writeZigZagLong(0);
+            } else {
+                writer.writeZigZagLong(1);
+                valueWriter.write(record, writer);
+            }
+        }
+    }
+
+    /** Writes the given columns of a {@link RecordData} as the fields of an Avro record. */
+    private static class RecordWriter {
+
+        private final String[] columnNames;
+
+        private final int[] positions;
+
+        private final boolean[] nullables;
+
+        private final FieldWriter[] fieldWriters;
+
+        /** The Avro schemas of the fields. */
+        private final ArrayNode fieldSchemas;
+
+        private RecordWriter(Schema schema, List<String> columnNames) {
+            int fieldCount = columnNames.size();
+            this.columnNames = columnNames.toArray(new String[0]);
+            this.positions = new int[fieldCount];
+            this.nullables = new boolean[fieldCount];
+            this.fieldWriters = new FieldWriter[fieldCount];
+            this.fieldSchemas = NODE_FACTORY.arrayNode();
+            List<String> fieldNames = toIdentifiers(columnNames);
+            List<Column> columns = schema.getColumns();
+            for (int i = 0; i < fieldCount; i++) {
+                int position = schema.getColumnNames().indexOf(columnNames.get(i));
+                if (position < 0) {
+                    throw new IllegalArgumentException(
+                            format(
+                                    "Column %s is not found in schema %s.",
+                                    columnNames.get(i), schema));
+                }
+                DataType type = columns.get(position).getType();
+                positions[i] = position;
+                nullables[i] = type.isNullable();
+                fieldWriters[i] = createFieldWriter(type);
+                ObjectNode fieldType = createFieldSchema(type);
+                fieldSchemas.add(
+                        type.isNullable()
+                                ? nullableField(fieldNames.get(i), fieldType)
+                                : field(fieldNames.get(i), fieldType));
+            }
+        }
+
+        private void write(RecordData record, BinaryBytesWriter writer) {
+            for (int i = 0; i < fieldWriters.length; i++) {
+                int position = positions[i];
+                if (nullables[i]) {
+                    if (record.isNullAt(position)) {
+                        writer.writeZigZagLong(0);
+                        continue;
+                    }
+                    writer.writeZigZagLong(1);
+                } else if (record.isNullAt(position)) {
+                    throw new IllegalArgumentException(
+                            format(
+                                    "Column %s is declared as NOT NULL but is null.",
+                                    columnNames[i]));
+                }
+                fieldWriters[i].write(record, position, writer);
+            }
+        }
+    }
+
+    private static ObjectNode createFieldSchema(DataType fieldType) {
+        ObjectNode fieldSchema = NODE_FACTORY.objectNode();
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+            case TIMESTAMP_WITH_TIME_ZONE:
+                return fieldSchema.put("type", "string");
+            case BOOLEAN:
+                return fieldSchema.put("type", "boolean");
+            case BINARY:
+            case VARBINARY:
+                return fieldSchema.put("type", "bytes");
+            case DECIMAL:
+                return fieldSchema
+                        .put("type", "bytes")
+                        .put("logicalType", "decimal")
+                        .put("precision", getPrecision(fieldType))
+                        .put("scale", getScale(fieldType));
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+                return fieldSchema.put("type", "int");
+            case DATE:
+                return fieldSchema.put("type", "int").put("logicalType", "date");
+            case TIME_WITHOUT_TIME_ZONE:
+                return fieldSchema.put("type", "int").put("logicalType", "time-millis");
+            case BIGINT:
+                return fieldSchema.put("type", "long");
+            case FLOAT:
+                return fieldSchema.put("type", "float");
+            case DOUBLE:
+                return fieldSchema.put("type", "double");
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return fieldSchema
+                        .put("type", "long")
+                        .put(
+                                "logicalType",
+                                getPrecision(fieldType) <= MILLIS_PRECISION
+                                        ? "local-timestamp-millis"
+                                        : "local-timestamp-micros");
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return fieldSchema
+                        .put("type", "long")
+                        .put(
+                                "logicalType",
+                                getPrecision(fieldType) <= MILLIS_PRECISION
+                                        ? "timestamp-millis"
+                                        : "timestamp-micros");
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for Avro serialization: " + fieldType);
+        }
+    }
+
+    private static FieldWriter createFieldWriter(DataType fieldType) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (record, pos, writer) ->
+                        writeBytes(record.getString(pos).toBytes(), writer);
+            case BOOLEAN:
+                return (record, pos, writer) -> writer.writeByte(record.getBoolean(pos) ? 1 : 0);
+            case BINARY:
+            case VARBINARY:
+                return (record, pos, writer) -> writeBytes(record.getBinary(pos), writer);
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (record, pos, writer) ->
+                        writeBytes(
+                                record.getDecimal(pos, decimalPrecision, decimalScale)
+                                        .toUnscaledBytes(),
+                                writer);
+            case TINYINT:
+                return (record, pos, writer) -> writer.writeZigZagLong(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, writer) -> writer.writeZigZagLong(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, writer) -> writer.writeZigZagLong(record.getInt(pos));
+            case DATE:
+                return (record, pos, writer) ->
+                        writer.writeZigZagLong(record.getDate(pos).toEpochDay());
+            case TIME_WITHOUT_TIME_ZONE:
+                return (record, pos, writer) ->
+                        writer.writeZigZagLong(record.getTime(pos).toMillisOfDay());
+            case BIGINT:
+                return (record, pos, writer) -> writer.writeZigZagLong(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, writer) ->
+                        writer.writeFixedIntLittleEndian(
+                                Float.floatToRawIntBits(record.getFloat(pos)));
+            case DOUBLE:
+                return (record, pos, writer) ->
+                        writer.writeFixedLongLittleEndian(
+                                Double.doubleToRawLongBits(record.getDouble(pos)));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                if (timestampPrecision <= MILLIS_PRECISION) {
+                    return (record, pos, writer) ->
+                            writer.writeZigZagLong(
+                                    record.getTimestamp(pos, timestampPrecision).getMillisecond());
+                }
+                return (record, pos, writer) -> {
+                    TimestampData timestamp =
+                            record.getTimestamp(pos, timestampPrecision);
+                    writer.writeZigZagLong(
+                            toMicros(timestamp.getMillisecond(), timestamp.getNanoOfMillisecond()));
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(fieldType);
+                if (localZonedPrecision <= MILLIS_PRECISION) {
+                    return (record, pos, writer) ->
+                            writer.writeZigZagLong(
+                                    record.getLocalZonedTimestampData(pos, localZonedPrecision)
+                                            .getEpochMillisecond());
+                }
+                return (record, pos, writer) -> {
+                    LocalZonedTimestampData timestamp =
+                            record.getLocalZonedTimestampData(pos, localZonedPrecision);
+                    writer.writeZigZagLong(
+                            toMicros(
+                                    timestamp.getEpochMillisecond(),
+                                    timestamp.getEpochNanoOfMillisecond()));
+                };
+            case TIMESTAMP_WITH_TIME_ZONE:
+                final int zonedPrecision = getPrecision(fieldType);
+                return (record, pos, writer) ->
+                        writeBytes(
+                                record.getZonedTimestamp(pos, zonedPrecision)
+                                        .getZonedDateTime()
+                                        .format(DateTimeFormatter.ISO_ZONED_DATE_TIME)
+                                        .getBytes(StandardCharsets.UTF_8),
+                                writer);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for Avro serialization: " + fieldType);
+        }
+    }
+
+    private static long toMicros(long millisecond, int nanoOfMillisecond) {
+        return millisecond * 1000L + nanoOfMillisecond / 1000;
+    }
+
+    /** Writes the bytes of Avro {@code bytes} or {@code string} type, i.e. prefixed by length. */
+    private static void writeBytes(byte[] bytes, BinaryBytesWriter writer) {
+        writer.writeZigZagLong(bytes.length);
+        writer.writeBytes(bytes);
+    }
+
+    private static ObjectNode record(String name, @Nullable String namespace, ArrayNode fields) {
+        ObjectNode record = NODE_FACTORY.objectNode();
+        record.put("type", "record");
+        record.put("name", name);
+        if (namespace != null && !namespace.isEmpty()) {
+            record.put("namespace", namespace);
+        }
+        record.set("fields", fields);
+        return record;
+    }
+
+    private static ObjectNode field(String name, JsonNode type) {
+        ObjectNode field = NODE_FACTORY.objectNode();
+        field.put("name", name);
+        field.set("type", type);
+        return field;
+    }
+
+    /** Creates a field of the union of null and the type, whose default value is null. */
+    private static ObjectNode nullableField(String name, JsonNode type) {
+        ArrayNode union = NODE_FACTORY.arrayNode();
+        union.add("null");
+        union.add(type);
+        ObjectNode field = field(name, union);
+        field.putNull("default");
+        return field;
+    }
+
+    /** Writes a non-null field of a {@link RecordData} in Avro binary encoding. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(RecordData record, int pos, BinaryBytesWriter writer);
+    }
+}
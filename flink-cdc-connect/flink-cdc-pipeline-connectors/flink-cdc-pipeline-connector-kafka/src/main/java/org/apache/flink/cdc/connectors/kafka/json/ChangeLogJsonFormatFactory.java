@@ -20,13 +20,21 @@ package org.apache.flink.cdc.connectors.kafka.json;
 import org.apache.flink.annotation.Internal;
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.json.canal.CanalJsonDirectSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.canal.CanalJsonSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonDirectSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.protobuf.ProtobufSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaRegistryClient;
 import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
 import org.apache.flink.configuration.ReadableConfig;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions;
 import org.apache.flink.formats.json.JsonFormatOptionsUtil;
+import org.apache.flink.util.Preconditions;
+
+import javax.annotation.Nullable;
 
 import java.time.ZoneId;
 
@@ -51,6 +59,44 @@ public class ChangeLogJsonFormatFactory {
      */
     public static SerializationSchema<Event> createSerializationSchema(
             ReadableConfig formatOptions, JsonSerializationType type, ZoneId zoneId) {
+        return createSerializationSchema(formatOptions, type, zoneId, false);
+    }
+
+    /**
+     * Creates a configured instance of {@link SerializationSchema} to convert {@link Event} to
+     * json.
+     *
+     * @param formatOptions The format options.
+     * @param type The type of json serialization.
+     * @param directEncoding Whether to write json straight from the records.
+     * @return The configured instance of {@link SerializationSchema}.
+     */
+    public static SerializationSchema<Event> createSerializationSchema(
+            ReadableConfig formatOptions,
+            JsonSerializationType type,
+            ZoneId zoneId,
+            boolean directEncoding) {
+        return createSerializationSchema(formatOptions, type, zoneId, directEncoding, null);
+    }
+
+    /**
+     * Creates a configured instance of {@link SerializationSchema} to convert {@link Event} to
+     * json or a binary format.
+     *
+     * @param formatOptions The format options.
+     * @param type The type of serialization.
+     * @param directEncoding Whether to write json straight from the records.
+     * @param registryClient The client to register the schemas of binary formats, which is
+     *     required by {@link JsonSerializationType#DEBEZIUM_AVRO} and {@link
+     *     JsonSerializationType#PROTOBUF}.
+     * @return The configured instance of {@link SerializationSchema}.
+     */
+    public static SerializationSchema<Event> createSerializationSchema(
+            ReadableConfig formatOptions,
+            JsonSerializationType type,
+            ZoneId zoneId,
+            boolean directEncoding,
+            @Nullable SchemaRegistryClient registryClient) {
         final String prefix = type.toString() + ".";
         boolean isIncludedDebeziumSchema =
                 Boolean.parseBoolean(
@@ -75,6 +121,13 @@ public class ChangeLogJsonFormatFactory {
         switch (type) {
             case DEBEZIUM_JSON:
                 {
+                    if (directEncoding) {
+                        return new DebeziumJsonDirectSerializationSchema(
+                                timestampFormat,
+                                encodeDecimalAsPlainNumber,
+                                ignoreNullFields,
+                                isIncludedDebeziumSchema);
+                    }
                     return new DebeziumJsonSerializationSchema(
                             timestampFormat,
                             mapNullKeyMode,
@@ -86,6 +139,10 @@ public class ChangeLogJsonFormatFactory {
                 }
             case CANAL_JSON:
                 {
+                    if (directEncoding) {
+                        return new CanalJsonDirectSerializationSchema(
+                                timestampFormat, encodeDecimalAsPlainNumber, ignoreNullFields);
+                    }
                     return new CanalJsonSerializationSchema(
                             timestampFormat,
                             mapNullKeyMode,
@@ -94,6 +151,16 @@ public class ChangeLogJsonFormatFactory {
                             encodeDecimalAsPlainNumber,
                             ignoreNullFields);
                 }
+            case DEBEZIUM_AVRO:
+                {
+                    return new AvroSerializationSchema(
+                            checkRegistryClient(registryClient, type), false);
+                }
+            case PROTOBUF:
+                {
+                    return new ProtobufSerializationSchema(
+                            checkRegistryClient(registryClient, type), false);
+                }
             default:
                 {
                     throw new IllegalArgumentException(
@@ -101,4 +168,10 @@ public class ChangeLogJsonFormatFactory {
                 }
         }
     }
+
+    private static SchemaRegistryClient checkRegistryClient(
+            @Nullable SchemaRegistryClient registryClient, JsonSerializationType type) {
+        return Preconditions.checkNotNull(
+                registryClient, "A schema registry client is required by value format %s.", type);
+    }
 }
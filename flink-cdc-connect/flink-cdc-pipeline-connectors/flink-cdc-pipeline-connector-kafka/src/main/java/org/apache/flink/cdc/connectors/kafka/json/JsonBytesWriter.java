@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.annotation.Internal;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * A reusable buffer which writes JSON tokens directly as UTF-8 bytes.
+ *
+ * <p>The produced tokens are identical to the ones written by the Jackson generator used by Flink
+ * JSON formats, e.g. strings are escaped the same way (including supplementary characters being
+ * written as escaped surrogate pairs), non-finite floating point numbers are written as quoted
+ * strings and decimals are normalized like {@code JsonNodeFactory#numberNode(BigDecimal)} does.
+ */
+@Internal
+public final class JsonBytesWriter {
+
+    private static final byte[] HEX_CHARS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private final StringBuilder temporalBuilder = new StringBuilder(32);
+
+    private byte[] buffer;
+
+    private int position;
+
+    public JsonBytesWriter() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public JsonBytesWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /** Returns the bytes of a quoted and escaped JSON field name followed by a colon. */
+    public static byte[] fieldName(String name) {
+        JsonBytesWriter writer = new JsonBytesWriter(name.length() + 8);
+        writer.writeString(name);
+        writer.writeByte(':');
+        return writer.toByteArray();
+    }
+
+    /** Discards all written bytes, the underlying buffer is kept for reuse. */
+    public void reset() {
+        position = 0;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    /** Returns a copy of the written bytes. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) c;
+    }
+
+    /** Writes pre-encoded bytes as they are, e.g. cached field names or nested JSON documents. */
+    public void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeNull() {
+        writeRaw(NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    public void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position = end;
+    }
+
+    public void writeFloat(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeByte('"');
+            writeAscii(Float.toString(value));
+            writeByte('"');
+        } else {
+            writeAscii(Float.toString(value));
+        }
+    }
+
+    public void writeDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeByte('"');
+            writeAscii(Double.toString(value));
+            writeByte('"');
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    public void writeDecimal(BigDecimal value, boolean asPlainNumber) {
+        if (value.signum() == 0) {
+            writeByte('0');
+            return;
+        }
+        BigDecimal normalized = value.stripTrailingZeros();
+        writeAscii(asPlainNumber ? normalized.toPlainString() : normalized.toString());
+    }
+
+    /** Writes the Base64 encoded bytes as a JSON string, which is how binary nodes are written. */
+    public void writeBase64(byte[] bytes) {
+        writeByte('"');
+        writeRaw(Base64.getEncoder().encode(bytes));
+        writeByte('"');
+    }
+
+    /** Writes the formatted temporal value as a JSON string. */
+    public void writeTemporal(DateTimeFormatter formatter, TemporalAccessor temporal) {
+        temporalBuilder.setLength(0);
+        formatter.formatTo(temporal, temporalBuilder);
+        ensureCapacity(temporalBuilder.length() + 2);
+        buffer[position++] = '"';
+        for (int i = 0; i < temporalBuilder.length(); i++) {
+            buffer[position++] = (byte) temporalBuilder.charAt(i);
+        }
+        buffer[position++] = '"';
+    }
+
+    public void writeString(String value) {
+        writeUtf8String(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Writes the UTF-8 encoded string as a quoted and escaped JSON string. */
+    public void writeUtf8String(byte[] utf8) {
+        // the worst case is two escaped surrogates for every four bytes
+        ensureCapacity(utf8.length * 6 + 2);
+        buffer[position++] = '"';
+        int length = utf8.length;
+        for (int i = 0; i < length; i++) {
+            int b = utf8[i] & 0xFF;
+            if (b >= 0xF0 && i + 3 < length) {
+                int codePoint =
+                        ((b & 0x07) << 18)
+                                | ((utf8[i + 1] & 0x3F) << 12)
+                                | ((utf8[i + 2] & 0x3F) << 6)
+                                | (utf8[i + 3] & 0x3F);
+                writeUnicodeEscape(Character.highSurrogate(codePoint));
+                writeUnicodeEscape(Character.lowSurrogate(codePoint));
+                i += 3;
+            } else if (b >= 0x20 && b != '"' && b != '\\') {
+                buffer[position++] = (byte) b;
+            } else {
+                writeEscape(b);
+            }
+        }
+        buffer[position++] = '"';
+    }
+
+    private void writeEscape(int c) {
+        final char escaped;
+        switch (c) {
+            case '"':
+            case '\\':
+                escaped = (char) c;
+                break;
+            case '\b':
+                escaped = 'b';
+                break;
+            case '\t':
+                escaped = 't';
+                break;
+            case '\n':
+                escaped = 'n';
+                break;
+            case '\f':
+                escaped = 'f';
+                break;
+            case '\r':
+                escaped = 'r';
+                break;
+            default:
+                writeUnicodeEscape((char) c);
+                return;
+        }
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) escaped;
+    }
+
+    private void writeUnicodeEscape(char c) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = HEX_CHARS[(c >> 12) & 0xF];
+        buffer[position++] = HEX_CHARS[(c >> 8) & 0xF];
+        buffer[position++] = HEX_CHARS[(c >> 4) & 0xF];
+        buffer[position++] = HEX_CHARS[c & 0xF];
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
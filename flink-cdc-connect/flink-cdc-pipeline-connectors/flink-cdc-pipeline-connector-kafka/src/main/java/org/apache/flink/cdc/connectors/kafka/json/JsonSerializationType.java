@@ -19,8 +19,10 @@ package org.apache.flink.cdc.connectors.kafka.json;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.canal.CanalJsonSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.protobuf.ProtobufSerializationSchema;
 
 /** type of {@link SerializationSchema} to serialize {@link Event} for kafka. */
 public enum JsonSerializationType {
@@ -29,7 +31,13 @@ public enum JsonSerializationType {
     DEBEZIUM_JSON("debezium-json"),
 
     /** Use {@link CanalJsonSerializationSchema} to serialize. */
-    CANAL_JSON("canal-json");
+    CANAL_JSON("canal-json"),
+
+    /** Use {@link AvroSerializationSchema} to serialize. */
+    DEBEZIUM_AVRO("debezium-avro"),
+
+    /** Use {@link ProtobufSerializationSchema} to serialize. */
+    PROTOBUF("protobuf");
 
     private final String value;
 
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.formats.common.TimestampFormat;
+
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+import static org.apache.flink.formats.common.TimeFormats.ISO8601_TIMESTAMP_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.SQL_TIMESTAMP_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.SQL_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+import static org.apache.flink.formats.common.TimeFormats.SQL_TIME_FORMAT;
+
+/**
+ * Writes the columns of a {@link RecordData} of a specific {@link Schema} as members of a JSON
+ * object into a {@link JsonBytesWriter}.
+ *
+ * <p>The quoted field names are encoded once per schema and the values are read from the record
+ * without converting them into Flink internal data structures. The output is the same as the one
+ * of {@link TableSchemaInfo#getRowDataFromRecordData} serialized by Flink JSON format.
+ */
+@Internal
+public class RecordDataJsonEncoder {
+
+    private final byte[][] fieldNames;
+
+    private final int[] fieldPositions;
+
+    private final FieldEncoder[] fieldEncoders;
+
+    private final boolean ignoreNullFields;
+
+    private RecordDataJsonEncoder(
+            Schema schema,
+            List<String> columnNames,
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields) {
+        int fieldCount = columnNames.size();
+        this.fieldNames = new byte[fieldCount][];
+        this.fieldPositions = new int[fieldCount];
+        this.fieldEncoders = new FieldEncoder[fieldCount];
+        this.ignoreNullFields = ignoreNullFields;
+        List<Column> columns = schema.getColumns();
+        for (int i = 0; i < fieldCount; i++) {
+            String columnName = columnNames.get(i);
+            int position = schema.getColumnNames().indexOf(columnName);
+            if (position < 0) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Column %s is not found in schema %s.", columnName, schema));
+            }
+            fieldNames[i] = JsonBytesWriter.fieldName(columnName);
+            fieldPositions[i] = position;
+            fieldEncoders[i] =
+                    createFieldEncoder(
+                            columns.get(position).getType(),
+                            timestampFormat,
+                            encodeDecimalAsPlainNumber);
+        }
+    }
+
+    /** Creates an encoder which writes all columns of the given schema. */
+    public static RecordDataJsonEncoder create(
+            Schema schema,
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields) {
+        return new RecordDataJsonEncoder(
+                schema,
+                schema.getColumnNames(),
+                timestampFormat,
+                encodeDecimalAsPlainNumber,
+                ignoreNullFields);
+    }
+
+    /** Creates an encoder which only writes the given columns of the schema in the given order. */
+    public static RecordDataJsonEncoder create(
+            Schema schema,
+            List<String> columnNames,
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields) {
+        return new RecordDataJsonEncoder(
+                schema, columnNames, timestampFormat, encodeDecimalAsPlainNumber, ignoreNullFields);
+    }
+
+    /** Writes the record as a JSON object. */
+    public void writeRecord(RecordData record, JsonBytesWriter writer) {
+        writer.writeByte('{');
+        writeFields(record, writer, false);
+        writer.writeByte('}');
+    }
+
+    /**
+     * Writes the columns of the record as members of the enclosing JSON object.
+     *
+     * @param hasPrecedingField whether a member has been written into the object before
+     * @return whether a member has been written into the object after this call
+     */
+    public boolean writeFields(
+            RecordData record, JsonBytesWriter writer, boolean hasPrecedingField) {
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            int position = fieldPositions[i];
+            boolean isNull = record.isNullAt(position);
+            if (isNull && ignoreNullFields) {
+                continue;
+            }
+            if (hasPrecedingField) {
+                writer.writeByte(',');
+            }
+            writer.writeRaw(fieldNames[i]);
+            if (isNull) {
+                writer.writeNull();
+            } else {
+                fieldEncoders[i].encode(record, position, writer);
+            }
+            hasPrecedingField = true;
+        }
+        return hasPrecedingField;
+    }
+
+    private static FieldEncoder createFieldEncoder(
+            DataType fieldType,
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (record, pos, writer) ->
+                        writer.writeUtf8String(record.getString(pos).toBytes());
+            case BOOLEAN:
+                return (record, pos, writer) -> writer.writeBoolean(record.getBoolean(pos));
+            case BINARY:
+            case VARBINARY:
+                return (record, pos, writer) -> writer.writeBase64(record.getBinary(pos));
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (record, pos, writer) ->
+                        writer.writeDecimal(
+                                record.getDecimal(pos, decimalPrecision, decimalScale)
+                                        .toBigDecimal(),
+                                encodeDecimalAsPlainNumber);
+            case TINYINT:
+                return (record, pos, writer) -> writer.writeLong(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, writer) -> writer.writeLong(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, writer) -> writer.writeLong(record.getInt(pos));
+            case DATE:
+                return (record, pos, writer) ->
+                        writer.writeTemporal(
+                                DateTimeFormatter.ISO_LOCAL_DATE,
+                                record.getDate(pos).toLocalDate());
+            case TIME_WITHOUT_TIME_ZONE:
+                // Flink JSON format writes time values in second precision
+                return (record, pos, writer) ->
+                        writer.writeTemporal(
+                                SQL_TIME_FORMAT,
+                                LocalTime.ofSecondOfDay(
+                                        record.getTime(pos).toMillisOfDay() / 1000L));
+            case BIGINT:
+                return (record, pos, writer) -> writer.writeLong(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, writer) -> writer.writeFloat(record.getFloat(pos));
+            case DOUBLE:
+                return (record, pos, writer) -> writer.writeDouble(record.getDouble(pos));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                final DateTimeFormatter timestampFormatter =
+                        timestampFormat == TimestampFormat.ISO_8601
+                                ? ISO8601_TIMESTAMP_FORMAT
+                                : SQL_TIMESTAMP_FORMAT;
+                return (record, pos, writer) ->
+                        writer.writeTemporal(
+                                timestampFormatter,
+                                record.getTimestamp(pos, timestampPrecision).toLocalDateTime());
+            case TIMESTAMP_WITH_TIME_ZONE:
+                // read as a local zoned timestamp like TableSchemaInfo#createFieldGetter does
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(fieldType);
+                final DateTimeFormatter localZonedFormatter =
+                        timestampFormat == TimestampFormat.ISO_8601
+                                ? ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT
+                                : SQL_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+                return (record, pos, writer) ->
+                        writer.writeTemporal(
+                                localZonedFormatter,
+                                record.getLocalZonedTimestampData(pos, localZonedPrecision)
+                                        .toInstant()
+                                        .atOffset(ZoneOffset.UTC));
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for direct JSON encoding: " + fieldType);
+        }
+    }
+
+    /** Writes a non-null field of a {@link RecordData} as a JSON value. */
+    @FunctionalInterface
+    private interface FieldEncoder {
+        void encode(RecordData record, int pos, JsonBytesWriter writer);
+    }
+}
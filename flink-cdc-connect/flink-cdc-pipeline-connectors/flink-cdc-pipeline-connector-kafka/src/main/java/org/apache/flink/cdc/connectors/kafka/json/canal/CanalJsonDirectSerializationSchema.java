@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json.canal;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.json.JsonBytesWriter;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonEncoder;
+import org.apache.flink.formats.common.TimestampFormat;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Serialization schema that serializes an object of FlinkCDC pipeline internal data structure
+ * {@link Event} into a Canal JSON bytes, which writes the envelope straight from {@link
+ * RecordData} into a reusable byte buffer.
+ *
+ * <p>The produced bytes are the same as the ones of {@link CanalJsonSerializationSchema}. The
+ * members following the data of each table are encoded once when its schema changes.
+ *
+ * @see <a href="https://github.com/alibaba/canal">Alibaba Canal</a>
+ */
+public class CanalJsonDirectSerializationSchema implements SerializationSchema<Event> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String OP_INSERT = "INSERT";
+    private static final String OP_DELETE = "DELETE";
+    private static final String OP_UPDATE = "UPDATE";
+
+    private static final byte[] OLD_FIELD = JsonBytesWriter.fieldName("old");
+    private static final byte[] DATA_FIELD = JsonBytesWriter.fieldName("data");
+
+    /** A map of {@link TableId} and the encoder of its Canal JSON envelope. */
+    private final Map<TableId, TableEncoder> tableEncoders;
+
+    private final TimestampFormat timestampFormat;
+
+    private final boolean encodeDecimalAsPlainNumber;
+
+    private final boolean ignoreNullFields;
+
+    private transient JsonBytesWriter writer;
+
+    public CanalJsonDirectSerializationSchema(
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields) {
+        this.timestampFormat = timestampFormat;
+        this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
+        this.ignoreNullFields = ignoreNullFields;
+        this.tableEncoders = new HashMap<>();
+    }
+
+    @Override
+    public void open(InitializationContext context) {
+        writer = new JsonBytesWriter();
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                tableEncoders.get(schemaChangeEvent.tableId()).schema,
+                                schemaChangeEvent);
+            }
+            tableEncoders.put(
+                    schemaChangeEvent.tableId(),
+                    new TableEncoder(
+                            schema,
+                            RecordDataJsonEncoder.create(
+                                    schema,
+                                    timestampFormat,
+                                    encodeDecimalAsPlainNumber,
+                                    ignoreNullFields),
+                            createSuffix(schemaChangeEvent.tableId(), schema, OP_INSERT),
+                            createSuffix(schemaChangeEvent.tableId(), schema, OP_DELETE),
+                            createSuffix(schemaChangeEvent.tableId(), schema, OP_UPDATE)));
+            return null;
+        }
+
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        try {
+            TableEncoder tableEncoder = tableEncoders.get(dataChangeEvent.tableId());
+            final RecordData old;
+            final RecordData data;
+            final byte[] suffix;
+            switch (dataChangeEvent.op()) {
+                case INSERT:
+                    old = null;
+                    data = dataChangeEvent.after();
+                    suffix = tableEncoder.insertSuffix;
+                    break;
+                case DELETE:
+                    old = null;
+                    data = dataChangeEvent.before();
+                    suffix = tableEncoder.deleteSuffix;
+                    break;
+                case UPDATE:
+                case REPLACE:
+                    old = dataChangeEvent.before();
+                    data = dataChangeEvent.after();
+                    suffix = tableEncoder.updateSuffix;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(
+                            format(
+                                    "Unsupported operation '%s' for OperationType.",
+                                    dataChangeEvent.op()));
+            }
+            writer.reset();
+            writer.writeByte('{');
+            if (writeRecords(OLD_FIELD, old, tableEncoder)) {
+                writer.writeByte(',');
+            }
+            writeRecords(DATA_FIELD, data, tableEncoder);
+            writer.writeByte(',');
+            writer.writeRaw(suffix);
+            return writer.toByteArray();
+        } catch (Throwable t) {
+            throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
+        }
+    }
+
+    /** Writes the record as a single element array, returns whether a member has been written. */
+    private boolean writeRecords(
+            byte[] fieldName, @Nullable RecordData record, TableEncoder tableEncoder) {
+        if (record == null && ignoreNullFields) {
+            return false;
+        }
+        writer.writeRaw(fieldName);
+        if (record == null) {
+            writer.writeNull();
+        } else {
+            writer.writeByte('[');
+            tableEncoder.recordEncoder.writeRecord(record, writer);
+            writer.writeByte(']');
+        }
+        return true;
+    }
+
+    /** Creates the bytes of the members following the data of a Canal JSON envelope. */
+    private byte[] createSuffix(TableId tableId, Schema schema, String type) {
+        JsonBytesWriter suffixWriter = new JsonBytesWriter();
+        suffixWriter.writeRaw(JsonBytesWriter.fieldName("type"));
+        suffixWriter.writeString(type);
+        if (tableId.getSchemaName() != null || !ignoreNullFields) {
+            suffixWriter.writeByte(',');
+            suffixWriter.writeRaw(JsonBytesWriter.fieldName("database"));
+            if (tableId.getSchemaName() != null) {
+                suffixWriter.writeString(tableId.getSchemaName());
+            } else {
+                suffixWriter.writeNull();
+            }
+        }
+        suffixWriter.writeByte(',');
+        suffixWriter.writeRaw(JsonBytesWriter.fieldName("table"));
+        suffixWriter.writeString(tableId.getTableName());
+        suffixWriter.writeByte(',');
+        suffixWriter.writeRaw(JsonBytesWriter.fieldName("pkNames"));
+        suffixWriter.writeByte('[');
+        for (int i = 0; i < schema.primaryKeys().size(); i++) {
+            if (i > 0) {
+                suffixWriter.writeByte(',');
+            }
+            suffixWriter.writeString(schema.primaryKeys().get(i));
+        }
+        suffixWriter.writeByte(']');
+        suffixWriter.writeByte('}');
+        return suffixWriter.toByteArray();
+    }
+
+    /** The pre-encoded parts of the Canal JSON envelope of a specific {@link TableId}. */
+    private static class TableEncoder {
+
+        private final Schema schema;
+
+        private final RecordDataJsonEncoder recordEncoder;
+
+        private final byte[] insertSuffix;
+
+        private final byte[] deleteSuffix;
+
+        private final byte[] updateSuffix;
+
+        private TableEncoder(
+                Schema schema,
+                RecordDataJsonEncoder recordEncoder,
+                byte[] insertSuffix,
+                byte[] deleteSuffix,
+                byte[] updateSuffix) {
+            this.schema = schema;
+            this.recordEncoder = recordEncoder;
+            this.insertSuffix = insertSuffix;
+            this.deleteSuffix = deleteSuffix;
+            this.updateSuffix = updateSuffix;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json.debezium;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.json.JsonBytesWriter;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonEncoder;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.util.jackson.JacksonMapperFactory;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.storage.ConverterConfig;
+import org.apache.kafka.connect.storage.ConverterType;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumPayload.AFTER;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumPayload.BEFORE;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumPayload.OPERATION;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumPayload.SOURCE;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumSource.DATABASE;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumSource.TABLE;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumStruct.PAYLOAD;
+import static org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonStruct.DebeziumStruct.SCHEMA;
+
+/**
+ * Serialization schema from FlinkCDC pipeline internal data structure {@link Event} to Debezium
+ * JSON, which writes the envelope straight from {@link RecordData} into a reusable byte buffer.
+ *
+ * <p>The produced bytes are the same as the ones of {@link DebeziumJsonSerializationSchema}. The
+ * Debezium schema and the source of each table are encoded once when its schema changes, instead
+ * of being converted and re-embedded for every record.
+ */
+public class DebeziumJsonDirectSerializationSchema implements SerializationSchema<Event> {
+    private static final long serialVersionUID = 1L;
+
+    private static final String OP_INSERT = "c"; // insert
+    private static final String OP_DELETE = "d"; // delete
+    private static final String OP_UPDATE = "u"; // update
+
+    private static final byte[] BEFORE_FIELD = JsonBytesWriter.fieldName(BEFORE.getFieldName());
+    private static final byte[] AFTER_FIELD = JsonBytesWriter.fieldName(AFTER.getFieldName());
+
+    /** A map of {@link TableId} and the encoder of its Debezium JSON envelope. */
+    private final Map<TableId, TableEncoder> tableEncoders;
+
+    private final TimestampFormat timestampFormat;
+
+    private final boolean encodeDecimalAsPlainNumber;
+
+    private final boolean ignoreNullFields;
+
+    private final boolean isIncludedDebeziumSchema;
+
+    private transient JsonBytesWriter writer;
+
+    private transient JsonConverter jsonConverter;
+
+    private transient ObjectMapper mapper;
+
+    public DebeziumJsonDirectSerializationSchema(
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields,
+            boolean isIncludedDebeziumSchema) {
+        this.timestampFormat = timestampFormat;
+        this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
+        this.ignoreNullFields = ignoreNullFields;
+        this.isIncludedDebeziumSchema = isIncludedDebeziumSchema;
+        this.tableEncoders = new HashMap<>();
+    }
+
+    @Override
+    public void open(InitializationContext context) {
+        writer = new JsonBytesWriter();
+        if (isIncludedDebeziumSchema) {
+            jsonConverter = new JsonConverter();
+            final HashMap<String, Object> configs = new HashMap<>(2);
+            configs.put(ConverterConfig.TYPE_CONFIG, ConverterType.VALUE.getName());
+            jsonConverter.configure(configs);
+            mapper =
+                    JacksonMapperFactory.createObjectMapper()
+                            .configure(
+                                    JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN,
+                                    encodeDecimalAsPlainNumber);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                tableEncoders.get(schemaChangeEvent.tableId()).schema,
+                                schemaChangeEvent);
+            }
+            try {
+                tableEncoders.put(
+                        schemaChangeEvent.tableId(),
+                        createTableEncoder(schemaChangeEvent.tableId(), schema));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        }
+
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        try {
+            TableEncoder tableEncoder = tableEncoders.get(dataChangeEvent.tableId());
+            final RecordData before;
+            final RecordData after;
+            final byte[] suffix;
+            switch (dataChangeEvent.op()) {
+                case INSERT:
+                    before = null;
+                    after = dataChangeEvent.after();
+                    suffix = tableEncoder.insertSuffix;
+                    break;
+                case DELETE:
+                    before = dataChangeEvent.before();
+                    after = null;
+                    suffix = tableEncoder.deleteSuffix;
+                    break;
+                case UPDATE:
+                case REPLACE:
+                    before = dataChangeEvent.before();
+                    after = dataChangeEvent.after();
+                    suffix = tableEncoder.updateSuffix;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(
+                            format(
+                                    "Unsupported operation '%s' for OperationType.",
+                                    dataChangeEvent.op()));
+            }
+            writer.reset();
+            writer.writeRaw(tableEncoder.prefix);
+            boolean hasField = writeRecord(BEFORE_FIELD, before, tableEncoder, false);
+            hasField = writeRecord(AFTER_FIELD, after, tableEncoder, hasField);
+            if (hasField) {
+                writer.writeByte(',');
+            }
+            writer.writeRaw(suffix);
+            return writer.toByteArray();
+        } catch (Throwable t) {
+            throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
+        }
+    }
+
+    private boolean writeRecord(
+            byte[] fieldName,
+            @Nullable RecordData record,
+            TableEncoder tableEncoder,
+            boolean hasPrecedingField) {
+        if (record == null && ignoreNullFields) {
+            return hasPrecedingField;
+        }
+        if (hasPrecedingField) {
+            writer.writeByte(',');
+        }
+        writer.writeRaw(fieldName);
+        if (record == null) {
+            writer.writeNull();
+        } else {
+            tableEncoder.recordEncoder.writeRecord(record, writer);
+        }
+        return true;
+    }
+
+    private TableEncoder createTableEncoder(TableId tableId, Schema schema) throws IOException {
+        JsonBytesWriter prefixWriter = new JsonBytesWriter();
+        if (isIncludedDebeziumSchema) {
+            // parse and write the schema like DebeziumJsonRowDataSerializationSchema does
+            String debeziumSchema =
+                    jsonConverter
+                            .asJsonSchema(
+                                    DebeziumJsonSerializationSchema.createDebeziumSchema(schema))
+                            .toString();
+            prefixWriter.writeByte('{');
+            prefixWriter.writeRaw(JsonBytesWriter.fieldName(SCHEMA.getFieldName()));
+            prefixWriter.writeRaw(mapper.writeValueAsBytes(mapper.readTree(debeziumSchema)));
+            prefixWriter.writeByte(',');
+            prefixWriter.writeRaw(JsonBytesWriter.fieldName(PAYLOAD.getFieldName()));
+        }
+        prefixWriter.writeByte('{');
+        return new TableEncoder(
+                schema,
+                RecordDataJsonEncoder.create(
+                        schema, timestampFormat, encodeDecimalAsPlainNumber, ignoreNullFields),
+                prefixWriter.toByteArray(),
+                createSuffix(tableId, OP_INSERT),
+                createSuffix(tableId, OP_DELETE),
+                createSuffix(tableId, OP_UPDATE));
+    }
+
+    /** Creates the bytes of the members following the before and after image of a payload. */
+    private byte[] createSuffix(TableId tableId, String op) {
+        JsonBytesWriter suffixWriter = new JsonBytesWriter();
+        suffixWriter.writeRaw(JsonBytesWriter.fieldName(OPERATION.getFieldName()));
+        suffixWriter.writeString(op);
+        suffixWriter.writeByte(',');
+        suffixWriter.writeRaw(JsonBytesWriter.fieldName(SOURCE.getFieldName()));
+        suffixWriter.writeByte('{');
+        boolean hasDatabase = tableId.getSchemaName() != null;
+        if (hasDatabase || !ignoreNullFields) {
+            suffixWriter.writeRaw(JsonBytesWriter.fieldName(DATABASE.getFieldName()));
+            if (hasDatabase) {
+                suffixWriter.writeString(tableId.getSchemaName());
+            } else {
+                suffixWriter.writeNull();
+            }
+            suffixWriter.writeByte(',');
+        }
+        suffixWriter.writeRaw(JsonBytesWriter.fieldName(TABLE.getFieldName()));
+        suffixWriter.writeString(tableId.getTableName());
+        suffixWriter.writeByte('}');
+        suffixWriter.writeByte('}');
+        if (isIncludedDebeziumSchema) {
+            suffixWriter.writeByte('}');
+        }
+        return suffixWriter.toByteArray();
+    }
+
+    /** The pre-encoded parts of the Debezium JSON envelope of a specific {@link TableId}. */
+    private static class TableEncoder {
+
+        private final Schema schema;
+
+        private final RecordDataJsonEncoder recordEncoder;
+
+        /** The bytes before the before image, which contain the cached schema if included. */
+        private final byte[] prefix;
+
+        private final byte[] insertSuffix;
+
+        private final byte[] deleteSuffix;
+
+        private final byte[] updateSuffix;
+
+        private TableEncoder(
+                Schema schema,
+                RecordDataJsonEncoder recordEncoder,
+                byte[] prefix,
+                byte[] insertSuffix,
+                byte[] deleteSuffix,
+                byte[] updateSuffix) {
+            this.schema = schema;
+            this.recordEncoder = recordEncoder;
+            this.prefix = prefix;
+            this.insertSuffix = insertSuffix;
+            this.deleteSuffix = deleteSuffix;
+            this.updateSuffix = updateSuffix;
+        }
+    }
+}
@@ -232,6 +232,11 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
      * @return Debezium schema json string
      */
     public String convertSchemaToDebeziumSchema(Schema schema) {
+        return jsonConverter.asJsonSchema(createDebeziumSchema(schema)).toString();
+    }
+
+    /** Creates the Kafka Connect struct schema of Debezium envelope for CDC {@link Schema}. */
+    static SchemaBuilder createDebeziumSchema(Schema schema) {
         List<Column> columns = schema.getColumns();
         SchemaBuilder schemaBuilder = SchemaBuilder.struct();
         SchemaBuilder beforeBuilder = SchemaBuilder.struct();
@@ -244,7 +249,7 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
         schemaBuilder.field("before", beforeBuilder);
         schemaBuilder.field("after", afterBuilder);
         schemaBuilder.build();
-        return jsonConverter.asJsonSchema(schemaBuilder).toString();
+        return schemaBuilder;
     }
 
     private static SchemaBuilder convertCDCDataTypeToDebeziumDataType(Column column) {
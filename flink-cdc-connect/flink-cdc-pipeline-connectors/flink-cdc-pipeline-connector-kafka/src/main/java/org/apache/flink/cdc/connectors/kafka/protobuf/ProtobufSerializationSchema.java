@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.protobuf;
+
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.connectors.kafka.registry.BinaryBytesWriter;
+import org.apache.flink.cdc.connectors.kafka.registry.RegistrySerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaRegistryClient;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaType;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static java.lang.String.format;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Serialization schema that serializes an object of FlinkCDC pipeline internal data structure
+ * {@link Event} into Protobuf binary encoding, whose proto3 schemas are derived from the {@link
+ * Schema} of the tables and registered in a {@link SchemaRegistryClient}.
+ *
+ * <p>Values are written as an {@code Envelope} message with the fields {@code before}, {@code
+ * after}, {@code op} and {@code source}, keys are written as a {@code Key} message with the table
+ * id and the primary key columns. Null columns are omitted, decimals are written as plain strings
+ * and timestamps as microseconds since epoch.
+ */
+public class ProtobufSerializationSchema extends RegistrySerializationSchema {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED64 = 1;
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_TYPE_FIXED32 = 5;
+
+    /** The message indexes of the first message in the schema, which precede the payload. */
+    private static final int FIRST_MESSAGE_INDEXES = 0;
+
+    public ProtobufSerializationSchema(SchemaRegistryClient registryClient, boolean isKey) {
+        super(registryClient, isKey);
+    }
+
+    @Override
+    protected SchemaType getSchemaType() {
+        return SchemaType.PROTOBUF;
+    }
+
+    @Override
+    protected TableWriter createTableWriter(TableId tableId, Schema schema) {
+        StringBuilder schemaBuilder = new StringBuilder("syntax = \"proto3\";\n");
+        String namespace = toNamespace(tableId);
+        if (!namespace.isEmpty()) {
+            schemaBuilder.append("package ").append(namespace).append(";\n");
+        }
+        schemaBuilder.append('\n');
+        if (isKey) {
+            return new KeyWriter(tableId, schema, schemaBuilder);
+        }
+        return new EnvelopeWriter(tableId, schema, schemaBuilder);
+    }
+
+    /** Writes the primary key of the changes as a message led by the table id. */
+    private static class KeyWriter implements TableWriter {
+
+        private final String schemaString;
+
+        /** The encoded table id field, which is the same for all changes of the table. */
+        private final byte[] tableIdBytes;
+
+        private final MessageWriter primaryKeyWriter;
+
+        private KeyWriter(TableId tableId, Schema schema, StringBuilder schemaBuilder) {
+            this.primaryKeyWriter = new MessageWriter(schema, schema.primaryKeys(), 2);
+
+            BinaryBytesWriter tableIdWriter = new BinaryBytesWriter(64);
+            writeBytesField(1, tableId.toString().getBytes(StandardCharsets.UTF_8), tableIdWriter);
+            this.tableIdBytes = tableIdWriter.toByteArray();
+
+            schemaBuilder.append("message Key {\n");
+            schemaBuilder.append("  string TableId = 1;\n");
+            primaryKeyWriter.appendFields("  ", schemaBuilder);
+            schemaBuilder.append("}\n");
+            this.schemaString = schemaBuilder.toString();
+        }
+
+        @Override
+        public String getSchemaString() {
+            return schemaString;
+        }
+
+        @Override
+        public void write(DataChangeEvent dataChangeEvent, BinaryBytesWriter writer) {
+            writer.writeVarLong(FIRST_MESSAGE_INDEXES);
+            writer.writeBytes(tableIdBytes);
+            primaryKeyWriter.write(getKeyRecord(dataChangeEvent), writer);
+        }
+    }
+
+    /** Writes the changes as a Debezium-like envelope message. */
+    private static class EnvelopeWriter implements TableWriter {
+
+        private final String schemaString;
+
+        private final MessageWriter valueWriter;
+
+        /** The encoded source field, which is the same for all changes of the table. */
+        private final byte[] sourceBytes;
+
+        /** The buffer of the nested value messages, whose length must precede their bytes. */
+        private final BinaryBytesWriter valueBuffer = new BinaryBytesWriter();
+
+        private EnvelopeWriter(TableId tableId, Schema schema, StringBuilder schemaBuilder) {
+            this.valueWriter = new MessageWriter(schema, schema.getColumnNames(), 1);
+
+            BinaryBytesWriter sourceWriter = new BinaryBytesWriter(64);
+            if (tableId.getSchemaName() != null) {
+                writeBytesField(
+                        1, tableId.getSchemaName().getBytes(StandardCharsets.UTF_8), sourceWriter);
+            }
+            writeBytesField(
+                    2, tableId.getTableName().getBytes(StandardCharsets.UTF_8), sourceWriter);
+            BinaryBytesWriter sourceFieldWriter = new BinaryBytesWriter(64);
+            writeBytesField(4, sourceWriter.toByteArray(), sourceFieldWriter);
+            this.sourceBytes = sourceFieldWriter.toByteArray();
+
+            schemaBuilder.append("message Envelope {\n");
+            schemaBuilder.append("  message Value {\n");
+            valueWriter.appendFields("    ", schemaBuilder);
+            schemaBuilder.append("  }\n");
+            schemaBuilder.append("  message Source {\n");
+            schemaBuilder.append("    optional string db = 1;\n");
+            schemaBuilder.append("    string table = 2;\n");
+            schemaBuilder.append("  }\n");
+            schemaBuilder.append("  Value before = 1;\n");
+            schemaBuilder.append("  Value after = 2;\n");
+            schemaBuilder.append("  string op = 3;\n");
+            schemaBuilder.append("  Source source = 4;\n");
+            schemaBuilder.append("}\n");
+            this.schemaString = schemaBuilder.toString();
+        }
+
+        @Override
+        public String getSchemaString() {
+            return schemaString;
+        }
+
+        @Override
+        public void write(DataChangeEvent dataChangeEvent, BinaryBytesWriter writer) {
+            String op = getDebeziumOperation(dataChangeEvent.op());
+            writer.writeVarLong(FIRST_MESSAGE_INDEXES);
+            switch (dataChangeEvent.op()) {
+                case INSERT:
+                    writeValue(2, dataChangeEvent.after(), writer);
+                    break;
+                case DELETE:
+                    writeValue(1, dataChangeEvent.before(), writer);
+                    break;
+                default:
+                    writeValue(1, dataChangeEvent.before(), writer);
+                    writeValue(2, dataChangeEvent.after(), writer);
+            }
+            // the operation codes are single ASCII characters
+            writer.writeVarLong(tag(3, WIRE_TYPE_LENGTH_DELIMITED));
+            writer.writeVarLong(1);
+            writer.writeByte(op.charAt(0));
+            writer.writeBytes(sourceBytes);
+        }
+
+        private void writeValue(
+                int fieldNumber, @Nullable RecordData record, BinaryBytesWriter writer) {
+            if (record == null) {
+                return;
+            }
+            valueBuffer.reset();
+            valueWriter.write(record, valueBuffer);
+            writer.writeVarLong(tag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED));
+            writer.writeVarLong(valueBuffer.size());
+            valueBuffer.writeTo(writer);
+        }
+    }
+
+    /** Writes the given columns of a {@link RecordData} as the fields of a message. */
+    private static class MessageWriter {
+
+        private final String[] fieldNames;
+
+        private final String[] fieldTypes;
+
+        private final boolean[] nullables;
+
+        private final int firstFieldNumber;
+
+        private final int[] positions;
+
+        private final long[] tags;
+
+        private final FieldWriter[] fieldWriters;
+
+        private MessageWriter(Schema schema, List<String> columnNames, int firstFieldNumber) {
+            int fieldCount = columnNames.size();
+            this.fieldNames = toIdentifiers(columnNames).toArray(new String[0]);
+            this.fieldTypes = new String[fieldCount];
+            this.nullables = new boolean[fieldCount];
+            this.firstFieldNumber = firstFieldNumber;
+            this.positions = new int[fieldCount];
+            this.tags = new long[fieldCount];
+            this.fieldWriters = new FieldWriter[fieldCount];
+            List<Column> columns = schema.getColumns();
+            for (int i = 0; i < fieldCount; i++) {
+                int position = schema.getColumnNames().indexOf(columnNames.get(i));
+                if (position < 0) {
+                    throw new IllegalArgumentException(
+                            format(
+                                    "Column %s is not found in schema %s.",
+                                    columnNames.get(i), schema));
+                }
+                DataType type = columns.get(position).getType();
+                positions[i] = position;
+                nullables[i] = type.isNullable();
+                fieldTypes[i] = getFieldType(type);
+                tags[i] = tag(firstFieldNumber + i, getWireType(type));
+                fieldWriters[i] = createFieldWriter(type);
+            }
+        }
+
+        private void appendFields(String indent, StringBuilder schemaBuilder) {
+            for (int i = 0; i < fieldNames.length; i++) {
+                schemaBuilder.append(indent);
+                if (nullables[i]) {
+                    schemaBuilder.append("optional ");
+                }
+                schemaBuilder
+                        .append(fieldTypes[i])
+                        .append(' ')
+                        .append(fieldNames[i])
+                        .append(" = ")
+                        .append(firstFieldNumber + i)
+                        .append(";\n");
+            }
+        }
+
+        private void write(RecordData record, BinaryBytesWriter writer) {
+            for (int i = 0; i < fieldWriters.length; i++) {
+                int position = positions[i];
+                if (record.isNullAt(position)) {
+                    continue;
+                }
+                writer.writeVarLong(tags[i]);
+                fieldWriters[i].write(record, position, writer);
+            }
+        }
+    }
+
+    private static String getFieldType(DataType fieldType) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+            case DECIMAL:
+            case TIMESTAMP_WITH_TIME_ZONE:
+                return "string";
+            case BOOLEAN:
+                return "bool";
+            case BINARY:
+            case VARBINARY:
+                return "bytes";
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return "int32";
+            case BIGINT:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return "int64";
+            case FLOAT:
+                return "float";
+            case DOUBLE:
+                return "double";
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for Protobuf serialization: " + fieldType);
+        }
+    }
+
+    private static int getWireType(DataType fieldType) {
+        switch (getFieldType(fieldType)) {
+            case "string":
+            case "bytes":
+                return WIRE_TYPE_LENGTH_DELIMITED;
+            case "float":
+                return WIRE_TYPE_FIXED32;
+            case "double":
+                return WIRE_TYPE_FIXED64;
+            default:
+                return WIRE_TYPE_VARINT;
+        }
+    }
+
+    private static FieldWriter createFieldWriter(DataType fieldType) {
+        // ordered by type root definition, negative int32 values are sign-extended to 64 bits
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (record, pos, writer) ->
+                        writeBytes(record.getString(pos).toBytes(), writer);
+            case BOOLEAN:
+                return (record, pos, writer) -> writer.writeByte(record.getBoolean(pos) ? 1 : 0);
+            case BINARY:
+            case VARBINARY:
+                return (record, pos, writer) -> writeBytes(record.getBinary(pos), writer);
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (record, pos, writer) ->
+                        writeBytes(
+                                record.getDecimal(pos, decimalPrecision, decimalScale)
+                                        .toBigDecimal()
+                                        .toPlainString()
+                                        .getBytes(StandardCharsets.UTF_8),
+                                writer);
+            case TINYINT:
+                return (record, pos, writer) -> writer.writeVarLong(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, writer) -> writer.writeVarLong(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, writer) -> writer.writeVarLong(record.getInt(pos));
+            case DATE:
+                return (record, pos, writer) ->
+                        writer.writeVarLong(record.getDate(pos).toEpochDay());
+            case TIME_WITHOUT_TIME_ZONE:
+                return (record, pos, writer) ->
+                        writer.writeVarLong(record.getTime(pos).toMillisOfDay());
+            case BIGINT:
+                return (record, pos, writer) -> writer.writeVarLong(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, writer) ->
+                        writer.writeFixedIntLittleEndian(
+                                Float.floatToRawIntBits(record.getFloat(pos)));
+            case DOUBLE:
+                return (record, pos, writer) ->
+                        writer.writeFixedLongLittleEndian(
+                                Double.doubleToRawLongBits(record.getDouble(pos)));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                return (record, pos, writer) -> {
+                    TimestampData timestamp = record.getTimestamp(pos, timestampPrecision);
+                    writer.writeVarLong(
+                            toMicros(timestamp.getMillisecond(), timestamp.getNanoOfMillisecond()));
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(fieldType);
+                return (record, pos, writer) -> {
+                    LocalZonedTimestampData timestamp =
+                            record.getLocalZonedTimestampData(pos, localZonedPrecision);
+                    writer.writeVarLong(
+                            toMicros(
+                                    timestamp.getEpochMillisecond(),
+                                    timestamp.getEpochNanoOfMillisecond()));
+                };
+            case TIMESTAMP_WITH_TIME_ZONE:
+                final int zonedPrecision = getPrecision(fieldType);
+                return (record, pos, writer) ->
+                        writeBytes(
+                                record.getZonedTimestamp(pos, zonedPrecision)
+                                        .getZonedDateTime()
+                                        .format(DateTimeFormatter.ISO_ZONED_DATE_TIME)
+                                        .getBytes(StandardCharsets.UTF_8),
+                                writer);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type for Protobuf serialization: " + fieldType);
+        }
+    }
+
+    private static long tag(int fieldNumber, int wireType) {
+        return ((long) fieldNumber << 3) | wireType;
+    }
+
+    private static long toMicros(long millisecond, int nanoOfMillisecond) {
+        return millisecond * 1000L + nanoOfMillisecond / 1000;
+    }
+
+    /** Writes the bytes of a length-delimited value, i.e. prefixed by length. */
+    private static void writeBytes(byte[] bytes, BinaryBytesWriter writer) {
+        writer.writeVarLong(bytes.length);
+        writer.writeBytes(bytes);
+    }
+
+    private static void writeBytesField(int fieldNumber, byte[] bytes, BinaryBytesWriter writer) {
+        writer.writeVarLong(tag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED));
+        writeBytes(bytes, writer);
+    }
+
+    /** Writes a non-null field of a {@link RecordData} in Protobuf binary encoding. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(RecordData record, int pos, BinaryBytesWriter writer);
+    }
+}
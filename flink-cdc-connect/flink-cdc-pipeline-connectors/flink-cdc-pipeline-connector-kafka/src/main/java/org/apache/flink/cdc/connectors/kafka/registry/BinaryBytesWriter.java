@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.registry;
+
+import org.apache.flink.annotation.Internal;
+
+import java.util.Arrays;
+
+/**
+ * A reusable buffer which provides the primitive encodings shared by Avro and Protobuf binary
+ * formats, i.e. variable-length integers and little-endian fixed-length numbers.
+ */
+@Internal
+public final class BinaryBytesWriter {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 512;
+
+    private byte[] buffer;
+
+    private int position;
+
+    public BinaryBytesWriter() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public BinaryBytesWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /** Discards all written bytes, the underlying buffer is kept for reuse. */
+    public void reset() {
+        position = 0;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    /** Returns a copy of the written bytes. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /** Appends the written bytes of this writer to the target writer. */
+    public void writeTo(BinaryBytesWriter target) {
+        target.writeBytes(buffer, 0, position);
+    }
+
+    public void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    /** Writes the value as an unsigned base 128 variable-length integer. */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /** Writes the value as a zig-zag encoded variable-length integer. */
+    public void writeZigZagLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeFixedIntLittleEndian(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) value;
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 24);
+    }
+
+    public void writeFixedLongLittleEndian(long value) {
+        writeFixedIntLittleEndian((int) value);
+        writeFixedIntLittleEndian((int) (value >>> 32));
+    }
+
+    public void writeIntBigEndian(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
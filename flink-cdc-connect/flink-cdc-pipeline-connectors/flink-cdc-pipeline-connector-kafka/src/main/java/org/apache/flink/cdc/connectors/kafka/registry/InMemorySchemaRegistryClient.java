@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.registry;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link SchemaRegistryClient} which keeps the registered schemas in memory.
+ *
+ * <p>Schemas are not shared across tasks or restarts, so the ids are only meaningful in the same
+ * process. It is only suitable for tests and must be configured explicitly.
+ */
+public class InMemorySchemaRegistryClient implements SchemaRegistryClient {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<RegisteredSchema, Integer> schemaIds = new HashMap<>();
+
+    private final List<RegisteredSchema> schemas = new ArrayList<>();
+
+    private final Map<String, List<Integer>> subjectVersions = new HashMap<>();
+
+    @Override
+    public synchronized int register(String subject, SchemaType schemaType, String schema) {
+        RegisteredSchema registeredSchema = new RegisteredSchema(schemaType, schema);
+        Integer id = schemaIds.get(registeredSchema);
+        if (id == null) {
+            // ids start from 1 like the ones assigned by a schema registry
+            schemas.add(registeredSchema);
+            id = schemas.size();
+            schemaIds.put(registeredSchema, id);
+        }
+        List<Integer> versions = subjectVersions.computeIfAbsent(subject, s -> new ArrayList<>());
+        if (!versions.contains(id)) {
+            versions.add(id);
+        }
+        return id;
+    }
+
+    /** Returns the schema of the id, or null if the id is not registered. */
+    @Nullable
+    public synchronized String getSchema(int id) {
+        return id > 0 && id <= schemas.size() ? schemas.get(id - 1).schema : null;
+    }
+
+    /** Returns the ids of all versions of the subject, ordered from the oldest to the latest. */
+    public synchronized List<Integer> getVersions(String subject) {
+        return Collections.unmodifiableList(
+                new ArrayList<>(subjectVersions.getOrDefault(subject, Collections.emptyList())));
+    }
+
+    private static class RegisteredSchema {
+
+        private final SchemaType schemaType;
+
+        private final String schema;
+
+        private RegisteredSchema(SchemaType schemaType, String schema) {
+            this.schemaType = schemaType;
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RegisteredSchema that = (RegisteredSchema) o;
+            return schemaType == that.schemaType && schema.equals(that.schema);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schemaType, schema);
+        }
+    }
+}
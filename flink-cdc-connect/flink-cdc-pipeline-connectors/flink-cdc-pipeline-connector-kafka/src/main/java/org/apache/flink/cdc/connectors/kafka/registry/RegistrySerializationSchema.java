@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.registry;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Base class of the {@link SerializationSchema}s which convert {@link Event} into a binary format
+ * whose schemas are resolved through a {@link SchemaRegistryClient}.
+ *
+ * <p>A {@link TableWriter} is built and its schema is registered whenever the schema of a table
+ * changes, so every {@link DataChangeEvent} is written by a pre-built writer after the header of
+ * the schema registry wire format, i.e. a zero magic byte and the big-endian schema id. The
+ * schemas of keys and values are registered under the subjects {@code <tableId>-key} and {@code
+ * <tableId>-value}.
+ */
+public abstract class RegistrySerializationSchema implements SerializationSchema<Event> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final byte MAGIC_BYTE = 0;
+
+    private final SchemaRegistryClient registryClient;
+
+    /** Whether the primary key of the records is written rather than the change log envelope. */
+    protected final boolean isKey;
+
+    /** A map of {@link TableId} and the writer of its latest schema. */
+    private final Map<TableId, TableState> tableStates;
+
+    private transient BinaryBytesWriter writer;
+
+    protected RegistrySerializationSchema(SchemaRegistryClient registryClient, boolean isKey) {
+        this.registryClient = registryClient;
+        this.isKey = isKey;
+        this.tableStates = new HashMap<>();
+    }
+
+    /** Returns the type of the schemas registered by this serialization schema. */
+    protected abstract SchemaType getSchemaType();
+
+    /** Creates the writer of the records of the table with the given schema. */
+    protected abstract TableWriter createTableWriter(TableId tableId, Schema schema);
+
+    @Override
+    public void open(InitializationContext context) throws Exception {
+        registryClient.open();
+        writer = new BinaryBytesWriter();
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            TableId tableId = schemaChangeEvent.tableId();
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                tableStates.get(tableId).schema, schemaChangeEvent);
+            }
+            TableWriter tableWriter = createTableWriter(tableId, schema);
+            String subject = tableId + (isKey ? "-key" : "-value");
+            int schemaId;
+            try {
+                schemaId =
+                        registryClient.register(
+                                subject, getSchemaType(), tableWriter.getSchemaString());
+            } catch (Exception e) {
+                throw new RuntimeException(
+                        format("Could not register schema of subject '%s'.", subject), e);
+            }
+            BinaryBytesWriter headerWriter = new BinaryBytesWriter(5);
+            headerWriter.writeByte(MAGIC_BYTE);
+            headerWriter.writeIntBigEndian(schemaId);
+            tableStates.put(
+                    tableId, new TableState(schema, tableWriter, headerWriter.toByteArray()));
+            return null;
+        }
+
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        try {
+            TableState tableState = tableStates.get(dataChangeEvent.tableId());
+            writer.reset();
+            writer.writeBytes(tableState.header);
+            tableState.tableWriter.write(dataChangeEvent, writer);
+            return writer.toByteArray();
+        } catch (Throwable t) {
+            throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
+        }
+    }
+
+    /** Returns the record which contains the primary key of the change. */
+    protected static RecordData getKeyRecord(DataChangeEvent dataChangeEvent) {
+        return dataChangeEvent.op().equals(OperationType.DELETE)
+                ? dataChangeEvent.before()
+                : dataChangeEvent.after();
+    }
+
+    /** Returns the Debezium operation code of the change. */
+    protected static String getDebeziumOperation(OperationType op) {
+        switch (op) {
+            case INSERT:
+                return "c";
+            case DELETE:
+                return "d";
+            case UPDATE:
+            case REPLACE:
+                return "u";
+            default:
+                throw new UnsupportedOperationException(
+                        format("Unsupported operation '%s' for OperationType.", op));
+        }
+    }
+
+    /**
+     * Converts the name into an identifier which is valid in both Avro and Protobuf schemas, i.e.
+     * matches {@code [A-Za-z_][A-Za-z0-9_]*}.
+     */
+    protected static String toIdentifier(String name) {
+        StringBuilder builder = new StringBuilder(name.length() + 1);
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            builder.append('_');
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid =
+                    (c >= 'a' && c <= 'z')
+                            || (c >= 'A' && c <= 'Z')
+                            || (c >= '0' && c <= '9')
+                            || c == '_';
+            builder.append(valid ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts the names into distinct identifiers, a name which collides with a preceding one
+     * after the conversion is suffixed with its index.
+     */
+    protected static List<String> toIdentifiers(List<String> names) {
+        List<String> identifiers = new ArrayList<>(names.size());
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            String identifier = toIdentifier(names.get(i));
+            while (!used.add(identifier)) {
+                identifier = identifier + "_" + i;
+            }
+            identifiers.add(identifier);
+        }
+        return identifiers;
+    }
+
+    /** Converts the table id into a dot-separated namespace of identifiers. */
+    protected static String toNamespace(TableId tableId) {
+        StringBuilder builder = new StringBuilder();
+        for (String part :
+                new String[] {
+                    tableId.getNamespace(), tableId.getSchemaName(), tableId.getTableName()
+                }) {
+            if (part != null) {
+                if (builder.length() > 0) {
+                    builder.append('.');
+                }
+                builder.append(toIdentifier(part));
+            }
+        }
+        return builder.toString();
+    }
+
+    /** Writes the {@link DataChangeEvent}s of a specific schema of a table. */
+    protected interface TableWriter {
+
+        /** Returns the schema of the written records, which is registered in the registry. */
+        String getSchemaString();
+
+        /** Writes the key or value of the change without the header. */
+        void write(DataChangeEvent dataChangeEvent, BinaryBytesWriter writer);
+    }
+
+    /** The latest schema of a specific {@link TableId} and its writer. */
+    private static class TableState {
+
+        private final Schema schema;
+
+        private final TableWriter tableWriter;
+
+        /** The magic byte and the schema id which precede every written record. */
+        private final byte[] header;
+
+        private TableState(Schema schema, TableWriter tableWriter, byte[] header) {
+            this.schema = schema;
+            this.tableWriter = tableWriter;
+            this.header = header;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.registry;
+
+import org.apache.flink.annotation.PublicEvolving;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * A client of the schema registry which resolves the ids of schemas derived from the tables.
+ *
+ * <p>The client is instantiated and configured when the sink is created, serialized to the tasks
+ * and opened there before registering any schema. Implementations must provide a public no-arg
+ * constructor.
+ */
+@PublicEvolving
+public interface SchemaRegistryClient extends Serializable {
+
+    /**
+     * Configures the client with the sink options which start with {@code
+     * schema-registry.properties.}, the prefix is removed from the keys.
+     */
+    default void configure(Map<String, String> properties) {}
+
+    /** Initializes the client in the task, e.g. connects to the schema registry. */
+    default void open() throws Exception {}
+
+    /**
+     * Registers the schema under the subject and returns its id. The schema becomes the latest
+     * version of the subject, registering a schema which is the same as a registered one returns
+     * the existing id.
+     */
+    int register(String subject, SchemaType schemaType, String schema) throws Exception;
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.serialization;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.OperationType;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.json.JsonBytesWriter;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonEncoder;
+import org.apache.flink.formats.common.TimestampFormat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link SerializationSchema} to convert {@link Event} into byte of json format, which writes the
+ * primary key columns straight from {@link RecordData} into a reusable byte buffer.
+ *
+ * <p>The produced bytes are the same as the ones of {@link JsonSerializationSchema}.
+ */
+public class JsonDirectSerializationSchema implements SerializationSchema<Event> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** A map of {@link TableId} and the encoder of its primary key. */
+    private final Map<TableId, TableEncoder> tableEncoders;
+
+    private final TimestampFormat timestampFormat;
+
+    private final boolean encodeDecimalAsPlainNumber;
+
+    private final boolean ignoreNullFields;
+
+    private transient JsonBytesWriter writer;
+
+    public JsonDirectSerializationSchema(
+            TimestampFormat timestampFormat,
+            boolean encodeDecimalAsPlainNumber,
+            boolean ignoreNullFields) {
+        this.timestampFormat = timestampFormat;
+        this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
+        this.ignoreNullFields = ignoreNullFields;
+        this.tableEncoders = new HashMap<>();
+    }
+
+    @Override
+    public void open(InitializationContext context) {
+        writer = new JsonBytesWriter(256);
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                tableEncoders.get(schemaChangeEvent.tableId()).schema,
+                                schemaChangeEvent);
+            }
+            JsonBytesWriter prefixWriter = new JsonBytesWriter();
+            prefixWriter.writeByte('{');
+            prefixWriter.writeRaw(JsonBytesWriter.fieldName("TableId"));
+            prefixWriter.writeString(schemaChangeEvent.tableId().toString());
+            tableEncoders.put(
+                    schemaChangeEvent.tableId(),
+                    new TableEncoder(
+                            schema,
+                            RecordDataJsonEncoder.create(
+                                    schema,
+                                    schema.primaryKeys(),
+                                    timestampFormat,
+                                    encodeDecimalAsPlainNumber,
+                                    ignoreNullFields),
+                            prefixWriter.toByteArray()));
+            return null;
+        }
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        RecordData recordData =
+                dataChangeEvent.op().equals(OperationType.DELETE)
+                        ? dataChangeEvent.before()
+                        : dataChangeEvent.after();
+        TableEncoder tableEncoder = tableEncoders.get(dataChangeEvent.tableId());
+        writer.reset();
+        writer.writeRaw(tableEncoder.prefix);
+        tableEncoder.primaryKeyEncoder.writeFields(recordData, writer, true);
+        writer.writeByte('}');
+        return writer.toByteArray();
+    }
+
+    /** The pre-encoded parts of the primary key JSON of a specific {@link TableId}. */
+    private static class TableEncoder {
+
+        private final Schema schema;
+
+        private final RecordDataJsonEncoder primaryKeyEncoder;
+
+        /** The bytes before the primary key columns, which contain the table id. */
+        private final byte[] prefix;
+
+        private TableEncoder(
+                Schema schema, RecordDataJsonEncoder primaryKeyEncoder, byte[] prefix) {
+            this.schema = schema;
+            this.primaryKeyEncoder = primaryKeyEncoder;
+            this.prefix = prefix;
+        }
+    }
+}
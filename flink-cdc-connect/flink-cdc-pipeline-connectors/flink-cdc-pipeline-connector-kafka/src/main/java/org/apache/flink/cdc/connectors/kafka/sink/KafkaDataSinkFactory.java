@@ -26,9 +26,12 @@ import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.connectors.kafka.json.ChangeLogJsonFormatFactory;
 import org.apache.flink.cdc.connectors.kafka.json.JsonSerializationType;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaRegistryClient;
 import org.apache.flink.connector.base.DeliveryGuarantee;
+import org.apache.flink.table.api.ValidationException;
 
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -39,8 +42,11 @@ import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.DE
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.KEY_FORMAT;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.PARTITION_STRATEGY;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.PROPERTIES_PREFIX;
+import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.SCHEMA_REGISTRY_CLIENT_CLASS;
+import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.SCHEMA_REGISTRY_PROPERTIES_PREFIX;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.SINK_ADD_TABLEID_TO_HEADER_ENABLED;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.SINK_CUSTOM_HEADER;
+import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.SINK_JSON_DIRECT_ENCODING_ENABLED;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.SINK_TABLE_ID_TO_TOPIC_MAPPING;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.TOPIC;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.VALUE_FORMAT;
@@ -58,7 +64,10 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
 
         FactoryHelper helper = FactoryHelper.createFactoryHelper(this, context);
         helper.validateExcept(
-                PROPERTIES_PREFIX, keyFormat.toString(), jsonSerializationType.toString());
+                PROPERTIES_PREFIX,
+                SCHEMA_REGISTRY_PROPERTIES_PREFIX,
+                keyFormat.toString(),
+                jsonSerializationType.toString());
 
         DeliveryGuarantee deliveryGuarantee =
                 context.getFactoryConfiguration().get(KafkaDataSinkOptions.DELIVERY_GUARANTEE);
@@ -71,14 +80,31 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                             context.getPipelineConfiguration()
                                     .get(PipelineOptions.PIPELINE_LOCAL_TIME_ZONE));
         }
+        boolean directEncoding =
+                context.getFactoryConfiguration().get(SINK_JSON_DIRECT_ENCODING_ENABLED);
+        SchemaRegistryClient registryClient = null;
+        if (requiresSchemaRegistry(keyFormat, jsonSerializationType)) {
+            registryClient =
+                    createSchemaRegistryClient(
+                            context.getFactoryConfiguration().get(SCHEMA_REGISTRY_CLIENT_CLASS),
+                            context.getFactoryConfiguration().toMap(),
+                            keyFormat,
+                            jsonSerializationType);
+        }
         SerializationSchema<Event> keySerialization =
                 KeySerializationFactory.createSerializationSchema(
-                        helper.getFormatConfig(keyFormat.toString()), keyFormat, zoneId);
+                        helper.getFormatConfig(keyFormat.toString()),
+                        keyFormat,
+                        zoneId,
+                        directEncoding,
+                        registryClient);
         SerializationSchema<Event> valueSerialization =
                 ChangeLogJsonFormatFactory.createSerializationSchema(
                         helper.getFormatConfig(jsonSerializationType.toString()),
                         jsonSerializationType,
-                        zoneId);
+                        zoneId,
+                        directEncoding,
+                        registryClient);
         final Properties kafkaProperties = new Properties();
         Map<String, String> allOptions = context.getFactoryConfiguration().toMap();
         allOptions.keySet().stream()
@@ -111,6 +137,53 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 tableMapping);
     }
 
+    private static boolean requiresSchemaRegistry(
+            KeyFormat keyFormat, JsonSerializationType valueFormat) {
+        return keyFormat == KeyFormat.AVRO
+                || keyFormat == KeyFormat.PROTOBUF
+                || valueFormat == JsonSerializationType.DEBEZIUM_AVRO
+                || valueFormat == JsonSerializationType.PROTOBUF;
+    }
+
+    private static SchemaRegistryClient createSchemaRegistryClient(
+            String className,
+            Map<String, String> allOptions,
+            KeyFormat keyFormat,
+            JsonSerializationType valueFormat) {
+        if (className == null) {
+            throw new ValidationException(
+                    String.format(
+                            "Option '%s' is required when key format is '%s' and value format "
+                                    + "is '%s', as avro and protobuf keys and debezium-avro and "
+                                    + "protobuf values register their schemas in a registry.",
+                            SCHEMA_REGISTRY_CLIENT_CLASS.key(), keyFormat, valueFormat));
+        }
+        SchemaRegistryClient registryClient;
+        try {
+            registryClient =
+                    (SchemaRegistryClient)
+                            Class.forName(
+                                            className,
+                                            true,
+                                            Thread.currentThread().getContextClassLoader())
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+        } catch (Exception e) {
+            throw new ValidationException(
+                    "Could not instantiate schema registry client " + className, e);
+        }
+        Map<String, String> registryProperties = new HashMap<>();
+        allOptions.forEach(
+                (key, value) -> {
+                    if (key.startsWith(SCHEMA_REGISTRY_PROPERTIES_PREFIX)) {
+                        registryProperties.put(
+                                key.substring(SCHEMA_REGISTRY_PROPERTIES_PREFIX.length()), value);
+                    }
+                });
+        registryClient.configure(registryProperties);
+        return registryClient;
+    }
+
     @Override
     public String identifier() {
         return IDENTIFIER;
@@ -133,6 +206,8 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         options.add(KafkaDataSinkOptions.DELIVERY_GUARANTEE);
         options.add(SINK_TABLE_ID_TO_TOPIC_MAPPING);
         options.add(DEBEZIUM_JSON_INCLUDE_SCHEMA_ENABLED);
+        options.add(SINK_JSON_DIRECT_ENCODING_ENABLED);
+        options.add(SCHEMA_REGISTRY_CLIENT_CLASS);
         return options;
     }
 }
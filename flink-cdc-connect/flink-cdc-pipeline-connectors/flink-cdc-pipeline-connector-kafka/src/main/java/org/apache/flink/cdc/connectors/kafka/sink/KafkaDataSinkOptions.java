@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.kafka.sink;
 
+import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.common.configuration.ConfigOption;
 import org.apache.flink.cdc.common.configuration.description.Description;
 import org.apache.flink.cdc.connectors.kafka.json.JsonSerializationType;
@@ -30,6 +31,9 @@ public class KafkaDataSinkOptions {
     // Prefix for Kafka specific properties.
     public static final String PROPERTIES_PREFIX = "properties.";
 
+    // Prefix for the properties of schema registry client.
+    public static final String SCHEMA_REGISTRY_PROPERTIES_PREFIX = "schema-registry.properties.";
+
     public static final String DELIMITER_TABLE_MAPPINGS = ";";
 
     public static final String DELIMITER_SELECTOR_TOPIC = ":";
@@ -54,7 +58,7 @@ public class KafkaDataSinkOptions {
                     .defaultValue(KeyFormat.JSON)
                     .withDescription(
                             "Defines the format identifier for encoding key data, "
-                                    + "available options are `csv` and `json`, default option is `json`.");
+                                    + "available options are `csv`, `json`, `avro` and `protobuf`, default option is `json`.");
 
     public static final ConfigOption<JsonSerializationType> VALUE_FORMAT =
             key("value.format")
@@ -62,7 +66,7 @@ public class KafkaDataSinkOptions {
                     .defaultValue(JsonSerializationType.DEBEZIUM_JSON)
                     .withDescription(
                             "Defines the format identifier for encoding value data, "
-                                    + "available options are `debezium-json` and `canal-json`, default option is `debezium-json`.");
+                                    + "available options are `debezium-json`, `canal-json`, `debezium-avro` and `protobuf`, default option is `debezium-json`.");
 
     public static final ConfigOption<String> TOPIC =
             key("topic")
@@ -107,4 +111,24 @@ public class KafkaDataSinkOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Optional. If this parameter is configured, each debezium record will contain debezium schema information. Is only supported when using debezium-json.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SINK_JSON_DIRECT_ENCODING_ENABLED =
+            key("sink.json.direct-encoding.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Optional. If this parameter is enabled, JSON keys and `debezium-json` and `canal-json` values are written straight from the binary records into a reusable buffer, "
+                                    + "with field names and debezium schema encoded once per table, instead of building an intermediate JSON tree for every record. "
+                                    + "The output is the same as the one when it is disabled.");
+
+    @Experimental
+    public static final ConfigOption<String> SCHEMA_REGISTRY_CLIENT_CLASS =
+            key("schema-registry.client.class")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The class name of the `SchemaRegistryClient` which resolves the schema ids of `avro` and `protobuf` keys and `debezium-avro` and `protobuf` values, "
+                                    + "the options with prefix `schema-registry.properties.` are passed to the client. "
+                                    + "Required if any of these formats is used.");
 }
@@ -25,7 +25,11 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 public enum KeyFormat {
     JSON("json"),
 
-    CSV("csv");
+    CSV("csv"),
+
+    AVRO("avro"),
+
+    PROTOBUF("protobuf");
 
     private final String value;
 
@@ -19,13 +19,20 @@ package org.apache.flink.cdc.connectors.kafka.sink;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.protobuf.ProtobufSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.registry.SchemaRegistryClient;
 import org.apache.flink.cdc.connectors.kafka.serialization.CsvSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.serialization.JsonDirectSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.serialization.JsonSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
 import org.apache.flink.configuration.ReadableConfig;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions;
 import org.apache.flink.formats.json.JsonFormatOptionsUtil;
+import org.apache.flink.util.Preconditions;
+
+import javax.annotation.Nullable;
 
 import java.time.ZoneId;
 
@@ -44,6 +51,32 @@ public class KeySerializationFactory {
      */
     public static SerializationSchema<Event> createSerializationSchema(
             ReadableConfig formatOptions, KeyFormat keyFormat, ZoneId zoneId) {
+        return createSerializationSchema(formatOptions, keyFormat, zoneId, false);
+    }
+
+    /**
+     * Creates a configured instance of {@link SerializationSchema} to convert {@link Event} to
+     * byte, json keys are written straight from the records if directEncoding is true.
+     */
+    public static SerializationSchema<Event> createSerializationSchema(
+            ReadableConfig formatOptions,
+            KeyFormat keyFormat,
+            ZoneId zoneId,
+            boolean directEncoding) {
+        return createSerializationSchema(formatOptions, keyFormat, zoneId, directEncoding, null);
+    }
+
+    /**
+     * Creates a configured instance of {@link SerializationSchema} to convert {@link Event} to
+     * byte, the schemas of avro and protobuf keys are registered through the registryClient, which
+     * is required by these formats.
+     */
+    public static SerializationSchema<Event> createSerializationSchema(
+            ReadableConfig formatOptions,
+            KeyFormat keyFormat,
+            ZoneId zoneId,
+            boolean directEncoding,
+            @Nullable SchemaRegistryClient registryClient) {
         switch (keyFormat) {
             case JSON:
                 {
@@ -58,6 +91,10 @@ public class KeySerializationFactory {
                     final boolean ignoreNullFields =
                             JsonRowDataSerializationSchemaUtils.enableIgnoreNullFields(
                                     formatOptions);
+                    if (directEncoding) {
+                        return new JsonDirectSerializationSchema(
+                                timestampFormat, encodeDecimalAsPlainNumber, ignoreNullFields);
+                    }
                     return new JsonSerializationSchema(
                             timestampFormat,
                             mapNullKeyMode,
@@ -70,10 +107,28 @@ public class KeySerializationFactory {
                 {
                     return new CsvSerializationSchema(zoneId);
                 }
+            case AVRO:
+                {
+                    return new AvroSerializationSchema(
+                            checkRegistryClient(registryClient, keyFormat), true);
+                }
+            case PROTOBUF:
+                {
+                    return new ProtobufSerializationSchema(
+                            checkRegistryClient(registryClient, keyFormat), true);
+                }
             default:
                 {
                     throw new IllegalArgumentException("UnSupport key format of " + keyFormat);
                 }
         }
     }
+
+    private static SchemaRegistryClient checkRegistryClient(
+            @Nullable SchemaRegistryClient registryClient, KeyFormat keyFormat) {
+        return Preconditions.checkNotNull(
+                registryClient,
+                "A schema registry client is required by key format %s.",
+                keyFormat);
+    }
 }
@@ -0,0 +1,386 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.connectors.kafka.json.MockInitializationContext;
+import org.apache.flink.cdc.connectors.kafka.registry.BinaryBytesReader;
+import org.apache.flink.cdc.connectors.kafka.registry.InMemorySchemaRegistryClient;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link AvroSerializationSchema}. */
+class AvroSerializationSchemaTest {
+
+    private static final TableId TABLE_1 =
+            TableId.tableId("default_namespace", "default_schema", "table1");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("update time", DataTypes.TIMESTAMP(6))
+                    .physicalColumn("score", DataTypes.DOUBLE())
+                    .primaryKey("id")
+                    .build();
+
+    private static final DataType[] TYPES = SCHEMA.getColumnDataTypes().toArray(new DataType[0]);
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator(RowType.of(TYPES));
+
+    @Test
+    void testSerializeValue() throws Exception {
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        AvroSerializationSchema serializationSchema =
+                new AvroSerializationSchema(registryClient, false);
+        serializationSchema.open(new MockInitializationContext());
+
+        assertThat(serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA))).isNull();
+        assertThat(registryClient.getVersions("default_namespace.default_schema.table1-value"))
+                .containsExactly(1);
+        assertThat(registryClient.getSchema(1))
+                .isEqualTo(
+                        "{\"type\":\"record\",\"name\":\"Envelope\",\"namespace\":\"default_namespace.default_schema.table1\",\"fields\":["
+                                + "{\"name\":\"before\",\"type\":[\"null\",{\"type\":\"record\",\"name\":\"Value\",\"fields\":["
+                                + "{\"name\":\"id\",\"type\":{\"type\":\"int\"}},"
+                                + "{\"name\":\"name\",\"type\":[\"null\",{\"type\":\"string\"}],\"default\":null},"
+                                + "{\"name\":\"price\",\"type\":[\"null\",{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}],\"default\":null},"
+                                + "{\"name\":\"update_time\",\"type\":[\"null\",{\"type\":\"long\",\"logicalType\":\"local-timestamp-micros\"}],\"default\":null},"
+                                + "{\"name\":\"score\",\"type\":[\"null\",{\"type\":\"double\"}],\"default\":null}]}],\"default\":null},"
+                                + "{\"name\":\"after\",\"type\":[\"null\",\"Value\"],\"default\":null},"
+                                + "{\"name\":\"op\",\"type\":\"string\"},"
+                                + "{\"name\":\"source\",\"type\":{\"type\":\"record\",\"name\":\"Source\",\"fields\":["
+                                + "{\"name\":\"db\",\"type\":[\"null\",\"string\"],\"default\":null},"
+                                + "{\"name\":\"table\",\"type\":\"string\"}]}}]}");
+
+        BinaryBytesReader reader =
+                new BinaryBytesReader(
+                        serializationSchema.serialize(
+                                DataChangeEvent.insertEvent(TABLE_1, GENERATOR.generate(row()))));
+        assertHeader(reader, 1);
+        // before
+        assertThat(reader.readZigZagLong()).isZero();
+        // after
+        assertThat(reader.readZigZagLong()).isOne();
+        assertRow(reader);
+        assertThat(readString(reader)).isEqualTo("c");
+        assertSource(reader);
+        assertThat(reader.hasRemaining()).isFalse();
+
+        reader =
+                new BinaryBytesReader(
+                        serializationSchema.serialize(
+                                DataChangeEvent.updateEvent(
+                                        TABLE_1,
+                                        GENERATOR.generate(row()),
+                                        GENERATOR.generate(
+                                                new Object[] {1, null, null, null, null}))));
+        assertHeader(reader, 1);
+        assertThat(reader.readZigZagLong()).isOne();
+        assertRow(reader);
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(reader.readZigZagLong()).isEqualTo(1L);
+        for (int i = 0; i < 4; i++) {
+            assertThat(reader.readZigZagLong()).isZero();
+        }
+        assertThat(readString(reader)).isEqualTo("u");
+        assertSource(reader);
+        assertThat(reader.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void testSchemaEvolution() throws Exception {
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        AvroSerializationSchema serializationSchema =
+                new AvroSerializationSchema(registryClient, false);
+        serializationSchema.open(new MockInitializationContext());
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA));
+
+        assertThat(
+                        serializationSchema.serialize(
+                                new AddColumnEvent(
+                                        TABLE_1,
+                                        Collections.singletonList(
+                                                new AddColumnEvent.ColumnWithPosition(
+                                                        Column.physicalColumn(
+                                                                "extra", DataTypes.STRING()))))))
+                .isNull();
+        assertThat(registryClient.getVersions("default_namespace.default_schema.table1-value"))
+                .containsExactly(1, 2);
+        assertThat(registryClient.getSchema(2))
+                .contains(
+                        "{\"name\":\"extra\",\"type\":[\"null\",{\"type\":\"string\"}],\"default\":null}");
+
+        DataType[] evolvedTypes = Arrays.copyOf(TYPES, TYPES.length + 1);
+        evolvedTypes[TYPES.length] = DataTypes.STRING();
+        Object[] evolvedRow = Arrays.copyOf(row(), evolvedTypes.length);
+        evolvedRow[TYPES.length] = BinaryStringData.fromString("extra");
+        BinaryBytesReader reader =
+                new BinaryBytesReader(
+                        serializationSchema.serialize(
+                                DataChangeEvent.deleteEvent(
+                                        TABLE_1,
+                                        new BinaryRecordDataGenerator(RowType.of(evolvedTypes))
+                                                .generate(evolvedRow))));
+        assertHeader(reader, 2);
+        assertThat(reader.readZigZagLong()).isOne();
+        assertRow(reader);
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(readString(reader)).isEqualTo("extra");
+        assertThat(reader.readZigZagLong()).isZero();
+        assertThat(readString(reader)).isEqualTo("d");
+        assertSource(reader);
+        assertThat(reader.hasRemaining()).isFalse();
+
+        // the schema of another table is registered under its own subject
+        TableId table2 = TableId.tableId("default_namespace", "default_schema", "table2");
+        serializationSchema.serialize(new CreateTableEvent(table2, SCHEMA));
+        assertThat(registryClient.getVersions("default_namespace.default_schema.table2-value"))
+                .containsExactly(3);
+    }
+
+    @Test
+    void testSerializeKey() throws Exception {
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        AvroSerializationSchema serializationSchema =
+                new AvroSerializationSchema(registryClient, true);
+        serializationSchema.open(new MockInitializationContext());
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA));
+
+        assertThat(registryClient.getVersions("default_namespace.default_schema.table1-key"))
+                .containsExactly(1);
+        assertThat(registryClient.getSchema(1))
+                .isEqualTo(
+                        "{\"type\":\"record\",\"name\":\"Key\",\"namespace\":\"default_namespace.default_schema.table1\",\"fields\":["
+                                + "{\"name\":\"TableId\",\"type\":\"string\"},"
+                                + "{\"name\":\"id\",\"type\":{\"type\":\"int\"}}]}");
+
+        BinaryBytesReader reader =
+                new BinaryBytesReader(
+                        serializationSchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, GENERATOR.generate(row()))));
+        assertHeader(reader, 1);
+        assertThat(readString(reader)).isEqualTo("default_namespace.default_schema.table1");
+        assertThat(reader.readZigZagLong()).isEqualTo(1L);
+        assertThat(reader.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void testDecodeWithEmittedSchema() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                        .physicalColumn("big_price", DataTypes.DECIMAL(38, 10))
+                        .physicalColumn("day", DataTypes.DATE())
+                        .physicalColumn("ts", DataTypes.TIMESTAMP(3))
+                        .physicalColumn("ts_micros", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("ltz", DataTypes.TIMESTAMP_LTZ(3))
+                        .physicalColumn("ltz_micros", DataTypes.TIMESTAMP_LTZ(6))
+                        .physicalColumn("tz", DataTypes.TIMESTAMP_TZ(3))
+                        .primaryKey("id")
+                        .build();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(schema.getColumnDataTypes().toArray(new DataType[0])));
+        ZonedDateTime zonedDateTime = ZonedDateTime.parse("2023-11-14T22:13:20.123+08:00");
+        Object[] row =
+                new Object[] {
+                    -7,
+                    BinaryStringData.fromString("apple"),
+                    DecimalData.fromBigDecimal(new BigDecimal("-12.50"), 10, 2),
+                    DecimalData.fromBigDecimal(
+                            new BigDecimal("1234567890123456789.0123456789"), 38, 10),
+                    DateData.fromEpochDay(-1),
+                    TimestampData.fromMillis(1_700_000_000_123L),
+                    TimestampData.fromMillis(1_700_000_000_123L, 456_000),
+                    LocalZonedTimestampData.fromEpochMillis(1_700_000_000_123L),
+                    LocalZonedTimestampData.fromInstant(
+                            Instant.parse("1969-12-31T23:59:59.999999Z")),
+                    ZonedTimestampData.fromZonedDateTime(zonedDateTime)
+                };
+        Object[] nullRow = new Object[row.length];
+        nullRow[0] = -7;
+
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        AvroSerializationSchema valueSchema = new AvroSerializationSchema(registryClient, false);
+        valueSchema.open(new MockInitializationContext());
+        valueSchema.serialize(new CreateTableEvent(TABLE_1, schema));
+
+        GenericRecord insert =
+                decode(
+                        valueSchema.serialize(
+                                DataChangeEvent.insertEvent(TABLE_1, generator.generate(row))),
+                        registryClient);
+        assertThat(insert.get("before")).isNull();
+        GenericRecord after = (GenericRecord) insert.get("after");
+        assertThat(after.get("id")).isEqualTo(-7);
+        assertThat(after.get("name")).hasToString("apple");
+        assertThat(after.get("price")).isEqualTo(new BigDecimal("-12.50"));
+        assertThat(after.get("big_price"))
+                .isEqualTo(new BigDecimal("1234567890123456789.0123456789"));
+        assertThat(after.get("day")).isEqualTo(LocalDate.of(1969, 12, 31));
+        assertThat(after.get("ts")).isEqualTo(LocalDateTime.parse("2023-11-14T22:13:20.123"));
+        assertThat(after.get("ts_micros"))
+                .isEqualTo(LocalDateTime.parse("2023-11-14T22:13:20.123456"));
+        assertThat(after.get("ltz")).isEqualTo(Instant.parse("2023-11-14T22:13:20.123Z"));
+        assertThat(after.get("ltz_micros"))
+                .isEqualTo(Instant.parse("1969-12-31T23:59:59.999999Z"));
+        assertThat(ZonedDateTime.parse(after.get("tz").toString())).isEqualTo(zonedDateTime);
+        assertThat(insert.get("op")).hasToString("c");
+        GenericRecord source = (GenericRecord) insert.get("source");
+        assertThat(source.get("db")).hasToString("default_schema");
+        assertThat(source.get("table")).hasToString("table1");
+
+        // every nullable column is a union whose null branch is selected
+        GenericRecord update =
+                decode(
+                        valueSchema.serialize(
+                                DataChangeEvent.updateEvent(
+                                        TABLE_1,
+                                        generator.generate(row),
+                                        generator.generate(nullRow))),
+                        registryClient);
+        assertThat(((GenericRecord) update.get("before")).get("big_price"))
+                .isEqualTo(new BigDecimal("1234567890123456789.0123456789"));
+        GenericRecord nullAfter = (GenericRecord) update.get("after");
+        assertThat(nullAfter.get("id")).isEqualTo(-7);
+        for (int i = 1; i < row.length; i++) {
+            assertThat(nullAfter.get(i)).isNull();
+        }
+        assertThat(update.get("op")).hasToString("u");
+
+        GenericRecord delete =
+                decode(
+                        valueSchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, generator.generate(nullRow))),
+                        registryClient);
+        assertThat(((GenericRecord) delete.get("before")).get("id")).isEqualTo(-7);
+        assertThat(delete.get("after")).isNull();
+        assertThat(delete.get("op")).hasToString("d");
+
+        AvroSerializationSchema keySchema = new AvroSerializationSchema(registryClient, true);
+        keySchema.open(new MockInitializationContext());
+        keySchema.serialize(new CreateTableEvent(TABLE_1, schema));
+        GenericRecord key =
+                decode(
+                        keySchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, generator.generate(row))),
+                        registryClient);
+        assertThat(key.get("TableId")).hasToString("default_namespace.default_schema.table1");
+        assertThat(key.get("id")).isEqualTo(-7);
+    }
+
+    private static Object[] row() {
+        return new Object[] {
+            1,
+            BinaryStringData.fromString("apple"),
+            DecimalData.fromBigDecimal(new BigDecimal("12.50"), 10, 2),
+            TimestampData.fromMillis(1_700_000_000_123L, 456_000),
+            1.5d
+        };
+    }
+
+    private static void assertRow(BinaryBytesReader reader) {
+        assertThat(reader.readZigZagLong()).isEqualTo(1L);
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(readString(reader)).isEqualTo("apple");
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(reader.readBytes((int) reader.readZigZagLong()))
+                .isEqualTo(BigDecimal.valueOf(1250).unscaledValue().toByteArray());
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(reader.readZigZagLong()).isEqualTo(1_700_000_000_123_456L);
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(Double.longBitsToDouble(reader.readFixedLongLittleEndian())).isEqualTo(1.5d);
+    }
+
+    private static void assertSource(BinaryBytesReader reader) {
+        assertThat(reader.readZigZagLong()).isOne();
+        assertThat(readString(reader)).isEqualTo("default_schema");
+        assertThat(readString(reader)).isEqualTo("table1");
+    }
+
+    /** Decodes the payload by Avro with the registered schema whose id is in the header. */
+    private static GenericRecord decode(byte[] bytes, InMemorySchemaRegistryClient registryClient)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(bytes, 0, 5);
+        assertThat(header.get()).isZero();
+        int schemaId = header.getInt();
+        org.apache.avro.Schema schema =
+                new org.apache.avro.Schema.Parser().parse(registryClient.getSchema(schemaId));
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        model.addLogicalTypeConversion(new TimeConversions.DateConversion());
+        model.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+        model.addLogicalTypeConversion(new TimeConversions.TimestampMicrosConversion());
+        model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+        model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMicrosConversion());
+        BinaryDecoder decoder =
+                DecoderFactory.get().binaryDecoder(bytes, 5, bytes.length - 5, null);
+        GenericRecord record =
+                new GenericDatumReader<GenericRecord>(schema, schema, model).read(null, decoder);
+        assertThat(decoder.isEnd()).isTrue();
+        return record;
+    }
+
+    private static void assertHeader(BinaryBytesReader reader, int schemaId) {
+        assertThat(reader.readByte()).isZero();
+        assertThat(reader.readIntBigEndian()).isEqualTo(schemaId);
+    }
+
+    private static String readString(BinaryBytesReader reader) {
+        return reader.readString((int) reader.readZigZagLong());
+    }
+}
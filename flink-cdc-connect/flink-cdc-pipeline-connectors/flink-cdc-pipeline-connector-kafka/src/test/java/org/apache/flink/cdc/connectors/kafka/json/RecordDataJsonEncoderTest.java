@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimeData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
+import org.apache.flink.cdc.connectors.kafka.json.canal.CanalJsonDirectSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.json.debezium.DebeziumJsonDirectSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.serialization.JsonDirectSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.sink.KeyFormat;
+import org.apache.flink.cdc.connectors.kafka.sink.KeySerializationFactory;
+import org.apache.flink.cdc.connectors.kafka.utils.JsonRowDataSerializationSchemaUtils;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.formats.json.JsonFormatOptions;
+import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RecordDataJsonEncoder} and the serialization schemas which write JSON directly,
+ * their output is compared with the one of the serialization schemas based on Flink JSON format.
+ */
+class RecordDataJsonEncoderTest {
+
+    private static final TableId TABLE_1 =
+            TableId.tableId("default_namespace", "default_schema", "table1");
+
+    private static final DataType[] TYPES =
+            new DataType[] {
+                DataTypes.INT().notNull(),
+                DataTypes.BOOLEAN(),
+                DataTypes.BINARY(3),
+                DataTypes.VARBINARY(10),
+                DataTypes.TINYINT(),
+                DataTypes.SMALLINT(),
+                DataTypes.BIGINT(),
+                DataTypes.FLOAT(),
+                DataTypes.DOUBLE(),
+                DataTypes.DECIMAL(10, 3),
+                DataTypes.CHAR(5),
+                DataTypes.STRING(),
+                DataTypes.DATE(),
+                DataTypes.TIME(3),
+                DataTypes.TIMESTAMP(),
+                DataTypes.TIMESTAMP(9),
+                DataTypes.TIMESTAMP_LTZ(3)
+            };
+
+    private static final Schema SCHEMA = createSchema(TYPES);
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator(RowType.of(TYPES));
+
+    @Test
+    void testDebeziumJson() throws Exception {
+        for (Map<String, String> options : formatOptions()) {
+            assertSameOutput(
+                    ChangeLogJsonFormatFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            JsonSerializationType.DEBEZIUM_JSON,
+                            ZoneId.of("UTC")),
+                    ChangeLogJsonFormatFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            JsonSerializationType.DEBEZIUM_JSON,
+                            ZoneId.of("UTC"),
+                            true),
+                    DebeziumJsonDirectSerializationSchema.class);
+        }
+    }
+
+    @Test
+    void testDebeziumJsonWithSchema() throws Exception {
+        for (Map<String, String> options : formatOptions()) {
+            options.put("include-schema.enabled", "true");
+            assertSameOutput(
+                    ChangeLogJsonFormatFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            JsonSerializationType.DEBEZIUM_JSON,
+                            ZoneId.of("UTC")),
+                    ChangeLogJsonFormatFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            JsonSerializationType.DEBEZIUM_JSON,
+                            ZoneId.of("UTC"),
+                            true),
+                    DebeziumJsonDirectSerializationSchema.class);
+        }
+    }
+
+    @Test
+    void testCanalJson() throws Exception {
+        for (Map<String, String> options : formatOptions()) {
+            assertSameOutput(
+                    ChangeLogJsonFormatFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            JsonSerializationType.CANAL_JSON,
+                            ZoneId.of("UTC")),
+                    ChangeLogJsonFormatFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            JsonSerializationType.CANAL_JSON,
+                            ZoneId.of("UTC"),
+                            true),
+                    CanalJsonDirectSerializationSchema.class);
+        }
+    }
+
+    @Test
+    void testJsonKey() throws Exception {
+        for (Map<String, String> options : formatOptions()) {
+            assertSameOutput(
+                    KeySerializationFactory.createSerializationSchema(
+                            Configuration.fromMap(options), KeyFormat.JSON, ZoneId.of("UTC")),
+                    KeySerializationFactory.createSerializationSchema(
+                            Configuration.fromMap(options),
+                            KeyFormat.JSON,
+                            ZoneId.of("UTC"),
+                            true),
+                    JsonDirectSerializationSchema.class);
+        }
+    }
+
+    @Test
+    void testTimestampWithTimeZone() throws Exception {
+        // Flink JSON format can't serialize TIMESTAMP WITH TIME ZONE, so the values returned by the
+        // field getters of TableSchemaInfo are serialized as TIMESTAMP WITH LOCAL TIME ZONE
+        DataType[] types =
+                new DataType[] {
+                    DataTypes.INT().notNull(), DataTypes.TIMESTAMP_TZ(3), DataTypes.TIMESTAMP_TZ(9)
+                };
+        DataType[] binaryTypes =
+                new DataType[] {
+                    DataTypes.INT().notNull(),
+                    DataTypes.TIMESTAMP_LTZ(3),
+                    DataTypes.TIMESTAMP_LTZ(9)
+                };
+        Schema schema = createSchema(types);
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(RowType.of(binaryTypes));
+        List<RecordData> records =
+                Arrays.asList(
+                        generator.generate(
+                                new Object[] {
+                                    1,
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("2023-01-01T00:00:00.120Z")),
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("1969-12-31T23:59:59.123456789Z"))
+                                }),
+                        generator.generate(new Object[] {2, null, null}));
+        TableSchemaInfo tableSchemaInfo =
+                new TableSchemaInfo(TABLE_1, schema, null, ZoneId.of("UTC"));
+        for (TimestampFormat timestampFormat : TimestampFormat.values()) {
+            JsonRowDataSerializationSchema expectedSchema =
+                    JsonRowDataSerializationSchemaUtils.createSerializationSchema(
+                            (org.apache.flink.table.types.logical.RowType)
+                                    DataTypeUtils.toFlinkDataType(
+                                                    createSchema(binaryTypes).toRowDataType())
+                                            .getLogicalType(),
+                            timestampFormat,
+                            JsonFormatOptions.MapNullKeyMode.FAIL,
+                            "null",
+                            false,
+                            false);
+            expectedSchema.open(new MockInitializationContext());
+            RecordDataJsonEncoder encoder =
+                    RecordDataJsonEncoder.create(schema, timestampFormat, false, false);
+            JsonBytesWriter writer = new JsonBytesWriter(16);
+            for (RecordData record : records) {
+                writer.reset();
+                encoder.writeRecord(record, writer);
+                assertThat(new String(writer.toByteArray(), StandardCharsets.UTF_8))
+                        .isEqualTo(
+                                new String(
+                                        expectedSchema.serialize(
+                                                tableSchemaInfo.getRowDataFromRecordData(
+                                                        record, false)),
+                                        StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void testWriteString() {
+        JsonBytesWriter writer = new JsonBytesWriter(1);
+        writer.writeString("a\"b\\c\n\u0001/é😀");
+        assertThat(new String(writer.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("\"a\\\"b\\\\c\\n\\u0001/é\\uD83D\\uDE00\"");
+
+        writer.reset();
+        writer.writeByte('[');
+        writer.writeLong(Long.MIN_VALUE);
+        writer.writeByte(',');
+        writer.writeLong(-120L);
+        writer.writeByte(',');
+        writer.writeDecimal(new BigDecimal("100.000"), false);
+        writer.writeByte(',');
+        writer.writeDecimal(new BigDecimal("100.000"), true);
+        writer.writeByte(',');
+        writer.writeDouble(Double.NaN);
+        writer.writeByte(']');
+        assertThat(new String(writer.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("[-9223372036854775808,-120,1E+2,100,\"NaN\"]");
+    }
+
+    private static void assertSameOutput(
+            SerializationSchema<Event> expectedSchema,
+            SerializationSchema<Event> actualSchema,
+            Class<?> actualClass)
+            throws Exception {
+        assertThat(actualSchema).isInstanceOf(actualClass);
+        expectedSchema.open(new MockInitializationContext());
+        actualSchema.open(new MockInitializationContext());
+        for (Event event : events()) {
+            byte[] expected = expectedSchema.serialize(event);
+            byte[] actual = actualSchema.serialize(event);
+            if (expected == null) {
+                assertThat(actual).isNull();
+            } else {
+                assertThat(new String(actual, StandardCharsets.UTF_8))
+                        .isEqualTo(new String(expected, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static List<Map<String, String>> formatOptions() {
+        List<Map<String, String>> formatOptions = new ArrayList<>();
+        formatOptions.add(new HashMap<>());
+        Map<String, String> options = new HashMap<>();
+        options.put("timestamp-format.standard", "ISO-8601");
+        options.put("encode.decimal-as-plain-number", "true");
+        formatOptions.add(options);
+        return formatOptions;
+    }
+
+    private static List<Event> events() {
+        List<Event> events = new ArrayList<>();
+        events.add(new CreateTableEvent(TABLE_1, SCHEMA));
+        events.add(DataChangeEvent.insertEvent(TABLE_1, GENERATOR.generate(row(1, "plain"))));
+        events.add(
+                DataChangeEvent.insertEvent(
+                        TABLE_1, GENERATOR.generate(row(2, "\"quoted\"\t\\ é 😀"))));
+        events.add(
+                DataChangeEvent.updateEvent(
+                        TABLE_1,
+                        GENERATOR.generate(row(1, "plain")),
+                        GENERATOR.generate(nullRow(1))));
+        events.add(DataChangeEvent.deleteEvent(TABLE_1, GENERATOR.generate(row(2, "x"))));
+
+        // records of the evolved schema
+        DataType[] evolvedTypes = Arrays.copyOf(TYPES, TYPES.length + 1);
+        evolvedTypes[TYPES.length] = DataTypes.STRING();
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator(RowType.of(evolvedTypes));
+        events.add(
+                new AddColumnEvent(
+                        TABLE_1,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("extra", DataTypes.STRING())))));
+        Object[] evolvedRow = Arrays.copyOf(row(3, "evolved"), evolvedTypes.length);
+        evolvedRow[TYPES.length] = BinaryStringData.fromString("extra\r\n");
+        events.add(DataChangeEvent.insertEvent(TABLE_1, evolvedGenerator.generate(evolvedRow)));
+        return events;
+    }
+
+    private static Object[] row(int id, String text) {
+        return new Object[] {
+            id,
+            true,
+            new byte[] {1, 2, 3},
+            new byte[] {(byte) 0xff, 0, 4},
+            (byte) -1,
+            (short) 2,
+            Long.MAX_VALUE,
+            5.1f,
+            Double.POSITIVE_INFINITY,
+            DecimalData.fromBigDecimal(new BigDecimal("1200.500"), 10, 3),
+            BinaryStringData.fromString("abc"),
+            BinaryStringData.fromString(text),
+            DateData.fromEpochDay(19000),
+            TimeData.fromMillisOfDay(45_296_789),
+            TimestampData.fromMillis(1_700_000_000_000L),
+            TimestampData.fromMillis(1_700_000_000_123L, 456_789),
+            LocalZonedTimestampData.fromInstant(Instant.parse("2023-01-01T00:00:00.120Z"))
+        };
+    }
+
+    private static Object[] nullRow(int id) {
+        Object[] row = new Object[TYPES.length];
+        row[0] = id;
+        return row;
+    }
+
+    private static Schema createSchema(DataType[] types) {
+        Schema.Builder builder = Schema.newBuilder();
+        for (int i = 0; i < types.length; i++) {
+            builder.physicalColumn("col" + i, types[i]);
+        }
+        return builder.primaryKey("col0").build();
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.protobuf;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.connectors.kafka.json.MockInitializationContext;
+import org.apache.flink.cdc.connectors.kafka.registry.BinaryBytesReader;
+import org.apache.flink.cdc.connectors.kafka.registry.InMemorySchemaRegistryClient;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ProtobufSerializationSchema}. */
+class ProtobufSerializationSchemaTest {
+
+    private static final TableId TABLE_1 =
+            TableId.tableId("default_namespace", "default_schema", "table1");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("update time", DataTypes.TIMESTAMP(6))
+                    .physicalColumn("score", DataTypes.DOUBLE())
+                    .primaryKey("id")
+                    .build();
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator(
+                    RowType.of(SCHEMA.getColumnDataTypes().toArray(new DataType[0])));
+
+    @Test
+    void testSerializeValue() throws Exception {
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        ProtobufSerializationSchema serializationSchema =
+                new ProtobufSerializationSchema(registryClient, false);
+        serializationSchema.open(new MockInitializationContext());
+
+        assertThat(serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA))).isNull();
+        assertThat(registryClient.getVersions("default_namespace.default_schema.table1-value"))
+                .containsExactly(1);
+        assertThat(registryClient.getSchema(1))
+                .isEqualTo(
+                        "syntax = \"proto3\";\n"
+                                + "package default_namespace.default_schema.table1;\n"
+                                + "\n"
+                                + "message Envelope {\n"
+                                + "  message Value {\n"
+                                + "    int32 id = 1;\n"
+                                + "    optional string name = 2;\n"
+                                + "    optional string price = 3;\n"
+                                + "    optional int64 update_time = 4;\n"
+                                + "    optional double score = 5;\n"
+                                + "  }\n"
+                                + "  message Source {\n"
+                                + "    optional string db = 1;\n"
+                                + "    string table = 2;\n"
+                                + "  }\n"
+                                + "  Value before = 1;\n"
+                                + "  Value after = 2;\n"
+                                + "  string op = 3;\n"
+                                + "  Source source = 4;\n"
+                                + "}\n");
+
+        BinaryBytesReader reader =
+                new BinaryBytesReader(
+                        serializationSchema.serialize(
+                                DataChangeEvent.insertEvent(TABLE_1, GENERATOR.generate(row()))));
+        assertHeader(reader, 1);
+        // after
+        assertThat(reader.readVarLong()).isEqualTo((2 << 3) | 2);
+        BinaryBytesReader valueReader = new BinaryBytesReader(readBytes(reader));
+        assertThat(valueReader.readVarLong()).isEqualTo(1 << 3);
+        assertThat(valueReader.readVarLong()).isEqualTo(1L);
+        assertThat(valueReader.readVarLong()).isEqualTo((2 << 3) | 2);
+        assertThat(readString(valueReader)).isEqualTo("apple");
+        assertThat(valueReader.readVarLong()).isEqualTo((3 << 3) | 2);
+        assertThat(readString(valueReader)).isEqualTo("12.50");
+        assertThat(valueReader.readVarLong()).isEqualTo(4 << 3);
+        assertThat(valueReader.readVarLong()).isEqualTo(1_700_000_000_123_456L);
+        assertThat(valueReader.readVarLong()).isEqualTo((5 << 3) | 1);
+        assertThat(Double.longBitsToDouble(valueReader.readFixedLongLittleEndian()))
+                .isEqualTo(1.5d);
+        assertThat(valueReader.hasRemaining()).isFalse();
+        // op
+        assertThat(reader.readVarLong()).isEqualTo((3 << 3) | 2);
+        assertThat(readString(reader)).isEqualTo("c");
+        // source
+        assertThat(reader.readVarLong()).isEqualTo((4 << 3) | 2);
+        BinaryBytesReader sourceReader = new BinaryBytesReader(readBytes(reader));
+        assertThat(sourceReader.readVarLong()).isEqualTo((1 << 3) | 2);
+        assertThat(readString(sourceReader)).isEqualTo("default_schema");
+        assertThat(sourceReader.readVarLong()).isEqualTo((2 << 3) | 2);
+        assertThat(readString(sourceReader)).isEqualTo("table1");
+        assertThat(reader.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void testSerializeKey() throws Exception {
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        ProtobufSerializationSchema serializationSchema =
+                new ProtobufSerializationSchema(registryClient, true);
+        serializationSchema.open(new MockInitializationContext());
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, SCHEMA));
+        assertThat(registryClient.getSchema(1))
+                .isEqualTo(
+                        "syntax = \"proto3\";\n"
+                                + "package default_namespace.default_schema.table1;\n"
+                                + "\n"
+                                + "message Key {\n"
+                                + "  string TableId = 1;\n"
+                                + "  int32 id = 2;\n"
+                                + "}\n");
+
+        // adding a column which is not in the primary key keeps the schema of the key
+        serializationSchema.serialize(
+                new AddColumnEvent(
+                        TABLE_1,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("extra", DataTypes.STRING())))));
+        assertThat(registryClient.getVersions("default_namespace.default_schema.table1-key"))
+                .containsExactly(1);
+
+        Object[] row = row();
+        // negative int32 values are encoded as 10 bytes varints
+        row[0] = -1;
+        BinaryBytesReader reader =
+                new BinaryBytesReader(
+                        serializationSchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, GENERATOR.generate(row))));
+        assertHeader(reader, 1);
+        assertThat(reader.readVarLong()).isEqualTo((1 << 3) | 2);
+        assertThat(readString(reader)).isEqualTo("default_namespace.default_schema.table1");
+        assertThat(reader.readVarLong()).isEqualTo(2 << 3);
+        assertThat(reader.readVarLong()).isEqualTo(-1L);
+        assertThat(reader.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void testDecodeWithEmittedSchema() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("flag", DataTypes.BOOLEAN())
+                        .physicalColumn("bin", DataTypes.BYTES())
+                        .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                        .physicalColumn("big_price", DataTypes.DECIMAL(38, 10))
+                        .physicalColumn("small", DataTypes.SMALLINT())
+                        .physicalColumn("day", DataTypes.DATE())
+                        .physicalColumn("rate", DataTypes.FLOAT())
+                        .physicalColumn("score", DataTypes.DOUBLE())
+                        .physicalColumn("ts", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("ltz", DataTypes.TIMESTAMP_LTZ(6))
+                        .physicalColumn("tz", DataTypes.TIMESTAMP_TZ(3))
+                        .primaryKey("id")
+                        .build();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(schema.getColumnDataTypes().toArray(new DataType[0])));
+        ZonedDateTime zonedDateTime = ZonedDateTime.parse("2023-11-14T22:13:20.123+08:00");
+        Object[] row =
+                new Object[] {
+                    -7,
+                    BinaryStringData.fromString("apple"),
+                    true,
+                    new byte[] {1, 2, 3},
+                    DecimalData.fromBigDecimal(new BigDecimal("-12.50"), 10, 2),
+                    DecimalData.fromBigDecimal(
+                            new BigDecimal("1234567890123456789.0123456789"), 38, 10),
+                    (short) -2,
+                    DateData.fromEpochDay(-1),
+                    1.5f,
+                    -0.25d,
+                    TimestampData.fromMillis(1_700_000_000_123L, 456_000),
+                    LocalZonedTimestampData.fromInstant(
+                            Instant.parse("1969-12-31T23:59:59.999999Z")),
+                    ZonedTimestampData.fromZonedDateTime(zonedDateTime)
+                };
+        Object[] nullRow = new Object[row.length];
+        nullRow[0] = -7;
+
+        InMemorySchemaRegistryClient registryClient = new InMemorySchemaRegistryClient();
+        ProtobufSerializationSchema valueSchema =
+                new ProtobufSerializationSchema(registryClient, false);
+        valueSchema.open(new MockInitializationContext());
+        valueSchema.serialize(new CreateTableEvent(TABLE_1, schema));
+
+        DynamicMessage insert =
+                decode(
+                        valueSchema.serialize(
+                                DataChangeEvent.insertEvent(TABLE_1, generator.generate(row))),
+                        registryClient,
+                        "Envelope");
+        assertThat(hasField(insert, "before")).isFalse();
+        DynamicMessage after = (DynamicMessage) getField(insert, "after");
+        assertThat(after.getUnknownFields().asMap()).isEmpty();
+        assertThat(getField(after, "id")).isEqualTo(-7);
+        assertThat(getField(after, "name")).isEqualTo("apple");
+        assertThat(getField(after, "flag")).isEqualTo(true);
+        assertThat(getField(after, "bin")).isEqualTo(ByteString.copyFrom(new byte[] {1, 2, 3}));
+        assertThat(getField(after, "price")).isEqualTo("-12.50");
+        assertThat(getField(after, "big_price")).isEqualTo("1234567890123456789.0123456789");
+        assertThat(getField(after, "small")).isEqualTo(-2);
+        assertThat(getField(after, "day")).isEqualTo(-1);
+        assertThat(getField(after, "rate")).isEqualTo(1.5f);
+        assertThat(getField(after, "score")).isEqualTo(-0.25d);
+        assertThat(getField(after, "ts")).isEqualTo(1_700_000_000_123_456L);
+        assertThat(getField(after, "ltz")).isEqualTo(-1L);
+        assertThat(ZonedDateTime.parse((String) getField(after, "tz"))).isEqualTo(zonedDateTime);
+        assertThat(getField(insert, "op")).isEqualTo("c");
+        DynamicMessage source = (DynamicMessage) getField(insert, "source");
+        assertThat(getField(source, "db")).isEqualTo("default_schema");
+        assertThat(getField(source, "table")).isEqualTo("table1");
+
+        // null columns are absent optional fields
+        DynamicMessage update =
+                decode(
+                        valueSchema.serialize(
+                                DataChangeEvent.updateEvent(
+                                        TABLE_1,
+                                        generator.generate(row),
+                                        generator.generate(nullRow))),
+                        registryClient,
+                        "Envelope");
+        assertThat(getField((DynamicMessage) getField(update, "before"), "big_price"))
+                .isEqualTo("1234567890123456789.0123456789");
+        DynamicMessage nullAfter = (DynamicMessage) getField(update, "after");
+        assertThat(nullAfter.getUnknownFields().asMap()).isEmpty();
+        assertThat(getField(nullAfter, "id")).isEqualTo(-7);
+        for (Descriptors.FieldDescriptor field : nullAfter.getDescriptorForType().getFields()) {
+            assertThat(nullAfter.hasField(field)).isEqualTo(field.getName().equals("id"));
+        }
+        assertThat(getField(update, "op")).isEqualTo("u");
+
+        DynamicMessage delete =
+                decode(
+                        valueSchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, generator.generate(nullRow))),
+                        registryClient,
+                        "Envelope");
+        assertThat(getField((DynamicMessage) getField(delete, "before"), "id")).isEqualTo(-7);
+        assertThat(hasField(delete, "after")).isFalse();
+        assertThat(getField(delete, "op")).isEqualTo("d");
+
+        ProtobufSerializationSchema keySchema =
+                new ProtobufSerializationSchema(registryClient, true);
+        keySchema.open(new MockInitializationContext());
+        keySchema.serialize(new CreateTableEvent(TABLE_1, schema));
+        DynamicMessage key =
+                decode(
+                        keySchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, generator.generate(row))),
+                        registryClient,
+                        "Key");
+        assertThat(getField(key, "TableId")).isEqualTo("default_namespace.default_schema.table1");
+        assertThat(getField(key, "id")).isEqualTo(-7);
+    }
+
+    private static Object[] row() {
+        return new Object[] {
+            1,
+            BinaryStringData.fromString("apple"),
+            DecimalData.fromBigDecimal(new BigDecimal("12.50"), 10, 2),
+            TimestampData.fromMillis(1_700_000_000_123L, 456_000),
+            1.5d
+        };
+    }
+
+    private static void assertHeader(BinaryBytesReader reader, int schemaId) {
+        assertThat(reader.readByte()).isZero();
+        assertThat(reader.readIntBigEndian()).isEqualTo(schemaId);
+        // message indexes of the first message
+        assertThat(reader.readVarLong()).isZero();
+    }
+
+    /** Decodes the payload by Protobuf with the registered schema whose id is in the header. */
+    private static DynamicMessage decode(
+            byte[] bytes, InMemorySchemaRegistryClient registryClient, String messageName)
+            throws Exception {
+        ByteBuffer header = ByteBuffer.wrap(bytes, 0, 6);
+        assertThat(header.get()).isZero();
+        int schemaId = header.getInt();
+        // message indexes of the first message
+        assertThat(header.get()).isZero();
+        Descriptors.Descriptor descriptor =
+                parseSchema(registryClient.getSchema(schemaId)).findMessageTypeByName(messageName);
+        DynamicMessage message =
+                DynamicMessage.parseFrom(
+                        descriptor, ByteString.copyFrom(bytes, 6, bytes.length - 6));
+        assertThat(message.getUnknownFields().asMap()).isEmpty();
+        return message;
+    }
+
+    /**
+     * Builds the descriptor of a proto3 schema written by {@link ProtobufSerializationSchema},
+     * which only consists of nested messages and of fields which may be optional.
+     */
+    private static Descriptors.FileDescriptor parseSchema(String schemaString)
+            throws Descriptors.DescriptorValidationException {
+        Iterator<String> tokens =
+                Arrays.asList(schemaString.replaceAll("([;{}=])", " $1 ").trim().split("\\s+"))
+                        .iterator();
+        DescriptorProtos.FileDescriptorProto.Builder file =
+                DescriptorProtos.FileDescriptorProto.newBuilder().setName("schema.proto");
+        while (tokens.hasNext()) {
+            String token = tokens.next();
+            switch (token) {
+                case "syntax":
+                    expect(tokens, "=");
+                    file.setSyntax(tokens.next().replace("\"", ""));
+                    expect(tokens, ";");
+                    break;
+                case "package":
+                    file.setPackage(tokens.next());
+                    expect(tokens, ";");
+                    break;
+                case "message":
+                    file.addMessageType(parseMessage(tokens));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected token " + token);
+            }
+        }
+        return Descriptors.FileDescriptor.buildFrom(
+                file.build(), new Descriptors.FileDescriptor[0]);
+    }
+
+    private static DescriptorProtos.DescriptorProto parseMessage(Iterator<String> tokens) {
+        DescriptorProtos.DescriptorProto.Builder message =
+                DescriptorProtos.DescriptorProto.newBuilder().setName(tokens.next());
+        expect(tokens, "{");
+        for (String token = tokens.next(); !token.equals("}"); token = tokens.next()) {
+            if (token.equals("message")) {
+                message.addNestedType(parseMessage(tokens));
+                continue;
+            }
+            FieldDescriptorProto.Builder field =
+                    FieldDescriptorProto.newBuilder()
+                            .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+            boolean optional = token.equals("optional");
+            String type = optional ? tokens.next() : token;
+            field.setName(tokens.next());
+            expect(tokens, "=");
+            field.setNumber(Integer.parseInt(tokens.next()));
+            expect(tokens, ";");
+            // the names of scalar types are lower case, the ones of messages are capitalized
+            if (Character.isUpperCase(type.charAt(0))) {
+                field.setType(FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(type);
+            } else {
+                field.setType(
+                        FieldDescriptorProto.Type.valueOf("TYPE_" + type.toUpperCase(Locale.ROOT)));
+            }
+            if (optional) {
+                // proto3 optional fields are the members of synthetic oneofs
+                field.setProto3Optional(true).setOneofIndex(message.getOneofDeclCount());
+                message.addOneofDecl(
+                        DescriptorProtos.OneofDescriptorProto.newBuilder()
+                                .setName("_" + field.getName()));
+            }
+            message.addField(field);
+        }
+        return message.build();
+    }
+
+    private static void expect(Iterator<String> tokens, String expected) {
+        assertThat(tokens.next()).isEqualTo(expected);
+    }
+
+    private static boolean hasField(DynamicMessage message, String name) {
+        return message.hasField(message.getDescriptorForType().findFieldByName(name));
+    }
+
+    private static Object getField(DynamicMessage message, String name) {
+        return message.getField(message.getDescriptorForType().findFieldByName(name));
+    }
+
+    private static byte[] readBytes(BinaryBytesReader reader) {
+        return reader.readBytes((int) reader.readVarLong());
+    }
+
+    private static String readString(BinaryBytesReader reader) {
+        return reader.readString((int) reader.readVarLong());
+    }
+}
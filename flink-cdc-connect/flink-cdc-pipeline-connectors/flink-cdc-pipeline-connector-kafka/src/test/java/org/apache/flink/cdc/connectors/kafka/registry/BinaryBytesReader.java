@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.registry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/** Reads the bytes written by {@link BinaryBytesWriter} in tests. */
+public class BinaryBytesReader {
+
+    private final byte[] bytes;
+
+    private int position;
+
+    public BinaryBytesReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public boolean hasRemaining() {
+        return position < bytes.length;
+    }
+
+    public int readByte() {
+        return bytes[position++] & 0xFF;
+    }
+
+    public byte[] readBytes(int length) {
+        byte[] result = Arrays.copyOfRange(bytes, position, position + length);
+        position += length;
+        return result;
+    }
+
+    public String readString(int length) {
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    public long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public int readIntBigEndian() {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    public long readFixedLongLittleEndian() {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result |= (long) readByte() << (8 * i);
+        }
+        return result;
+    }
+}
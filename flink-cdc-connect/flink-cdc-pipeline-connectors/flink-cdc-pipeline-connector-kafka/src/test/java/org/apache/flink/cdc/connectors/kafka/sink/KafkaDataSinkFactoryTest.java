@@ -22,6 +22,7 @@ import org.apache.flink.cdc.common.factories.DataSinkFactory;
 import org.apache.flink.cdc.common.factories.FactoryHelper;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.composer.utils.FactoryDiscoveryUtils;
+import org.apache.flink.cdc.connectors.kafka.registry.InMemorySchemaRegistryClient;
 import org.apache.flink.table.api.ValidationException;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
@@ -134,4 +135,54 @@ class KafkaDataSinkFactoryTest {
                                 + "Unsupported options:\n\n"
                                 + "csv.write-null-properties");
     }
+
+    @Test
+    void testBinaryFormatRequiresSchemaRegistryClient() {
+        DataSinkFactory sinkFactory =
+                FactoryDiscoveryUtils.getFactoryByIdentifier("kafka", DataSinkFactory.class);
+        Assertions.assertThat(sinkFactory).isInstanceOf(KafkaDataSinkFactory.class);
+
+        Configuration valueConf =
+                Configuration.fromMap(
+                        ImmutableMap.<String, String>builder()
+                                .put("value.format", "debezium-avro")
+                                .build());
+        Assertions.assertThatThrownBy(
+                        () ->
+                                sinkFactory.createDataSink(
+                                        new FactoryHelper.DefaultContext(
+                                                valueConf,
+                                                valueConf,
+                                                Thread.currentThread().getContextClassLoader())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Option 'schema-registry.client.class' is required");
+
+        Configuration keyConf =
+                Configuration.fromMap(
+                        ImmutableMap.<String, String>builder().put("key.format", "avro").build());
+        Assertions.assertThatThrownBy(
+                        () ->
+                                sinkFactory.createDataSink(
+                                        new FactoryHelper.DefaultContext(
+                                                keyConf,
+                                                keyConf,
+                                                Thread.currentThread().getContextClassLoader())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Option 'schema-registry.client.class' is required");
+
+        Configuration conf =
+                Configuration.fromMap(
+                        ImmutableMap.<String, String>builder()
+                                .put("key.format", "protobuf")
+                                .put("value.format", "protobuf")
+                                .put(
+                                        "schema-registry.client.class",
+                                        InMemorySchemaRegistryClient.class.getName())
+                                .build());
+        DataSink dataSink =
+                sinkFactory.createDataSink(
+                        new FactoryHelper.DefaultContext(
+                                conf, conf, Thread.currentThread().getContextClassLoader()));
+        Assertions.assertThat(dataSink).isInstanceOf(KafkaDataSink.class);
+    }
 }
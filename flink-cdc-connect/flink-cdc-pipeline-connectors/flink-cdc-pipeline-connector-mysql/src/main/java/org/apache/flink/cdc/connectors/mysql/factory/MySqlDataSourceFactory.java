@@ -40,6 +40,7 @@ import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
 import org.apache.flink.cdc.connectors.mysql.utils.MySqlSchemaUtils;
 import org.apache.flink.cdc.connectors.mysql.utils.OptionUtils;
 import org.apache.flink.cdc.debezium.table.DebeziumOptions;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.api.ValidationException;
 import org.apache.flink.table.catalog.ObjectPath;
 
@@ -80,9 +81,13 @@ import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOption
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
+import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_BINLOG_DESERIALIZATION_PARALLELISM;
+import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED;
+import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_SNAPSHOT_CHUNK_BUFFER_MAX_MEMORY;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_STARTUP_MODE;
 import static org.apache.flink.cdc.connectors.mysql.source.MySqlDataSourceOptions.SCAN_STARTUP_SPECIFIC_OFFSET_FILE;
@@ -148,6 +153,10 @@ public class MySqlDataSourceFactory implements DataSourceFactory {
         int fetchSize = config.get(SCAN_SNAPSHOT_FETCH_SIZE);
         int splitSize = config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
         int splitMetaGroupSize = config.get(CHUNK_META_GROUP_SIZE);
+        int chunkSplittingParallelism =
+                config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM);
+        int samplesPerChunk = config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES);
+        int binlogDeserializationParallelism = config.get(SCAN_BINLOG_DESERIALIZATION_PARALLELISM);
 
         double distributionFactorUpper = config.get(CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND);
         double distributionFactorLower = config.get(CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND);
@@ -168,9 +177,17 @@ public class MySqlDataSourceFactory implements DataSourceFactory {
         boolean useLegacyJsonFormat = config.get(USE_LEGACY_JSON_FORMAT);
         boolean isAssignUnboundedChunkFirst =
                 config.get(SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED);
+        String chunkBufferMaxMemory = config.get(SCAN_SNAPSHOT_CHUNK_BUFFER_MAX_MEMORY);
 
         validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE, splitSize, 1);
         validateIntegerOption(CHUNK_META_GROUP_SIZE, splitMetaGroupSize, 1);
+        validateIntegerOption(
+                SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM,
+                chunkSplittingParallelism,
+                1);
+        validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES, samplesPerChunk, 0);
+        validateIntegerOption(
+                SCAN_BINLOG_DESERIALIZATION_PARALLELISM, binlogDeserializationParallelism, 0);
         validateIntegerOption(SCAN_SNAPSHOT_FETCH_SIZE, fetchSize, 1);
         validateIntegerOption(CONNECTION_POOL_SIZE, connectionPoolSize, 1);
         validateIntegerOption(CONNECT_MAX_RETRIES, connectMaxRetries, 0);
@@ -206,6 +223,9 @@ public class MySqlDataSourceFactory implements DataSourceFactory {
                         .fetchSize(fetchSize)
                         .splitSize(splitSize)
                         .splitMetaGroupSize(splitMetaGroupSize)
+                        .chunkSplittingParallelism(chunkSplittingParallelism)
+                        .samplesPerChunk(samplesPerChunk)
+                        .binlogDeserializationParallelism(binlogDeserializationParallelism)
                         .distributionFactorLower(distributionFactorLower)
                         .distributionFactorUpper(distributionFactorUpper)
                         .heartbeatInterval(heartbeatInterval)
@@ -222,6 +242,10 @@ public class MySqlDataSourceFactory implements DataSourceFactory {
                         .useLegacyJsonFormat(useLegacyJsonFormat)
                         .assignUnboundedChunkFirst(isAssignUnboundedChunkFirst)
                         .skipSnapshotBackfill(skipSnapshotBackfill);
+        if (chunkBufferMaxMemory != null) {
+            configFactory.snapshotChunkBufferMaxMemory(
+                    MemorySize.parse(chunkBufferMaxMemory).getBytes());
+        }
 
         List<TableId> tableIds = MySqlSchemaUtils.listTables(configFactory.createConfig(0), null);
 
@@ -359,6 +383,10 @@ public class MySqlDataSourceFactory implements DataSourceFactory {
         options.add(PARSE_ONLINE_SCHEMA_CHANGES);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        options.add(SCAN_SNAPSHOT_CHUNK_BUFFER_MAX_MEMORY);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES);
+        options.add(SCAN_BINLOG_DESERIALIZATION_PARALLELISM);
         return options;
     }
 
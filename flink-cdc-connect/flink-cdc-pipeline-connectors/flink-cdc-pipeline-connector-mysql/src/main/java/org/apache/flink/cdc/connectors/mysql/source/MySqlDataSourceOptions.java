@@ -330,4 +330,42 @@ public class MySqlDataSourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in change log reading phase instead of being merged into the snapshot.WARNING: Skipping backfill might lead to data inconsistency because some change log events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed change log events should be handled specially.");
+
+    @Experimental
+    public static final ConfigOption<String> SCAN_SNAPSHOT_CHUNK_BUFFER_MAX_MEMORY =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.buffer.max-memory")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The max memory, e.g. '64mb', to buffer the events of a snapshot chunk before merging them with the changes during backfill. "
+                                    + "Events exceeding it are spilled to local disk. Events are buffered in memory without limit if not set.");
+
+    @Experimental
+    public static final ConfigOption<Integer>
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM =
+                    ConfigOptions.key("scan.incremental.snapshot.chunk.splitting.parallelism")
+                            .intType()
+                            .defaultValue(1)
+                            .withDescription(
+                                    "The number of tables that the source enumerator splits into chunks concurrently. "
+                                            + "Each of them holds a connection of the connection pool, so it should not exceed 'connection.pool.size'. Defaults to 1.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.samples")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of chunk key values to sample per chunk when the chunk key of a table is not evenly distributed. "
+                                    + "If it is positive, chunk boundaries are derived from a random sample of chunk key values read by a single query, "
+                                    + "instead of querying the end of every chunk one by one. Defaults to 0, which disables sampling.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_BINLOG_DESERIALIZATION_PARALLELISM =
+            ConfigOptions.key("scan.binlog.deserialization.parallelism")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of threads used to deserialize binlog row events in parallel, while events are still handled in binlog order. "
+                                    + "Defaults to 0, which deserializes row events by the binlog client thread.");
 }
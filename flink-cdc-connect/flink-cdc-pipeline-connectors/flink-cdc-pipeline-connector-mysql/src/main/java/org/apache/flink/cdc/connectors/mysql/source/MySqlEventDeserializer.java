@@ -95,7 +95,8 @@ public class MySqlEventDeserializer extends DebeziumEventDeserializationSchema {
             boolean includeComments,
             boolean tinyInt1isBit,
             boolean isTableIdCaseInsensitive) {
-        super(new MySqlSchemaDataTypeInference(), changelogMode);
+        // Values of known column schemas are written straight into binary records
+        super(new MySqlSchemaDataTypeInference(), changelogMode, true);
         this.includeSchemaChanges = includeSchemaChanges;
         this.readableMetadataList = readableMetadataList;
         this.includeComments = includeComments;
@@ -27,6 +27,7 @@ import org.apache.flink.cdc.common.sink.FlinkSinkProvider;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonEventSink;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonRecordSerializer;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriterOptions;
 
 import org.apache.paimon.options.Options;
 
@@ -54,6 +55,8 @@ public class PaimonDataSink implements DataSink, Serializable {
 
     public final String schemaOperatorUid;
 
+    private final PaimonWriterOptions writerOptions;
+
     public PaimonDataSink(
             Options options,
             Map<String, String> tableOptions,
@@ -62,6 +65,26 @@ public class PaimonDataSink implements DataSink, Serializable {
             PaimonRecordSerializer<Event> serializer,
             ZoneId zoneId,
             String schemaOperatorUid) {
+        this(
+                options,
+                tableOptions,
+                commitUser,
+                partitionMaps,
+                serializer,
+                zoneId,
+                schemaOperatorUid,
+                PaimonWriterOptions.DEFAULT);
+    }
+
+    public PaimonDataSink(
+            Options options,
+            Map<String, String> tableOptions,
+            String commitUser,
+            Map<TableId, List<String>> partitionMaps,
+            PaimonRecordSerializer<Event> serializer,
+            ZoneId zoneId,
+            String schemaOperatorUid,
+            PaimonWriterOptions writerOptions) {
         this.options = options;
         this.tableOptions = tableOptions;
         this.commitUser = commitUser;
@@ -69,12 +92,14 @@ public class PaimonDataSink implements DataSink, Serializable {
         this.serializer = serializer;
         this.zoneId = zoneId;
         this.schemaOperatorUid = schemaOperatorUid;
+        this.writerOptions = writerOptions;
     }
 
     @Override
     public EventSinkProvider getEventSinkProvider() {
         return FlinkSinkProvider.of(
-                new PaimonEventSink(options, commitUser, serializer, schemaOperatorUid, zoneId));
+                new PaimonEventSink(
+                        options, commitUser, serializer, schemaOperatorUid, zoneId, writerOptions));
     }
 
     @Override
@@ -26,6 +26,8 @@ import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonRecordEventSerializer;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonRecordSerializer;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriterOptions;
+import org.apache.flink.configuration.MemorySize;
 
 import org.apache.paimon.options.Options;
 
@@ -40,6 +42,9 @@ import java.util.Set;
 
 import static org.apache.flink.cdc.connectors.paimon.sink.PaimonDataSinkOptions.PREFIX_CATALOG_PROPERTIES;
 import static org.apache.flink.cdc.connectors.paimon.sink.PaimonDataSinkOptions.PREFIX_TABLE_PROPERTIES;
+import static org.apache.flink.cdc.connectors.paimon.sink.PaimonDataSinkOptions.SINK_WRITER_BUFFER_OFF_HEAP;
+import static org.apache.flink.cdc.connectors.paimon.sink.PaimonDataSinkOptions.SINK_WRITER_BUFFER_SIZE;
+import static org.apache.flink.cdc.connectors.paimon.sink.PaimonDataSinkOptions.SINK_WRITER_IDLE_TIMEOUT;
 
 /** A {@link DataSinkFactory} to create {@link PaimonDataSink}. */
 public class PaimonDataSinkFactory implements DataSinkFactory {
@@ -97,6 +102,14 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
             }
         }
         PaimonRecordSerializer<Event> serializer = new PaimonRecordEventSerializer(zoneId);
+        String writeBufferSize = context.getFactoryConfiguration().get(SINK_WRITER_BUFFER_SIZE);
+        PaimonWriterOptions writerOptions =
+                new PaimonWriterOptions(
+                        writeBufferSize == null
+                                ? null
+                                : MemorySize.parse(writeBufferSize).getBytes(),
+                        context.getFactoryConfiguration().get(SINK_WRITER_BUFFER_OFF_HEAP),
+                        context.getFactoryConfiguration().get(SINK_WRITER_IDLE_TIMEOUT));
         String schemaOperatorUid =
                 context.getPipelineConfiguration()
                         .get(PipelineOptions.PIPELINE_SCHEMA_OPERATOR_UID);
@@ -107,7 +120,8 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
                 partitionMaps,
                 serializer,
                 zoneId,
-                schemaOperatorUid);
+                schemaOperatorUid,
+                writerOptions);
     }
 
     @Override
@@ -129,6 +143,9 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
         options.add(PaimonDataSinkOptions.URI);
         options.add(PaimonDataSinkOptions.COMMIT_USER);
         options.add(PaimonDataSinkOptions.PARTITION_KEY);
+        options.add(SINK_WRITER_BUFFER_SIZE);
+        options.add(SINK_WRITER_BUFFER_OFF_HEAP);
+        options.add(SINK_WRITER_IDLE_TIMEOUT);
         return options;
     }
 }
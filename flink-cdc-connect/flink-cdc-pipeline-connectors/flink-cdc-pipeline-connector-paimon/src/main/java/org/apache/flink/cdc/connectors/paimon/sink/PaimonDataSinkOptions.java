@@ -17,10 +17,13 @@
 
 package org.apache.flink.cdc.connectors.paimon.sink;
 
+import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.common.configuration.ConfigOption;
 
 import org.apache.paimon.options.CatalogOptions;
 
+import java.time.Duration;
+
 import static org.apache.flink.cdc.common.configuration.ConfigOptions.key;
 
 /** copy from {@link CatalogOptions}. Options for {@link PaimonDataSink}. */
@@ -65,4 +68,33 @@ public class PaimonDataSinkOptions {
                             "Partition keys for each partitioned table, allow setting multiple primary keys for multiTables. "
                                     + "Tables are separated by ';', and partition keys are separated by ','. "
                                     + "For example, we can set partition.key of two tables by 'testdb.table1:id1,id2;testdb.table2:name'.");
+
+    @Experimental
+    public static final ConfigOption<String> SINK_WRITER_BUFFER_SIZE =
+            key("sink.writer.buffer-size")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The size, e.g. '512mb', of the write buffer shared by the writers of all tables in a subtask. "
+                                    + "When it is exhausted, the writer occupying the most memory is flushed, or spilled to local disk if 'write-buffer-spillable' is enabled for the table. "
+                                    + "The 'write-buffer-size' of the first written table is used if not set.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SINK_WRITER_BUFFER_OFF_HEAP =
+            key("sink.writer.buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate the shared write buffer from off-heap memory instead of JVM heap. "
+                                    + "The off-heap memory is accounted to the task off-heap memory, which should be configured by 'taskmanager.memory.task.off-heap.size'.");
+
+    @Experimental
+    public static final ConfigOption<Duration> SINK_WRITER_IDLE_TIMEOUT =
+            key("sink.writer.idle-timeout")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The writer of a table is closed on checkpoint if the table has neither received data nor committed files within this duration, "
+                                    + "and is created again when new data arrives. It should be much larger than the checkpoint interval. "
+                                    + "Writers are never closed if not set.");
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.paimon.memory.AbstractMemorySegmentPool;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegment;
+
+/**
+ * A memory segment pool allocating direct memory lazily, which is the off-heap counterpart of
+ * {@link HeapMemorySegmentPool}. The memory is accounted to the task off-heap memory of Flink.
+ */
+public class OffHeapMemorySegmentPool extends AbstractMemorySegmentPool {
+
+    public OffHeapMemorySegmentPool(long maxMemory, int pageSize) {
+        super(maxMemory, pageSize);
+    }
+
+    @Override
+    protected MemorySegment allocateMemory() {
+        return MemorySegment.allocateOffHeapMemory(pageSize);
+    }
+}
@@ -57,16 +57,27 @@ public class PaimonSink<InputT>
 
     private final PaimonRecordSerializer<InputT> serializer;
 
+    private final PaimonWriterOptions writerOptions;
+
     public PaimonSink(Options catalogOptions, PaimonRecordSerializer<InputT> serializer) {
         this(catalogOptions, DEFAULT_COMMIT_USER, serializer);
     }
 
     public PaimonSink(
             Options catalogOptions, String commitUser, PaimonRecordSerializer<InputT> serializer) {
+        this(catalogOptions, commitUser, serializer, PaimonWriterOptions.DEFAULT);
+    }
+
+    public PaimonSink(
+            Options catalogOptions,
+            String commitUser,
+            PaimonRecordSerializer<InputT> serializer,
+            PaimonWriterOptions writerOptions) {
         this.catalogOptions = catalogOptions;
         // generate a random commit user to avoid conflict.
         this.commitUser = commitUser + UUID.randomUUID();
         this.serializer = serializer;
+        this.writerOptions = writerOptions;
     }
 
     @Override
@@ -75,7 +86,12 @@ public class PaimonSink<InputT>
                 context.getRestoredCheckpointId()
                         .orElse(CheckpointIDCounter.INITIAL_CHECKPOINT_ID - 1);
         return new PaimonWriter<>(
-                catalogOptions, context.metricGroup(), commitUser, serializer, lastCheckpointId);
+                catalogOptions,
+                context.metricGroup(),
+                commitUser,
+                serializer,
+                lastCheckpointId,
+                writerOptions);
     }
 
     @Override
@@ -91,7 +107,8 @@ public class PaimonSink<InputT>
                 context.metricGroup(),
                 storedCommitUser,
                 serializer,
-                lastCheckpointId);
+                lastCheckpointId,
+                writerOptions);
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.flink.cdc.connectors.paimon.sink.v2;
 import org.apache.flink.api.connector.sink2.Sink;
 import org.apache.flink.api.connector.sink2.StatefulSinkWriter;
 import org.apache.flink.api.connector.sink2.TwoPhaseCommittingSink;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.runtime.io.disk.iomanager.IOManager;
@@ -34,17 +35,20 @@ import org.apache.paimon.flink.FlinkCatalogFactory;
 import org.apache.paimon.flink.sink.MultiTableCommittable;
 import org.apache.paimon.flink.sink.StoreSinkWrite;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
-import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -66,12 +70,15 @@ public class PaimonWriter<InputT>
     private final String commitUser;
     // all table write should share one write buffer so that writers can preempt memory
     // from those of other tables
-    private MemoryPoolFactory memoryPoolFactory;
+    private TableMemoryPoolFactory memoryPoolFactory;
+    private final PaimonWriterOptions writerOptions;
 
     // deserializer that converts Input into PaimonEvent.
     private final PaimonRecordSerializer<InputT> serializer;
     private final Map<Identifier, FileStoreTable> tables;
     private final Map<Identifier, StoreSinkWrite> writes;
+    // the last time when data was written or files were committed of each table write.
+    private final Map<Identifier, Long> lastActiveTimes;
     private final ExecutorService compactExecutor;
     private final MetricGroup metricGroup;
 
@@ -86,11 +93,29 @@ public class PaimonWriter<InputT>
             String commitUser,
             PaimonRecordSerializer<InputT> serializer,
             long lastCheckpointId) {
+        this(
+                catalogOptions,
+                metricGroup,
+                commitUser,
+                serializer,
+                lastCheckpointId,
+                PaimonWriterOptions.DEFAULT);
+    }
+
+    public PaimonWriter(
+            Options catalogOptions,
+            MetricGroup metricGroup,
+            String commitUser,
+            PaimonRecordSerializer<InputT> serializer,
+            long lastCheckpointId,
+            PaimonWriterOptions writerOptions) {
         catalog = FlinkCatalogFactory.createPaimonCatalog(catalogOptions);
         this.metricGroup = metricGroup;
         this.commitUser = commitUser;
+        this.writerOptions = writerOptions;
         this.tables = new HashMap<>();
         this.writes = new HashMap<>();
+        this.lastActiveTimes = new HashMap<>();
         this.ioManager = new IOManagerAsync();
         this.compactExecutor =
                 Executors.newSingleThreadScheduledExecutor(
@@ -132,6 +157,7 @@ public class PaimonWriter<InputT>
                                 })
                         .collect(Collectors.toList());
         lastCheckpointId++;
+        closeIdleWrites(committables);
         LOG.debug("Spend {} ms to prepareCommit", System.currentTimeMillis() - startTime);
         return committables;
     }
@@ -146,7 +172,14 @@ public class PaimonWriter<InputT>
             tables.remove(tableId);
             try {
                 if (writes.containsKey(tableId)) {
-                    writes.get(tableId).replace(getTable(tableId));
+                    // the owners of the replaced write are closed, release them.
+                    memoryPoolFactory.release(tableId);
+                    memoryPoolFactory.register(
+                            tableId,
+                            () -> {
+                                writes.get(tableId).replace(getTable(tableId));
+                                return null;
+                            });
                 }
             } catch (Exception e) {
                 throw new RuntimeException(e);
@@ -156,39 +189,22 @@ public class PaimonWriter<InputT>
             FileStoreTable table;
             table = getTable(tableId);
             if (memoryPoolFactory == null) {
+                // currently, the options of all tables are the same in CDC
                 memoryPoolFactory =
-                        new MemoryPoolFactory(
-                                // currently, the options of all tables are the same in CDC
-                                new HeapMemorySegmentPool(
-                                        table.coreOptions().writeBufferSize(),
-                                        table.coreOptions().pageSize()));
+                        new TableMemoryPoolFactory(createMemoryPool(table.coreOptions()));
+            }
+            StoreSinkWrite write = writes.get(tableId);
+            if (write == null) {
+                try {
+                    write = memoryPoolFactory.register(tableId, () -> createWrite(table));
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+                writes.put(tableId, write);
+            }
+            if (writerOptions.getWriterIdleTimeout() != null) {
+                lastActiveTimes.put(tableId, System.currentTimeMillis());
             }
-            StoreSinkWrite write =
-                    writes.computeIfAbsent(
-                            tableId,
-                            id -> {
-                                boolean waitCompaction =
-                                        Boolean.parseBoolean(
-                                                table.options()
-                                                        .getOrDefault(
-                                                                CoreOptions.DELETION_VECTORS_ENABLED
-                                                                        .key(),
-                                                                CoreOptions.DELETION_VECTORS_ENABLED
-                                                                        .defaultValue()
-                                                                        .toString()));
-                                StoreSinkWriteImpl storeSinkWrite =
-                                        new StoreSinkWriteImpl(
-                                                table,
-                                                commitUser,
-                                                ioManager,
-                                                false,
-                                                waitCompaction,
-                                                true,
-                                                memoryPoolFactory,
-                                                metricGroup);
-                                storeSinkWrite.withCompactExecutor(compactExecutor);
-                                return storeSinkWrite;
-                            });
             try {
                 for (GenericRow genericRow : paimonEvent.getGenericRows()) {
                     write.write(genericRow, paimonEvent.getBucket());
@@ -199,6 +215,88 @@ public class PaimonWriter<InputT>
         }
     }
 
+    private MemorySegmentPool createMemoryPool(CoreOptions coreOptions) {
+        long writeBufferSize =
+                writerOptions.getWriteBufferSize() != null
+                        ? writerOptions.getWriteBufferSize()
+                        : coreOptions.writeBufferSize();
+        LOG.info(
+                "Create {} write buffer of {} bytes shared by all table writes.",
+                writerOptions.isWriteBufferOffHeap() ? "off-heap" : "heap",
+                writeBufferSize);
+        return writerOptions.isWriteBufferOffHeap()
+                ? new OffHeapMemorySegmentPool(writeBufferSize, coreOptions.pageSize())
+                : new HeapMemorySegmentPool(writeBufferSize, coreOptions.pageSize());
+    }
+
+    private StoreSinkWrite createWrite(FileStoreTable table) {
+        boolean waitCompaction =
+                Boolean.parseBoolean(
+                        table.options()
+                                .getOrDefault(
+                                        CoreOptions.DELETION_VECTORS_ENABLED.key(),
+                                        CoreOptions.DELETION_VECTORS_ENABLED
+                                                .defaultValue()
+                                                .toString()));
+        StoreSinkWriteImpl storeSinkWrite =
+                new StoreSinkWriteImpl(
+                        table,
+                        commitUser,
+                        ioManager,
+                        false,
+                        waitCompaction,
+                        true,
+                        memoryPoolFactory,
+                        metricGroup);
+        storeSinkWrite.withCompactExecutor(compactExecutor);
+        return storeSinkWrite;
+    }
+
+    /**
+     * Closes the writes of tables which neither received data nor committed files within the idle
+     * timeout, so that the memory of inactive tables is released when syncing many tables. The
+     * write is created again when new data of the table arrives.
+     */
+    private void closeIdleWrites(List<MultiTableCommittable> committables) {
+        Duration idleTimeout = writerOptions.getWriterIdleTimeout();
+        if (idleTimeout == null) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        for (MultiTableCommittable committable : committables) {
+            // the bucket writers without new files still produce empty commit messages
+            if (committable.wrappedCommittable() instanceof CommitMessageImpl
+                    && ((CommitMessageImpl) committable.wrappedCommittable()).isEmpty()) {
+                continue;
+            }
+            lastActiveTimes.put(
+                    Identifier.create(committable.getDatabase(), committable.getTable()),
+                    currentTime);
+        }
+        Iterator<Map.Entry<Identifier, StoreSinkWrite>> iterator = writes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Identifier, StoreSinkWrite> entry = iterator.next();
+            Identifier tableId = entry.getKey();
+            long lastActiveTime = lastActiveTimes.getOrDefault(tableId, currentTime);
+            if (currentTime - lastActiveTime < idleTimeout.toMillis()) {
+                continue;
+            }
+            LOG.info(
+                    "Close the write of table {} which has been idle for {} ms.",
+                    tableId,
+                    currentTime - lastActiveTime);
+            try {
+                entry.getValue().close();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            memoryPoolFactory.release(tableId);
+            tables.remove(tableId);
+            lastActiveTimes.remove(tableId);
+            iterator.remove();
+        }
+    }
+
     private FileStoreTable getTable(Identifier tableId) {
         return tables.computeIfAbsent(
                 tableId,
@@ -211,6 +309,16 @@ public class PaimonWriter<InputT>
                 });
     }
 
+    @VisibleForTesting
+    Map<Identifier, StoreSinkWrite> getWrites() {
+        return writes;
+    }
+
+    @VisibleForTesting
+    TableMemoryPoolFactory getMemoryPoolFactory() {
+        return memoryPoolFactory;
+    }
+
     @Override
     public void flush(boolean endOfInput) {
         // do nothing as StoreSinkWrite#replace will write buffer to file.
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/** Options of the write buffers and table writers of {@link PaimonWriter}. */
+public class PaimonWriterOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Uses the write buffer size of the first written table and never closes table writers. */
+    public static final PaimonWriterOptions DEFAULT = new PaimonWriterOptions(null, false, null);
+
+    /** The size of the write buffer shared by all table writers in bytes. */
+    @Nullable private final Long writeBufferSize;
+
+    private final boolean writeBufferOffHeap;
+
+    /** The duration after which the writer of a table without new data is closed. */
+    @Nullable private final Duration writerIdleTimeout;
+
+    public PaimonWriterOptions(
+            @Nullable Long writeBufferSize,
+            boolean writeBufferOffHeap,
+            @Nullable Duration writerIdleTimeout) {
+        this.writeBufferSize = writeBufferSize;
+        this.writeBufferOffHeap = writeBufferOffHeap;
+        this.writerIdleTimeout = writerIdleTimeout;
+    }
+
+    @Nullable
+    public Long getWriteBufferSize() {
+        return writeBufferSize;
+    }
+
+    public boolean isWriteBufferOffHeap() {
+        return writeBufferOffHeap;
+    }
+
+    @Nullable
+    public Duration getWriterIdleTimeout() {
+        return writerIdleTimeout;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * A {@link MemoryPoolFactory} shared by the writers of all tables, which keeps track of the memory
+ * owners of each table.
+ *
+ * <p>When the shared pool is exhausted, {@link MemoryPoolFactory} preempts memory by flushing the
+ * largest owner among all tables. Different from {@link MemoryPoolFactory#addOwners}, whose owners
+ * can never be removed, the owners are attributed to the table which registers them and are
+ * released when the writer of the table is closed or replaced, so that closed writers are neither
+ * retained nor visited during preemption.
+ */
+public class TableMemoryPoolFactory extends MemoryPoolFactory {
+
+    private final Map<Identifier, List<Iterable<MemoryOwner>>> tableOwners;
+
+    /** The table to attribute the added owners to. */
+    private Identifier registeringTable;
+
+    public TableMemoryPoolFactory(MemorySegmentPool innerPool) {
+        super(innerPool);
+        this.tableOwners = new HashMap<>();
+        super.addOwners(this::owners);
+    }
+
+    /**
+     * Runs the action which creates or replaces the writer of the table, the memory owners added
+     * during the action are attributed to the table.
+     */
+    public <T> T register(Identifier tableId, Callable<T> action) throws Exception {
+        checkState(registeringTable == null, "Nested registration is not supported.");
+        registeringTable = tableId;
+        try {
+            return action.call();
+        } finally {
+            registeringTable = null;
+        }
+    }
+
+    @Override
+    public MemoryPoolFactory addOwners(Iterable<MemoryOwner> newOwners) {
+        checkState(
+                registeringTable != null,
+                "Memory owners must be added during the registration of a table.");
+        tableOwners.computeIfAbsent(registeringTable, id -> new ArrayList<>()).add(newOwners);
+        return this;
+    }
+
+    /** Releases the memory owners of the table, whose writer has been closed. */
+    public void release(Identifier tableId) {
+        tableOwners.remove(tableId);
+    }
+
+    /** Returns whether memory owners are attributed to the table. */
+    @VisibleForTesting
+    boolean hasOwners(Identifier tableId) {
+        return tableOwners.containsKey(tableId);
+    }
+
+    /** Returns the memory occupied by the write buffers of the table in bytes. */
+    @VisibleForTesting
+    long memoryOccupancy(Identifier tableId) {
+        long occupancy = 0;
+        List<Iterable<MemoryOwner>> ownersOfTable =
+                tableOwners.getOrDefault(tableId, Collections.emptyList());
+        for (Iterable<MemoryOwner> owners : ownersOfTable) {
+            for (MemoryOwner owner : owners) {
+                occupancy += owner.memoryOccupancy();
+            }
+        }
+        return occupancy;
+    }
+
+    private Iterator<MemoryOwner> owners() {
+        List<MemoryOwner> allOwners = new ArrayList<>();
+        for (List<Iterable<MemoryOwner>> owners : tableOwners.values()) {
+            owners.forEach(iterable -> iterable.forEach(allOwners::add));
+        }
+        return allOwners.iterator();
+    }
+}
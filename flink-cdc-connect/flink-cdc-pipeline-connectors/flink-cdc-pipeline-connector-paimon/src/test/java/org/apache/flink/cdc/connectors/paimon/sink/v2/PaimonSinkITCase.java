@@ -83,10 +83,13 @@ import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
 
 import org.apache.calcite.sql.validate.SqlValidatorException;
 import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.flink.FlinkCatalogFactory;
 import org.apache.paimon.flink.sink.MultiTableCommittable;
+import org.apache.paimon.flink.sink.StoreSinkWrite;
 import org.apache.paimon.options.Options;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -95,6 +98,7 @@ import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -747,6 +751,74 @@ public class PaimonSinkITCase {
                 .containsExactlyInAnyOrder(Row.ofKind(RowKind.INSERT, "1", "1"));
     }
 
+    @Test
+    public void testCloseIdleWrites() throws Exception {
+        initialize("filesystem");
+        Duration idleTimeout = Duration.ofSeconds(1);
+        PaimonSink<Event> paimonSink =
+                new PaimonSink<>(
+                        catalogOptions,
+                        PaimonSink.DEFAULT_COMMIT_USER,
+                        new PaimonRecordEventSerializer(ZoneId.systemDefault()),
+                        new PaimonWriterOptions(null, false, idleTimeout));
+        PaimonWriter<Event> writer = paimonSink.createWriter(new MockInitContext());
+        Committer<MultiTableCommittable> committer = paimonSink.createCommitter();
+        List<Event> testEvents = createTestEvents(false);
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("col1", STRING())
+                        .physicalColumn("col2", STRING())
+                        .primaryKey("col1")
+                        .option("bucket", "1")
+                        .build();
+        CreateTableEvent createTableEvent = new CreateTableEvent(table2, schema);
+        testEvents.add(createTableEvent);
+        new PaimonMetadataApplier(catalogOptions).applySchemaChange(createTableEvent);
+        testEvents.add(
+                generateInsert(
+                        table2, Arrays.asList(Tuple2.of(STRING(), "1"), Tuple2.of(STRING(), "1"))));
+        writeAndCommit(writer, committer, testEvents.toArray(new Event[0]));
+
+        Identifier identifier1 = Identifier.create(TEST_DATABASE, table1.getTableName());
+        Identifier identifier2 = Identifier.create(TEST_DATABASE, table2.getTableName());
+        Assertions.assertThat(writer.getWrites()).containsOnlyKeys(identifier1, identifier2);
+        StoreSinkWrite idleWrite = writer.getWrites().get(identifier1);
+
+        // only table2 receives data after the idle timeout of table1
+        Thread.sleep(idleTimeout.toMillis() + 500);
+        writeAndCommit(
+                writer,
+                committer,
+                generateInsert(
+                        table2, Arrays.asList(Tuple2.of(STRING(), "2"), Tuple2.of(STRING(), "2"))));
+        Assertions.assertThat(writer.getWrites()).containsOnlyKeys(identifier2);
+        Assertions.assertThat(writer.getMemoryPoolFactory().hasOwners(identifier1)).isFalse();
+        Assertions.assertThat(writer.getMemoryPoolFactory().memoryOccupancy(identifier1))
+                .isZero();
+        Assertions.assertThat(writer.getMemoryPoolFactory().hasOwners(identifier2)).isTrue();
+
+        // the write of table1 is created again by new data
+        writeAndCommit(
+                writer,
+                committer,
+                generateInsert(
+                        table1, Arrays.asList(Tuple2.of(STRING(), "3"), Tuple2.of(STRING(), "3"))));
+        Assertions.assertThat(writer.getWrites().get(identifier1))
+                .isNotNull()
+                .isNotSameAs(idleWrite);
+        Assertions.assertThat(writer.getMemoryPoolFactory().hasOwners(identifier1)).isTrue();
+        writer.close();
+
+        Assertions.assertThat(fetchResults(table1))
+                .containsExactlyInAnyOrder(
+                        Row.ofKind(RowKind.INSERT, "1", "1"),
+                        Row.ofKind(RowKind.INSERT, "2", "2"),
+                        Row.ofKind(RowKind.INSERT, "3", "3"));
+        Assertions.assertThat(fetchResults(table2))
+                .containsExactlyInAnyOrder(
+                        Row.ofKind(RowKind.INSERT, "1", "1"), Row.ofKind(RowKind.INSERT, "2", "2"));
+    }
+
     private static void commit(
             PaimonWriter<Event> writer, Committer<MultiTableCommittable> committer)
             throws IOException, InterruptedException {
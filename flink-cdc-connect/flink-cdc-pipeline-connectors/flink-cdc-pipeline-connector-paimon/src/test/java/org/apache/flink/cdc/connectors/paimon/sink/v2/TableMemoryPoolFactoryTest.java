@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link TableMemoryPoolFactory}. */
+class TableMemoryPoolFactoryTest {
+
+    private static final int PAGE_SIZE = 1024;
+
+    private static final Identifier TABLE_1 = Identifier.create("db", "table1");
+
+    private static final Identifier TABLE_2 = Identifier.create("db", "table2");
+
+    @Test
+    void testPreemptLargestOwnerAmongTables() throws Exception {
+        TableMemoryPoolFactory factory =
+                new TableMemoryPoolFactory(new HeapMemorySegmentPool(4 * PAGE_SIZE, PAGE_SIZE));
+        TestMemoryOwner small = new TestMemoryOwner();
+        TestMemoryOwner large = new TestMemoryOwner();
+        TestMemoryOwner requester = new TestMemoryOwner();
+        factory.register(TABLE_1, () -> factory.addOwners(Arrays.asList(small, requester)));
+        factory.register(TABLE_2, () -> factory.addOwners(Collections.singletonList(large)));
+        factory.notifyNewOwner(small);
+        factory.notifyNewOwner(large);
+        factory.notifyNewOwner(requester);
+
+        assertThat(small.allocate(1)).isTrue();
+        assertThat(large.allocate(3)).isTrue();
+        assertThat(factory.memoryOccupancy(TABLE_1)).isEqualTo(PAGE_SIZE);
+        assertThat(factory.memoryOccupancy(TABLE_2)).isEqualTo(3 * PAGE_SIZE);
+
+        // the pool is exhausted, the largest owner of the other table is flushed
+        assertThat(requester.allocate(2)).isTrue();
+        assertThat(large.flushCount).isEqualTo(1);
+        assertThat(small.flushCount).isZero();
+        assertThat(factory.memoryOccupancy(TABLE_1)).isEqualTo(3 * PAGE_SIZE);
+        assertThat(factory.memoryOccupancy(TABLE_2)).isZero();
+    }
+
+    @Test
+    void testReleasedOwnersAreNotPreempted() throws Exception {
+        TableMemoryPoolFactory factory =
+                new TableMemoryPoolFactory(new HeapMemorySegmentPool(2 * PAGE_SIZE, PAGE_SIZE));
+        TestMemoryOwner closed = new TestMemoryOwner();
+        TestMemoryOwner requester = new TestMemoryOwner();
+        factory.register(TABLE_1, () -> factory.addOwners(Collections.singletonList(closed)));
+        factory.register(TABLE_2, () -> factory.addOwners(Collections.singletonList(requester)));
+        factory.notifyNewOwner(closed);
+        factory.notifyNewOwner(requester);
+
+        assertThat(closed.allocate(2)).isTrue();
+        factory.release(TABLE_1);
+        assertThat(factory.memoryOccupancy(TABLE_1)).isZero();
+        assertThat(requester.allocate(1)).isFalse();
+        assertThat(closed.flushCount).isZero();
+    }
+
+    @Test
+    void testAddOwnersOutsideRegistration() {
+        TableMemoryPoolFactory factory =
+                new TableMemoryPoolFactory(new HeapMemorySegmentPool(PAGE_SIZE, PAGE_SIZE));
+        assertThatThrownBy(() -> factory.addOwners(Collections.emptyList()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /** A {@link MemoryOwner} which holds the allocated pages until it is flushed. */
+    private static class TestMemoryOwner implements MemoryOwner {
+
+        private final List<MemorySegment> segments = new ArrayList<>();
+
+        private MemorySegmentPool pool;
+
+        private int flushCount;
+
+        @Override
+        public void setMemoryPool(MemorySegmentPool memoryPool) {
+            this.pool = memoryPool;
+        }
+
+        @Override
+        public long memoryOccupancy() {
+            return (long) segments.size() * PAGE_SIZE;
+        }
+
+        @Override
+        public void flushMemory() {
+            flushCount++;
+            pool.returnAll(segments);
+            segments.clear();
+        }
+
+        private boolean allocate(int pages) {
+            for (int i = 0; i < pages; i++) {
+                MemorySegment segment = pool.nextSegment();
+                if (segment == null) {
+                    return false;
+                }
+                segments.add(segment);
+            }
+            return true;
+        }
+    }
+}
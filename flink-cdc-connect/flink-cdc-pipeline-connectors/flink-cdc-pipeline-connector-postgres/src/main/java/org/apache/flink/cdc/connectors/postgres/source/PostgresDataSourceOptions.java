@@ -264,4 +264,47 @@ public class PostgresDataSourceOptions {
                             .defaultValue(false)
                             .withDescription(
                                     "Whether to assign the unbounded chunks first during snapshot reading phase. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when taking a snapshot of the largest unbounded chunk.  Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.samples")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of chunk key values to sample per chunk when the chunk key of a table is not evenly distributed. "
+                                    + "If it is positive, chunk boundaries are derived from a random sample of chunk key values read by a single query, "
+                                    + "instead of querying the end of every chunk one by one. Defaults to 0, which disables sampling.");
+
+    @Experimental
+    public static final ConfigOption<Integer>
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM =
+                    ConfigOptions.key("scan.incremental.snapshot.chunk.splitting.parallelism")
+                            .intType()
+                            .defaultValue(1)
+                            .withDescription(
+                                    "The number of tables that the source enumerator splits into chunks concurrently. "
+                                            + "Each of them holds a connection of the database, so it should not exceed 'connection.pool.size'. Defaults to 1.");
+
+    @Experimental
+    public static final ConfigOption<Boolean>
+            SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_SLOT_ENABLED =
+                    ConfigOptions.key("scan.incremental.snapshot.backfill.shared-slot.enabled")
+                            .booleanType()
+                            .defaultValue(false)
+                            .withDescription(
+                                    "Whether the snapshot splits read by a subtask share one backfill replication slot. "
+                                            + "If enabled, the backfill slot is created once per subtask and advanced to the high watermark of every read split, "
+                                            + "instead of being created and dropped for every snapshot split. It only takes effect when backfill is not skipped. Defaults to false.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_STREAM_SHARDS =
+            ConfigOptions.key("scan.stream.shards")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of shards to read the WAL log in parallel. The captured tables are partitioned into shards by the hash of their ids, "
+                                    + "and each shard is read by its own subtask with its own publication and replication slot, "
+                                    + "which are named after 'publication.name' and 'slot.name' with suffix '_shard_{index}'. "
+                                    + "Only the changes of the same table are kept in order. It must not be larger than the source parallelism, "
+                                    + "and is only supported by the startup modes without snapshot phase. Defaults to 1, which disables sharding.");
 }
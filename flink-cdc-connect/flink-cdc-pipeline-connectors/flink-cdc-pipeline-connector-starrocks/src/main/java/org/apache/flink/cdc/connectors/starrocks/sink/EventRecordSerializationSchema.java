@@ -24,7 +24,6 @@ import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
-import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
@@ -33,14 +32,15 @@ import com.starrocks.connector.flink.table.data.DefaultStarRocksRowData;
 import com.starrocks.connector.flink.table.data.StarRocksRowData;
 import com.starrocks.connector.flink.table.sink.v2.RecordSerializationSchema;
 import com.starrocks.connector.flink.table.sink.v2.StarRocksSinkContext;
-import com.starrocks.connector.flink.tools.JsonWrapper;
 
 import java.time.ZoneId;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-/** Serializer for the input {@link Event}. It will serialize a row to a json string. */
+/**
+ * Serializer for the input {@link Event}. It will serialize a row to a json string, which is
+ * written straight from the {@link RecordData} by a {@link StarRocksJsonRowEncoder} of the table.
+ */
 public class EventRecordSerializationSchema implements RecordSerializationSchema<Event> {
 
     private static final long serialVersionUID = 1L;
@@ -54,7 +54,6 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
     private transient Map<TableId, TableInfo> tableInfoMap;
 
     private transient DefaultStarRocksRowData reusableRowData;
-    private transient JsonWrapper jsonWrapper;
 
     public EventRecordSerializationSchema(ZoneId zoneId) {
         this.zoneId = zoneId;
@@ -65,7 +64,6 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
             SerializationSchema.InitializationContext context, StarRocksSinkContext sinkContext) {
         this.tableInfoMap = new HashMap<>();
         this.reusableRowData = new DefaultStarRocksRowData();
-        this.jsonWrapper = new JsonWrapper();
     }
 
     @Override
@@ -94,12 +92,7 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         }
         TableInfo tableInfo = new TableInfo();
         tableInfo.schema = newSchema;
-        tableInfo.fieldGetters = new RecordData.FieldGetter[newSchema.getColumnCount()];
-        for (int i = 0; i < newSchema.getColumnCount(); i++) {
-            tableInfo.fieldGetters[i] =
-                    StarRocksUtils.createFieldGetter(
-                            newSchema.getColumns().get(i).getType(), i, zoneId);
-        }
+        tableInfo.rowEncoder = new StarRocksJsonRowEncoder(newSchema, zoneId);
         tableInfoMap.put(tableId, tableInfo);
     }
 
@@ -113,10 +106,10 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
             case INSERT:
             case UPDATE:
             case REPLACE:
-                value = serializeRecord(tableInfo, event.after(), false);
+                value = tableInfo.rowEncoder.encode(event.after(), false);
                 break;
             case DELETE:
-                value = serializeRecord(tableInfo, event.before(), true);
+                value = tableInfo.rowEncoder.encode(event.before(), true);
                 break;
             default:
                 throw new UnsupportedOperationException(
@@ -126,23 +119,12 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         return reusableRowData;
     }
 
-    private String serializeRecord(TableInfo tableInfo, RecordData record, boolean isDelete) {
-        List<Column> columns = tableInfo.schema.getColumns();
-        Preconditions.checkArgument(columns.size() == record.getArity());
-        Map<String, Object> rowMap = new HashMap<>(record.getArity() + 1);
-        for (int i = 0; i < record.getArity(); i++) {
-            rowMap.put(columns.get(i).getName(), tableInfo.fieldGetters[i].getFieldOrNull(record));
-        }
-        rowMap.put("__op", isDelete ? 1 : 0);
-        return jsonWrapper.toJSONString(rowMap);
-    }
-
     @Override
     public void close() {}
 
     /** Table information. */
     private static class TableInfo {
         Schema schema;
-        RecordData.FieldGetter[] fieldGetters;
+        StarRocksJsonRowEncoder rowEncoder;
     }
 }
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.starrocks.sink;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Encodes the {@link RecordData} of a specific {@link Schema} into a JSON row of StarRocks stream
+ * load, which is written straight from the record into a reusable buffer.
+ *
+ * <p>The escaped column names and field encoders are prepared once per schema, so no intermediate
+ * map is built for each row. Values are formatted in the same way as {@link
+ * StarRocksUtils#createFieldGetter}. Like the JSON string of a row map, null columns are omitted
+ * and the row ends with the {@code __op} column which marks the row as upserted or deleted.
+ */
+public class StarRocksJsonRowEncoder {
+
+    private static final String OP_COLUMN = "__op";
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** The escaped column names followed by colons. */
+    private final String[] fieldPrefixes;
+
+    private final FieldEncoder[] fieldEncoders;
+
+    private final String upsertSuffix;
+
+    private final String deleteSuffix;
+
+    private final StringBuilder builder = new StringBuilder(256);
+
+    public StarRocksJsonRowEncoder(Schema schema, ZoneId zoneId) {
+        List<Column> columns = schema.getColumns();
+        this.fieldPrefixes = new String[columns.size()];
+        this.fieldEncoders = new FieldEncoder[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            builder.setLength(0);
+            writeString(columns.get(i).getName());
+            builder.append(':');
+            fieldPrefixes[i] = builder.toString();
+            fieldEncoders[i] = createFieldEncoder(columns.get(i).getType(), zoneId);
+        }
+        this.upsertSuffix = "\"" + OP_COLUMN + "\":0}";
+        this.deleteSuffix = "\"" + OP_COLUMN + "\":1}";
+    }
+
+    /** Encodes the record as a JSON object. */
+    public String encode(RecordData record, boolean isDelete) {
+        Preconditions.checkArgument(fieldEncoders.length == record.getArity());
+        builder.setLength(0);
+        builder.append('{');
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            if (!record.isNullAt(i)) {
+                builder.append(fieldPrefixes[i]);
+                fieldEncoders[i].encode(record, i, this);
+                builder.append(',');
+            }
+        }
+        builder.append(isDelete ? deleteSuffix : upsertSuffix);
+        return builder.toString();
+    }
+
+    private static FieldEncoder createFieldEncoder(DataType fieldType, ZoneId zoneId) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case BOOLEAN:
+                return (record, pos, encoder) -> encoder.builder.append(record.getBoolean(pos));
+            case TINYINT:
+                return (record, pos, encoder) -> encoder.builder.append(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, encoder) -> encoder.builder.append(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, encoder) -> encoder.builder.append(record.getInt(pos));
+            case BIGINT:
+                return (record, pos, encoder) -> encoder.builder.append(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, encoder) -> {
+                    float value = record.getFloat(pos);
+                    encoder.writeNumber(Float.toString(value), Float.isFinite(value));
+                };
+            case DOUBLE:
+                return (record, pos, encoder) -> {
+                    double value = record.getDouble(pos);
+                    encoder.writeNumber(Double.toString(value), Double.isFinite(value));
+                };
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (record, pos, encoder) ->
+                        encoder.builder.append(
+                                record.getDecimal(pos, decimalPrecision, decimalScale)
+                                        .toBigDecimal());
+            case CHAR:
+            case VARCHAR:
+                return (record, pos, encoder) ->
+                        encoder.writeString(record.getString(pos).toString());
+            case DATE:
+                return (record, pos, encoder) -> {
+                    encoder.builder.append('"');
+                    encoder.writeDate(record.getDate(pos).toLocalDate());
+                    encoder.builder.append('"');
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                return (record, pos, encoder) ->
+                        encoder.writeDateTime(
+                                record.getTimestamp(pos, timestampPrecision).toLocalDateTime());
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(fieldType);
+                return (record, pos, encoder) ->
+                        encoder.writeDateTime(
+                                ZonedDateTime.ofInstant(
+                                                record.getLocalZonedTimestampData(
+                                                                pos, localZonedPrecision)
+                                                        .toInstant(),
+                                                zoneId)
+                                        .toLocalDateTime());
+            default:
+                throw new UnsupportedOperationException(
+                        "Don't support data type " + fieldType.getTypeRoot());
+        }
+    }
+
+    /** Writes a floating point number, which is null if it is NaN or infinity like JsonWrapper. */
+    private void writeNumber(String value, boolean isFinite) {
+        builder.append(isFinite ? value : "null");
+    }
+
+    private void writeString(String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    builder.append('\\').append(c);
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00")
+                                .append(HEX_DIGITS[c >> 4])
+                                .append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    /** Writes the date in the format of {@code yyyy-MM-dd}. */
+    private void writeDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            builder.append(date.format(StarRocksUtils.DATE_FORMATTER));
+            return;
+        }
+        appendDigits(year, 4);
+        builder.append('-');
+        appendDigits(date.getMonthValue(), 2);
+        builder.append('-');
+        appendDigits(date.getDayOfMonth(), 2);
+    }
+
+    /** Writes the quoted date time in the format of {@code yyyy-MM-dd HH:mm:ss}. */
+    private void writeDateTime(LocalDateTime dateTime) {
+        builder.append('"');
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            builder.append(dateTime.format(StarRocksUtils.DATETIME_FORMATTER));
+        } else {
+            writeDate(dateTime.toLocalDate());
+            builder.append(' ');
+            appendDigits(dateTime.getHour(), 2);
+            builder.append(':');
+            appendDigits(dateTime.getMinute(), 2);
+            builder.append(':');
+            appendDigits(dateTime.getSecond(), 2);
+        }
+        builder.append('"');
+    }
+
+    /** Appends the non-negative value as the given number of digits, padded with zeros. */
+    private void appendDigits(int value, int digits) {
+        for (int divisor = (int) Math.pow(10, digits - 1); divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    /** Writes a non-null field of a {@link RecordData} into the encoder. */
+    @FunctionalInterface
+    private interface FieldEncoder {
+        void encode(RecordData record, int pos, StarRocksJsonRowEncoder encoder);
+    }
+}
@@ -125,11 +125,11 @@ public class StarRocksUtils {
     }
 
     /** Format DATE type data. */
-    private static final DateTimeFormatter DATE_FORMATTER =
+    static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /** Format timestamp-related type data. */
-    private static final DateTimeFormatter DATETIME_FORMATTER =
+    static final DateTimeFormatter DATETIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     /**
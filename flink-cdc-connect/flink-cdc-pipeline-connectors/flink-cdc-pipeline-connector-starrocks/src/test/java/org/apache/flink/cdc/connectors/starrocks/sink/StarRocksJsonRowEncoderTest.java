@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.starrocks.sink;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.DeserializationFeature;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.starrocks.connector.flink.tools.JsonWrapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link StarRocksJsonRowEncoder}. */
+class StarRocksJsonRowEncoderTest {
+
+    private static final DataType[] TYPES =
+            new DataType[] {
+                DataTypes.INT().notNull(),
+                DataTypes.BOOLEAN(),
+                DataTypes.TINYINT(),
+                DataTypes.SMALLINT(),
+                DataTypes.BIGINT(),
+                DataTypes.FLOAT(),
+                DataTypes.DOUBLE(),
+                DataTypes.DECIMAL(10, 3),
+                DataTypes.STRING(),
+                DataTypes.DATE(),
+                DataTypes.TIMESTAMP(6),
+                DataTypes.TIMESTAMP_LTZ(3)
+            };
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator(RowType.of(TYPES));
+
+    /** Parses decimals exactly, so that their scales are compared as well. */
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    @Test
+    void testEncodeAsPreviousSerializer() throws Exception {
+        Object[] nullRow = new Object[TYPES.length];
+        nullRow[0] = 7;
+        nullRow[9] = DateData.fromLocalDate(LocalDate.of(12345, 6, 7));
+        RecordData[] records =
+                new RecordData[] {
+                    GENERATOR.generate(
+                            new Object[] {
+                                1,
+                                true,
+                                (byte) -1,
+                                (short) 2,
+                                Long.MAX_VALUE,
+                                5.1f,
+                                1.5d,
+                                DecimalData.fromBigDecimal(new BigDecimal("1200.500"), 10, 3),
+                                BinaryStringData.fromString("\"a\"\t\\ é\u0001\n/"),
+                                DateData.fromLocalDate(LocalDate.of(2023, 1, 2)),
+                                TimestampData.fromLocalDateTime(
+                                        LocalDateTime.of(2023, 1, 2, 3, 4, 5, 6_000)),
+                                LocalZonedTimestampData.fromInstant(
+                                        Instant.parse("2023-01-01T20:00:00.120Z"))
+                            }),
+                    GENERATOR.generate(
+                            new Object[] {
+                                2,
+                                false,
+                                Byte.MIN_VALUE,
+                                Short.MAX_VALUE,
+                                -1L,
+                                Float.NaN,
+                                Double.NEGATIVE_INFINITY,
+                                DecimalData.fromBigDecimal(new BigDecimal("-0.001"), 10, 3),
+                                BinaryStringData.fromString(""),
+                                DateData.fromLocalDate(LocalDate.of(1970, 1, 1)),
+                                TimestampData.fromLocalDateTime(
+                                        LocalDateTime.of(10000, 1, 1, 0, 0)),
+                                LocalZonedTimestampData.fromInstant(Instant.EPOCH)
+                            }),
+                    GENERATOR.generate(nullRow)
+                };
+        for (String zone : new String[] {"UTC", "+08:00"}) {
+            ZoneId zoneId = ZoneId.of(zone);
+            Schema schema = createSchema();
+            StarRocksJsonRowEncoder encoder = new StarRocksJsonRowEncoder(schema, zoneId);
+            for (RecordData record : records) {
+                for (boolean isDelete : new boolean[] {false, true}) {
+                    String encoded = encoder.encode(record, isDelete);
+                    assertThat(objectMapper.readTree(encoded))
+                            .isEqualTo(
+                                    objectMapper.readTree(
+                                            serializeRecord(schema, zoneId, record, isDelete)));
+                    assertThat(encoded).endsWith(",\"__op\":" + (isDelete ? 1 : 0) + "}");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUnsupportedType() {
+        Schema schema = Schema.newBuilder().physicalColumn("c0", DataTypes.BYTES()).build();
+        assertThatThrownBy(() -> new StarRocksJsonRowEncoder(schema, ZoneId.of("UTC")))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("Don't support data type VARBINARY");
+    }
+
+    /**
+     * Serializes the record in the previous way of {@link EventRecordSerializationSchema}, i.e.
+     * the values of {@link StarRocksUtils#createFieldGetter} are put into a map which is written
+     * by {@link JsonWrapper}.
+     */
+    private static String serializeRecord(
+            Schema schema, ZoneId zoneId, RecordData record, boolean isDelete) {
+        Map<String, Object> rowMap = new HashMap<>(record.getArity() + 1);
+        for (int i = 0; i < record.getArity(); i++) {
+            rowMap.put(
+                    schema.getColumns().get(i).getName(),
+                    StarRocksUtils.createFieldGetter(
+                                    schema.getColumns().get(i).getType(), i, zoneId)
+                            .getFieldOrNull(record));
+        }
+        rowMap.put("__op", isDelete ? 1 : 0);
+        return new JsonWrapper().toJSONString(rowMap);
+    }
+
+    private static Schema createSchema() {
+        Schema.Builder builder = Schema.newBuilder();
+        for (int i = 0; i < TYPES.length; i++) {
+            builder.physicalColumn("c" + i, TYPES[i]);
+        }
+        return builder.primaryKey("c0").build();
+    }
+}
@@ -47,6 +47,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
     protected final int connectMaxRetries;
     protected final int connectionPoolSize;
     protected final String chunkKeyColumn;
+    protected final int samplesPerChunk;
+    protected final int chunkSplittingParallelism;
 
     public JdbcSourceConfig(
             StartupOptions startupOptions,
@@ -74,7 +76,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
             boolean isScanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int samplesPerChunk,
+            int chunkSplittingParallelism) {
         super(
                 startupOptions,
                 splitSize,
@@ -102,6 +106,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
         this.connectMaxRetries = connectMaxRetries;
         this.connectionPoolSize = connectionPoolSize;
         this.chunkKeyColumn = chunkKeyColumn;
+        this.samplesPerChunk = samplesPerChunk;
+        this.chunkSplittingParallelism = chunkSplittingParallelism;
     }
 
     public abstract RelationalDatabaseConnectorConfig getDbzConnectorConfig();
@@ -158,6 +164,15 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
         return chunkKeyColumn;
     }
 
+    public int getSamplesPerChunk() {
+        return samplesPerChunk;
+    }
+
+    @Override
+    public int getChunkSplittingParallelism() {
+        return chunkSplittingParallelism;
+    }
+
     @Override
     public boolean isScanNewlyAddedTableEnabled() {
         return isScanNewlyAddedTableEnabled;
@@ -63,6 +63,10 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
     protected boolean assignUnboundedChunkFirst =
             JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
                     .defaultValue();
+    protected int samplesPerChunk =
+            JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES.defaultValue();
+    protected int chunkSplittingParallelism =
+            JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM.defaultValue();
 
     /** Integer port number of the database server. */
     public JdbcSourceConfigFactory hostname(String hostname) {
@@ -266,6 +270,26 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
         return this;
     }
 
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed. Chunk boundaries are then derived from a random sample of chunk key
+     * values, instead of querying the end of every chunk one by one. Defaults to 0, which disables
+     * sampling.
+     */
+    public JdbcSourceConfigFactory samplesPerChunk(int samplesPerChunk) {
+        this.samplesPerChunk = samplesPerChunk;
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently, each of them holds a connection of
+     * the database. Defaults to 1.
+     */
+    public JdbcSourceConfigFactory chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.chunkSplittingParallelism = chunkSplittingParallelism;
+        return this;
+    }
+
     @Override
     public abstract JdbcSourceConfig create(int subtask);
 }
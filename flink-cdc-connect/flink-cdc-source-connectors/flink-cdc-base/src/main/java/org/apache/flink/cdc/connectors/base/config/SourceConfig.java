@@ -42,6 +42,11 @@ public interface SourceConfig extends Serializable {
 
     boolean isAssignUnboundedChunkFirst();
 
+    /** The number of tables that are split into chunks concurrently. Defaults to 1. */
+    default int getChunkSplittingParallelism() {
+        return 1;
+    }
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
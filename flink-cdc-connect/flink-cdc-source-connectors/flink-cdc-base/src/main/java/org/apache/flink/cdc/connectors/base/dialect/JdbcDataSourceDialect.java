@@ -56,7 +56,10 @@ public interface JdbcDataSourceDialect extends DataSourceDialect<JdbcSourceConfi
     /** Get a connection pool factory to create connection pool. */
     JdbcConnectionPoolFactory getPooledDataSourceFactory();
 
-    /** Query and build the schema of table. */
+    /**
+     * Query and build the schema of table. It may be called by several chunk splitters
+     * concurrently.
+     */
     TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId);
 
     @Override
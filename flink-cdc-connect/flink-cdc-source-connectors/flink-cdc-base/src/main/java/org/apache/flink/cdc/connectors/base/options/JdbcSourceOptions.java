@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.base.options;
 
+import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.connectors.base.source.IncrementalSource;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
@@ -110,4 +111,24 @@ public class JdbcSourceOptions extends SourceOptions {
                     .withDescription(
                             "The chunk key of table snapshot, captured tables are split into multiple chunks by a chunk key when read the snapshot of table."
                                     + "By default, the chunk key is the first column of the primary key and the chunk key is the RowId in oracle.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.samples")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of chunk key values to sample per chunk when the chunk key of a table is not evenly distributed. "
+                                    + "If it is positive, chunk boundaries are derived from a random sample of chunk key values read by a single query, "
+                                    + "instead of querying the end of every chunk one by one. Defaults to 0, which disables sampling.");
+
+    @Experimental
+    public static final ConfigOption<Integer>
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM =
+                    ConfigOptions.key("scan.incremental.snapshot.chunk.splitting.parallelism")
+                            .intType()
+                            .defaultValue(1)
+                            .withDescription(
+                                    "The number of tables that the source enumerator splits into chunks concurrently. "
+                                            + "Each of them holds a connection of the database, so it should not exceed 'connection.pool.size'. Defaults to 1.");
 }
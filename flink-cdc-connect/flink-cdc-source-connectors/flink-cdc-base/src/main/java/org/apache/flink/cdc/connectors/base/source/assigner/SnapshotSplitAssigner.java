@@ -83,7 +83,17 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     private final List<TableId> remainingTables;
     private final boolean isRemainingTablesCheckpointed;
 
-    private ChunkSplitter chunkSplitter;
+    private final List<ChunkSplitter> chunkSplitters;
+
+    /** The tables that are being split by one of the chunk splitters, guarded by the lock. */
+    private final Set<TableId> splittingTables;
+
+    /**
+     * The states of the tables that are being split chunk by chunk, which are updated together with
+     * the splits of these tables under the lock, so that checkpoints are consistent per table.
+     */
+    private final Map<TableId, ChunkSplitterState> splittingTableStates;
+
     private boolean isTableIdCaseSensitive;
 
     @Nullable private Long checkpointIdToFinish;
@@ -120,7 +130,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 dialect,
                 offsetFactory,
                 new ConcurrentHashMap<>(),
-                ChunkSplitterState.NO_SPLITTING_TABLE_STATE);
+                new ArrayList<>());
     }
 
     public SnapshotSplitAssigner(
@@ -144,7 +154,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 dialect,
                 offsetFactory,
                 new ConcurrentHashMap<>(),
-                checkpoint.getChunkSplitterState());
+                checkpoint.getChunkSplitterStates());
     }
 
     private SnapshotSplitAssigner(
@@ -162,7 +172,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             DataSourceDialect<C> dialect,
             OffsetFactory offsetFactory,
             Map<String, Long> splitFinishedCheckpointIds,
-            ChunkSplitterState chunkSplitterState) {
+            List<ChunkSplitterState> chunkSplitterStates) {
         this.sourceConfig = sourceConfig;
         this.currentParallelism = currentParallelism;
         this.alreadyProcessedTables = alreadyProcessedTables;
@@ -187,12 +197,28 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         this.dialect = dialect;
         this.offsetFactory = offsetFactory;
         this.splitFinishedCheckpointIds = splitFinishedCheckpointIds;
-        chunkSplitter = createChunkSplitter(sourceConfig, dialect, chunkSplitterState);
+        this.chunkSplitters = new ArrayList<>();
+        this.splittingTables = new HashSet<>();
+        this.splittingTableStates = new LinkedHashMap<>();
+        for (ChunkSplitterState chunkSplitterState : chunkSplitterStates) {
+            // resume splitting the tables from the previous checkpoint
+            TableId tableId = chunkSplitterState.getCurrentSplittingTableId();
+            if (tableId != null && dialect.isIncludeDataCollection(sourceConfig, tableId)) {
+                chunkSplitters.add(dialect.createChunkSplitter(sourceConfig, chunkSplitterState));
+                splittingTables.add(tableId);
+                splittingTableStates.put(tableId, chunkSplitterState);
+            }
+        }
+        while (chunkSplitters.size() < sourceConfig.getChunkSplittingParallelism()) {
+            chunkSplitters.add(
+                    dialect.createChunkSplitter(
+                            sourceConfig, ChunkSplitterState.NO_SPLITTING_TABLE_STATE));
+        }
     }
 
     @Override
     public void open() {
-        chunkSplitter.open();
+        chunkSplitters.forEach(ChunkSplitter::open);
         discoveryCaptureTables();
         captureNewlyAddedTables();
         startAsynchronouslySplit();
@@ -336,32 +362,36 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     private void startAsynchronouslySplit() {
-        if (chunkSplitter.hasNextChunk() || !remainingTables.isEmpty()) {
+        if (!splittingTables.isEmpty() || !remainingTables.isEmpty()) {
             if (splittingExecutorService == null) {
                 ThreadFactory threadFactory =
-                        new ThreadFactoryBuilder().setNameFormat("snapshot-splitting").build();
-                this.splittingExecutorService = Executors.newSingleThreadExecutor(threadFactory);
+                        new ThreadFactoryBuilder().setNameFormat("snapshot-splitting-%d").build();
+                this.splittingExecutorService =
+                        Executors.newFixedThreadPool(chunkSplitters.size(), threadFactory);
+            }
+            for (ChunkSplitter chunkSplitter : chunkSplitters) {
+                splittingExecutorService.submit(() -> splitChunksForRemainingTables(chunkSplitter));
             }
-            splittingExecutorService.submit(this::splitChunksForRemainingTables);
         }
     }
 
-    private void splitTable(TableId nextTable) {
+    private void splitTable(ChunkSplitter chunkSplitter, TableId nextTable) {
         LOG.info("Start splitting table {} into chunks...", nextTable);
         long start = System.currentTimeMillis();
         int chunkNum = 0;
         boolean hasRecordSchema = false;
         // split the given table into chunks (snapshot splits)
         do {
-            synchronized (lock) {
-                Collection<SnapshotSplit> splits;
-                try {
-                    splits = chunkSplitter.generateSplits(nextTable);
-                } catch (Exception e) {
-                    throw new IllegalStateException(
-                            "Error when splitting chunks for " + nextTable, e);
-                }
+            // query chunks without holding the lock, so that other tables could be split and
+            // splits could be assigned meanwhile
+            Collection<SnapshotSplit> splits;
+            try {
+                splits = chunkSplitter.generateSplits(nextTable);
+            } catch (Exception e) {
+                throw new IllegalStateException("Error when splitting chunks for " + nextTable, e);
+            }
 
+            synchronized (lock) {
                 if (!hasRecordSchema && !splits.isEmpty()) {
                     hasRecordSchema = true;
                     tableSchemas.putAll(splits.iterator().next().getTableSchemas());
@@ -382,7 +412,12 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 chunkNum += splits.size();
                 enumeratorMetrics.getTableMetrics(nextTable).addNewSplits(splitIds);
 
-                if (!chunkSplitter.hasNextChunk()) {
+                if (chunkSplitter.hasNextChunk()) {
+                    splittingTableStates.put(
+                            nextTable, chunkSplitter.snapshotState(UNDEFINED_CHECKPOINT_ID));
+                } else {
+                    splittingTableStates.remove(nextTable);
+                    splittingTables.remove(nextTable);
                     remainingTables.remove(nextTable);
                 }
                 lock.notify();
@@ -515,19 +550,24 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                     splitFinishedCheckpointIds.size());
         }
 
-        SnapshotPendingSplitsState state =
-                new SnapshotPendingSplitsState(
-                        alreadyProcessedTables,
-                        remainingSplits,
-                        assignedSplits,
-                        tableSchemas,
-                        splitFinishedOffsets,
-                        assignerStatus,
-                        remainingTables,
-                        isTableIdCaseSensitive,
-                        true,
-                        splitFinishedCheckpointIds,
-                        chunkSplitter.snapshotState(checkpointId));
+        SnapshotPendingSplitsState state;
+        synchronized (lock) {
+            // take a consistent view of the remaining splits and tables, as they might be
+            // updated by the splitting threads concurrently
+            state =
+                    new SnapshotPendingSplitsState(
+                            alreadyProcessedTables,
+                            new ArrayList<>(remainingSplits),
+                            assignedSplits,
+                            new HashMap<>(tableSchemas),
+                            splitFinishedOffsets,
+                            assignerStatus,
+                            new ArrayList<>(remainingTables),
+                            isTableIdCaseSensitive,
+                            true,
+                            splitFinishedCheckpointIds,
+                            new ArrayList<>(splittingTableStates.values()));
+        }
         // we need a complete checkpoint before mark this assigner to be finished, to wait for all
         // records of snapshot splits are completely processed
         if (checkpointIdToFinish == null
@@ -576,7 +616,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     @Override
     public void close() throws IOException {
         closeExecutorService();
-        if (chunkSplitter != null) {
+        for (ChunkSplitter chunkSplitter : chunkSplitters) {
             try {
                 chunkSplitter.close();
             } catch (Exception e) {
@@ -654,7 +694,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         return noMoreSplits() && assignedSplits.size() == splitFinishedOffsets.size();
     }
 
-    private void splitChunksForRemainingTables() {
+    private void splitChunksForRemainingTables(ChunkSplitter chunkSplitter) {
         try {
             // restore from a checkpoint and start to split the table from the previous
             // checkpoint
@@ -662,12 +702,13 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 LOG.info(
                         "Start splitting remaining chunks for table {}",
                         chunkSplitter.getCurrentSplittingTableId());
-                splitTable(chunkSplitter.getCurrentSplittingTableId());
+                splitTable(chunkSplitter, chunkSplitter.getCurrentSplittingTableId());
             }
 
             // split the remaining tables
-            for (TableId nextTable : remainingTables) {
-                splitTable(nextTable);
+            TableId nextTable;
+            while ((nextTable = pollNextTableToSplit()) != null) {
+                splitTable(chunkSplitter, nextTable);
             }
         } catch (Throwable e) {
             synchronized (lock) {
@@ -682,24 +723,23 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         }
     }
 
+    /** Picks a remaining table that is not being split by any other chunk splitter. */
+    @Nullable
+    private TableId pollNextTableToSplit() {
+        synchronized (lock) {
+            for (TableId tableId : remainingTables) {
+                if (splittingTables.add(tableId)) {
+                    return tableId;
+                }
+            }
+            return null;
+        }
+    }
+
     private void checkSplitterErrors() {
         if (uncaughtSplitterException != null) {
             throw new FlinkRuntimeException(
                     "Chunk splitting has encountered exception", uncaughtSplitterException);
         }
     }
-
-    private static ChunkSplitter createChunkSplitter(
-            SourceConfig sourceConfig,
-            DataSourceDialect dataSourceDialect,
-            ChunkSplitterState chunkSplitterState) {
-        TableId tableId = chunkSplitterState.getCurrentSplittingTableId();
-        return dataSourceDialect.createChunkSplitter(
-                sourceConfig,
-                !ChunkSplitterState.NO_SPLITTING_TABLE_STATE.equals(chunkSplitterState)
-                                && tableId != null
-                                && dataSourceDialect.isIncludeDataCollection(sourceConfig, tableId)
-                        ? chunkSplitterState
-                        : ChunkSplitterState.NO_SPLITTING_TABLE_STATE);
-    }
 }
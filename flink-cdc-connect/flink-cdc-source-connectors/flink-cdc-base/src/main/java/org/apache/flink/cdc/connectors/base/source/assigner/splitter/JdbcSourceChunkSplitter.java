@@ -24,6 +24,7 @@ import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterS
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.utils.JdbcChunkUtils;
 import org.apache.flink.cdc.connectors.base.utils.ObjectUtils;
+import org.apache.flink.cdc.debezium.utils.ChunkSamplingUtils;
 import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.LogicalTypeRoot;
 import org.apache.flink.table.types.logical.RowType;
@@ -40,6 +41,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -58,6 +60,10 @@ import static org.apache.flink.table.api.DataTypes.ROW;
 @Experimental
 public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceChunkSplitter.class);
+
+    /** The upper bound of sampling percentage, as some databases don't accept 100 percent. */
+    private static final BigDecimal MAX_SAMPLING_PERCENT = new BigDecimal("99.999999");
+
     protected final JdbcSourceConfig sourceConfig;
     protected final JdbcDataSourceDialect dialect;
 
@@ -110,9 +116,12 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
         if (!hasNextChunk()) {
             // split a new table.
             analyzeTable(tableId);
-            Optional<List<SnapshotSplit>> evenlySplitChunks = trySplitAllEvenlySizedChunks(tableId);
-            if (evenlySplitChunks.isPresent()) {
-                return evenlySplitChunks.get();
+            Optional<List<SnapshotSplit>> allSplitChunks = trySplitAllEvenlySizedChunks(tableId);
+            if (!allSplitChunks.isPresent()) {
+                allSplitChunks = trySplitAllChunksBySampling(tableId);
+            }
+            if (allSplitChunks.isPresent()) {
+                return allSplitChunks.get();
             } else {
                 synchronized (lock) {
                     this.currentSplittingTableId = tableId;
@@ -196,6 +205,28 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
     protected abstract Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId)
             throws SQLException;
 
+    /**
+     * Query a random sample of the split column values, which is used to derive the boundaries of
+     * unevenly-sized chunks by a single query. The sampled values must be sorted in ascending order
+     * by the database, and null values must be excluded.
+     *
+     * <p>Each database has different grammar to sample a table, for example, `TABLESAMPLE` in
+     * postgres, sqlserver and db2, `SAMPLE` in oracle. Returns null by default, which means the
+     * chunk boundaries are queried one by one instead.
+     *
+     * @param jdbc JDBC connection.
+     * @param tableId table identity.
+     * @param splitColumn column.
+     * @param samplingPercent percentage of the table to sample.
+     * @return sampled values in ascending order, or null if sampling is not supported.
+     */
+    @Nullable
+    protected List<Object> querySampledSplitKeys(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, BigDecimal samplingPercent)
+            throws SQLException {
+        return null;
+    }
+
     /**
      * Checks whether split column is evenly distributed across its range.
      *
@@ -355,6 +386,45 @@ public abstract class JdbcSourceChunkSplitter implements ChunkSplitter {
         }
     }
 
+    /**
+     * Try to split all chunks by a random sample of split column values, or else return empty.
+     *
+     * <p>Instead of querying the end of every unevenly-sized chunk one by one, about {@code
+     * samplesPerChunk} split column values per chunk are sampled by a single query, and chunk
+     * boundaries are picked from the sorted samples at even intervals.
+     */
+    private Optional<List<SnapshotSplit>> trySplitAllChunksBySampling(TableId tableId)
+            throws SQLException {
+        final int samplesPerChunk = sourceConfig.getSamplesPerChunk();
+        final int chunkSize = sourceConfig.getSplitSize();
+        if (!ChunkSamplingUtils.isSplitBySampling(approximateRowCnt, chunkSize, samplesPerChunk)) {
+            return Optional.empty();
+        }
+        final int chunkCount = ChunkSamplingUtils.chunkCount(approximateRowCnt, chunkSize);
+        final double samplingRate =
+                ChunkSamplingUtils.samplingRate(approximateRowCnt, chunkSize, samplesPerChunk);
+        final BigDecimal samplingPercent =
+                BigDecimal.valueOf(100.0d * samplingRate)
+                        .setScale(6, RoundingMode.CEILING)
+                        .min(MAX_SAMPLING_PERCENT);
+        List<Object> samples =
+                querySampledSplitKeys(jdbcConnection, tableId, splitColumn, samplingPercent);
+        if (samples == null || samples.isEmpty()) {
+            LOG.debug("No samples of table {}, fall back to query chunk boundaries", tableId);
+            return Optional.empty();
+        }
+        LOG.info(
+                "Use sampled chunks for table {}, the approximate row count is {}, the chunk size is {}, the sampling percent is {}, the number of samples is {}",
+                tableId,
+                approximateRowCnt,
+                chunkSize,
+                samplingPercent,
+                samples.size());
+        List<ChunkRange> chunks =
+                ChunkSamplingUtils.splitChunksBySamples(samples, chunkCount, ChunkRange::of);
+        return Optional.of(createSnapshotSplit(tableId, chunks));
+    }
+
     /** Analyze the meta information for given table. */
     private void analyzeTable(TableId tableId) {
         try {
@@ -23,6 +23,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.split.SchemalessSnapshot
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitSerializer;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.utils.SerializerUtils;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
@@ -35,8 +36,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitSerializer.readTableSchemas;
 import static org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitSerializer.writeTableSchemas;
@@ -53,10 +56,16 @@ import static org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplit
  *
  * <p>The modification of 8th version: add ChunkSplitterState to SnapshotPendingSplitsState, which
  * contains the asynchronously splitting chunk info.
+ *
+ * <p>The modification of 9th version: write the ChunkSplitterStates of all tables that are being
+ * split concurrently.
+ *
+ * <p>The modification of 10th version: add the assigned stream split ids and the remaining stream
+ * splits to StreamPendingSplitsState, which are used when there are multiple stream splits.
  */
 public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<PendingSplitsState> {
 
-    private static final int VERSION = 8;
+    private static final int VERSION = 10;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -123,6 +132,8 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             case 6:
             case 7:
             case 8:
+            case 9:
+            case 10:
                 return deserializePendingSplitsState(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -156,7 +167,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
             return deserializeHybridPendingSplitsState(version, splitVersion, in);
         } else if (stateFlag == STREAM_PENDING_SPLITS_STATE_FLAG) {
-            return deserializeStreamPendingSplitsState(in);
+            return deserializeStreamPendingSplitsState(version, splitVersion, in);
         } else {
             throw new IOException(
                     "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
@@ -180,21 +191,23 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
 
         writeSplitFinishedCheckpointIds(state.getSplitFinishedCheckpointIds(), out);
 
-        // The modification of 8th version: add ChunkSplitterState to SnapshotPendingSplitsState,
-        // which contains the asynchronously splitting chunk info.
-        boolean hasTableIsSplitting =
-                state.getChunkSplitterState().getCurrentSplittingTableId() != null;
-        out.writeBoolean(hasTableIsSplitting);
-        if (hasTableIsSplitting) {
-            ChunkSplitterState chunkSplitterState = state.getChunkSplitterState();
-            out.writeUTF(chunkSplitterState.getCurrentSplittingTableId().toDoubleQuotedString());
-            out.writeUTF(
-                    SerializerUtils.rowToSerializedString(
-                            new Object[] {chunkSplitterState.getNextChunkStart().getValue()}));
-            out.writeInt(chunkSplitterState.getNextChunkId());
+        // The modification of 9th version: write the states of all tables that are being split
+        List<ChunkSplitterState> chunkSplitterStates = state.getChunkSplitterStates();
+        out.writeInt(chunkSplitterStates.size());
+        for (ChunkSplitterState chunkSplitterState : chunkSplitterStates) {
+            writeChunkSplitterState(chunkSplitterState, out);
         }
     }
 
+    private void writeChunkSplitterState(
+            ChunkSplitterState chunkSplitterState, DataOutputSerializer out) throws IOException {
+        out.writeUTF(chunkSplitterState.getCurrentSplittingTableId().toDoubleQuotedString());
+        out.writeUTF(
+                SerializerUtils.rowToSerializedString(
+                        new Object[] {chunkSplitterState.getNextChunkStart().getValue()}));
+        out.writeInt(chunkSplitterState.getNextChunkId());
+    }
+
     private void serializeHybridPendingSplitsState(
             HybridPendingSplitsState state, DataOutputSerializer out) throws IOException {
         serializeSnapshotPendingSplitsState(state.getSnapshotPendingSplits(), out);
@@ -204,6 +217,13 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
     private void serializeStreamPendingSplitsState(
             StreamPendingSplitsState state, DataOutputSerializer out) throws IOException {
         out.writeBoolean(state.isStreamSplitAssigned());
+
+        // The modification of 10th version: write the assigned and remaining stream splits
+        out.writeInt(state.getAssignedStreamSplitIds().size());
+        for (String splitId : state.getAssignedStreamSplitIds()) {
+            out.writeUTF(splitId);
+        }
+        writeRemainingSplits(state.getRemainingStreamSplits(), out);
     }
 
     // ------------------------------------------------------------------------------------------
@@ -309,20 +329,18 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             splitFinishedCheckpointIds = readSplitFinishedCheckpointIds(in);
         }
 
-        // The modification of 8th version: add ChunkSplitterState to SnapshotPendingSplitsState,
-        // which contains the asynchronously splitting chunk info.
-        ChunkSplitterState chunkSplitterState = ChunkSplitterState.NO_SPLITTING_TABLE_STATE;
-        if (version >= 8) {
+        List<ChunkSplitterState> chunkSplitterStates = new ArrayList<>();
+        if (version >= 9) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                chunkSplitterStates.add(readChunkSplitterState(in));
+            }
+        } else if (version >= 8) {
+            // The modification of 8th version: add ChunkSplitterState to
+            // SnapshotPendingSplitsState, which contains the asynchronously splitting chunk info.
             boolean hasTableIsSplitting = in.readBoolean();
             if (hasTableIsSplitting) {
-                TableId splittingTableId = TableId.parse(in.readUTF());
-                Object nextChunkStart = SerializerUtils.serializedStringToRow(in.readUTF())[0];
-                Integer nextChunkId = in.readInt();
-                chunkSplitterState =
-                        new ChunkSplitterState(
-                                splittingTableId,
-                                ChunkSplitterState.ChunkBound.middleOf(nextChunkStart),
-                                nextChunkId);
+                chunkSplitterStates.add(readChunkSplitterState(in));
             }
         }
         return new SnapshotPendingSplitsState(
@@ -336,7 +354,18 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
                 isTableIdCaseSensitive,
                 true,
                 splitFinishedCheckpointIds,
-                chunkSplitterState);
+                chunkSplitterStates);
+    }
+
+    private ChunkSplitterState readChunkSplitterState(DataInputDeserializer in)
+            throws IOException {
+        TableId splittingTableId = TableId.parse(in.readUTF());
+        Object nextChunkStart = SerializerUtils.serializedStringToRow(in.readUTF())[0];
+        int nextChunkId = in.readInt();
+        return new ChunkSplitterState(
+                splittingTableId,
+                ChunkSplitterState.ChunkBound.middleOf(nextChunkStart),
+                nextChunkId);
     }
 
     private HybridPendingSplitsState deserializeHybridPendingSplitsState(
@@ -352,6 +381,26 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         return new StreamPendingSplitsState(in.readBoolean());
     }
 
+    private StreamPendingSplitsState deserializeStreamPendingSplitsState(
+            int version, int splitVersion, DataInputDeserializer in) throws IOException {
+        boolean isStreamSplitAssigned = in.readBoolean();
+        if (version < 10) {
+            return new StreamPendingSplitsState(isStreamSplitAssigned);
+        }
+        Set<String> assignedStreamSplitIds = new HashSet<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            assignedStreamSplitIds.add(in.readUTF());
+        }
+        List<StreamSplit> remainingStreamSplits = new ArrayList<>();
+        final int remainingSize = in.readInt();
+        for (int i = 0; i < remainingSize; i++) {
+            remainingStreamSplits.add(readSnapshotSplit(splitVersion, in).asStreamSplit());
+        }
+        return new StreamPendingSplitsState(
+                isStreamSplitAssigned, assignedStreamSplitIds, remainingStreamSplits);
+    }
+
     // ------------------------------------------------------------------------------------------
     // Utilities
     // ------------------------------------------------------------------------------------------
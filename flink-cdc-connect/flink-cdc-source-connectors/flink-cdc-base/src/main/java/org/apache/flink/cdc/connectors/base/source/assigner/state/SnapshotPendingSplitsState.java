@@ -26,6 +26,7 @@ import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceSplit
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -72,10 +73,11 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
     private final Map<String, Long> splitFinishedCheckpointIds;
 
     /**
-     * The data structure to record the state of a {@link
-     * org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter}.
+     * The data structures to record the states of {@link
+     * org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter}s, one for each
+     * table that is being split.
      */
-    private final ChunkSplitterState chunkSplitterState;
+    private final List<ChunkSplitterState> chunkSplitterStates;
 
     public SnapshotPendingSplitsState(
             List<TableId> alreadyProcessedTables,
@@ -89,6 +91,34 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
             boolean isRemainingTablesCheckpointed,
             Map<String, Long> splitFinishedCheckpointIds,
             ChunkSplitterState chunkSplitterState) {
+        this(
+                alreadyProcessedTables,
+                remainingSplits,
+                assignedSplits,
+                tableSchemas,
+                splitFinishedOffsets,
+                assignerStatus,
+                remainingTables,
+                isTableIdCaseSensitive,
+                isRemainingTablesCheckpointed,
+                splitFinishedCheckpointIds,
+                chunkSplitterState.getCurrentSplittingTableId() == null
+                        ? Collections.emptyList()
+                        : Collections.singletonList(chunkSplitterState));
+    }
+
+    public SnapshotPendingSplitsState(
+            List<TableId> alreadyProcessedTables,
+            List<SchemalessSnapshotSplit> remainingSplits,
+            Map<String, SchemalessSnapshotSplit> assignedSplits,
+            Map<TableId, TableChanges.TableChange> tableSchemas,
+            Map<String, Offset> splitFinishedOffsets,
+            AssignerStatus assignerStatus,
+            List<TableId> remainingTables,
+            boolean isTableIdCaseSensitive,
+            boolean isRemainingTablesCheckpointed,
+            Map<String, Long> splitFinishedCheckpointIds,
+            List<ChunkSplitterState> chunkSplitterStates) {
         this.alreadyProcessedTables = alreadyProcessedTables;
         this.remainingSplits = remainingSplits;
         this.assignedSplits = assignedSplits;
@@ -98,7 +128,7 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
         this.tableSchemas = tableSchemas;
-        this.chunkSplitterState = chunkSplitterState;
+        this.chunkSplitterStates = chunkSplitterStates;
         this.splitFinishedCheckpointIds = splitFinishedCheckpointIds;
     }
 
@@ -142,8 +172,8 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
         return isRemainingTablesCheckpointed;
     }
 
-    public ChunkSplitterState getChunkSplitterState() {
-        return chunkSplitterState;
+    public List<ChunkSplitterState> getChunkSplitterStates() {
+        return chunkSplitterStates;
     }
 
     @Override
@@ -164,7 +194,7 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
                 && Objects.equals(assignedSplits, that.assignedSplits)
                 && Objects.equals(splitFinishedOffsets, that.splitFinishedOffsets)
                 && Objects.equals(splitFinishedCheckpointIds, that.splitFinishedCheckpointIds)
-                && Objects.equals(chunkSplitterState, that.chunkSplitterState);
+                && Objects.equals(chunkSplitterStates, that.chunkSplitterStates);
     }
 
     @Override
@@ -179,7 +209,7 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
                 isTableIdCaseSensitive,
                 isRemainingTablesCheckpointed,
                 splitFinishedCheckpointIds,
-                chunkSplitterState);
+                chunkSplitterStates);
     }
 
     @Override
@@ -203,8 +233,8 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
                 + isRemainingTablesCheckpointed
                 + ", splitFinishedCheckpointIds="
                 + splitFinishedCheckpointIds
-                + ", chunkSplitterState="
-                + chunkSplitterState
+                + ", chunkSplitterStates="
+                + chunkSplitterStates
                 + '}';
     }
 }
@@ -17,21 +17,52 @@
 
 package org.apache.flink.cdc.connectors.base.source.assigner.state;
 
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /** A {@link PendingSplitsState} for pending stream splits. */
 public class StreamPendingSplitsState extends PendingSplitsState {
 
     private final boolean isStreamSplitAssigned;
 
+    /**
+     * The ids of the stream splits which have been assigned to the readers, only recorded when the
+     * changes are read by multiple stream splits.
+     */
+    private final Set<String> assignedStreamSplitIds;
+
+    /** The stream splits which have been added back and are waiting to be assigned again. */
+    private final List<StreamSplit> remainingStreamSplits;
+
     public StreamPendingSplitsState(boolean isStreamSplitAssigned) {
+        this(isStreamSplitAssigned, Collections.emptySet(), Collections.emptyList());
+    }
+
+    public StreamPendingSplitsState(
+            boolean isStreamSplitAssigned,
+            Set<String> assignedStreamSplitIds,
+            List<StreamSplit> remainingStreamSplits) {
         this.isStreamSplitAssigned = isStreamSplitAssigned;
+        this.assignedStreamSplitIds = assignedStreamSplitIds;
+        this.remainingStreamSplits = remainingStreamSplits;
     }
 
     public boolean isStreamSplitAssigned() {
         return isStreamSplitAssigned;
     }
 
+    public Set<String> getAssignedStreamSplitIds() {
+        return assignedStreamSplitIds;
+    }
+
+    public List<StreamSplit> getRemainingStreamSplits() {
+        return remainingStreamSplits;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -41,16 +72,25 @@ public class StreamPendingSplitsState extends PendingSplitsState {
             return false;
         }
         StreamPendingSplitsState that = (StreamPendingSplitsState) o;
-        return isStreamSplitAssigned == that.isStreamSplitAssigned;
+        return isStreamSplitAssigned == that.isStreamSplitAssigned
+                && Objects.equals(assignedStreamSplitIds, that.assignedStreamSplitIds)
+                && Objects.equals(remainingStreamSplits, that.remainingStreamSplits);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isStreamSplitAssigned);
+        return Objects.hash(isStreamSplitAssigned, assignedStreamSplitIds, remainingStreamSplits);
     }
 
     @Override
     public String toString() {
-        return "StreamPendingSplitsState{" + "isStreamSplitAssigned=" + isStreamSplitAssigned + '}';
+        return "StreamPendingSplitsState{"
+                + "isStreamSplitAssigned="
+                + isStreamSplitAssigned
+                + ", assignedStreamSplitIds="
+                + assignedStreamSplitIds
+                + ", remainingStreamSplits="
+                + remainingStreamSplits
+                + '}';
     }
 }
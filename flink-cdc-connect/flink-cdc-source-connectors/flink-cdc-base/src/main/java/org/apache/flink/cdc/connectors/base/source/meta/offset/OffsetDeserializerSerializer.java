@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.base.source.meta.offset;
 
 import org.apache.flink.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
+import org.apache.flink.cdc.debezium.utils.SplitBoundarySerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
 import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.util.FlinkRuntimeException;
@@ -31,7 +32,6 @@ import java.io.Serializable;
 import java.util.Map;
 
 import static org.apache.flink.cdc.connectors.base.utils.SerializerUtils.serializedStringToObject;
-import static org.apache.flink.cdc.connectors.base.utils.SerializerUtils.serializedStringToRow;
 
 /** read {@link Offset} from input stream and write {@link Offset} to output stream. */
 public interface OffsetDeserializerSerializer extends Serializable {
@@ -51,6 +51,7 @@ public interface OffsetDeserializerSerializer extends Serializable {
             case 4:
             case 5:
             case 6:
+            case 7:
                 return readOffsetPosition(in);
             default:
                 throw new IOException("Unknown version: " + offsetVersion);
@@ -88,14 +89,11 @@ public interface OffsetDeserializerSerializer extends Serializable {
             final DataInputDeserializer in = new DataInputDeserializer(serialized);
             String tableIdStr = in.readUTF();
             String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
+            Object[] splitStart = SplitBoundarySerializer.readSplitBoundary(null, in);
+            Object[] splitEnd = SplitBoundarySerializer.readSplitBoundary(splitStart, in);
             OffsetFactory offsetFactory = (OffsetFactory) serializedStringToObject(in.readUTF());
             Offset highWatermark = readOffsetPosition(in);
-            boolean useCatalogBeforeSchema = true;
-            if (in.available() > 0) {
-                useCatalogBeforeSchema = in.readBoolean();
-            }
+            boolean useCatalogBeforeSchema = in.readBoolean();
             TableId tableId = TableId.parse(tableIdStr, useCatalogBeforeSchema);
             in.releaseArrays();
 
@@ -21,6 +21,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetDeserializerSerializer;
 import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
 import org.apache.flink.cdc.connectors.base.utils.SerializerUtils;
+import org.apache.flink.cdc.debezium.utils.SplitBoundarySerializer;
 import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.util.FlinkRuntimeException;
 
@@ -141,8 +142,8 @@ public class FinishedSnapshotSplitInfo implements OffsetDeserializerSerializer {
     public void serialize(final DataOutputSerializer out) throws IOException {
         out.writeUTF(this.getTableId().toString());
         out.writeUTF(this.getSplitId());
-        out.writeUTF(SerializerUtils.rowToSerializedString(this.getSplitStart()));
-        out.writeUTF(SerializerUtils.rowToSerializedString(this.getSplitEnd()));
+        SplitBoundarySerializer.writeSplitBoundary(this.getSplitStart(), null, out);
+        SplitBoundarySerializer.writeSplitBoundary(this.getSplitEnd(), this.getSplitStart(), out);
         out.writeUTF(SerializerUtils.rowToSerializedString(this.offsetFactory));
         writeOffsetPosition(this.getHighWatermark(), out);
         boolean useCatalogBeforeSchema =
@@ -22,6 +22,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetDeserialize
 import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
 import org.apache.flink.cdc.connectors.base.utils.SerializerUtils;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import org.apache.flink.cdc.debezium.utils.SplitBoundarySerializer;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
 import org.apache.flink.core.memory.DataOutputSerializer;
@@ -46,11 +47,17 @@ import java.util.Map;
  *
  * <p>The modification of 5th version: add isSuspended(boolean) to StreamSplit, which means whether
  * stream split read is suspended.
+ *
+ * <p>The modification of 7th version: split boundaries are written by {@link
+ * SplitBoundarySerializer} instead of hex strings of Java serialized objects, boundaries of
+ * finished snapshot splits are encoded relatively to the previous one, and the {@link
+ * OffsetFactory} of finished snapshot splits is only written when it differs from the previous
+ * one.
  */
 public abstract class SourceSplitSerializer
         implements SimpleVersionedSerializer<SourceSplitBase>, OffsetDeserializerSerializer {
 
-    private static final int VERSION = 6;
+    private static final int VERSION = 7;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -82,9 +89,8 @@ public abstract class SourceSplitSerializer
 
             final Object[] splitStart = snapshotSplit.getSplitStart();
             final Object[] splitEnd = snapshotSplit.getSplitEnd();
-            // rowToSerializedString deals null case
-            out.writeUTF(SerializerUtils.rowToSerializedString(splitStart));
-            out.writeUTF(SerializerUtils.rowToSerializedString(splitEnd));
+            SplitBoundarySerializer.writeSplitBoundary(splitStart, null, out);
+            SplitBoundarySerializer.writeSplitBoundary(splitEnd, splitStart, out);
             writeOffsetPosition(snapshotSplit.getHighWatermark(), out);
             writeTableSchemas(snapshotSplit.getTableSchemas(), out);
             final byte[] result = out.getCopyOfBuffer();
@@ -128,6 +134,7 @@ public abstract class SourceSplitSerializer
             case 4:
             case 5:
             case 6:
+            case 7:
                 return deserializeSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -146,8 +153,16 @@ public abstract class SourceSplitSerializer
             TableId tableId = TableId.parse(in.readUTF(), useCatalogBeforeSchema);
             String splitId = in.readUTF();
             RowType splitKeyType = (RowType) LogicalTypeParser.parse(in.readUTF());
-            Object[] splitBoundaryStart = SerializerUtils.serializedStringToRow(in.readUTF());
-            Object[] splitBoundaryEnd = SerializerUtils.serializedStringToRow(in.readUTF());
+            Object[] splitBoundaryStart;
+            Object[] splitBoundaryEnd;
+            if (version >= 7) {
+                splitBoundaryStart = SplitBoundarySerializer.readSplitBoundary(null, in);
+                splitBoundaryEnd =
+                        SplitBoundarySerializer.readSplitBoundary(splitBoundaryStart, in);
+            } else {
+                splitBoundaryStart = SerializerUtils.serializedStringToRow(in.readUTF());
+                splitBoundaryEnd = SerializerUtils.serializedStringToRow(in.readUTF());
+            }
             Offset highWatermark = readOffsetPosition(version, in);
             Map<TableId, TableChange> tableSchemas = readTableSchemas(version, in);
 
@@ -235,6 +250,7 @@ public abstract class SourceSplitSerializer
                 case 4:
                 case 5:
                 case 6:
+                case 7:
                     final int len = in.readInt();
                     final byte[] bytes = new byte[len];
                     in.read(bytes);
@@ -255,22 +271,66 @@ public abstract class SourceSplitSerializer
             throws IOException {
         final int size = finishedSplitsInfo.size();
         out.writeInt(size);
+        // Adjacent splits of a table share their boundaries, encode them relatively
+        Object[] previousBoundary = null;
+        OffsetFactory previousOffsetFactory = null;
+        String previousOffsetFactoryStr = null;
         for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
-            splitInfo.serialize(out);
+            out.writeUTF(splitInfo.getTableId().toString());
+            out.writeUTF(splitInfo.getSplitId());
+            SplitBoundarySerializer.writeSplitBoundary(
+                    splitInfo.getSplitStart(), previousBoundary, out);
+            SplitBoundarySerializer.writeSplitBoundary(
+                    splitInfo.getSplitEnd(), splitInfo.getSplitStart(), out);
+            previousBoundary = splitInfo.getSplitEnd();
+
+            // All splits usually share the same offset factory, only write it once
+            OffsetFactory offsetFactory = splitInfo.getOffsetFactory();
+            if (offsetFactory != previousOffsetFactory) {
+                String offsetFactoryStr = SerializerUtils.rowToSerializedString(offsetFactory);
+                if (!offsetFactoryStr.equals(previousOffsetFactoryStr)) {
+                    out.writeBoolean(true);
+                    out.writeUTF(offsetFactoryStr);
+                    previousOffsetFactoryStr = offsetFactoryStr;
+                } else {
+                    out.writeBoolean(false);
+                }
+                previousOffsetFactory = offsetFactory;
+            } else {
+                out.writeBoolean(false);
+            }
+
+            writeOffsetPosition(splitInfo.getHighWatermark(), out);
+            out.writeBoolean(
+                    SerializerUtils.shouldUseCatalogBeforeSchema(splitInfo.getTableId()));
         }
     }
 
     private List<FinishedSnapshotSplitInfo> readFinishedSplitsInfo(
             int version, DataInputDeserializer in) throws IOException {
-        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>();
         final int size = in.readInt();
+        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(size);
+        Object[] previousBoundary = null;
+        OffsetFactory offsetFactory = null;
         for (int i = 0; i < size; i++) {
             String tableIdStr = in.readUTF();
             String splitId = in.readUTF();
-            Object[] splitStart = SerializerUtils.serializedStringToRow(in.readUTF());
-            Object[] splitEnd = SerializerUtils.serializedStringToRow(in.readUTF());
-            OffsetFactory offsetFactory =
-                    (OffsetFactory) SerializerUtils.serializedStringToObject(in.readUTF());
+            Object[] splitStart;
+            Object[] splitEnd;
+            if (version >= 7) {
+                splitStart = SplitBoundarySerializer.readSplitBoundary(previousBoundary, in);
+                splitEnd = SplitBoundarySerializer.readSplitBoundary(splitStart, in);
+                previousBoundary = splitEnd;
+                if (in.readBoolean()) {
+                    offsetFactory =
+                            (OffsetFactory) SerializerUtils.serializedStringToObject(in.readUTF());
+                }
+            } else {
+                splitStart = SerializerUtils.serializedStringToRow(in.readUTF());
+                splitEnd = SerializerUtils.serializedStringToRow(in.readUTF());
+                offsetFactory =
+                        (OffsetFactory) SerializerUtils.serializedStringToObject(in.readUTF());
+            }
             Offset highWatermark = readOffsetPosition(version, in);
             boolean useCatalogBeforeSchema = true;
             if (version >= 4) {
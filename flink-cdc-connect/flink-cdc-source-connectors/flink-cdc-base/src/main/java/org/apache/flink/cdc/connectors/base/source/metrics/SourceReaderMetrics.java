@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.base.source.metrics;
 
 import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceReader;
+import org.apache.flink.cdc.debezium.internal.RecordEmitMetrics;
 import org.apache.flink.metrics.Counter;
 import org.apache.flink.metrics.Gauge;
 import org.apache.flink.metrics.MetricGroup;
@@ -68,6 +69,8 @@ public class SourceReaderMetrics {
     private final Counter deleteCounter;
     private final Counter schemaChangeCounter;
 
+    private final RecordEmitMetrics emitMetrics = new RecordEmitMetrics();
+
     private final Map<TableId, TableMetrics> tableMetricsMap = new HashMap<>();
 
     /**
@@ -94,6 +97,7 @@ public class SourceReaderMetrics {
         updateCounter = metricGroup.counter(NUM_UPDATE_DML_RECORDS);
         deleteCounter = metricGroup.counter(NUM_DELETE_DML_RECORDS);
         schemaChangeCounter = metricGroup.counter(NUM_DDL_RECORDS);
+        emitMetrics.registerMetrics(metricGroup);
     }
 
     public long getFetchDelay() {
@@ -104,6 +108,11 @@ public class SourceReaderMetrics {
         this.fetchDelay = fetchDelay;
     }
 
+    /** Records a batch of records fetched at given {@link System#nanoTime()} has been emitted. */
+    public void recordEmittedBatch(long fetchNanoTime, int numRecords) {
+        emitMetrics.recordEmittedBatch(fetchNanoTime, numRecords);
+    }
+
     public void addNumRecordsInErrors(long delta) {
         this.numRecordsInErrorsCounter.inc(delta);
     }
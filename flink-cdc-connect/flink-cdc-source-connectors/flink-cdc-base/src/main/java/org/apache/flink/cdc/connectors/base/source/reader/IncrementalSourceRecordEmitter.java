@@ -88,6 +88,8 @@ public class IncrementalSourceRecordEmitter<T>
         while (elementIterator.hasNext()) {
             processElement(elementIterator.next(), output, splitState);
         }
+        sourceReaderMetrics.recordEmittedBatch(
+                sourceRecords.getFetchNanoTime(), sourceRecords.getSourceRecordList().size());
     }
 
     protected void processElement(
@@ -191,6 +191,9 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             // (3) switch to snapshot split reading if there are newly added snapshot splits
             dataIt = currentFetcher.pollSplitRecords();
             if (dataIt != null) {
+                // the split id of the records, which is not always the global stream split id,
+                // e.g. the stream splits of sharded sources
+                String streamSplitId = currentSplitId;
                 // try to switch to read snapshot split if there are new added snapshot
                 SnapshotSplit nextSplit = snapshotSplits.poll();
                 if (nextSplit != null) {
@@ -198,7 +201,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                     LOG.info("It's turn to switch next fetch reader to snapshot split reader");
                     submitSnapshotSplit(nextSplit);
                 }
-                return ChangeEventRecords.forRecords(STREAM_SPLIT_ID, dataIt);
+                return ChangeEventRecords.forRecords(streamSplitId, dataIt);
             } else {
                 // null will be returned after receiving suspend stream event
                 // finish current stream split reading
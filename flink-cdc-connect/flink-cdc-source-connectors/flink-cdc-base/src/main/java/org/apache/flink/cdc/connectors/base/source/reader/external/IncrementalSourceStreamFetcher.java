@@ -17,12 +17,15 @@
 
 package org.apache.flink.cdc.connectors.base.source.reader.external;
 
+import org.apache.flink.cdc.connectors.base.config.BaseSourceConfig;
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
 import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.utils.SplitKeyUtils;
+import org.apache.flink.cdc.debezium.internal.AdaptiveChangeEventQueuePoller;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -37,6 +40,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -58,7 +62,7 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
     private final ExecutorService executorService;
     private final Set<TableId> pureStreamPhaseTables;
 
-    private volatile ChangeEventQueue<DataChangeEvent> queue;
+    private volatile AdaptiveChangeEventQueuePoller queuePoller;
     private volatile boolean currentTaskRunning;
     private volatile Throwable readException;
 
@@ -89,7 +93,7 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         this.currentStreamSplit = fetchTask.getSplit().asStreamSplit();
         configureFilter();
         taskContext.configure(currentStreamSplit);
-        this.queue = taskContext.getQueue();
+        this.queuePoller = createQueuePoller(taskContext.getQueue());
         executorService.submit(
                 () -> {
                     try {
@@ -114,10 +118,10 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
     @Override
     public Iterator<SourceRecords> pollSplitRecords() throws InterruptedException {
         checkReadException();
-        final List<SourceRecord> sourceRecords = new ArrayList<>();
         // what happens if currentTaskRunning
         if (currentTaskRunning) {
-            List<DataChangeEvent> batch = queue.poll();
+            List<DataChangeEvent> batch = queuePoller.poll();
+            final List<SourceRecord> sourceRecords = new ArrayList<>(batch.size());
             for (DataChangeEvent event : batch) {
                 if (isEndWatermarkEvent(event.getRecord())) {
                     LOG.info("Read split {} end watermark event", currentStreamSplit);
@@ -133,14 +137,22 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
                     LOG.debug("{} data change event should not emit", event);
                 }
             }
-            List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-            sourceRecordsSet.add(new SourceRecords(sourceRecords));
-            return sourceRecordsSet.iterator();
+            return Collections.singletonList(new SourceRecords(sourceRecords)).iterator();
         } else {
             return null;
         }
     }
 
+    private AdaptiveChangeEventQueuePoller createQueuePoller(
+            ChangeEventQueue<DataChangeEvent> queue) {
+        SourceConfig sourceConfig = taskContext.getSourceConfig();
+        if (sourceConfig instanceof BaseSourceConfig) {
+            return AdaptiveChangeEventQueuePoller.create(
+                    queue, ((BaseSourceConfig) sourceConfig).getDbzProperties());
+        }
+        return new AdaptiveChangeEventQueuePoller(queue, 0);
+    }
+
     private void checkReadException() {
         if (readException != null) {
             throw new FlinkRuntimeException(
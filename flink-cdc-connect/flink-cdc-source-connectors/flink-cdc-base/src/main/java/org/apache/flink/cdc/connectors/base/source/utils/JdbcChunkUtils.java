@@ -26,6 +26,7 @@ import io.debezium.relational.Table;
 import javax.annotation.Nullable;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -100,6 +101,27 @@ public class JdbcChunkUtils {
                 });
     }
 
+    /**
+     * Query a random sample of the column values in the table. e.g. query string <code>
+     * SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) WHERE %s IS NOT NULL ORDER BY %s ASC</code>
+     *
+     * @param jdbc JDBC connection.
+     * @param sampleQuery query string which returns the sampled values in ascending order.
+     * @return sampled values in ascending order.
+     */
+    public static List<Object> querySamples(JdbcConnection jdbc, String sampleQuery)
+            throws SQLException {
+        return jdbc.queryAndMap(
+                sampleQuery,
+                rs -> {
+                    List<Object> samples = new ArrayList<>();
+                    while (rs.next()) {
+                        samples.add(rs.getObject(1));
+                    }
+                    return samples;
+                });
+    }
+
     /**
      * Get the column which is seen as chunk key.
      *
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.connectors.base.source.assigner;
+
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
+import org.apache.flink.cdc.connectors.base.dialect.DataSourceDialect;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.SnapshotPendingSplitsState;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceEnumeratorMetrics;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SnapshotSplitAssigner}. */
+class SnapshotSplitAssignerTest {
+
+    private static final List<TableId> TABLES =
+            Arrays.asList(
+                    TableId.parse("db.schema.table1"),
+                    TableId.parse("db.schema.table2"),
+                    TableId.parse("db.schema.table3"));
+
+    @Test
+    void testSplitTablesConcurrently() throws Exception {
+        // the first chunk of every table is generated only after all tables started splitting,
+        // which never happens if the tables are split one by one
+        TestingDialect dialect = new TestingDialect(1, new CountDownLatch(TABLES.size()), null);
+        SnapshotSplitAssigner<TestingSourceConfig> assigner =
+                openAssigner(new TestingSourceConfig(TABLES.size()), dialect, null);
+
+        List<SourceSplitBase> splits = assignSplits(assigner, TABLES.size());
+        assertThat(splits)
+                .extracting(split -> split.asSnapshotSplit().getTableId())
+                .containsExactlyInAnyOrderElementsOf(TABLES);
+        assertThat(dialect.splittingThreads).hasSize(TABLES.size());
+        assertThat(assigner.getNext()).isEmpty();
+        assertThat(assigner.noMoreSplits()).isTrue();
+        assigner.close();
+    }
+
+    @Test
+    void testSnapshotStateOfConcurrentlySplittingTables() throws Exception {
+        List<TableId> tables = TABLES.subList(0, 2);
+        CountDownLatch resumeSplitting = new CountDownLatch(1);
+        TestingDialect dialect = new TestingDialect(2, null, resumeSplitting);
+        SnapshotSplitAssigner<TestingSourceConfig> assigner =
+                openAssigner(new TestingSourceConfig(tables.size()), dialect, null);
+
+        // the first chunks of both tables are assigned while their second chunks are pending
+        List<SourceSplitBase> splits = assignSplits(assigner, tables.size());
+        assertThat(splits)
+                .extracting(SourceSplitBase::splitId)
+                .containsExactlyInAnyOrder(
+                        SnapshotSplit.generateSplitId(tables.get(0), 0),
+                        SnapshotSplit.generateSplitId(tables.get(1), 0));
+
+        SnapshotPendingSplitsState state = assigner.snapshotState(1L);
+        assertThat(state.getRemainingSplits()).isEmpty();
+        assertThat(state.getRemainingTables()).containsExactlyInAnyOrderElementsOf(tables);
+        assertThat(state.getChunkSplitterStates())
+                .containsExactlyInAnyOrder(
+                        new ChunkSplitterState(
+                                tables.get(0), ChunkSplitterState.ChunkBound.middleOf(1), 1),
+                        new ChunkSplitterState(
+                                tables.get(1), ChunkSplitterState.ChunkBound.middleOf(1), 1));
+        resumeSplitting.countDown();
+        assigner.close();
+
+        // every table resumes splitting from its own chunk splitter state
+        TestingDialect restoredDialect = new TestingDialect(2, null, null);
+        SnapshotSplitAssigner<TestingSourceConfig> restoredAssigner =
+                openAssigner(new TestingSourceConfig(tables.size()), restoredDialect, state);
+        assertThat(assignSplits(restoredAssigner, tables.size()))
+                .extracting(SourceSplitBase::splitId)
+                .containsExactlyInAnyOrder(
+                        SnapshotSplit.generateSplitId(tables.get(0), 1),
+                        SnapshotSplit.generateSplitId(tables.get(1), 1));
+        assertThat(restoredAssigner.getNext()).isEmpty();
+
+        SnapshotPendingSplitsState restoredState = restoredAssigner.snapshotState(2L);
+        assertThat(restoredState.getRemainingTables()).isEmpty();
+        assertThat(restoredState.getChunkSplitterStates()).isEmpty();
+        restoredAssigner.close();
+    }
+
+    private static SnapshotSplitAssigner<TestingSourceConfig> openAssigner(
+            TestingSourceConfig sourceConfig,
+            TestingDialect dialect,
+            @Nullable SnapshotPendingSplitsState checkpoint) {
+        SnapshotSplitAssigner<TestingSourceConfig> assigner =
+                checkpoint == null
+                        ? new SnapshotSplitAssigner<>(
+                                sourceConfig, 1, new ArrayList<>(), true, dialect, null)
+                        : new SnapshotSplitAssigner<>(sourceConfig, 1, checkpoint, dialect, null);
+        assigner.open();
+        assigner.initEnumeratorMetrics(
+                new SourceEnumeratorMetrics(
+                        UnregisteredMetricsGroup.createSplitEnumeratorMetricGroup()));
+        // start splitting once the metrics to record the splits are ready
+        dialect.startSplitting.countDown();
+        return assigner;
+    }
+
+    private static List<SourceSplitBase> assignSplits(
+            SnapshotSplitAssigner<TestingSourceConfig> assigner, int numSplits) {
+        List<SourceSplitBase> splits = new ArrayList<>();
+        for (int i = 0; i < numSplits; i++) {
+            Optional<SourceSplitBase> split = assigner.getNext();
+            assertThat(split).isPresent();
+            splits.add(split.get());
+        }
+        return splits;
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /** A {@link SourceConfig} for testing with a configurable chunk splitting parallelism. */
+    private static class TestingSourceConfig implements SourceConfig {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int chunkSplittingParallelism;
+
+        TestingSourceConfig(int chunkSplittingParallelism) {
+            this.chunkSplittingParallelism = chunkSplittingParallelism;
+        }
+
+        @Override
+        public StartupOptions getStartupOptions() {
+            return StartupOptions.initial();
+        }
+
+        @Override
+        public int getSplitSize() {
+            return 1;
+        }
+
+        @Override
+        public int getSplitMetaGroupSize() {
+            return 1;
+        }
+
+        @Override
+        public boolean isIncludeSchemaChanges() {
+            return false;
+        }
+
+        @Override
+        public boolean isCloseIdleReaders() {
+            return false;
+        }
+
+        @Override
+        public boolean isSkipSnapshotBackfill() {
+            return false;
+        }
+
+        @Override
+        public boolean isScanNewlyAddedTableEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isAssignUnboundedChunkFirst() {
+            return false;
+        }
+
+        @Override
+        public int getChunkSplittingParallelism() {
+            return chunkSplittingParallelism;
+        }
+    }
+
+    /**
+     * A {@link DataSourceDialect} for testing, whose chunk splitters split every table into a fixed
+     * number of chunks and could be blocked at the first or the following chunks of the tables.
+     */
+    private static class TestingDialect implements DataSourceDialect<TestingSourceConfig> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int chunksPerTable;
+        private final CountDownLatch startSplitting = new CountDownLatch(1);
+        @Nullable private final CountDownLatch allTablesSplitting;
+        @Nullable private final CountDownLatch resumeSplitting;
+        private final Set<String> splittingThreads = ConcurrentHashMap.newKeySet();
+
+        TestingDialect(
+                int chunksPerTable,
+                @Nullable CountDownLatch allTablesSplitting,
+                @Nullable CountDownLatch resumeSplitting) {
+            this.chunksPerTable = chunksPerTable;
+            this.allTablesSplitting = allTablesSplitting;
+            this.resumeSplitting = resumeSplitting;
+        }
+
+        private void awaitChunk(int chunkId) throws InterruptedException {
+            startSplitting.await();
+            splittingThreads.add(Thread.currentThread().getName());
+            if (chunkId == 0 && allTablesSplitting != null) {
+                allTablesSplitting.countDown();
+                if (!allTablesSplitting.await(1, TimeUnit.MINUTES)) {
+                    throw new IllegalStateException("The tables are not split concurrently.");
+                }
+            }
+            if (chunkId > 0 && resumeSplitting != null) {
+                resumeSplitting.await();
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "Testing";
+        }
+
+        @Override
+        public List<TableId> discoverDataCollections(TestingSourceConfig sourceConfig) {
+            return new ArrayList<>(TABLES);
+        }
+
+        @Override
+        public Map<TableId, TableChanges.TableChange> discoverDataCollectionSchemas(
+                TestingSourceConfig sourceConfig) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Offset displayCurrentOffset(TestingSourceConfig sourceConfig) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isDataCollectionIdCaseSensitive(TestingSourceConfig sourceConfig) {
+            return true;
+        }
+
+        @Override
+        public ChunkSplitter createChunkSplitter(TestingSourceConfig sourceConfig) {
+            return createChunkSplitter(sourceConfig, ChunkSplitterState.NO_SPLITTING_TABLE_STATE);
+        }
+
+        @Override
+        public ChunkSplitter createChunkSplitter(
+                TestingSourceConfig sourceConfig, ChunkSplitterState chunkSplitterState) {
+            return new TestingChunkSplitter(this, chunkSplitterState);
+        }
+
+        @Override
+        public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FetchTask.Context createFetchTaskContext(TestingSourceConfig sourceConfig) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isIncludeDataCollection(TestingSourceConfig sourceConfig, TableId tableId) {
+            return true;
+        }
+    }
+
+    /** A {@link ChunkSplitter} that generates one chunk of a table per call. */
+    private static class TestingChunkSplitter implements ChunkSplitter {
+
+        private static final RowType SPLIT_KEY_TYPE = RowType.of(new IntType());
+
+        private final TestingDialect dialect;
+        @Nullable private TableId currentSplittingTableId;
+        private int nextChunkId;
+
+        TestingChunkSplitter(TestingDialect dialect, ChunkSplitterState chunkSplitterState) {
+            this.dialect = dialect;
+            this.currentSplittingTableId = chunkSplitterState.getCurrentSplittingTableId();
+            this.nextChunkId =
+                    chunkSplitterState.getNextChunkId() == null
+                            ? 0
+                            : chunkSplitterState.getNextChunkId();
+        }
+
+        @Override
+        public void open() {}
+
+        @Override
+        public Collection<SnapshotSplit> generateSplits(TableId tableId) throws Exception {
+            int chunkId = currentSplittingTableId == null ? 0 : nextChunkId;
+            dialect.awaitChunk(chunkId);
+            boolean isLastChunk = chunkId == dialect.chunksPerTable - 1;
+            SnapshotSplit split =
+                    new SnapshotSplit(
+                            tableId,
+                            chunkId,
+                            SPLIT_KEY_TYPE,
+                            chunkId == 0 ? null : new Object[] {chunkId},
+                            isLastChunk ? null : new Object[] {chunkId + 1},
+                            null,
+                            Collections.emptyMap());
+            currentSplittingTableId = isLastChunk ? null : tableId;
+            nextChunkId = isLastChunk ? 0 : chunkId + 1;
+            return Collections.singletonList(split);
+        }
+
+        @Override
+        public boolean hasNextChunk() {
+            return currentSplittingTableId != null;
+        }
+
+        @Override
+        public ChunkSplitterState snapshotState(long checkpointId) {
+            return currentSplittingTableId == null
+                    ? ChunkSplitterState.NO_SPLITTING_TABLE_STATE
+                    : new ChunkSplitterState(
+                            currentSplittingTableId,
+                            ChunkSplitterState.ChunkBound.middleOf(nextChunkId),
+                            nextChunkId);
+        }
+
+        @Override
+        public TableId getCurrentSplittingTableId() {
+            return currentSplittingTableId;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -35,8 +35,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -107,6 +110,53 @@ class PendingSplitsStateSerializerTest {
                 .isEqualTo(state);
     }
 
+    @Test
+    void testSerializeMultipleSplittingTables() throws Exception {
+        PendingSplitsStateSerializer serializer =
+                new PendingSplitsStateSerializer(constructSourceSplitSerializer());
+        TableId anotherTableId = new TableId("catalog", "schema", "table2");
+        List<ChunkSplitterState> chunkSplitterStates =
+                Arrays.asList(
+                        new ChunkSplitterState(
+                                constructTableId(), ChunkSplitterState.ChunkBound.middleOf(1), 2),
+                        new ChunkSplitterState(
+                                anotherTableId, ChunkSplitterState.ChunkBound.middleOf("b"), 7));
+        SnapshotPendingSplitsState state =
+                new SnapshotPendingSplitsState(
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.emptyMap(),
+                        constructTableSchema(),
+                        Collections.emptyMap(),
+                        AssignerStatus.INITIAL_ASSIGNING,
+                        Arrays.asList(constructTableId(), anotherTableId),
+                        false,
+                        true,
+                        Collections.emptyMap(),
+                        chunkSplitterStates);
+
+        PendingSplitsState restored =
+                serializer.deserialize(serializer.getVersion(), serializer.serialize(state));
+        assertThat(restored).isEqualTo(state);
+        assertThat(((SnapshotPendingSplitsState) restored).getChunkSplitterStates())
+                .isEqualTo(chunkSplitterStates);
+    }
+
+    @Test
+    void testSerializeStreamPendingSplitsState() throws Exception {
+        PendingSplitsStateSerializer serializer =
+                new PendingSplitsStateSerializer(constructSourceSplitSerializer());
+        StreamPendingSplitsState state =
+                new StreamPendingSplitsState(
+                        false,
+                        new HashSet<>(
+                                Arrays.asList("stream-split-shard-0", "stream-split-shard-2")),
+                        Collections.singletonList(constuctStreamSplit()));
+
+        assertThat(serializer.deserialize(serializer.getVersion(), serializer.serialize(state)))
+                .isEqualTo(state);
+    }
+
     private SourceSplitSerializer constructSourceSplitSerializer() {
         return new SourceSplitSerializer() {
             @Override
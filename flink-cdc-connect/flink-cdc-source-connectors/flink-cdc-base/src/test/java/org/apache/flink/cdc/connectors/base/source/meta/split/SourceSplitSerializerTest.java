@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.connectors.base.source.meta.split;
+
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
+import org.apache.flink.cdc.connectors.base.utils.SerializerUtils;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SourceSplitSerializer}. */
+class SourceSplitSerializerTest {
+
+    private static final TableId TABLE_ID = new TableId("catalog", "schema", "table");
+
+    private static final RowType SPLIT_KEY_TYPE =
+            new RowType(
+                    Arrays.asList(
+                            new RowType.RowField("id", new BigIntType()),
+                            new RowType.RowField("name", new VarCharType(255))));
+
+    private final SourceSplitSerializer serializer = new TestingSourceSplitSerializer();
+
+    @Test
+    void testSerializeSnapshotSplit() throws Exception {
+        SnapshotSplit split = createSnapshotSplit();
+
+        SnapshotSplit restored =
+                serializer
+                        .deserialize(serializer.getVersion(), serializer.serialize(split))
+                        .asSnapshotSplit();
+        assertThat(serializer.getVersion()).isEqualTo(7);
+        assertThat(restored).isEqualTo(split);
+        assertThat(restored.getTableSchemas()).isEqualTo(split.getTableSchemas());
+    }
+
+    @Test
+    void testSerializeStreamSplit() throws Exception {
+        StreamSplit split = createStreamSplit(10);
+
+        StreamSplit restored =
+                serializer
+                        .deserialize(serializer.getVersion(), serializer.serialize(split))
+                        .asStreamSplit();
+        assertThat(restored).isEqualTo(split);
+        assertThat(restored.getFinishedSnapshotSplitInfos())
+                .isEqualTo(split.getFinishedSnapshotSplitInfos())
+                .allSatisfy(
+                        splitInfo ->
+                                assertThat(splitInfo.getOffsetFactory())
+                                        .isInstanceOf(TestingOffsetFactory.class));
+    }
+
+    @Test
+    void testDeserializeVersion6SnapshotSplit() throws Exception {
+        SnapshotSplit split = createSnapshotSplit();
+
+        SnapshotSplit restored =
+                serializer.deserialize(6, serializeAsVersion6(split)).asSnapshotSplit();
+        assertThat(restored).isEqualTo(split);
+        assertThat(restored.getTableSchemas()).isEqualTo(split.getTableSchemas());
+
+        // the migrated split is written in the current version
+        assertThat(
+                        serializer.deserialize(
+                                serializer.getVersion(), serializer.serialize(restored)))
+                .isEqualTo(split);
+    }
+
+    @Test
+    void testDeserializeVersion6StreamSplit() throws Exception {
+        StreamSplit split = createStreamSplit(10);
+
+        StreamSplit restored =
+                serializer.deserialize(6, serializeAsVersion6(split)).asStreamSplit();
+        assertThat(restored).isEqualTo(split);
+        assertThat(restored.getFinishedSnapshotSplitInfos())
+                .isEqualTo(split.getFinishedSnapshotSplitInfos());
+
+        // the migrated split is written in the current version
+        assertThat(
+                        serializer.deserialize(
+                                serializer.getVersion(), serializer.serialize(restored)))
+                .isEqualTo(split);
+    }
+
+    @Test
+    void testCompactFinishedSplitsInfo() throws Exception {
+        StreamSplit split = createStreamSplit(10_000);
+
+        // boundaries and offset factories used to be written as hex strings of Java serialized
+        // objects for every finished split
+        assertThat(serializer.serialize(split).length * 4)
+                .isLessThan(serializeAsVersion6(split).length);
+    }
+
+    private static SnapshotSplit createSnapshotSplit() {
+        return new SnapshotSplit(
+                TABLE_ID,
+                TABLE_ID + ":3",
+                SPLIT_KEY_TYPE,
+                new Object[] {8096L, "key-1"},
+                new Object[] {16192L, "key-2"},
+                TestingOffset.of(42L),
+                createTableSchemas());
+    }
+
+    private static StreamSplit createStreamSplit(int chunks) {
+        OffsetFactory offsetFactory = new TestingOffsetFactory();
+        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            finishedSplitsInfo.add(
+                    new FinishedSnapshotSplitInfo(
+                            TABLE_ID,
+                            TABLE_ID + ":" + i,
+                            i == 0 ? null : new Object[] {i * 8096L, "key-" + i},
+                            i == chunks - 1
+                                    ? null
+                                    : new Object[] {(i + 1) * 8096L, "key-" + (i + 1)},
+                            TestingOffset.of(4L + i),
+                            offsetFactory));
+        }
+        return new StreamSplit(
+                StreamSplit.STREAM_SPLIT_ID,
+                TestingOffset.of(4L),
+                offsetFactory.createNoStoppingOffset(),
+                finishedSplitsInfo,
+                createTableSchemas(),
+                finishedSplitsInfo.size(),
+                false,
+                true);
+    }
+
+    private static Map<TableId, TableChange> createTableSchemas() {
+        Table table = new Tables().editOrCreateTable(TABLE_ID).create();
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(TABLE_ID, new TableChange(TableChangeType.CREATE, table));
+        return tableSchemas;
+    }
+
+    /** Serializes a snapshot split in the layout of version 6 of {@link SourceSplitSerializer}. */
+    private byte[] serializeAsVersion6(SnapshotSplit split) throws Exception {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeInt(1);
+        out.writeBoolean(SerializerUtils.shouldUseCatalogBeforeSchema(split.getTableId()));
+        out.writeUTF(split.getTableId().toDoubleQuotedString());
+        out.writeUTF(split.splitId());
+        out.writeUTF(split.getSplitKeyType().asSerializableString());
+        out.writeUTF(SerializerUtils.rowToSerializedString(split.getSplitStart()));
+        out.writeUTF(SerializerUtils.rowToSerializedString(split.getSplitEnd()));
+        serializer.writeOffsetPosition(split.getHighWatermark(), out);
+        SourceSplitSerializer.writeTableSchemas(split.getTableSchemas(), out);
+        return out.getCopyOfBuffer();
+    }
+
+    /** Serializes a stream split in the layout of version 6 of {@link SourceSplitSerializer}. */
+    private byte[] serializeAsVersion6(StreamSplit split) throws Exception {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeInt(2);
+        out.writeUTF(split.splitId());
+        out.writeUTF("");
+        serializer.writeOffsetPosition(split.getStartingOffset(), out);
+        serializer.writeOffsetPosition(split.getEndingOffset(), out);
+        out.writeInt(split.getFinishedSnapshotSplitInfos().size());
+        for (FinishedSnapshotSplitInfo splitInfo : split.getFinishedSnapshotSplitInfos()) {
+            out.writeUTF(splitInfo.getTableId().toString());
+            out.writeUTF(splitInfo.getSplitId());
+            out.writeUTF(SerializerUtils.rowToSerializedString(splitInfo.getSplitStart()));
+            out.writeUTF(SerializerUtils.rowToSerializedString(splitInfo.getSplitEnd()));
+            out.writeUTF(SerializerUtils.rowToSerializedString(splitInfo.getOffsetFactory()));
+            serializer.writeOffsetPosition(splitInfo.getHighWatermark(), out);
+            out.writeBoolean(SerializerUtils.shouldUseCatalogBeforeSchema(splitInfo.getTableId()));
+        }
+        SourceSplitSerializer.writeTableSchemas(split.getTableSchemas(), out);
+        out.writeInt(split.getTotalFinishedSplitSize());
+        out.writeBoolean(split.isSuspended());
+        out.writeBoolean(split.isSnapshotCompleted());
+        return out.getCopyOfBuffer();
+    }
+
+    private static class TestingSourceSplitSerializer extends SourceSplitSerializer {
+
+        @Override
+        public OffsetFactory getOffsetFactory() {
+            return new TestingOffsetFactory();
+        }
+    }
+
+    /** An {@link Offset} of a position in a log. */
+    private static class TestingOffset extends Offset {
+
+        private static final String POSITION_KEY = "position";
+
+        private TestingOffset(Map<String, String> offset) {
+            this.offset = offset;
+        }
+
+        private static TestingOffset of(long position) {
+            return new TestingOffset(
+                    Collections.singletonMap(POSITION_KEY, String.valueOf(position)));
+        }
+
+        @Override
+        public int compareTo(Offset that) {
+            return Long.compare(
+                    longOffsetValue(offset, POSITION_KEY),
+                    longOffsetValue(that.getOffset(), POSITION_KEY));
+        }
+    }
+
+    private static class TestingOffsetFactory extends OffsetFactory {
+
+        @Override
+        public Offset newOffset(Map<String, String> offset) {
+            return new TestingOffset(offset);
+        }
+
+        @Override
+        public Offset newOffset(String filename, Long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset newOffset(Long position) {
+            return TestingOffset.of(position);
+        }
+
+        @Override
+        public Offset createTimestampOffset(long timestampMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset createInitialOffset() {
+            return TestingOffset.of(0L);
+        }
+
+        @Override
+        public Offset createNoStoppingOffset() {
+            return TestingOffset.of(Long.MAX_VALUE);
+        }
+    }
+}
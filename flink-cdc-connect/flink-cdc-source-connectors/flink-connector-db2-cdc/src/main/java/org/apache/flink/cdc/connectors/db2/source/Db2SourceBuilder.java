@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.db2.source;
 
 import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.connectors.base.options.JdbcSourceOptions;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
 import org.apache.flink.cdc.connectors.db2.source.config.Db2SourceConfigFactory;
@@ -241,6 +242,24 @@ public class Db2SourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed, see {@link JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES}.
+     */
+    public Db2SourceBuilder<T> samplesPerChunk(int samplesPerChunk) {
+        this.configFactory.samplesPerChunk(samplesPerChunk);
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently by the enumerator, see {@link
+     * JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM}.
+     */
+    public Db2SourceBuilder<T> chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.configFactory.chunkSplittingParallelism(chunkSplittingParallelism);
+        return this;
+    }
+
     /**
      * Build the {@link Db2IncrementalSource}.
      *
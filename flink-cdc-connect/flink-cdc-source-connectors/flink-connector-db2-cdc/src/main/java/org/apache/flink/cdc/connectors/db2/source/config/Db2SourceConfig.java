@@ -57,7 +57,9 @@ public class Db2SourceConfig extends JdbcSourceConfig {
             int connectionPoolSize,
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int samplesPerChunk,
+            int chunkSplittingParallelism) {
         super(
                 startupOptions,
                 databaseList,
@@ -84,7 +86,9 @@ public class Db2SourceConfig extends JdbcSourceConfig {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 false,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                samplesPerChunk,
+                chunkSplittingParallelism);
     }
 
     @Override
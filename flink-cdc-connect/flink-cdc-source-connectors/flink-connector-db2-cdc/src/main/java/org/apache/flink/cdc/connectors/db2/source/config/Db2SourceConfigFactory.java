@@ -104,6 +104,8 @@ public class Db2SourceConfigFactory extends JdbcSourceConfigFactory {
                 connectionPoolSize,
                 chunkKeyColumn,
                 skipSnapshotBackfill,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                samplesPerChunk,
+                chunkSplittingParallelism);
     }
 }
@@ -30,7 +30,9 @@ import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
 import io.debezium.relational.TableId;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * The splitter to split the table into chunks using primary-key (by default) or a given split key.
@@ -67,4 +69,11 @@ public class Db2ChunkSplitter extends JdbcSourceChunkSplitter {
             throws SQLException {
         return Db2Utils.queryApproximateRowCnt(jdbc, tableId);
     }
+
+    @Override
+    protected List<Object> querySampledSplitKeys(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, BigDecimal samplingPercent)
+            throws SQLException {
+        return Db2Utils.querySampledValues(jdbc, tableId, splitColumn.name(), samplingPercent);
+    }
 }
@@ -132,7 +132,7 @@ public class Db2Dialect implements JdbcDataSourceDialect {
     }
 
     @Override
-    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+    public synchronized TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
         if (db2Schema == null) {
             db2Schema = new Db2Schema();
         }
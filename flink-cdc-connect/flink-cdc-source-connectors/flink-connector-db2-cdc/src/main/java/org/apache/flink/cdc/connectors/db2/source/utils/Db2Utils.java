@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.db2.source.utils;
 
 import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.utils.JdbcChunkUtils;
 import org.apache.flink.cdc.connectors.db2.source.offset.LsnOffset;
 import org.apache.flink.table.api.ValidationException;
 import org.apache.flink.table.types.logical.RowType;
@@ -39,6 +40,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 
 import javax.annotation.Nullable;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -119,6 +121,28 @@ public class Db2Utils {
                 });
     }
 
+    public static List<Object> querySampledValues(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            BigDecimal samplingPercent)
+            throws SQLException {
+        return JdbcChunkUtils.querySamples(
+                jdbc, buildSampledValuesQuery(tableId, splitColumnName, samplingPercent));
+    }
+
+    public static String buildSampledValuesQuery(
+            TableId tableId, String splitColumnName, BigDecimal samplingPercent) {
+        String quotedColumn = quote(splitColumnName);
+        return String.format(
+                "SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) WHERE %s IS NOT NULL ORDER BY %s ASC",
+                quotedColumn,
+                quote(tableId),
+                samplingPercent.toPlainString(),
+                quotedColumn,
+                quotedColumn);
+    }
+
     public static Column getSplitColumn(Table table, @Nullable String chunkKeyColumn) {
         List<Column> primaryKeys = table.primaryKeyColumns();
         if (primaryKeys.isEmpty()) {
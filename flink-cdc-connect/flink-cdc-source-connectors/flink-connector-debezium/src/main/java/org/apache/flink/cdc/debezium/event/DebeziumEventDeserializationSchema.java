@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.debezium.event;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.data.DateData;
 import org.apache.flink.cdc.common.data.DecimalData;
@@ -25,8 +26,10 @@ import org.apache.flink.cdc.common.data.GenericArrayData;
 import org.apache.flink.cdc.common.data.GenericMapData;
 import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
 import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.StringData;
 import org.apache.flink.cdc.common.data.TimeData;
 import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.ChangeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
@@ -35,6 +38,8 @@ import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.types.DataField;
 import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeChecks;
+import org.apache.flink.cdc.common.types.DataTypeRoot;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.DecimalType;
 import org.apache.flink.cdc.common.types.RowType;
@@ -42,6 +47,9 @@ import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.table.DebeziumChangelogMode;
 import org.apache.flink.cdc.debezium.table.DeserializationRuntimeConverter;
 import org.apache.flink.cdc.debezium.utils.TemporalConversions;
+import org.apache.flink.cdc.runtime.serializer.InternalSerializers;
+import org.apache.flink.cdc.runtime.serializer.data.writer.BinaryRecordDataWriter;
+import org.apache.flink.cdc.runtime.serializer.data.writer.BinaryWriter;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.util.Collector;
@@ -54,6 +62,7 @@ import io.debezium.time.MicroTimestamp;
 import io.debezium.time.NanoTime;
 import io.debezium.time.NanoTimestamp;
 import io.debezium.time.Timestamp;
+import io.debezium.time.ZonedTimestamp;
 import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
@@ -62,12 +71,16 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -82,8 +95,11 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     private static final Logger LOG =
             LoggerFactory.getLogger(DebeziumEventDeserializationSchema.class);
 
-    private static final Map<DataType, DeserializationRuntimeConverter> CONVERTERS =
-            new ConcurrentHashMap<>();
+    /** Maximum number of row schemas with compiled converters, least recently used are evicted. */
+    private static final int MAX_CACHED_ROW_SCHEMAS = 4096;
+
+    /** Maximum number of compiled converters of a row schema, one per inferred row type. */
+    private static final int MAX_ROW_CONVERTERS_PER_SCHEMA = 8;
 
     /** The schema data type inference. */
     protected final SchemaDataTypeInference schemaDataTypeInference;
@@ -93,10 +109,27 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
 
     private final Map<io.debezium.relational.TableId, CreateTableEvent> createTableEventCache;
 
+    /** Runtime converters of inferred data types. */
+    private transient Map<DataType, DeserializationRuntimeConverter> converters;
+
+    /** Whether to write values of data records straight into binary records. */
+    private final boolean directBinaryWrite;
+
+    /** Compiled converters of row schemas, keyed by schema identity in access order. */
+    private transient Map<SchemaIdentity, RowConverters> rowConverters;
+
     public DebeziumEventDeserializationSchema(
             SchemaDataTypeInference schemaDataTypeInference, DebeziumChangelogMode changelogMode) {
+        this(schemaDataTypeInference, changelogMode, false);
+    }
+
+    public DebeziumEventDeserializationSchema(
+            SchemaDataTypeInference schemaDataTypeInference,
+            DebeziumChangelogMode changelogMode,
+            boolean directBinaryWrite) {
         this.schemaDataTypeInference = schemaDataTypeInference;
         this.changelogMode = changelogMode;
+        this.directBinaryWrite = directBinaryWrite;
         this.createTableEventCache = new HashMap<>();
     }
 
@@ -153,12 +186,42 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     }
 
     private RecordData extractDataRecord(Struct value, Schema valueSchema) throws Exception {
+        if (value != null && valueSchema.type() == Schema.Type.STRUCT) {
+            RecordData recordData = getOrCreateRowConverters(valueSchema).convert(value);
+            if (recordData != null) {
+                return recordData;
+            }
+        }
+        // The record can't be converted by a compiled converter, fall back to converting
+        // dynamically
         DataType dataType = schemaDataTypeInference.infer(value, valueSchema);
         return (RecordData) getOrCreateConverter(dataType).convert(value, valueSchema);
     }
 
     private DeserializationRuntimeConverter getOrCreateConverter(DataType type) {
-        return CONVERTERS.computeIfAbsent(type, this::createConverter);
+        if (converters == null) {
+            converters = new ConcurrentHashMap<>();
+        }
+        return converters.computeIfAbsent(type, this::createConverter);
+    }
+
+    private RowConverters getOrCreateRowConverters(Schema schema) {
+        if (rowConverters == null) {
+            rowConverters =
+                    new LinkedHashMap<SchemaIdentity, RowConverters>(16, 0.75f, true) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<SchemaIdentity, RowConverters> eldest) {
+                            // Schemas are replaced on every table schema change, evict the stale
+                            // ones without dropping the converters of tables in use
+                            return size() > MAX_CACHED_ROW_SCHEMAS;
+                        }
+                    };
+        }
+        return rowConverters.computeIfAbsent(
+                new SchemaIdentity(schema), key -> new RowConverters(schema));
     }
 
     // -------------------------------------------------------------------------------------
@@ -430,7 +493,7 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         DeserializationRuntimeConverter[] fieldConverters =
                 rowType.getFields().stream()
                         .map(DataField::getType)
-                        .map(this::createConverter)
+                        .map(this::getOrCreateConverter)
                         .toArray(DeserializationRuntimeConverter[]::new);
         String[] fieldNames = rowType.getFieldNames().toArray(new String[0]);
         BinaryRecordDataGenerator generator = new BinaryRecordDataGenerator(rowType);
@@ -565,6 +628,309 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         };
     }
 
+    /** Key of a {@link Schema} by identity, as schemas are expensive to hash and compare. */
+    private static final class SchemaIdentity {
+        private final Schema schema;
+
+        private SchemaIdentity(Schema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SchemaIdentity && ((SchemaIdentity) o).schema == schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
+        }
+    }
+
+    /**
+     * Compiled {@link RowConverter}s of one row {@link Schema}, one for each row type inferred from
+     * the records of the schema, in most recently used order.
+     *
+     * <p>Records whose value dependent fields differ from the compiled row types, e.g. zoned
+     * timestamps of another precision, get a converter compiled for their own row type, so that
+     * they don't fall back to converting dynamically.
+     */
+    private final class RowConverters {
+        private final Schema schema;
+        private final List<RowConverter> converters = new ArrayList<>(1);
+
+        private RowConverters(Schema schema) {
+            this.schema = schema;
+        }
+
+        /** Returns null if the record does not fit the converter compiled from itself. */
+        @Nullable
+        private RecordData convert(Struct struct) throws Exception {
+            for (int i = 0; i < converters.size(); i++) {
+                RowConverter converter = converters.get(i);
+                RecordData recordData = converter.convert(struct);
+                if (recordData != null) {
+                    if (i > 0) {
+                        converters.remove(i);
+                        converters.add(0, converter);
+                    }
+                    return recordData;
+                }
+            }
+            RowConverter converter = new RowConverter(struct, schema);
+            if (converters.size() >= MAX_ROW_CONVERTERS_PER_SCHEMA) {
+                converters.remove(converters.size() - 1);
+            }
+            converters.add(0, converter);
+            return converter.convert(struct);
+        }
+    }
+
+    /**
+     * Converter from {@link Struct}s of one row {@link Schema} to {@link BinaryRecordData}, which
+     * is compiled once and reused for all records of the schema.
+     *
+     * <p>Field data types are inferred from the record it is compiled from. The data types of
+     * fields reported as value dependent by {@link
+     * SchemaDataTypeInference#isValueDependent(Schema)} are inferred again for every record, and
+     * the record is rejected if any of them differs from the compiled one.
+     *
+     * <p>If direct binary write is enabled, field values are written straight into a reused {@link
+     * BinaryRecordDataWriter} by {@link FieldWriter}s, and values of primitive, plain string and
+     * zoned timestamp fields skip the intermediate internal data structures.
+     */
+    private final class RowConverter {
+        private final String[] fieldNames;
+        private final Schema[] fieldSchemas;
+        private final DataType[] fieldTypes;
+        private final boolean[] valueDependent;
+        private final DeserializationRuntimeConverter[] fieldConverters;
+        private final BinaryRecordDataGenerator generator;
+
+        // Only present if direct binary write is enabled
+        private final FieldWriter[] fieldWriters;
+        private final BinaryRecordData reuseRecordData;
+        private final BinaryRecordDataWriter reuseWriter;
+
+        private RowConverter(Struct value, Schema schema) {
+            RowType rowType = (RowType) schemaDataTypeInference.infer(value, schema);
+            int arity = rowType.getFieldCount();
+            this.fieldNames = rowType.getFieldNames().toArray(new String[0]);
+            this.fieldSchemas = new Schema[arity];
+            this.fieldTypes = rowType.getFieldTypes().toArray(new DataType[0]);
+            this.valueDependent = new boolean[arity];
+            this.fieldConverters = new DeserializationRuntimeConverter[arity];
+            for (int i = 0; i < arity; i++) {
+                Field field = schema.field(fieldNames[i]);
+                if (field != null) {
+                    fieldSchemas[i] = field.schema();
+                    valueDependent[i] = schemaDataTypeInference.isValueDependent(field.schema());
+                    fieldConverters[i] = getOrCreateConverter(fieldTypes[i]);
+                }
+            }
+            this.generator = new BinaryRecordDataGenerator(rowType);
+
+            if (directBinaryWrite) {
+                this.fieldWriters = new FieldWriter[arity];
+                for (int i = 0; i < arity; i++) {
+                    if (fieldSchemas[i] == null) {
+                        continue;
+                    }
+                    FieldWriter fieldWriter =
+                            createDirectFieldWriter(fieldTypes[i], fieldSchemas[i]);
+                    if (fieldWriter != null) {
+                        // Direct field writers check the value by themselves
+                        valueDependent[i] = false;
+                    } else {
+                        fieldWriter = createGenericFieldWriter(fieldTypes[i], fieldConverters[i]);
+                    }
+                    fieldWriters[i] = fieldWriter;
+                }
+                this.reuseRecordData = new BinaryRecordData(arity);
+                this.reuseWriter = new BinaryRecordDataWriter(reuseRecordData);
+            } else {
+                this.fieldWriters = null;
+                this.reuseRecordData = null;
+                this.reuseWriter = null;
+            }
+        }
+
+        /** Returns null if the record does not fit the compiled data types. */
+        @Nullable
+        private RecordData convert(Struct struct) throws Exception {
+            if (fieldWriters != null) {
+                return write(struct);
+            }
+            int arity = fieldNames.length;
+            Object[] fields = new Object[arity];
+            for (int i = 0; i < arity; i++) {
+                if (fieldSchemas[i] == null) {
+                    continue;
+                }
+                if (valueDependent[i]
+                        && !fieldTypes[i].equals(
+                                schemaDataTypeInference.infer(
+                                        struct.get(fieldNames[i]), fieldSchemas[i]))) {
+                    return null;
+                }
+                Object fieldValue = struct.getWithoutDefault(fieldNames[i]);
+                fields[i] = convertField(fieldConverters[i], fieldValue, fieldSchemas[i]);
+            }
+            return generator.generate(fields);
+        }
+
+        @Nullable
+        private RecordData write(Struct struct) throws Exception {
+            reuseWriter.reset();
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (fieldSchemas[i] == null) {
+                    reuseWriter.setNullAt(i);
+                    continue;
+                }
+                if (valueDependent[i]
+                        && !fieldTypes[i].equals(
+                                schemaDataTypeInference.infer(
+                                        struct.get(fieldNames[i]), fieldSchemas[i]))) {
+                    return null;
+                }
+                Object fieldValue = struct.getWithoutDefault(fieldNames[i]);
+                if (fieldValue == null) {
+                    reuseWriter.setNullAt(i);
+                } else if (!fieldWriters[i].write(reuseWriter, i, fieldValue, fieldSchemas[i])) {
+                    return null;
+                }
+            }
+            reuseWriter.complete();
+            return reuseRecordData.copy();
+        }
+    }
+
+    /** Writer of a not null field value into a binary record. */
+    @FunctionalInterface
+    private interface FieldWriter {
+
+        /** Returns false if the value does not fit the compiled data type of the field. */
+        boolean write(BinaryRecordDataWriter writer, int pos, Object dbzObj, Schema schema)
+                throws Exception;
+    }
+
+    /**
+     * Creates a {@link FieldWriter} which writes values of given schema without building internal
+     * data structures, returns null if there's no such writer for the schema.
+     *
+     * <p>Values are still converted by the {@code convertTo*} methods of this instance, so that
+     * conversions overridden by subclasses are respected, only the generic runtime converter and
+     * {@link BinaryWriter#write} dispatching are skipped.
+     */
+    @Nullable
+    private FieldWriter createDirectFieldWriter(DataType type, Schema schema) {
+        if (schema.name() != null) {
+            if (type.is(DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE)
+                    && ZonedTimestamp.SCHEMA_NAME.equals(schema.name())) {
+                int precision = DataTypeChecks.getPrecision(type);
+                return (writer, pos, dbzObj, fieldSchema) -> {
+                    // Convert the timestamp only once for both the precision and the value
+                    LocalZonedTimestampData timestamp =
+                            (LocalZonedTimestampData)
+                                    convertToLocalTimeZoneTimestamp(dbzObj, fieldSchema);
+                    if (DebeziumSchemaDataTypeInference.inferZonedTimestampPrecision(
+                                    timestamp.toInstant().getNano())
+                            != precision) {
+                        return false;
+                    }
+                    writer.writeLocalZonedTimestamp(pos, timestamp, precision);
+                    return true;
+                };
+            }
+            // Values of logical types need conversions
+            return null;
+        }
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                if (schema.type() == Schema.Type.BOOLEAN) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeBoolean(pos, (Boolean) convertToBoolean(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case TINYINT:
+                if (schema.type() == Schema.Type.INT8) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeByte(pos, (Byte) convertToByte(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case SMALLINT:
+                if (schema.type() == Schema.Type.INT16) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeShort(pos, (Short) convertToShort(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case INTEGER:
+                if (schema.type() == Schema.Type.INT32) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeInt(pos, (Integer) convertToInt(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case BIGINT:
+                if (schema.type() == Schema.Type.INT64) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeLong(pos, (Long) convertToLong(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case FLOAT:
+                if (schema.type() == Schema.Type.FLOAT32) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeFloat(pos, (Float) convertToFloat(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case DOUBLE:
+                if (schema.type() == Schema.Type.FLOAT64) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeDouble(pos, (Double) convertToDouble(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            case CHAR:
+            case VARCHAR:
+                if (schema.type() == Schema.Type.STRING) {
+                    return (writer, pos, dbzObj, fieldSchema) -> {
+                        writer.writeString(pos, (StringData) convertToString(dbzObj, fieldSchema));
+                        return true;
+                    };
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /** Creates a {@link FieldWriter} which converts values into internal data structures first. */
+    private static FieldWriter createGenericFieldWriter(
+            DataType type, DeserializationRuntimeConverter converter) {
+        TypeSerializer<?> serializer = InternalSerializers.create(type);
+        return (writer, pos, dbzObj, fieldSchema) -> {
+            Object convertedField = converter.convert(dbzObj, fieldSchema);
+            if (convertedField == null) {
+                writer.setNullAt(pos);
+            } else {
+                BinaryWriter.write(writer, pos, convertedField, type, serializer);
+            }
+            return true;
+        };
+    }
+
     public Map<io.debezium.relational.TableId, CreateTableEvent> getCreateTableEventCache() {
         return createTableEventCache;
     }
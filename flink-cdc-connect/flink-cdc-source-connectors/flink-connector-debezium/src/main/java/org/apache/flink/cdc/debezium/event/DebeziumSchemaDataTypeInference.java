@@ -59,6 +59,20 @@ public class DebeziumSchemaDataTypeInference implements SchemaDataTypeInference,
                 : infer(value, schema, schema.type()).notNull();
     }
 
+    @Override
+    public boolean isValueDependent(Schema schema) {
+        switch (schema.type()) {
+            case STRING:
+                // Precision of zoned timestamps is inferred from the value
+                return ZonedTimestamp.SCHEMA_NAME.equals(schema.name());
+            case STRUCT:
+                // Variable scale decimals and nested rows are inferred from the value
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected DataType infer(Object value, Schema schema, Schema.Type type) {
         switch (type) {
             case INT8:
@@ -152,24 +166,26 @@ public class DebeziumSchemaDataTypeInference implements SchemaDataTypeInference,
                             .map(s -> ZonedTimestamp.FORMATTER.parse(s, Instant::from))
                             .map(Instant::getNano)
                             .orElse(0);
-
-            int precision;
-            if (nano == 0) {
-                precision = 0;
-            } else if (nano % 1000 > 0) {
-                precision = 9;
-            } else if (nano % 1000_000 > 0) {
-                precision = 6;
-            } else if (nano % 1000_000_000 > 0) {
-                precision = 3;
-            } else {
-                precision = 0;
-            }
-            return DataTypes.TIMESTAMP_LTZ(precision);
+            return DataTypes.TIMESTAMP_LTZ(inferZonedTimestampPrecision(nano));
         }
         return DataTypes.STRING();
     }
 
+    /** Infers the precision of a zoned timestamp from its nano-of-second. */
+    public static int inferZonedTimestampPrecision(int nano) {
+        if (nano == 0) {
+            return 0;
+        } else if (nano % 1000 > 0) {
+            return 9;
+        } else if (nano % 1000_000 > 0) {
+            return 6;
+        } else if (nano % 1000_000_000 > 0) {
+            return 3;
+        } else {
+            return 0;
+        }
+    }
+
     protected DataType inferBytes(Object value, Schema schema) {
         if (Decimal.LOGICAL_NAME.equals(schema.name())) {
             int scale =
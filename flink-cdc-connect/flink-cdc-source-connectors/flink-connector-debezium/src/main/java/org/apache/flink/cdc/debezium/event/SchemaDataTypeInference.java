@@ -34,4 +34,15 @@ public interface SchemaDataTypeInference {
      * @return the inferred data type
      */
     DataType infer(Object value, Schema schema);
+
+    /**
+     * Whether the {@link DataType} inferred from {@link Schema} might vary with the value, e.g. the
+     * precision of a variable scale decimal. Values of such schemas will be inferred every time.
+     *
+     * @param schema the kafka connect schema
+     * @return false if the inferred data type only depends on SCHEMA
+     */
+    default boolean isValueDependent(Schema schema) {
+        return true;
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * A poller which drains a {@link ChangeEventQueue} with an adaptive batch size.
+ *
+ * <p>Every {@link #poll()} first waits on the queue for one regular batch, which is bounded by
+ * Debezium {@code max.batch.size}. If the queue still holds pending events afterwards, the reader
+ * is falling behind, so more batches are drained until the current target size is reached and the
+ * target grows for the next poll. Once the queue has been drained, the target shrinks back towards
+ * a single batch, and events of an idle stream are handed over as soon as they arrive.
+ *
+ * <p>Adaptive batching is enabled by setting {@link #ADAPTIVE_MAX_BATCH_SIZE} to a positive value
+ * in Debezium properties, otherwise the queue is polled as-is.
+ */
+@Internal
+public class AdaptiveChangeEventQueuePoller {
+
+    /** The upper bound of events handed over by one poll, adaptive batching is off if not set. */
+    public static final String ADAPTIVE_MAX_BATCH_SIZE = "adaptive.max.batch.size";
+
+    private final ChangeEventQueue<DataChangeEvent> queue;
+    private final int maxBatchSize;
+
+    private int targetBatchSize;
+
+    public AdaptiveChangeEventQueuePoller(
+            ChangeEventQueue<DataChangeEvent> queue, int maxBatchSize) {
+        this.queue = queue;
+        this.maxBatchSize = maxBatchSize;
+        this.targetBatchSize = 0;
+    }
+
+    public static AdaptiveChangeEventQueuePoller create(
+            ChangeEventQueue<DataChangeEvent> queue, Properties dbzProperties) {
+        String maxBatchSize = dbzProperties.getProperty(ADAPTIVE_MAX_BATCH_SIZE);
+        return new AdaptiveChangeEventQueuePoller(
+                queue, maxBatchSize == null ? 0 : Integer.parseInt(maxBatchSize.trim()));
+    }
+
+    /** Polls a batch of events, blocks until at least one is available or poll interval expired. */
+    public List<DataChangeEvent> poll() throws InterruptedException {
+        List<DataChangeEvent> batch = queue.poll();
+        if (maxBatchSize <= 0) {
+            return batch;
+        }
+        if (!hasPendingEvents()) {
+            targetBatchSize /= 2;
+            return batch;
+        }
+
+        List<DataChangeEvent> events = batch;
+        if (targetBatchSize > batch.size()) {
+            events = new ArrayList<>(targetBatchSize + batch.size());
+            events.addAll(batch);
+            // Queue is only drained by this thread, so pending events could be polled at once
+            while (events.size() < targetBatchSize && hasPendingEvents()) {
+                events.addAll(queue.poll());
+            }
+        }
+
+        if (hasPendingEvents()) {
+            targetBatchSize = Math.min(maxBatchSize, Math.max(targetBatchSize, batch.size()) * 2);
+        } else {
+            targetBatchSize /= 2;
+        }
+        return events;
+    }
+
+    public int getTargetBatchSize() {
+        return targetBatchSize;
+    }
+
+    private boolean hasPendingEvents() {
+        return queue.remainingCapacity() < queue.totalCapacity();
+    }
+}
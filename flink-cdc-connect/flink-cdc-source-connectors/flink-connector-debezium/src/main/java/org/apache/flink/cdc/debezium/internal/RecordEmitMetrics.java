@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Histogram;
+import org.apache.flink.metrics.Meter;
+import org.apache.flink.metrics.MeterView;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.SimpleCounter;
+import org.apache.flink.runtime.metrics.DescriptiveStatisticsHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of records handed over from the Debezium queue and emitted downstream, which are shared
+ * by the record emitters of incremental snapshot sources.
+ */
+@Internal
+public class RecordEmitMetrics {
+
+    // Metric names
+    public static final String EMIT_LATENCY = "emitLatency";
+    public static final String NUM_RECORDS_EMITTED = "numRecordsEmitted";
+    public static final String NUM_RECORDS_EMITTED_PER_SECOND = "numRecordsEmittedPerSecond";
+
+    private static final int EMIT_LATENCY_WINDOW_SIZE = 1024;
+
+    /** Milliseconds between records fetched from Debezium queue and emitted downstream. */
+    private final Histogram emitLatency;
+
+    private final Counter numRecordsEmitted;
+    private final Meter numRecordsEmittedPerSecond;
+
+    public RecordEmitMetrics() {
+        this.emitLatency = new DescriptiveStatisticsHistogram(EMIT_LATENCY_WINDOW_SIZE);
+        this.numRecordsEmitted = new SimpleCounter();
+        this.numRecordsEmittedPerSecond = new MeterView(numRecordsEmitted);
+    }
+
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.histogram(EMIT_LATENCY, emitLatency);
+        metricGroup.counter(NUM_RECORDS_EMITTED, numRecordsEmitted);
+        metricGroup.meter(NUM_RECORDS_EMITTED_PER_SECOND, numRecordsEmittedPerSecond);
+    }
+
+    /** Records a batch of records fetched at given {@link System#nanoTime()} has been emitted. */
+    public void recordEmittedBatch(long fetchNanoTime, int numRecords) {
+        emitLatency.update(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fetchNanoTime));
+        numRecordsEmitted.inc(numRecords);
+    }
+
+    public Histogram getEmitLatency() {
+        return emitLatency;
+    }
+
+    public Counter getNumRecordsEmitted() {
+        return numRecordsEmitted;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.utils;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Utilities to split a table into chunks by a random sample of split column values, which are
+ * shared by the chunk splitters of all JDBC sources.
+ *
+ * <p>Instead of querying the end of every unevenly-sized chunk one by one, about {@code
+ * samplesPerChunk} split column values per chunk are sampled by a single query, and chunk
+ * boundaries are picked from the sorted samples at even intervals.
+ */
+@Internal
+public class ChunkSamplingUtils {
+
+    private ChunkSamplingUtils() {}
+
+    /** Whether a table of the given approximate row count should be split by sampling. */
+    public static boolean isSplitBySampling(
+            long approximateRowCnt, int chunkSize, int samplesPerChunk) {
+        return samplesPerChunk > 0 && approximateRowCnt > chunkSize;
+    }
+
+    /** The number of chunks of a table of the given approximate row count. */
+    public static int chunkCount(long approximateRowCnt, int chunkSize) {
+        return (int) Math.min((approximateRowCnt + chunkSize - 1) / chunkSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The probability to sample each row, so that about {@code samplesPerChunk} values are sampled
+     * per chunk, which is capped at 1.
+     */
+    public static double samplingRate(long approximateRowCnt, int chunkSize, int samplesPerChunk) {
+        long chunkCount = chunkCount(approximateRowCnt, chunkSize);
+        return Math.min(1.0d, (double) samplesPerChunk * chunkCount / approximateRowCnt);
+    }
+
+    /**
+     * Split table into chunks whose boundaries are picked from the sorted samples of split column
+     * at even intervals, duplicated boundaries of frequent values are merged.
+     *
+     * @param samples sampled split column values in ascending order, must not be empty.
+     * @param chunkCount expected number of chunks.
+     * @param chunkFactory creates a chunk from its start and end, null means unbounded.
+     */
+    public static <T> List<T> splitChunksBySamples(
+            List<?> samples, int chunkCount, BiFunction<Object, Object, T> chunkFactory) {
+        final List<T> splits = new ArrayList<>();
+        Object chunkStart = null;
+        for (int i = 1; i < chunkCount; i++) {
+            Object chunkEnd = samples.get((int) ((long) i * samples.size() / chunkCount));
+            if (Objects.equals(chunkStart, chunkEnd)) {
+                continue;
+            }
+            splits.add(chunkFactory.apply(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        // add the ending split
+        splits.add(chunkFactory.apply(chunkStart, null));
+        return splits;
+    }
+}
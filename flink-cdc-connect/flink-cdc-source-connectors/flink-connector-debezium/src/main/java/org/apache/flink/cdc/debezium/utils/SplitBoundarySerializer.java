@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.utils;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A compact typed binary format for split boundaries, i.e. the {@code Object[]} of chunk key values
+ * at the start or end of a snapshot split.
+ *
+ * <p>Every field is written as a one byte tag followed by its value. Integral numbers are written
+ * as zig-zag variable length integers, strings as raw UTF-8 bytes and other common types in their
+ * natural binary form. Values of any other type fall back to Java serialization of the single
+ * value.
+ *
+ * <p>As adjacent splits share their boundaries, a boundary could be encoded relative to a previous
+ * one. Integral fields are then written as the delta to the previous value of the same field, and
+ * string fields only carry the suffix after the prefix shared with the previous value. The reader
+ * must pass the same previous boundary to decode it.
+ */
+@Internal
+public final class SplitBoundarySerializer {
+
+    private static final byte NULL = 0;
+    private static final byte LONG = 1;
+    private static final byte LONG_DELTA = 2;
+    private static final byte INT = 3;
+    private static final byte INT_DELTA = 4;
+    private static final byte SHORT = 5;
+    private static final byte BYTE = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte STRING = 9;
+    private static final byte BYTES = 10;
+    private static final byte TRUE = 11;
+    private static final byte FALSE = 12;
+    private static final byte DOUBLE = 13;
+    private static final byte FLOAT = 14;
+    private static final byte SERIALIZED = 15;
+
+    private SplitBoundarySerializer() {}
+
+    /**
+     * Writes a split boundary, which might be null.
+     *
+     * @param boundary the split boundary to write
+     * @param previous the previously written boundary to encode relatively to, or null
+     */
+    public static void writeSplitBoundary(
+            @Nullable Object[] boundary, @Nullable Object[] previous, DataOutputView out)
+            throws IOException {
+        if (boundary == null) {
+            writeVarInt(0, out);
+            return;
+        }
+        writeVarInt(boundary.length + 1, out);
+        for (int i = 0; i < boundary.length; i++) {
+            Object previousField =
+                    previous != null && previous.length == boundary.length ? previous[i] : null;
+            writeField(boundary[i], previousField, out);
+        }
+    }
+
+    /**
+     * Reads a split boundary written by {@link #writeSplitBoundary}.
+     *
+     * @param previous the same previous boundary as the one passed when writing it
+     */
+    @Nullable
+    public static Object[] readSplitBoundary(@Nullable Object[] previous, DataInputView in)
+            throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        Object[] boundary = new Object[length];
+        for (int i = 0; i < length; i++) {
+            Object previousField =
+                    previous != null && previous.length == length ? previous[i] : null;
+            boundary[i] = readField(previousField, in);
+        }
+        return boundary;
+    }
+
+    private static void writeField(Object field, @Nullable Object previous, DataOutputView out)
+            throws IOException {
+        if (field == null) {
+            out.writeByte(NULL);
+        } else if (field instanceof Long) {
+            long value = (Long) field;
+            if (previous instanceof Long) {
+                out.writeByte(LONG_DELTA);
+                writeVarLong(zigZag(value - (Long) previous), out);
+            } else {
+                out.writeByte(LONG);
+                writeVarLong(zigZag(value), out);
+            }
+        } else if (field instanceof Integer) {
+            int value = (Integer) field;
+            if (previous instanceof Integer) {
+                out.writeByte(INT_DELTA);
+                writeVarLong(zigZag((long) value - (Integer) previous), out);
+            } else {
+                out.writeByte(INT);
+                writeVarLong(zigZag(value), out);
+            }
+        } else if (field instanceof Short) {
+            out.writeByte(SHORT);
+            writeVarLong(zigZag((Short) field), out);
+        } else if (field instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) field);
+        } else if (field instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) field).toByteArray(), out);
+        } else if (field instanceof BigDecimal) {
+            BigDecimal value = (BigDecimal) field;
+            out.writeByte(BIG_DECIMAL);
+            writeVarLong(zigZag(value.scale()), out);
+            writeBytes(value.unscaledValue().toByteArray(), out);
+        } else if (field instanceof String) {
+            String value = (String) field;
+            int prefixLength =
+                    previous instanceof String ? sharedPrefixLength(value, (String) previous) : 0;
+            out.writeByte(STRING);
+            writeVarInt(prefixLength, out);
+            writeBytes(value.substring(prefixLength).getBytes(StandardCharsets.UTF_8), out);
+        } else if (field instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes((byte[]) field, out);
+        } else if (field instanceof Boolean) {
+            out.writeByte((Boolean) field ? TRUE : FALSE);
+        } else if (field instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) field);
+        } else if (field instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) field);
+        } else {
+            out.writeByte(SERIALIZED);
+            writeBytes(serializeObject(field), out);
+        }
+    }
+
+    private static Object readField(@Nullable Object previous, DataInputView in)
+            throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case LONG:
+                return unZigZag(readVarLong(in));
+            case LONG_DELTA:
+                return (Long) previous + unZigZag(readVarLong(in));
+            case INT:
+                return (int) unZigZag(readVarLong(in));
+            case INT_DELTA:
+                return (int) ((Integer) previous + unZigZag(readVarLong(in)));
+            case SHORT:
+                return (short) unZigZag(readVarLong(in));
+            case BYTE:
+                return in.readByte();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BIG_DECIMAL:
+                int scale = (int) unZigZag(readVarLong(in));
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case STRING:
+                int prefixLength = readVarInt(in);
+                String suffix = new String(readBytes(in), StandardCharsets.UTF_8);
+                return prefixLength == 0
+                        ? suffix
+                        : ((String) previous).substring(0, prefixLength) + suffix;
+            case BYTES:
+                return readBytes(in);
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SERIALIZED:
+                return deserializeObject(readBytes(in));
+            default:
+                throw new IOException("Unknown split boundary field tag: " + tag);
+        }
+    }
+
+    private static int sharedPrefixLength(String value, String previous) {
+        int maxLength = Math.min(value.length(), previous.length());
+        int length = 0;
+        while (length < maxLength && value.charAt(length) == previous.charAt(length)) {
+            length++;
+        }
+        if (length > 0 && Character.isHighSurrogate(value.charAt(length - 1))) {
+            // Never split a surrogate pair, so that the suffix is valid UTF-16
+            length--;
+        }
+        return length;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(int value, DataOutputView out) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL, out);
+    }
+
+    private static int readVarInt(DataInputView in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(long value, DataOutputView out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputView in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView out) throws IOException {
+        writeVarInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static byte[] serializeObject(Object object) throws IOException {
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(object);
+            oos.flush();
+            return bos.toByteArray();
+        }
+    }
+
+    private static Object deserializeObject(byte[] bytes) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to deserialize split boundary field.", e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.debezium.event;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.debezium.table.DebeziumChangelogMode;
+
+import io.debezium.data.Envelope;
+import io.debezium.time.ZonedTimestamp;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link DebeziumEventDeserializationSchema}. */
+class DebeziumEventDeserializationSchemaTest {
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().name("source").field("db", Schema.STRING_SCHEMA).build();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("db.table.Value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("ts", ZonedTimestamp.builder().optional().build())
+                    .build();
+
+    @ParameterizedTest(name = "directBinaryWrite: {0}")
+    @ValueSource(booleans = {false, true})
+    void testConvertRecordsWithDifferentInferredTypes(boolean directBinaryWrite)
+            throws Exception {
+        TestingDeserializer deserializer = new TestingDeserializer(directBinaryWrite);
+        Envelope envelope = envelope(ROW_SCHEMA);
+        // Precision of zoned timestamps is inferred from the value, records of different
+        // precisions alternate to switch between the compiled converters of the schema
+        String[] timestamps = {
+            "2024-01-01T00:00:01Z",
+            "2024-01-01T00:00:02.123456Z",
+            "2024-01-01T00:00:03Z",
+            "2024-01-01T00:00:04.123Z",
+            "2024-01-01T00:00:05.123456Z"
+        };
+        int[] precisions = {0, 6, 0, 3, 6};
+        for (int i = 0; i < timestamps.length; i++) {
+            Struct row =
+                    new Struct(ROW_SCHEMA)
+                            .put("id", (long) i)
+                            .put("name", "name-" + i)
+                            .put("ts", timestamps[i]);
+            RecordData after = deserializeInsert(deserializer, envelope, row);
+
+            assertThat(after.getLong(0)).isEqualTo(i);
+            assertThat(after.getString(1).toString()).isEqualTo("name-" + i);
+            assertThat(after.getLocalZonedTimestampData(2, precisions[i]).toInstant())
+                    .isEqualTo(Instant.parse(timestamps[i]));
+        }
+    }
+
+    @ParameterizedTest(name = "directBinaryWrite: {0}")
+    @ValueSource(booleans = {false, true})
+    void testConvertRecordsOfDifferentSchemas(boolean directBinaryWrite) throws Exception {
+        TestingDeserializer deserializer = new TestingDeserializer(directBinaryWrite);
+        // Schema of the table after a column is added
+        Schema newRowSchema =
+                SchemaBuilder.struct()
+                        .name("db.table.Value")
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("ts", ZonedTimestamp.builder().optional().build())
+                        .field("score", Schema.OPTIONAL_INT32_SCHEMA)
+                        .build();
+        Envelope envelope = envelope(ROW_SCHEMA);
+        Envelope newEnvelope = envelope(newRowSchema);
+
+        for (int i = 0; i < 4; i++) {
+            if (i % 2 == 0) {
+                Struct row = new Struct(ROW_SCHEMA).put("id", (long) i);
+                RecordData after = deserializeInsert(deserializer, envelope, row);
+                assertThat(after.getArity()).isEqualTo(3);
+                assertThat(after.getLong(0)).isEqualTo(i);
+                assertThat(after.isNullAt(1)).isTrue();
+                assertThat(after.isNullAt(2)).isTrue();
+            } else {
+                Struct row = new Struct(newRowSchema).put("id", (long) i).put("score", i * 10);
+                RecordData after = deserializeInsert(deserializer, newEnvelope, row);
+                assertThat(after.getArity()).isEqualTo(4);
+                assertThat(after.getLong(0)).isEqualTo(i);
+                assertThat(after.isNullAt(1)).isTrue();
+                assertThat(after.isNullAt(2)).isTrue();
+                assertThat(after.getInt(3)).isEqualTo(i * 10);
+            }
+        }
+    }
+
+    @Test
+    void testDirectBinaryWriteMatchesDefaultConversion() throws Exception {
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .name("db.table.Value")
+                        .field("f_boolean", Schema.BOOLEAN_SCHEMA)
+                        .field("f_tinyint", Schema.INT8_SCHEMA)
+                        .field("f_smallint", Schema.INT16_SCHEMA)
+                        .field("f_int", Schema.INT32_SCHEMA)
+                        .field("f_bigint", Schema.INT64_SCHEMA)
+                        .field("f_float", Schema.FLOAT32_SCHEMA)
+                        .field("f_double", Schema.FLOAT64_SCHEMA)
+                        .field("f_string", Schema.STRING_SCHEMA)
+                        .field("f_long_string", Schema.STRING_SCHEMA)
+                        .field("f_null_string", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("f_ts", ZonedTimestamp.builder().build())
+                        .build();
+        Struct row =
+                new Struct(rowSchema)
+                        .put("f_boolean", true)
+                        .put("f_tinyint", (byte) 1)
+                        .put("f_smallint", (short) 2)
+                        .put("f_int", 3)
+                        .put("f_bigint", 4L)
+                        .put("f_float", 5.5f)
+                        .put("f_double", 6.6d)
+                        .put("f_string", "name")
+                        .put("f_long_string", "a string longer than seven bytes")
+                        .put("f_ts", "2024-01-01T00:00:00.123456Z");
+        Envelope envelope = envelope(rowSchema);
+
+        RecordData expected = deserializeInsert(new UpperCaseDeserializer(false), envelope, row);
+        RecordData actual = deserializeInsert(new UpperCaseDeserializer(true), envelope, row);
+
+        assertThat(actual).isEqualTo(expected);
+        // Conversions overridden by subclasses are respected by direct writers
+        assertThat(actual.getString(7).toString()).isEqualTo("NAME");
+        assertThat(actual.getString(8).toString()).isEqualTo("A STRING LONGER THAN SEVEN BYTES");
+        assertThat(actual.isNullAt(9)).isTrue();
+        assertThat(actual.getLocalZonedTimestampData(10, 6).toInstant())
+                .isEqualTo(Instant.parse("2024-01-01T00:00:00.123456Z"));
+    }
+
+    private static Envelope envelope(Schema rowSchema) {
+        return Envelope.defineSchema()
+                .withName("db.table.Envelope")
+                .withRecord(rowSchema)
+                .withSource(SOURCE_SCHEMA)
+                .build();
+    }
+
+    private static RecordData deserializeInsert(
+            TestingDeserializer deserializer, Envelope envelope, Struct row) throws Exception {
+        Struct source = new Struct(SOURCE_SCHEMA).put("db", "db");
+        SourceRecord record =
+                new SourceRecord(
+                        Collections.emptyMap(),
+                        Collections.emptyMap(),
+                        "db.table",
+                        null,
+                        envelope.schema(),
+                        envelope.create(row, source, Instant.now()));
+        List<DataChangeEvent> events = deserializer.deserializeDataChangeRecord(record);
+        assertThat(events).hasSize(1);
+        return events.get(0).after();
+    }
+
+    /** {@link DebeziumEventDeserializationSchema} of records of a single table. */
+    static class TestingDeserializer extends DebeziumEventDeserializationSchema {
+
+        private static final long serialVersionUID = 1L;
+
+        TestingDeserializer(boolean directBinaryWrite) {
+            super(
+                    new DebeziumSchemaDataTypeInference(),
+                    DebeziumChangelogMode.ALL,
+                    directBinaryWrite);
+        }
+
+        @Override
+        protected boolean isDataChangeRecord(SourceRecord record) {
+            return true;
+        }
+
+        @Override
+        protected boolean isSchemaChangeRecord(SourceRecord record) {
+            return false;
+        }
+
+        @Override
+        protected List<SchemaChangeEvent> deserializeSchemaChangeRecord(SourceRecord record) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected TableId getTableId(SourceRecord record) {
+            return TableId.tableId("db", "table");
+        }
+
+        @Override
+        protected Map<String, String> getMetadata(SourceRecord record) {
+            return Collections.emptyMap();
+        }
+    }
+
+    /** {@link TestingDeserializer} which overrides the conversion of strings. */
+    static class UpperCaseDeserializer extends TestingDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        UpperCaseDeserializer(boolean directBinaryWrite) {
+            super(directBinaryWrite);
+        }
+
+        @Override
+        protected Object convertToString(Object dbzObj, Schema schema) {
+            return BinaryStringData.fromString(dbzObj.toString().toUpperCase());
+        }
+    }
+}
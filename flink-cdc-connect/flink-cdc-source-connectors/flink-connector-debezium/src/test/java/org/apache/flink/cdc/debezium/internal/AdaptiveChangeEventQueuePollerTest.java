@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.util.LoggingContext;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link AdaptiveChangeEventQueuePoller}. */
+class AdaptiveChangeEventQueuePollerTest {
+
+    private static final int QUEUE_BATCH_SIZE = 2;
+
+    @Test
+    void testGrowAndShrinkBatchSize() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = createQueue();
+        enqueue(queue, 20);
+        AdaptiveChangeEventQueuePoller poller = new AdaptiveChangeEventQueuePoller(queue, 8);
+
+        // Backlog found after the first regular batch, target grows for the next poll
+        assertThat(poller.poll()).hasSize(2);
+        assertThat(poller.getTargetBatchSize()).isEqualTo(4);
+
+        assertThat(poller.poll()).hasSize(4);
+        assertThat(poller.getTargetBatchSize()).isEqualTo(8);
+
+        // Target is bounded by the max batch size
+        assertThat(poller.poll()).hasSize(8);
+        assertThat(poller.getTargetBatchSize()).isEqualTo(8);
+
+        // Queue is drained, target shrinks back
+        assertThat(poller.poll()).hasSize(6);
+        assertThat(poller.getTargetBatchSize()).isEqualTo(4);
+
+        assertThat(poller.poll()).isEmpty();
+        assertThat(poller.getTargetBatchSize()).isEqualTo(2);
+    }
+
+    @Test
+    void testKeepRecordOrder() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = createQueue();
+        enqueue(queue, 10);
+        AdaptiveChangeEventQueuePoller poller = new AdaptiveChangeEventQueuePoller(queue, 16);
+
+        int expected = 0;
+        while (expected < 10) {
+            for (DataChangeEvent event : poller.poll()) {
+                assertThat(event.getRecord().value()).isEqualTo(expected++);
+            }
+        }
+        assertThat(queue.remainingCapacity()).isEqualTo(queue.totalCapacity());
+    }
+
+    @Test
+    void testPollIdleQueue() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = createQueue();
+        AdaptiveChangeEventQueuePoller poller = new AdaptiveChangeEventQueuePoller(queue, 8);
+
+        assertThat(poller.poll()).isEmpty();
+        assertThat(poller.getTargetBatchSize()).isZero();
+
+        enqueue(queue, 1);
+        assertThat(poller.poll()).hasSize(1);
+        assertThat(poller.getTargetBatchSize()).isZero();
+    }
+
+    @Test
+    void testAdaptiveBatchingDisabled() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = createQueue();
+        enqueue(queue, 10);
+        AdaptiveChangeEventQueuePoller poller =
+                AdaptiveChangeEventQueuePoller.create(queue, new Properties());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(poller.poll()).hasSize(QUEUE_BATCH_SIZE);
+            assertThat(poller.getTargetBatchSize()).isZero();
+        }
+    }
+
+    @Test
+    void testCreateFromProperties() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = createQueue();
+        enqueue(queue, 10);
+        Properties properties = new Properties();
+        properties.setProperty(AdaptiveChangeEventQueuePoller.ADAPTIVE_MAX_BATCH_SIZE, " 4 ");
+        AdaptiveChangeEventQueuePoller poller =
+                AdaptiveChangeEventQueuePoller.create(queue, properties);
+
+        assertThat(poller.poll()).hasSize(2);
+        assertThat(poller.getTargetBatchSize()).isEqualTo(4);
+        assertThat(poller.poll()).hasSize(4);
+        assertThat(poller.getTargetBatchSize()).isEqualTo(4);
+    }
+
+    private static ChangeEventQueue<DataChangeEvent> createQueue() {
+        return new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(QUEUE_BATCH_SIZE)
+                .maxQueueSize(100)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private static void enqueue(ChangeEventQueue<DataChangeEvent> queue, int numEvents)
+            throws InterruptedException {
+        for (int i = 0; i < numEvents; i++) {
+            queue.enqueue(
+                    new DataChangeEvent(
+                            new SourceRecord(null, null, "topic", 0, Schema.INT32_SCHEMA, i)));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Histogram;
+import org.apache.flink.metrics.Meter;
+import org.apache.flink.metrics.Metric;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link RecordEmitMetrics}. */
+class RecordEmitMetricsTest {
+
+    @Test
+    void testRegisterMetrics() {
+        Map<String, Metric> metrics = new HashMap<>();
+        RecordEmitMetrics emitMetrics = new RecordEmitMetrics();
+        emitMetrics.registerMetrics(
+                new UnregisteredMetricsGroup() {
+                    @Override
+                    public <C extends Counter> C counter(String name, C counter) {
+                        metrics.put(name, counter);
+                        return counter;
+                    }
+
+                    @Override
+                    public <H extends Histogram> H histogram(String name, H histogram) {
+                        metrics.put(name, histogram);
+                        return histogram;
+                    }
+
+                    @Override
+                    public <M extends Meter> M meter(String name, M meter) {
+                        metrics.put(name, meter);
+                        return meter;
+                    }
+                });
+
+        assertThat(metrics)
+                .containsOnlyKeys(
+                        RecordEmitMetrics.EMIT_LATENCY,
+                        RecordEmitMetrics.NUM_RECORDS_EMITTED,
+                        RecordEmitMetrics.NUM_RECORDS_EMITTED_PER_SECOND);
+        assertThat(metrics.get(RecordEmitMetrics.EMIT_LATENCY))
+                .isSameAs(emitMetrics.getEmitLatency());
+        assertThat(metrics.get(RecordEmitMetrics.NUM_RECORDS_EMITTED))
+                .isSameAs(emitMetrics.getNumRecordsEmitted());
+    }
+
+    @Test
+    void testRecordEmittedBatch() {
+        RecordEmitMetrics emitMetrics = new RecordEmitMetrics();
+        long fetchNanoTime = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(100);
+
+        emitMetrics.recordEmittedBatch(fetchNanoTime, 3);
+        emitMetrics.recordEmittedBatch(System.nanoTime(), 2);
+
+        assertThat(emitMetrics.getNumRecordsEmitted().getCount()).isEqualTo(5);
+        assertThat(emitMetrics.getEmitLatency().getCount()).isEqualTo(2);
+        assertThat(emitMetrics.getEmitLatency().getStatistics().getMax())
+                .isGreaterThanOrEqualTo(100);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.debezium.utils;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ChunkSamplingUtils}. */
+class ChunkSamplingUtilsTest {
+
+    @Test
+    void testIsSplitBySampling() {
+        assertThat(ChunkSamplingUtils.isSplitBySampling(10_000L, 1_000, 20)).isTrue();
+        // sampling is disabled
+        assertThat(ChunkSamplingUtils.isSplitBySampling(10_000L, 1_000, 0)).isFalse();
+        // the table fits into a single chunk
+        assertThat(ChunkSamplingUtils.isSplitBySampling(1_000L, 1_000, 20)).isFalse();
+    }
+
+    @Test
+    void testChunkCount() {
+        assertThat(ChunkSamplingUtils.chunkCount(10_000L, 1_000)).isEqualTo(10);
+        assertThat(ChunkSamplingUtils.chunkCount(10_001L, 1_000)).isEqualTo(11);
+        assertThat(ChunkSamplingUtils.chunkCount(Long.MAX_VALUE - 1, 1))
+                .isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testSamplingRate() {
+        assertThat(ChunkSamplingUtils.samplingRate(10_000_000L, 8_096, 20))
+                .isEqualTo(20.0d * 1236 / 10_000_000L);
+        // every row is sampled when there are more samples than rows
+        assertThat(ChunkSamplingUtils.samplingRate(2_000L, 1_000, 2_000)).isEqualTo(1.0d);
+    }
+
+    @Test
+    void testSplitChunksBySamples() {
+        // chunk boundaries follow the distribution of the skewed samples
+        List<Tuple2<Object, Object>> res =
+                ChunkSamplingUtils.splitChunksBySamples(
+                        Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 1000, 1001, 1002, 1003),
+                        4,
+                        Tuple2::of);
+        assertThat(res)
+                .containsExactly(
+                        Tuple2.of(null, 4),
+                        Tuple2.of(4, 7),
+                        Tuple2.of(7, 1001),
+                        Tuple2.of(1001, null));
+
+        // duplicated boundaries of frequent values are merged
+        res =
+                ChunkSamplingUtils.splitChunksBySamples(
+                        Arrays.asList(5, 5, 5, 5, 5, 5, 9, 9), 4, Tuple2::of);
+        assertThat(res).containsExactly(Tuple2.of(null, 5), Tuple2.of(5, 9), Tuple2.of(9, null));
+
+        // fewer samples than chunks
+        res = ChunkSamplingUtils.splitChunksBySamples(Collections.singletonList(3), 3, Tuple2::of);
+        assertThat(res).containsExactly(Tuple2.of(null, 3), Tuple2.of(3, null));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.mongodb.internal;
 
 import com.mongodb.kafka.connect.source.json.formatter.DefaultJson;
 import com.mongodb.kafka.connect.source.schema.AvroSchema;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.bson.BsonDocument;
@@ -31,6 +32,10 @@ import org.bson.json.JsonWriterSettings;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.mongodb.kafka.connect.source.schema.AvroSchemaDefaults.DEFAULT_AVRO_KEY_SCHEMA;
 
@@ -137,6 +142,21 @@ public class MongoDBEnvelope {
 
     public static final Schema SOURCE_RECORD_VALUE_SCHEMA = AvroSchema.fromJson(OUTPUT_SCHEMA);
 
+    /** The document fields which are carried as raw BSON bytes if raw BSON is enabled. */
+    public static final Set<String> RAW_DOCUMENT_FIELDS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    FULL_DOCUMENT_FIELD,
+                                    FULL_DOCUMENT_BEFORE_CHANGE_FIELD,
+                                    DOCUMENT_KEY_FIELD)));
+
+    /**
+     * The same schema as {@link #SOURCE_RECORD_VALUE_SCHEMA}, except that the {@link
+     * #RAW_DOCUMENT_FIELDS} are optional bytes of raw BSON documents.
+     */
+    public static final Schema SOURCE_RECORD_RAW_VALUE_SCHEMA = createRawValueSchema();
+
     public static final JsonWriterSettings JSON_WRITER_SETTINGS_STRICT =
             new DefaultJson().getJsonWriterSettings();
 
@@ -146,6 +166,18 @@ public class MongoDBEnvelope {
 
     public static final BsonValue BSON_MAX_KEY = new BsonMaxKey();
 
+    private static Schema createRawValueSchema() {
+        SchemaBuilder builder = SchemaBuilder.struct().name(SOURCE_RECORD_VALUE_SCHEMA.name());
+        for (Field field : SOURCE_RECORD_VALUE_SCHEMA.fields()) {
+            if (RAW_DOCUMENT_FIELDS.contains(field.name())) {
+                builder.field(field.name(), Schema.OPTIONAL_BYTES_SCHEMA);
+            } else {
+                builder.field(field.name(), field.schema());
+            }
+        }
+        return builder.build();
+    }
+
     public static String encodeValue(String value) {
         try {
             return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
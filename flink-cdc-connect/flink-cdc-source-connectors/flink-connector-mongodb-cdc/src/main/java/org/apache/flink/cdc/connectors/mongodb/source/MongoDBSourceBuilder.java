@@ -277,6 +277,16 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether the {@link MongoDBSource} should carry the documents of records as raw BSON bytes
+     * instead of JSON strings. The deserializer must be able to read the raw documents, e.g. {@link
+     * org.apache.flink.cdc.connectors.mongodb.table.MongoDBConnectorDeserializationSchema}.
+     */
+    public MongoDBSourceBuilder<T> rawBsonEnabled(boolean rawBsonEnabled) {
+        this.configFactory.rawBsonEnabled(rawBsonEnabled);
+        return this;
+    }
+
     /**
      * Build the {@link MongoDBSource}.
      *
@@ -63,6 +63,7 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     protected boolean skipSnapshotBackfill = false;
     protected boolean scanNewlyAddedTableEnabled = false;
     protected boolean assignUnboundedChunkFirst = false;
+    private boolean rawBsonEnabled = false;
 
     /** The protocol connected to MongoDB. For example mongodb or mongodb+srv. */
     public MongoDBSourceConfigFactory scheme(String scheme) {
@@ -280,6 +281,17 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * Whether to carry the documents of records as raw BSON bytes instead of JSON strings. The
+     * deserializer must be able to read the raw documents, e.g. {@link
+     * org.apache.flink.cdc.connectors.mongodb.table.MongoDBConnectorDeserializationSchema}.
+     * Defaults to false.
+     */
+    public MongoDBSourceConfigFactory rawBsonEnabled(boolean rawBsonEnabled) {
+        this.rawBsonEnabled = rawBsonEnabled;
+        return this;
+    }
+
     /** Creates a new {@link MongoDBSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public MongoDBSourceConfig create(int subtaskId) {
@@ -306,6 +318,7 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 disableCursorTimeout,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                rawBsonEnabled);
     }
 }
@@ -178,4 +178,15 @@ public class MongoDBSourceOptions {
                     .defaultValue(true)
                     .withDescription(
                             "MongoDB server normally times out idle cursors after an inactivity period (10 minutes) to prevent excess memory use. Set this option to true to prevent that.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_RAW_BSON_ENABLED =
+            ConfigOptions.key("scan.raw-bson.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to carry the documents of snapshot and change stream records as raw BSON bytes "
+                                    + "instead of JSON strings. The documents are not encoded to and parsed from JSON text "
+                                    + "anymore, and only the fields of the table schema are decoded. "
+                                    + "Only applies to incremental snapshot mode. Defaults to false.");
 }
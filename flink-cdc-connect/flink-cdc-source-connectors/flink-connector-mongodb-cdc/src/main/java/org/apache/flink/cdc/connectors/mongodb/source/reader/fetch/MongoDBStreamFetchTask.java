@@ -40,13 +40,16 @@ import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import org.apache.kafka.common.utils.SystemTime;
 import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonDocument;
 import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +67,7 @@ import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.N
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.OPERATION_TYPE_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SNAPSHOT_KEY_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.WATERMARK_TOPIC_NAME;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.FAILED_TO_PARSE_ERROR;
@@ -172,8 +176,9 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
                                             MongoRecordUtils.createSourceOffsetMap(
                                                     resumeToken, false),
                                             namespace.getFullName(),
-                                            changeStreamDocument.getDocument(ID_FIELD),
-                                            valueDocument);
+                                            valueDocument.getDocument(ID_FIELD),
+                                            valueDocument,
+                                            sourceConfig.isRawBsonEnabled());
                             break;
                         default:
                             // Ignore drop、drop_database、rename and other record to prevent
@@ -282,9 +287,12 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
             }
         }
 
+        // Raw documents are decoded lazily, the full documents are never decoded in this task.
+        Class<? extends BsonDocument> documentClass =
+                sourceConfig.isRawBsonEnabled() ? RawBsonDocument.class : BsonDocument.class;
         try {
             return (MongoChangeStreamCursor<BsonDocument>)
-                    changeStreamIterable.withDocumentClass(BsonDocument.class).cursor();
+                    changeStreamIterable.withDocumentClass(documentClass).cursor();
         } catch (MongoCommandException e) {
             if (e.getErrorCode() == FAILED_TO_PARSE_ERROR
                     || e.getErrorCode() == UNKNOWN_FIELD_ERROR) {
@@ -334,7 +342,20 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
         return null;
     }
 
-    private BsonDocument normalizeChangeStreamDocument(BsonDocument changeStreamDocument) {
+    private BsonDocument normalizeChangeStreamDocument(BsonDocument document) {
+        BsonDocument changeStreamDocument = document;
+        if (document instanceof RawBsonDocument) {
+            // Raw documents are immutable, copies the envelope fields into a mutable document.
+            // The nested documents stay as slices of the raw document.
+            changeStreamDocument = new BsonDocument();
+            for (Field field : SOURCE_RECORD_VALUE_SCHEMA.fields()) {
+                BsonValue value = document.get(field.name());
+                if (value != null) {
+                    changeStreamDocument.put(field.name(), value);
+                }
+            }
+        }
+
         // _id: primary key of change document.
         changeStreamDocument.put(ID_FIELD, normalizeKeyDocument(changeStreamDocument));
 
@@ -23,14 +23,21 @@ import com.mongodb.kafka.connect.source.schema.BsonValueToSchemaAndValue;
 import io.debezium.data.Envelope;
 import io.debezium.relational.TableId;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.json.JsonWriterSettings;
 
+import javax.annotation.Nullable;
+
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
@@ -42,13 +49,17 @@ import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.H
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.JSON_WRITER_SETTINGS_STRICT;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.RAW_DOCUMENT_FIELDS;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_KEY_SCHEMA;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_RAW_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
 
 /** Utility class to deal record. */
 public class MongoRecordUtils {
 
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+
     private MongoRecordUtils() {}
 
     /** Check the sourceRecord is snapshot record. */
@@ -73,8 +84,28 @@ public class MongoRecordUtils {
 
     /** Return the documentKey from change stream event. */
     public static BsonDocument getDocumentKey(SourceRecord sourceRecord) {
-        Struct value = (Struct) sourceRecord.value();
-        return BsonDocument.parse(value.getString(MongoDBEnvelope.DOCUMENT_KEY_FIELD));
+        return getDocument(
+                (Struct) sourceRecord.value(),
+                sourceRecord.valueSchema(),
+                MongoDBEnvelope.DOCUMENT_KEY_FIELD);
+    }
+
+    /**
+     * Return the document of the given field, which is either a JSON string or raw BSON bytes. A
+     * raw document is not decoded until its fields are accessed.
+     */
+    @Nullable
+    public static BsonDocument getDocument(Struct value, Schema valueSchema, String fieldName) {
+        Field field = valueSchema.field(fieldName);
+        if (field == null) {
+            return null;
+        }
+        if (field.schema().type() == Schema.Type.BYTES) {
+            byte[] bytes = value.getBytes(fieldName);
+            return bytes == null ? null : new RawBsonDocument(bytes);
+        }
+        String docString = value.getString(fieldName);
+        return docString == null ? null : BsonDocument.parse(docString);
     }
 
     public static String getOffsetValue(SourceRecord sourceRecord, String key) {
@@ -168,6 +199,71 @@ public class MongoRecordUtils {
                 valueSchemaAndValue.value());
     }
 
+    /**
+     * Creates a record whose {@link MongoDBEnvelope#RAW_DOCUMENT_FIELDS} are raw BSON bytes if
+     * {@code rawBsonEnabled}, otherwise JSON strings.
+     */
+    public static SourceRecord createSourceRecord(
+            final Map<String, String> partition,
+            final Map<String, String> sourceOffset,
+            final String topicName,
+            final BsonDocument keyDocument,
+            final BsonDocument valueDocument,
+            final boolean rawBsonEnabled) {
+        if (!rawBsonEnabled) {
+            return createSourceRecord(
+                    partition, sourceOffset, topicName, keyDocument, valueDocument);
+        }
+        // Converts the envelope without the documents, which are copied as raw BSON bytes.
+        BsonDocument envelopeDocument = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : valueDocument.entrySet()) {
+            if (!RAW_DOCUMENT_FIELDS.contains(entry.getKey())) {
+                envelopeDocument.put(entry.getKey(), entry.getValue());
+            }
+        }
+        SourceRecord envelopeRecord =
+                createSourceRecord(
+                        partition, sourceOffset, topicName, keyDocument, envelopeDocument);
+        Struct envelope = (Struct) envelopeRecord.value();
+
+        Struct value = new Struct(SOURCE_RECORD_RAW_VALUE_SCHEMA);
+        for (Field field : SOURCE_RECORD_RAW_VALUE_SCHEMA.fields()) {
+            if (RAW_DOCUMENT_FIELDS.contains(field.name())) {
+                BsonValue document = valueDocument.get(field.name());
+                if (document != null && document.isDocument()) {
+                    value.put(field, toRawBytes(document.asDocument()));
+                }
+            } else {
+                value.put(field, envelope.get(field.name()));
+            }
+        }
+        return new SourceRecord(
+                partition,
+                sourceOffset,
+                topicName,
+                envelopeRecord.keySchema(),
+                envelopeRecord.key(),
+                SOURCE_RECORD_RAW_VALUE_SCHEMA,
+                value);
+    }
+
+    private static byte[] toRawBytes(BsonDocument document) {
+        if (!(document instanceof RawBsonDocument)) {
+            document = new RawBsonDocument(document, DOCUMENT_CODEC);
+        }
+        ByteBuffer buffer = ((RawBsonDocument) document).getByteBuffer().asNIO();
+        if (buffer.hasArray()
+                && buffer.arrayOffset() == 0
+                && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        // The document is a slice of an enclosing raw document, e.g. the change stream event.
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
     public static Map<String, String> createSourceOffsetMap(
             final BsonDocument idDocument, boolean isSnapshotRecord) {
         Map<String, String> sourceOffset = new HashMap<>();
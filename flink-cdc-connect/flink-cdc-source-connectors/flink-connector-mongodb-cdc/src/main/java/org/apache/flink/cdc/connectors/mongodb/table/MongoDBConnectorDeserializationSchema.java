@@ -20,6 +20,7 @@ package org.apache.flink.cdc.connectors.mongodb.table;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.cdc.common.annotation.PublicEvolving;
 import org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.table.AppendMetadataCollector;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
@@ -174,14 +175,12 @@ public class MongoDBConnectorDeserializationSchema
         return (GenericRowData) physicalConverter.convert(document);
     }
 
+    /**
+     * Extracts the document of the given field. A raw BSON document is not parsed, its fields are
+     * decoded while they are converted to the physical columns.
+     */
     protected BsonDocument extractBsonDocument(Struct value, Schema valueSchema, String fieldName) {
-        if (valueSchema.field(fieldName) != null) {
-            String docString = value.getString(fieldName);
-            if (docString != null) {
-                return BsonDocument.parse(docString);
-            }
-        }
-        return null;
+        return MongoRecordUtils.getDocument(value, valueSchema, fieldName);
     }
 
     @Override
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.table;
+
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+import org.apache.flink.cdc.debezium.table.MetadataConverter;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.MapType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.apache.flink.util.ListCollector;
+
+import com.mongodb.client.model.changestream.OperationType;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonArray;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.DOCUMENT_KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.FULL_DOCUMENT_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_DATABASE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.OPERATION_TYPE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SNAPSHOT_KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MongoDBConnectorDeserializationSchema} which reads documents carried as JSON
+ * strings or as raw BSON bytes.
+ */
+class MongoDBConnectorDeserializationSchemaTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    new LogicalType[] {
+                        new VarCharType(VarCharType.MAX_LENGTH),
+                        new VarCharType(VarCharType.MAX_LENGTH),
+                        new BigIntType(),
+                        new DecimalType(10, 2),
+                        new ArrayType(new VarCharType(VarCharType.MAX_LENGTH)),
+                        RowType.of(
+                                new LogicalType[] {
+                                    new VarCharType(VarCharType.MAX_LENGTH), new IntType()
+                                },
+                                new String[] {"city", "zip"}),
+                        new MapType(
+                                new VarCharType(VarCharType.MAX_LENGTH),
+                                new VarCharType(VarCharType.MAX_LENGTH)),
+                        new VarCharType(VarCharType.MAX_LENGTH)
+                    },
+                    new String[] {
+                        "_id", "name", "count", "price", "tags", "address", "attrs", "payload"
+                    });
+
+    @Test
+    void testRawBsonRecords() throws Exception {
+        MongoDBConnectorDeserializationSchema deserializer =
+                new MongoDBConnectorDeserializationSchema(
+                        ROW_TYPE,
+                        new MetadataConverter[0],
+                        InternalTypeInfo.of(ROW_TYPE),
+                        ZoneId.of("UTC"));
+
+        for (int i = 0; i < 3; i++) {
+            BsonDocument fullDocument = fullDocument(i);
+            for (OperationType op :
+                    new OperationType[] {
+                        OperationType.INSERT, OperationType.UPDATE, OperationType.DELETE
+                    }) {
+                BsonDocument valueDocument = valueDocument(op, fullDocument);
+                SourceRecord jsonRecord = createSourceRecord(valueDocument, false);
+                SourceRecord rawRecord = createSourceRecord(toRawSlices(valueDocument), true);
+
+                assertThat(rawRecord.valueSchema().field(FULL_DOCUMENT_FIELD).schema().type())
+                        .isEqualTo(Schema.Type.BYTES);
+                assertThat(MongoRecordUtils.getDocumentKey(rawRecord))
+                        .isInstanceOf(RawBsonDocument.class)
+                        .isEqualTo(MongoRecordUtils.getDocumentKey(jsonRecord));
+                assertThat(deserialize(deserializer, rawRecord))
+                        .hasSize(1)
+                        .isEqualTo(deserialize(deserializer, jsonRecord));
+            }
+        }
+    }
+
+    @Test
+    void testRawBsonRecordWithoutFullDocument() throws Exception {
+        MongoDBConnectorDeserializationSchema deserializer =
+                new MongoDBConnectorDeserializationSchema(
+                        ROW_TYPE,
+                        new MetadataConverter[0],
+                        InternalTypeInfo.of(ROW_TYPE),
+                        ZoneId.of("UTC"));
+
+        // The full document is null if the document is deleted before the update lookup.
+        BsonDocument valueDocument = valueDocument(OperationType.UPDATE, fullDocument(0));
+        valueDocument.put(FULL_DOCUMENT_FIELD, BsonNull.VALUE);
+        SourceRecord rawRecord = createSourceRecord(toRawSlices(valueDocument), true);
+
+        assertThat(((Struct) rawRecord.value()).get(FULL_DOCUMENT_FIELD)).isNull();
+        assertThat(deserialize(deserializer, rawRecord)).isEmpty();
+    }
+
+    private static List<RowData> deserialize(
+            MongoDBConnectorDeserializationSchema deserializer, SourceRecord record)
+            throws Exception {
+        List<RowData> rows = new ArrayList<>();
+        deserializer.deserialize(record, new ListCollector<>(rows));
+        return rows;
+    }
+
+    private static SourceRecord createSourceRecord(
+            BsonDocument valueDocument, boolean rawBsonEnabled) {
+        return MongoRecordUtils.createSourceRecord(
+                MongoRecordUtils.createPartitionMap("mongodb", "localhost", "db", "coll"),
+                MongoRecordUtils.createSourceOffsetMap(valueDocument.getDocument(ID_FIELD), false),
+                "db.coll",
+                valueDocument.getDocument(ID_FIELD),
+                valueDocument,
+                rawBsonEnabled);
+    }
+
+    /**
+     * Encodes the change stream event as a whole and copies its top level fields like the stream
+     * fetch task does, so that the documents are slices of the raw event.
+     */
+    private static BsonDocument toRawSlices(BsonDocument valueDocument) {
+        RawBsonDocument rawEvent = new RawBsonDocument(valueDocument, new BsonDocumentCodec());
+        BsonDocument document = new BsonDocument();
+        for (String key : valueDocument.keySet()) {
+            document.put(key, rawEvent.get(key));
+        }
+        return document;
+    }
+
+    private static BsonDocument valueDocument(OperationType op, BsonDocument fullDocument) {
+        BsonValue id = fullDocument.get(ID_FIELD);
+        BsonDocument valueDocument = new BsonDocument();
+        valueDocument.put(ID_FIELD, new BsonDocument(ID_FIELD, new BsonDocument(ID_FIELD, id)));
+        valueDocument.put(OPERATION_TYPE_FIELD, new BsonString(op.getValue()));
+        valueDocument.put(
+                NAMESPACE_FIELD,
+                new BsonDocument(NAMESPACE_DATABASE_FIELD, new BsonString("db"))
+                        .append(NAMESPACE_COLLECTION_FIELD, new BsonString("coll")));
+        valueDocument.put(DOCUMENT_KEY_FIELD, new BsonDocument(ID_FIELD, id));
+        if (op != OperationType.DELETE) {
+            valueDocument.put(FULL_DOCUMENT_FIELD, fullDocument);
+        }
+        valueDocument.put(TIMESTAMP_KEY_FIELD, new BsonInt64(0L));
+        valueDocument.put(
+                SOURCE_FIELD,
+                new BsonDocument(SNAPSHOT_KEY_FIELD, new BsonString("false"))
+                        .append(TIMESTAMP_KEY_FIELD, new BsonInt64(0L)));
+        return valueDocument;
+    }
+
+    private static BsonDocument fullDocument(int index) {
+        BsonArray tags = new BsonArray();
+        for (int i = 0; i < 50; i++) {
+            tags.add(new BsonString("tag-" + i));
+        }
+        BsonDocument attrs = new BsonDocument();
+        for (int i = 0; i < 50; i++) {
+            attrs.put("attr-" + i, new BsonString("value-" + i));
+        }
+        return new BsonDocument(ID_FIELD, new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString("name-" + index))
+                .append("count", new BsonInt64(Long.MAX_VALUE - index))
+                .append("price", new BsonDecimal128(Decimal128.parse("12.34")))
+                .append("tags", tags)
+                .append(
+                        "address",
+                        new BsonDocument("city", new BsonString("city-" + index))
+                                .append("zip", new BsonInt32(10000 + index)))
+                .append("attrs", attrs)
+                .append("payload", nestedDocument(3, 6))
+                // a large nested field which is not a column of the table
+                .append("unmapped", nestedDocument(4, 6));
+    }
+
+    private static BsonDocument nestedDocument(int depth, int width) {
+        BsonDocument document = new BsonDocument();
+        for (int i = 0; i < width; i++) {
+            document.put(
+                    "f" + i,
+                    depth == 0
+                            ? new BsonString("value-" + i)
+                            : nestedDocument(depth - 1, width));
+        }
+        return document;
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.mysql;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeader;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.util.Threads;
+import org.apache.kafka.common.config.ConfigDef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pipelines the deserialization of binlog row events over a pool of worker threads.
+ *
+ * <p>When enabled, the binlog client thread only slices the raw body of row events off the wire
+ * with {@link DeferredRowsEventDataDeserializer}, and hands every event to this pipeline in binlog
+ * order. Rows are decoded by worker threads in parallel, and the binlog client thread forwards the
+ * decoded events to the downstream listener in the original order: row events are forwarded once
+ * they are decoded, and any other event, e.g. the XID event ending a transaction, waits for all
+ * pending row events to be forwarded first. Events are therefore still handled one by one in
+ * binlog order and on the binlog client thread, so that transaction boundaries and offsets stay
+ * intact.
+ */
+public class BinlogEventDeserializationPipeline
+        implements BinaryLogClient.EventListener, AutoCloseable {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(BinlogEventDeserializationPipeline.class);
+
+    public static final Field DESERIALIZATION_PARALLELISM =
+            Field.create("binlog.deserialization.parallelism")
+                    .withDisplayName("Binlog deserialization parallelism")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(0)
+                    .withDescription(
+                            "The number of threads used to deserialize binlog row events in parallel. "
+                                    + "Row events are deserialized by the binlog client thread if set to 0.");
+
+    /** Number of in-flight events per worker before the binlog client thread is back-pressured. */
+    private static final int PENDING_EVENTS_PER_WORKER = 256;
+
+    private static final long POLL_INTERVAL_MS = 100L;
+
+    private final BinaryLogClient.EventListener downstream;
+    private final ErrorHandler errorHandler;
+    private final int maxPendingEvents;
+    private final ExecutorService workers;
+
+    /** Row events being decoded, in binlog order. Only accessed by the binlog client thread. */
+    private final Queue<Future<Event>> pendingEvents;
+
+    private volatile boolean running = true;
+
+    /** Whether a failure has been reported, after which no event is forwarded any more. */
+    private boolean failed;
+
+    public BinlogEventDeserializationPipeline(
+            String logicalName,
+            int parallelism,
+            BinaryLogClient.EventListener downstream,
+            ErrorHandler errorHandler) {
+        this.downstream = downstream;
+        this.errorHandler = errorHandler;
+        this.maxPendingEvents = parallelism * PENDING_EVENTS_PER_WORKER;
+        this.pendingEvents = new ArrayDeque<>(maxPendingEvents);
+        this.workers =
+                Threads.newFixedThreadPool(
+                        MySqlConnector.class, logicalName, "binlog-deserializer", parallelism);
+        LOGGER.info("Deserializing binlog row events with {} threads", parallelism);
+    }
+
+    /**
+     * Accepts events from binlog client thread, blocking if too many events are in flight or the
+     * event has to wait for the pending row events.
+     */
+    @Override
+    public void onEvent(Event event) {
+        if (!running || failed) {
+            return;
+        }
+        if (event.getData() instanceof DeferredRowsEventData) {
+            DeferredRowsEventData data = event.getData();
+            pendingEvents.add(workers.submit(() -> deserialize(event.getHeader(), data)));
+            // Forward decoded events, and await the oldest ones if too many are in flight
+            while (!pendingEvents.isEmpty()
+                    && (pendingEvents.peek().isDone() || pendingEvents.size() > maxPendingEvents)) {
+                if (!forwardOldestPendingEvent()) {
+                    return;
+                }
+            }
+        } else {
+            while (!pendingEvents.isEmpty()) {
+                if (!forwardOldestPendingEvent()) {
+                    return;
+                }
+            }
+            forward(event);
+        }
+    }
+
+    /**
+     * Awaits the oldest pending event and forwards it. An event is only removed from the pending
+     * events once it is forwarded, so that it is never dropped silently.
+     *
+     * @return whether the event was forwarded, the pipeline is either closed or failed otherwise
+     */
+    private boolean forwardOldestPendingEvent() {
+        Future<Event> future = pendingEvents.peek();
+        Event event;
+        try {
+            event = await(future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (running) {
+                fail(new DebeziumException("Interrupted while awaiting binlog event", e));
+            }
+            return false;
+        } catch (ExecutionException e) {
+            fail(new DebeziumException("Error deserializing binlog event", e.getCause()));
+            return false;
+        }
+        if (event == null) {
+            // closed while awaiting the event
+            return false;
+        }
+        pendingEvents.remove();
+        return forward(event);
+    }
+
+    private Event await(Future<Event> future) throws InterruptedException, ExecutionException {
+        while (running) {
+            try {
+                return future.get(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check whether the pipeline is closed and keep waiting
+            }
+        }
+        return null;
+    }
+
+    private boolean forward(Event event) {
+        try {
+            downstream.onEvent(event);
+            return true;
+        } catch (Throwable t) {
+            fail(new DebeziumException("Error dispatching binlog event", t));
+            return false;
+        }
+    }
+
+    private void fail(DebeziumException e) {
+        failed = true;
+        errorHandler.setProducerThrowable(e);
+    }
+
+    private static Event deserialize(EventHeader header, DeferredRowsEventData data) {
+        try {
+            return new Event(header, data.deserialize());
+        } catch (IOException e) {
+            // Same as the binlog client, report failures as incidents so that the configured
+            // event processing failure handling mode is respected
+            return MySqlStreamingChangeEventSource.toIncidentEvent(
+                    new EventDataDeserializationException(header, e));
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.shutdownNow();
+    }
+
+    /** Creates the deserializer that eagerly decodes rows of given event type. */
+    static EventDataDeserializer<? extends EventData> createRowsDeserializer(
+            EventType eventType, Map<Long, TableMapEventData> tableMapEventByTableId) {
+        switch (eventType) {
+            case WRITE_ROWS:
+                return new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId);
+            case UPDATE_ROWS:
+                return new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId);
+            case DELETE_ROWS:
+                return new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId);
+            case EXT_WRITE_ROWS:
+                return new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId)
+                        .setMayContainExtraInformation(true);
+            case EXT_UPDATE_ROWS:
+                return new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId)
+                        .setMayContainExtraInformation(true);
+            case EXT_DELETE_ROWS:
+                return new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId)
+                        .setMayContainExtraInformation(true);
+            default:
+                throw new IllegalArgumentException("Not a rows event type: " + eventType);
+        }
+    }
+
+    /**
+     * Deserializer which only copies the raw body of a row event together with the table map it
+     * refers to, so that rows could be decoded later on another thread.
+     */
+    static class DeferredRowsEventDataDeserializer
+            implements EventDataDeserializer<DeferredRowsEventData> {
+
+        private final EventType eventType;
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+
+        DeferredRowsEventDataDeserializer(
+                EventType eventType, Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this.eventType = eventType;
+            this.tableMapEventByTableId = tableMapEventByTableId;
+        }
+
+        @Override
+        public DeferredRowsEventData deserialize(ByteArrayInputStream inputStream)
+                throws IOException {
+            byte[] body = inputStream.read(inputStream.available());
+            long tableId = DeferredRowsEventData.readTableId(body);
+            // Table maps are captured now, as they might be replaced or cleared by the client
+            // thread before rows get decoded
+            return new DeferredRowsEventData(
+                    eventType, body, tableId, tableMapEventByTableId.get(tableId));
+        }
+    }
+
+    /** Raw body of a row event whose rows have not been decoded yet. */
+    static class DeferredRowsEventData implements EventData {
+
+        private static final long serialVersionUID = 1L;
+
+        /** Length of the table ID at the beginning of row event post-header. */
+        private static final int TABLE_ID_LENGTH = 6;
+
+        private final EventType eventType;
+        private final byte[] body;
+        private final long tableId;
+        private final TableMapEventData tableMapEventData;
+
+        DeferredRowsEventData(
+                EventType eventType, byte[] body, long tableId, TableMapEventData tableMap) {
+            this.eventType = eventType;
+            this.body = body;
+            this.tableId = tableId;
+            this.tableMapEventData = tableMap;
+        }
+
+        EventData deserialize() throws IOException {
+            Map<Long, TableMapEventData> tableMaps =
+                    tableMapEventData == null
+                            ? Collections.emptyMap()
+                            : Collections.singletonMap(tableId, tableMapEventData);
+            return createRowsDeserializer(eventType, tableMaps)
+                    .deserialize(new ByteArrayInputStream(body));
+        }
+
+        static long readTableId(byte[] body) {
+            long tableId = 0;
+            for (int i = 0; i < TABLE_ID_LENGTH && i < body.length; i++) {
+                tableId |= ((long) (body[i] & 0xFF)) << (i << 3);
+            }
+            return tableId;
+        }
+
+        @Override
+        public String toString() {
+            return "DeferredRowsEventData{eventType="
+                    + eventType
+                    + ", tableId="
+                    + tableId
+                    + ", length="
+                    + body.length
+                    + '}';
+        }
+    }
+}
@@ -34,6 +34,7 @@ import io.debezium.DebeziumException;
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.BinlogEventDeserializationPipeline.DeferredRowsEventDataDeserializer;
 import io.debezium.connector.mysql.MySqlConnectorConfig.GtidNewChannelPosition;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
 import io.debezium.connector.mysql.util.ErrorMessageUtils;
@@ -87,10 +88,13 @@ import static io.debezium.util.Strings.isNullOrEmpty;
  * Copied from Debezium project(1.9.8.Final) to fix
  * https://github.com/ververica/flink-cdc-connectors/issues/1944.
  *
- * <p>Line 1427-1433 : Adjust GTID merging logic to support recovering from job which previously
+ * <p>Line 316-329, 1117-1126 : Optionally decode row events in parallel with {@link
+ * BinlogEventDeserializationPipeline}.
+ *
+ * <p>Line 1452-1458 : Adjust GTID merging logic to support recovering from job which previously
  * specifying starting offset on start.
  *
- * <p>Line 1485 : Add more error details for some exceptions.
+ * <p>Line 1510 : Add more error details for some exceptions.
  */
 public class MySqlStreamingChangeEventSource
         implements StreamingChangeEventSource<MySqlPartition, MySqlOffsetContext> {
@@ -99,6 +103,14 @@ public class MySqlStreamingChangeEventSource
             LoggerFactory.getLogger(MySqlStreamingChangeEventSource.class);
 
     private static final String KEEPALIVE_THREAD_NAME = "blc-keepalive";
+    private static final EventType[] ROWS_EVENT_TYPES = {
+        EventType.WRITE_ROWS,
+        EventType.UPDATE_ROWS,
+        EventType.DELETE_ROWS,
+        EventType.EXT_WRITE_ROWS,
+        EventType.EXT_UPDATE_ROWS,
+        EventType.EXT_DELETE_ROWS
+    };
 
     private final EnumMap<EventType, BlockingConsumer<Event>> eventHandlers =
             new EnumMap<>(EventType.class);
@@ -127,6 +139,8 @@ public class MySqlStreamingChangeEventSource
     @SingleThreadAccess("binlog client thread")
     private Instant eventTimestamp;
 
+    private final int deserializationParallelism;
+
     /** Describe binlog position. */
     public static class BinlogPosition {
         final String filename;
@@ -246,6 +260,9 @@ public class MySqlStreamingChangeEventSource
                 configuration.getBoolean(MySqlConnectorConfig.GTID_SOURCE_FILTER_DML_EVENTS);
         gtidDmlSourceFilter =
                 filterDmlEventsByGtidSource ? connectorConfig.gtidSourceFilter() : null;
+        deserializationParallelism =
+                configuration.getInteger(
+                        BinlogEventDeserializationPipeline.DESERIALIZATION_PARALLELISM);
 
         // Set up the event deserializer with additional type(s) ...
         final Map<Long, TableMapEventData> tableMapEventByTableId =
@@ -288,22 +305,7 @@ public class MySqlStreamingChangeEventSource
                             if (edde.getCause() instanceof IOException) {
                                 throw edde;
                             }
-
-                            EventHeaderV4 header = new EventHeaderV4();
-                            header.setEventType(EventType.INCIDENT);
-                            header.setTimestamp(edde.getEventHeader().getTimestamp());
-                            header.setServerId(edde.getEventHeader().getServerId());
-
-                            if (edde.getEventHeader() instanceof EventHeaderV4) {
-                                header.setEventLength(
-                                        ((EventHeaderV4) edde.getEventHeader()).getEventLength());
-                                header.setNextPosition(
-                                        ((EventHeaderV4) edde.getEventHeader()).getNextPosition());
-                                header.setFlags(((EventHeaderV4) edde.getEventHeader()).getFlags());
-                            }
-
-                            EventData data = new EventDataDeserializationExceptionData(edde);
-                            return new Event(header, data);
+                            return toIncidentEvent(edde);
                         }
                     }
                 };
@@ -311,30 +313,40 @@ public class MySqlStreamingChangeEventSource
         // Add our custom deserializers ...
         eventDeserializer.setEventDataDeserializer(EventType.STOP, new StopEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.GTID, new GtidEventDataDeserializer());
-        eventDeserializer.setEventDataDeserializer(
-                EventType.WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId));
-        eventDeserializer.setEventDataDeserializer(
-                EventType.UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId));
-        eventDeserializer.setEventDataDeserializer(
-                EventType.DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId));
-        eventDeserializer.setEventDataDeserializer(
-                EventType.EXT_WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId)
-                        .setMayContainExtraInformation(true));
-        eventDeserializer.setEventDataDeserializer(
-                EventType.EXT_UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId)
-                        .setMayContainExtraInformation(true));
-        eventDeserializer.setEventDataDeserializer(
-                EventType.EXT_DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId)
-                        .setMayContainExtraInformation(true));
+        for (EventType rowsEventType : ROWS_EVENT_TYPES) {
+            if (deserializationParallelism > 0) {
+                // Rows will be decoded later by the deserialization pipeline
+                eventDeserializer.setEventDataDeserializer(
+                        rowsEventType,
+                        new DeferredRowsEventDataDeserializer(
+                                rowsEventType, tableMapEventByTableId));
+            } else {
+                eventDeserializer.setEventDataDeserializer(
+                        rowsEventType,
+                        BinlogEventDeserializationPipeline.createRowsDeserializer(
+                                rowsEventType, tableMapEventByTableId));
+            }
+        }
         client.setEventDeserializer(eventDeserializer);
     }
 
+    /** Creates a pseudo incident event for an event that couldn't be deserialized. */
+    static Event toIncidentEvent(EventDataDeserializationException edde) {
+        EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.INCIDENT);
+        header.setTimestamp(edde.getEventHeader().getTimestamp());
+        header.setServerId(edde.getEventHeader().getServerId());
+
+        if (edde.getEventHeader() instanceof EventHeaderV4) {
+            header.setEventLength(((EventHeaderV4) edde.getEventHeader()).getEventLength());
+            header.setNextPosition(((EventHeaderV4) edde.getEventHeader()).getNextPosition());
+            header.setFlags(((EventHeaderV4) edde.getEventHeader()).getFlags());
+        }
+
+        EventData data = new EventDataDeserializationExceptionData(edde);
+        return new Event(header, data);
+    }
+
     protected void onEvent(MySqlOffsetContext offsetContext, Event event) {
         long ts = 0;
 
@@ -1102,6 +1114,16 @@ public class MySqlStreamingChangeEventSource
                             context);
             listener = (event) -> buffer.add(partition, effectiveOffsetContext, event);
         }
+        BinlogEventDeserializationPipeline deserializationPipeline = null;
+        if (deserializationParallelism > 0) {
+            deserializationPipeline =
+                    new BinlogEventDeserializationPipeline(
+                            connectorConfig.getLogicalName(),
+                            deserializationParallelism,
+                            listener,
+                            errorHandler);
+            listener = deserializationPipeline;
+        }
         client.registerEventListener(listener);
 
         client.registerLifecycleListener(new ReaderThreadLifecycleListener(effectiveOffsetContext));
@@ -1249,6 +1271,9 @@ public class MySqlStreamingChangeEventSource
             } catch (Exception e) {
                 LOGGER.info("Exception while stopping binary log client", e);
             }
+            if (deserializationPipeline != null) {
+                deserializationPipeline.close();
+            }
         }
     }
 
@@ -27,10 +27,11 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.ChunkUtils;
+import org.apache.flink.cdc.connectors.mysql.source.utils.FinishedSnapshotSplitIndex;
 import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
-import org.apache.flink.cdc.connectors.mysql.source.utils.SplitKeyUtils;
 import org.apache.flink.cdc.connectors.mysql.table.StartupMode;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
+import org.apache.flink.cdc.debezium.internal.AdaptiveChangeEventQueuePoller;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.util.FlinkRuntimeException;
 
@@ -38,7 +39,6 @@ import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadF
 
 import com.github.shyiko.mysql.binlog.event.Event;
 import com.github.shyiko.mysql.binlog.event.EventType;
-import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.relational.TableId;
@@ -50,6 +50,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -77,13 +78,16 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
     private final StatefulTaskContext statefulTaskContext;
     private final ExecutorService executorService;
 
-    private volatile ChangeEventQueue<DataChangeEvent> queue;
+    private volatile AdaptiveChangeEventQueuePoller queuePoller;
     private volatile boolean currentTaskRunning;
     private volatile Throwable readException;
 
     private MySqlBinlogSplitReadTask binlogSplitReadTask;
     private MySqlBinlogSplit currentBinlogSplit;
-    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> index of finished splits, dropped once the table enters pure binlog phase
+    private Map<TableId, FinishedSnapshotSplitIndex> finishedSplitsIndex;
+    // tableId -> name of the chunk key field in change record structs
+    private final Map<TableId, String> chunkKeyFieldNames;
     // tableId -> the max splitHighWatermark
     private Map<TableId, BinlogOffset> maxSplitHighWatermarkMap;
     private final Set<TableId> pureBinlogPhaseTables;
@@ -111,6 +115,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.currentTaskRunning = true;
         this.pureBinlogPhaseTables = new HashSet<>();
+        this.chunkKeyFieldNames = new HashMap<>();
         this.isParsingOnLineSchemaChanges =
                 statefulTaskContext.getSourceConfig().isParseOnLineSchemaChanges();
         this.isBackfillSkipped = statefulTaskContext.getSourceConfig().isSkipSnapshotBackfill();
@@ -121,7 +126,10 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         configureFilter();
         statefulTaskContext.configure(currentBinlogSplit);
         this.capturedTableFilter = statefulTaskContext.getSourceConfig().getTableFilter();
-        this.queue = statefulTaskContext.getQueue();
+        this.queuePoller =
+                AdaptiveChangeEventQueuePoller.create(
+                        statefulTaskContext.getQueue(),
+                        statefulTaskContext.getSourceConfig().getDbzProperties());
         this.binlogSplitReadTask =
                 new MySqlBinlogSplitReadTask(
                         statefulTaskContext.getConnectorConfig(),
@@ -163,9 +171,9 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
     @Override
     public Iterator<SourceRecords> pollSplitRecords() throws InterruptedException {
         checkReadException();
-        final List<SourceRecord> sourceRecords = new ArrayList<>();
         if (currentTaskRunning) {
-            List<DataChangeEvent> batch = queue.poll();
+            List<DataChangeEvent> batch = queuePoller.poll();
+            final List<SourceRecord> sourceRecords = new ArrayList<>(batch.size());
             for (DataChangeEvent event : batch) {
                 if (isEndWatermarkEvent(event.getRecord())) {
                     LOG.info("Read split {} end watermark event", currentBinlogSplit);
@@ -189,9 +197,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                     sourceRecords.add(event.getRecord());
                 }
             }
-            List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-            sourceRecordsSet.add(new SourceRecords(sourceRecords));
-            return sourceRecordsSet.iterator();
+            return Collections.singletonList(new SourceRecords(sourceRecords)).iterator();
         } else {
             return null;
         }
@@ -268,25 +274,16 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
             }
 
             // only the table who captured snapshot splits need to filter
-            if (finishedSplitsInfo.containsKey(tableId)) {
+            FinishedSnapshotSplitIndex splitIndex = finishedSplitsIndex.get(tableId);
+            if (splitIndex != null) {
                 // if backfill skipped, don't need to filter
                 if (isBackfillSkipped) {
                     return true;
                 }
-                RowType splitKeyType =
-                        ChunkUtils.getChunkKeyColumnType(
-                                statefulTaskContext.getDatabaseSchema().tableFor(tableId),
-                                statefulTaskContext.getSourceConfig().getChunkKeyColumns(),
-                                statefulTaskContext.getSourceConfig().isTreatTinyInt1AsBoolean());
-
                 Struct target = RecordUtils.getStructContainsChunkKey(sourceRecord);
-                Object[] chunkKey =
-                        SplitKeyUtils.getSplitKey(
-                                splitKeyType, statefulTaskContext.getSchemaNameAdjuster(), target);
+                Object chunkKey = target.get(getChunkKeyFieldName(tableId));
 
-                FinishedSnapshotSplitInfo matchedSplit =
-                        SplitKeyUtils.findSplitByKeyBinary(
-                                finishedSplitsInfo.get(tableId), chunkKey);
+                FinishedSnapshotSplitInfo matchedSplit = splitIndex.findSplit(chunkKey);
 
                 return matchedSplit != null && position.isAfter(matchedSplit.getHighWatermark());
             }
@@ -295,6 +292,8 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         } else if (RecordUtils.isSchemaChangeEvent(sourceRecord)) {
             if (RecordUtils.isTableChangeRecord(sourceRecord)) {
                 TableId tableId = RecordUtils.getTableId(sourceRecord);
+                // chunk key column might be changed by DDL
+                chunkKeyFieldNames.remove(tableId);
                 return capturedTableFilter.test(tableId);
             } else {
                 // Not related to changes in table structure, like `CREATE/DROP DATABASE`, skip it
@@ -309,6 +308,9 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         if (maxSplitHighWatermarkMap.containsKey(tableId)
                 && position.isAfter(maxSplitHighWatermarkMap.get(tableId))) {
             pureBinlogPhaseTables.add(tableId);
+            // finished splits are never looked up again for this table
+            finishedSplitsIndex.remove(tableId);
+            chunkKeyFieldNames.remove(tableId);
             return true;
         }
 
@@ -323,6 +325,24 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         return false;
     }
 
+    private String getChunkKeyFieldName(TableId tableId) {
+        String fieldName = chunkKeyFieldNames.get(tableId);
+        if (fieldName == null) {
+            RowType splitKeyType =
+                    ChunkUtils.getChunkKeyColumnType(
+                            statefulTaskContext.getDatabaseSchema().tableFor(tableId),
+                            statefulTaskContext.getSourceConfig().getChunkKeyColumns(),
+                            statefulTaskContext.getSourceConfig().isTreatTinyInt1AsBoolean());
+            // the split key field contains single field now
+            fieldName =
+                    statefulTaskContext
+                            .getSchemaNameAdjuster()
+                            .adjust(splitKeyType.getFieldNames().get(0));
+            chunkKeyFieldNames.put(tableId, fieldName);
+        }
+        return fieldName;
+    }
+
     private void configureFilter() {
         List<FinishedSnapshotSplitInfo> finishedSplitInfos =
                 currentBinlogSplit.getFinishedSnapshotSplitInfos();
@@ -349,11 +369,13 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                     tableIdBinlogPositionMap.put(tableId, highWatermark);
                 }
             }
-            // Sort splits by splitStart for binary search optimization
-            // Binary search requires sorted data to work correctly
-            splitsInfoMap.values().forEach(SplitKeyUtils::sortFinishedSplitInfos);
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, FinishedSnapshotSplitIndex> splitsIndexMap = new HashMap<>();
+        splitsInfoMap.forEach(
+                (tableId, splits) ->
+                        splitsIndexMap.put(tableId, FinishedSnapshotSplitIndex.of(splits)));
+        this.finishedSplitsIndex = splitsIndexMap;
+        this.chunkKeyFieldNames.clear();
         this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
         this.pureBinlogPhaseTables.clear();
     }
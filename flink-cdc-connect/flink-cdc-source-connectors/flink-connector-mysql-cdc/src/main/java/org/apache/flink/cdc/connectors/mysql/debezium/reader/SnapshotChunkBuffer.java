@@ -0,0 +1,620 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+import org.apache.flink.util.IOUtils;
+import org.apache.flink.util.InstantiationUtil;
+
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A buffer of the events of a snapshot split, which normalizes the snapshot events with the binlog
+ * events read between the low and high watermark.
+ *
+ * <p>Snapshot events are appended in reading order. Once the estimated size of the events held in
+ * memory exceeds the memory budget, they are spilled to an append-only local file. Binlog events
+ * are only resolved to the keys they upsert, which are usually a few ones.
+ *
+ * <p>Normalized events are produced by one sequential scan over spilled and buffered snapshot
+ * events. Events whose key is not upserted by any binlog event are emitted as they are, so they
+ * never need to be looked up by key. Only the events of upserted keys are held back and emitted
+ * after the binlog upserts are applied to them. If the backfill window is empty, all snapshot
+ * events are streamed directly.
+ */
+public class SnapshotChunkBuffer implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotChunkBuffer.class);
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INT = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte MAP = 5;
+    private static final byte SERIALIZED = 6;
+
+    private final long maxMemoryBytes;
+    @Nullable private final File spillDirectory;
+
+    private final List<SourceRecord> bufferedRecords = new ArrayList<>();
+    private long bufferedBytes;
+
+    @Nullable private Path spillFile;
+    @Nullable private DataOutputStream spillOutput;
+    @Nullable private DataInputStream spillInput;
+    private int spilledRecords;
+
+    /** Schemas of spilled events, spilled events are restored with the same schema instances. */
+    private final List<Schema> spilledSchemas = new ArrayList<>();
+
+    private final Map<Schema, Integer> spilledSchemaIds = new IdentityHashMap<>();
+
+    private final List<BinlogUpsert> binlogUpserts = new ArrayList<>();
+    private final Set<Struct> upsertedKeys = new HashSet<>();
+
+    public SnapshotChunkBuffer(long maxMemoryBytes, @Nullable File spillDirectory) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /** Creates a buffer which holds all events in memory. */
+    public static SnapshotChunkBuffer inMemory() {
+        return new SnapshotChunkBuffer(Long.MAX_VALUE, null);
+    }
+
+    public void addSnapshotRecord(SourceRecord record) throws IOException {
+        bufferedRecords.add(record);
+        if (maxMemoryBytes == Long.MAX_VALUE) {
+            return;
+        }
+        bufferedBytes += estimateSize(record.key()) + estimateSize(record.value());
+        if (bufferedBytes > maxMemoryBytes) {
+            spill();
+        }
+    }
+
+    public void addBinlogRecord(
+            SourceRecord record,
+            RowType splitKeyType,
+            SchemaNameAdjuster nameAdjuster,
+            Object[] splitStart,
+            Object[] splitEnd) {
+        RecordUtils.upsertBinlog(
+                record,
+                splitKeyType,
+                nameAdjuster,
+                splitStart,
+                splitEnd,
+                (keyStruct, isDelete) -> {
+                    binlogUpserts.add(new BinlogUpsert(record, keyStruct, isDelete));
+                    upsertedKeys.add(keyStruct);
+                });
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Returns the normalized snapshot events, whose message timestamp is formatted. The buffer
+     * should not be modified afterward, and is closed once all events have been iterated.
+     */
+    public Iterator<SourceRecord> normalizedRecords() throws IOException {
+        if (spillOutput != null) {
+            spillOutput.close();
+            spillOutput = null;
+            spillInput =
+                    new DataInputStream(
+                            new BufferedInputStream(Files.newInputStream(spillFile), 64 * 1024));
+        }
+        return new NormalizedRecordIterator();
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(spillOutput);
+        IOUtils.closeQuietly(spillInput);
+        spillOutput = null;
+        spillInput = null;
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete the spill file {} of snapshot split.", spillFile, e);
+            }
+            spillFile = null;
+        }
+        bufferedRecords.clear();
+    }
+
+    private void spill() throws IOException {
+        if (spillOutput == null) {
+            spillFile = Files.createTempFile(spillDirectory.toPath(), "snapshot-chunk-", ".spill");
+            spillOutput =
+                    new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(spillFile), 64 * 1024));
+            LOG.info(
+                    "Snapshot split events exceed the memory budget of {} bytes, spill them to {}.",
+                    maxMemoryBytes,
+                    spillFile);
+        }
+        for (SourceRecord record : bufferedRecords) {
+            writeRecord(record, spillOutput);
+        }
+        spilledRecords += bufferedRecords.size();
+        bufferedRecords.clear();
+        bufferedBytes = 0;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Normalization
+    // ------------------------------------------------------------------------------------------
+
+    private class NormalizedRecordIterator implements Iterator<SourceRecord> {
+
+        private final Map<Struct, List<SourceRecord>> upsertedRecords = new LinkedHashMap<>();
+        private int nextSpilledRecord;
+        private int nextBufferedRecord;
+        @Nullable private Iterator<SourceRecord> upsertedRecordIterator;
+        @Nullable private SourceRecord next;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = advance();
+                } catch (IOException e) {
+                    close();
+                    throw new FlinkRuntimeException(
+                            "Failed to read the spilled events of snapshot split.", e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public SourceRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SourceRecord record = next;
+            next = null;
+            return RecordUtils.formatMessageTimestamp(record);
+        }
+
+        @Nullable
+        private SourceRecord advance() throws IOException {
+            SourceRecord record;
+            while ((record = nextSnapshotRecord()) != null) {
+                if (upsertedKeys.isEmpty()) {
+                    return record;
+                }
+                Struct key = (Struct) (record.key() != null ? record.key() : record.value());
+                if (!upsertedKeys.contains(key)) {
+                    return record;
+                }
+                if (record.key() != null) {
+                    upsertedRecords.put(key, Collections.singletonList(record));
+                } else {
+                    upsertedRecords.computeIfAbsent(key, k -> new LinkedList<>()).add(record);
+                }
+            }
+
+            if (upsertedRecordIterator == null) {
+                for (BinlogUpsert upsert : binlogUpserts) {
+                    RecordUtils.upsertBinlog(
+                            upsertedRecords, upsert.record, upsert.keyStruct, upsert.isDelete);
+                }
+                upsertedRecordIterator =
+                        upsertedRecords.values().stream().flatMap(Collection::stream).iterator();
+            }
+            if (upsertedRecordIterator.hasNext()) {
+                return upsertedRecordIterator.next();
+            }
+            close();
+            return null;
+        }
+
+        @Nullable
+        private SourceRecord nextSnapshotRecord() throws IOException {
+            if (nextSpilledRecord < spilledRecords) {
+                nextSpilledRecord++;
+                return readRecord(spillInput);
+            }
+            if (nextBufferedRecord < bufferedRecords.size()) {
+                // release buffered events as soon as they are emitted
+                return bufferedRecords.set(nextBufferedRecord++, null);
+            }
+            return null;
+        }
+    }
+
+    private static class BinlogUpsert {
+        private final SourceRecord record;
+        private final Struct keyStruct;
+        private final boolean isDelete;
+
+        private BinlogUpsert(SourceRecord record, Struct keyStruct, boolean isDelete) {
+            this.record = record;
+            this.keyStruct = keyStruct;
+            this.isDelete = isDelete;
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Spilling
+    // ------------------------------------------------------------------------------------------
+
+    private void writeRecord(SourceRecord record, DataOutputStream out) throws IOException {
+        writeGeneric(record.sourcePartition(), out);
+        writeGeneric(record.sourceOffset(), out);
+        writeString(record.topic(), out);
+        writeGeneric(record.kafkaPartition(), out);
+        writeSchema(record.keySchema(), out);
+        writeValue(record.keySchema(), record.key(), out);
+        writeSchema(record.valueSchema(), out);
+        writeValue(record.valueSchema(), record.value(), out);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SourceRecord readRecord(DataInputStream in) throws IOException {
+        Map<String, ?> sourcePartition = (Map<String, ?>) readGeneric(in);
+        Map<String, ?> sourceOffset = (Map<String, ?>) readGeneric(in);
+        String topic = readString(in);
+        Integer kafkaPartition = (Integer) readGeneric(in);
+        Schema keySchema = readSchema(in);
+        Object key = readValue(keySchema, in);
+        Schema valueSchema = readSchema(in);
+        Object value = readValue(valueSchema, in);
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value);
+    }
+
+    private void writeSchema(@Nullable Schema schema, DataOutputStream out) throws IOException {
+        if (schema == null) {
+            out.writeInt(-1);
+            return;
+        }
+        Integer id = spilledSchemaIds.get(schema);
+        if (id == null) {
+            id = spilledSchemas.size();
+            spilledSchemas.add(schema);
+            spilledSchemaIds.put(schema, id);
+        }
+        out.writeInt(id);
+    }
+
+    @Nullable
+    private Schema readSchema(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        return id < 0 ? null : spilledSchemas.get(id);
+    }
+
+    private static void writeValue(Schema schema, @Nullable Object value, DataOutputStream out)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                if (isDateLogicalType(schema)) {
+                    out.writeLong(((java.util.Date) value).getTime());
+                } else {
+                    out.writeInt((Integer) value);
+                }
+                break;
+            case INT64:
+                if (isDateLogicalType(schema)) {
+                    out.writeLong(((java.util.Date) value).getTime());
+                } else {
+                    out.writeLong((Long) value);
+                }
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeString((String) value, out);
+                break;
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+                    BigDecimal decimal = (BigDecimal) value;
+                    out.writeInt(decimal.scale());
+                    writeBytes(decimal.unscaledValue().toByteArray(), out);
+                } else if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    out.writeBoolean(true);
+                    writeBytes(bytes, out);
+                } else {
+                    out.writeBoolean(false);
+                    writeBytes((byte[]) value, out);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(schema.valueSchema(), element, out);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(schema.keySchema(), entry.getKey(), out);
+                    writeValue(schema.valueSchema(), entry.getValue(), out);
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(field.schema(), struct.getWithoutDefault(field.name()), out);
+                }
+                break;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(Schema schema, DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                if (isDateLogicalType(schema)) {
+                    return new java.util.Date(in.readLong());
+                }
+                return in.readInt();
+            case INT64:
+                if (isDateLogicalType(schema)) {
+                    return new java.util.Date(in.readLong());
+                }
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+                    int scale = in.readInt();
+                    return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                }
+                boolean isByteBuffer = in.readBoolean();
+                byte[] bytes = readBytes(in);
+                return isByteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(schema.valueSchema(), in));
+                }
+                return list;
+            case MAP:
+                int mapSize = in.readInt();
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(readValue(schema.keySchema(), in), readValue(schema.valueSchema(), in));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    struct.put(field, readValue(field.schema(), in));
+                }
+                return struct;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static boolean isDateLogicalType(Schema schema) {
+        return org.apache.kafka.connect.data.Date.LOGICAL_NAME.equals(schema.name())
+                || Time.LOGICAL_NAME.equals(schema.name())
+                || Timestamp.LOGICAL_NAME.equals(schema.name());
+    }
+
+    /** Writes the source partition and source offset of events, which are plain maps. */
+    private static void writeGeneric(@Nullable Object value, DataOutputStream out)
+            throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString((String) value, out);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeGeneric(entry.getKey(), out);
+                writeGeneric(entry.getValue(), out);
+            }
+        } else {
+            out.writeByte(SERIALIZED);
+            writeBytes(InstantiationUtil.serializeObject(value), out);
+        }
+    }
+
+    @Nullable
+    private static Object readGeneric(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case LONG:
+                return in.readLong();
+            case INT:
+                return in.readInt();
+            case BOOLEAN:
+                return in.readBoolean();
+            case MAP:
+                int size = in.readInt();
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readGeneric(in), readGeneric(in));
+                }
+                return map;
+            case SERIALIZED:
+                try {
+                    return InstantiationUtil.deserializeObject(
+                            readBytes(in), SnapshotChunkBuffer.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            default:
+                throw new IOException("Unknown tag " + tag);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /** Roughly estimates the heap size of a key or value of an event. */
+    private static long estimateSize(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            long size = 16;
+            for (Field field : struct.schema().fields()) {
+                size += 8 + estimateSize(struct.getWithoutDefault(field.name()));
+            }
+            return size;
+        } else if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        } else if (value instanceof ByteBuffer) {
+            return 48 + ((ByteBuffer) value).remaining();
+        } else if (value instanceof List) {
+            long size = 16;
+            for (Object element : (List<?>) value) {
+                size += 8 + estimateSize(element);
+            }
+            return size;
+        } else if (value instanceof Map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32 + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        } else {
+            return 16;
+        }
+    }
+}
@@ -30,9 +30,12 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
 import org.apache.flink.cdc.connectors.mysql.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.runtime.util.EnvironmentInformation;
 import org.apache.flink.util.FlinkRuntimeException;
+import org.apache.flink.util.IOUtils;
 import org.apache.flink.util.Preconditions;
 
+import org.apache.flink.shaded.guava31.com.google.common.collect.Iterators;
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.debezium.config.Configuration;
@@ -45,27 +48,23 @@ import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
 import io.debezium.pipeline.spi.SnapshotResult;
 import io.debezium.util.SchemaNameAdjuster;
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.createBinaryClient;
 import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlConnection;
@@ -81,6 +80,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private final ExecutorService executorService;
     private final SnapshotPhaseHooks hooks;
 
+    /** The directory to spill normalized events of a snapshot split which exceeds memory. */
+    private final File spillDirectory;
+
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile boolean currentTaskRunning;
     private volatile Throwable readException;
@@ -97,20 +99,35 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
 
     private static final long READER_CLOSE_TIMEOUT = 30L;
 
+    /** The max number of normalized events of a snapshot split handed over at once. */
+    private static final int NORMALIZED_RECORDS_BATCH_SIZE = 1024;
+
+    // buffer of the snapshot split being read, it is handed over to the returned records of the
+    // split once all events of the split are read, and is closed by them afterward
+    @Nullable private SnapshotChunkBuffer chunkBuffer;
+
     public SnapshotSplitReader(
-            MySqlSourceConfig sourceConfig, int subtaskId, SnapshotPhaseHooks hooks) {
+            MySqlSourceConfig sourceConfig,
+            int subtaskId,
+            SnapshotPhaseHooks hooks,
+            File spillDirectory) {
         this(
                 new StatefulTaskContext(
                         sourceConfig,
                         createBinaryClient(sourceConfig.getDbzConfiguration()),
                         createMySqlConnection(sourceConfig)),
                 subtaskId,
-                hooks);
+                hooks,
+                spillDirectory);
     }
 
     public SnapshotSplitReader(
-            StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+            StatefulTaskContext statefulTaskContext,
+            int subtaskId,
+            SnapshotPhaseHooks hooks,
+            File spillDirectory) {
         this.statefulTaskContext = statefulTaskContext;
+        this.spillDirectory = spillDirectory;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-reader-" + subtaskId)
@@ -124,12 +141,22 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
         this.reachEnd = new AtomicBoolean(false);
     }
 
+    public SnapshotSplitReader(
+            StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+        this(
+                statefulTaskContext,
+                subtaskId,
+                hooks,
+                new File(EnvironmentInformation.getTemporaryFileDirectory()));
+    }
+
     public SnapshotSplitReader(StatefulTaskContext statefulTaskContext, int subtaskId) {
         this(statefulTaskContext, subtaskId, SnapshotPhaseHooks.empty());
     }
 
     @Override
     public void submitSplit(MySqlSplit mySqlSplit) {
+        closeChunkBuffer();
         this.currentSnapshotSplit = mySqlSplit.asSnapshotSplit();
         statefulTaskContext.configure(currentSnapshotSplit);
         this.queue = statefulTaskContext.getQueue();
@@ -318,67 +345,91 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
 
-        Map<Struct, List<SourceRecord>> snapshotRecords = new HashMap<>();
-        while (!reachBinlogEnd) {
-            checkReadException();
-            List<DataChangeEvent> batch = queue.poll();
-            for (DataChangeEvent event : batch) {
-                SourceRecord record = event.getRecord();
-                if (lowWatermark == null) {
-                    lowWatermark = record;
-                    assertLowWatermark(lowWatermark);
-                    continue;
-                }
+        final SnapshotChunkBuffer buffer = createChunkBuffer();
+        chunkBuffer = buffer;
+        final Iterator<SourceRecord> normalizedRecords;
+        try {
+            while (!reachBinlogEnd) {
+                checkReadException();
+                List<DataChangeEvent> batch = queue.poll();
+                for (DataChangeEvent event : batch) {
+                    SourceRecord record = event.getRecord();
+                    if (lowWatermark == null) {
+                        lowWatermark = record;
+                        assertLowWatermark(lowWatermark);
+                        continue;
+                    }
 
-                if (highWatermark == null && RecordUtils.isHighWatermarkEvent(record)) {
-                    highWatermark = record;
-                    // snapshot events capture end and begin to capture binlog events
-                    reachBinlogStart = true;
-                    continue;
-                }
+                    if (highWatermark == null && RecordUtils.isHighWatermarkEvent(record)) {
+                        highWatermark = record;
+                        // snapshot events capture end and begin to capture binlog events
+                        reachBinlogStart = true;
+                        continue;
+                    }
 
-                if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
-                    // capture to end watermark events, stop the loop
-                    reachBinlogEnd = true;
-                    break;
-                }
+                    if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
+                        // capture to end watermark events, stop the loop
+                        reachBinlogEnd = true;
+                        break;
+                    }
 
-                if (!reachBinlogStart) {
-                    if (record.key() != null) {
-                        snapshotRecords.put(
-                                (Struct) record.key(), Collections.singletonList(record));
+                    if (!reachBinlogStart) {
+                        buffer.addSnapshotRecord(record);
                     } else {
-                        List<SourceRecord> records =
-                                snapshotRecords.computeIfAbsent(
-                                        (Struct) record.value(), key -> new LinkedList<>());
-                        records.add(record);
+                        buffer.addBinlogRecord(
+                                record,
+                                currentSnapshotSplit.getSplitKeyType(),
+                                nameAdjuster,
+                                currentSnapshotSplit.getSplitStart(),
+                                currentSnapshotSplit.getSplitEnd());
                     }
-                } else {
-                    RecordUtils.upsertBinlog(
-                            snapshotRecords,
-                            record,
-                            currentSnapshotSplit.getSplitKeyType(),
-                            nameAdjuster,
-                            currentSnapshotSplit.getSplitStart(),
-                            currentSnapshotSplit.getSplitEnd());
                 }
             }
+            normalizedRecords = buffer.normalizedRecords();
+        } catch (IOException e) {
+            closeChunkBuffer();
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Buffer split %s error due to %s.",
+                            currentSnapshotSplit, e.getMessage()),
+                    e);
         }
         // snapshot split return its data once
         hasNextElement.set(false);
+        // the returned records may be read by another thread after this reader moves on to the
+        // next split or is closed, so the buffer is owned and closed by the returned records
+        chunkBuffer = null;
+
+        if (buffer.isSpilled()) {
+            // spilled events are read lazily, the buffer is closed once they are all read
+            final Iterator<SourceRecord> records =
+                    Iterators.concat(
+                            Iterators.singletonIterator(lowWatermark),
+                            normalizedRecords,
+                            Iterators.singletonIterator(highWatermark));
+            return Iterators.transform(
+                    Iterators.partition(records, NORMALIZED_RECORDS_BATCH_SIZE),
+                    SourceRecords::new);
+        }
 
-        final List<SourceRecord> normalizedRecords = new ArrayList<>();
-        normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(
-                RecordUtils.formatMessageTimestamp(
-                        snapshotRecords.values().stream()
-                                .flatMap(Collection::stream)
-                                .collect(Collectors.toList())));
-        normalizedRecords.add(highWatermark);
-
-        final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-        sourceRecordsSet.add(new SourceRecords(normalizedRecords));
-        return sourceRecordsSet.iterator();
+        final List<SourceRecord> records = new ArrayList<>();
+        records.add(lowWatermark);
+        Iterators.addAll(records, normalizedRecords);
+        records.add(highWatermark);
+        return Collections.singletonList(new SourceRecords(records)).iterator();
+    }
+
+    private void closeChunkBuffer() {
+        IOUtils.closeQuietly(chunkBuffer);
+        chunkBuffer = null;
+    }
+
+    private SnapshotChunkBuffer createChunkBuffer() {
+        long maxMemory = statefulTaskContext.getSourceConfig().getSnapshotChunkBufferMaxMemory();
+        if (maxMemory <= 0 || maxMemory == Long.MAX_VALUE) {
+            return SnapshotChunkBuffer.inMemory();
+        }
+        return new SnapshotChunkBuffer(maxMemory, spillDirectory);
     }
 
     private void checkReadException() {
@@ -416,6 +467,7 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     public void close() {
         try {
             stopCurrentTask();
+            closeChunkBuffer();
             if (statefulTaskContext != null) {
                 statefulTaskContext.close();
             }
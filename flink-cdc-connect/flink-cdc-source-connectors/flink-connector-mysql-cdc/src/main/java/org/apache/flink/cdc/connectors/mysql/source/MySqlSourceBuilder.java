@@ -305,6 +305,45 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The max memory in bytes to buffer the events of a snapshot split, events exceeding it are
+     * spilled to local disk. Events are buffered in memory without limit by default.
+     */
+    public MySqlSourceBuilder<T> snapshotChunkBufferMaxMemory(long maxMemoryBytes) {
+        this.configFactory.snapshotChunkBufferMaxMemory(maxMemoryBytes);
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently by the enumerator, each of them holds
+     * a connection of the connection pool. Defaults to 1.
+     */
+    public MySqlSourceBuilder<T> chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.configFactory.chunkSplittingParallelism(chunkSplittingParallelism);
+        return this;
+    }
+
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed. Chunk boundaries are then derived from a random sample of chunk key
+     * values by a single query. Defaults to 0, which disables sampling.
+     */
+    public MySqlSourceBuilder<T> samplesPerChunk(int samplesPerChunk) {
+        this.configFactory.samplesPerChunk(samplesPerChunk);
+        return this;
+    }
+
+    /**
+     * The number of threads used to deserialize binlog row events in parallel, while events are
+     * still handled in binlog order. Defaults to 0, which deserializes row events by the binlog
+     * client thread.
+     */
+    public MySqlSourceBuilder<T> binlogDeserializationParallelism(
+            int binlogDeserializationParallelism) {
+        this.configFactory.binlogDeserializationParallelism(binlogDeserializationParallelism);
+        return this;
+    }
+
     /**
      * Build the {@link MySqlSource}.
      *
@@ -27,6 +27,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import org.apache.flink.cdc.connectors.mysql.source.utils.ChunkUtils;
 import org.apache.flink.cdc.connectors.mysql.source.utils.ObjectUtils;
 import org.apache.flink.cdc.connectors.mysql.source.utils.StatementUtils;
+import org.apache.flink.cdc.debezium.utils.ChunkSamplingUtils;
 import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.LogicalTypeRoot;
 import org.apache.flink.table.types.logical.RowType;
@@ -114,10 +115,13 @@ public class MySqlChunkSplitter implements ChunkSplitter {
             throws Exception {
         if (!hasNextChunk()) {
             analyzeTable(partition, tableId);
-            Optional<List<MySqlSnapshotSplit>> evenlySplitChunks =
+            Optional<List<MySqlSnapshotSplit>> allSplitChunks =
                     trySplitAllEvenlySizedChunks(partition, tableId);
-            if (evenlySplitChunks.isPresent()) {
-                return evenlySplitChunks.get();
+            if (!allSplitChunks.isPresent()) {
+                allSplitChunks = trySplitAllChunksBySampling(partition, tableId);
+            }
+            if (allSplitChunks.isPresent()) {
+                return allSplitChunks.get();
             } else {
                 synchronized (lock) {
                     this.currentSplittingTableId = tableId;
@@ -242,6 +246,42 @@ public class MySqlChunkSplitter implements ChunkSplitter {
         }
     }
 
+    /**
+     * Try to split all chunks by a random sample of split column values, or else return empty.
+     *
+     * <p>Instead of querying the end of every unevenly-sized chunk one by one, about {@code
+     * samplesPerChunk} split column values per chunk are sampled by a single query, and chunk
+     * boundaries are picked from the sorted samples at even intervals.
+     */
+    private Optional<List<MySqlSnapshotSplit>> trySplitAllChunksBySampling(
+            MySqlPartition partition, TableId tableId) throws SQLException {
+        final int samplesPerChunk = sourceConfig.getSamplesPerChunk();
+        final int chunkSize = sourceConfig.getSplitSize();
+        if (!ChunkSamplingUtils.isSplitBySampling(approximateRowCnt, chunkSize, samplesPerChunk)) {
+            return Optional.empty();
+        }
+        final int chunkCount = ChunkSamplingUtils.chunkCount(approximateRowCnt, chunkSize);
+        final double samplingRate =
+                ChunkSamplingUtils.samplingRate(approximateRowCnt, chunkSize, samplesPerChunk);
+        List<Object> samples =
+                StatementUtils.querySampledValues(
+                        jdbcConnection, tableId, splitColumn.name(), samplingRate);
+        if (samples.isEmpty()) {
+            LOG.debug("No samples of table {}, fall back to query chunk boundaries", tableId);
+            return Optional.empty();
+        }
+        LOG.info(
+                "Use sampled chunks for table {}, the approximate row count is {}, the chunk size is {}, the sampling rate is {}, the number of samples is {}",
+                tableId,
+                approximateRowCnt,
+                chunkSize,
+                samplingRate,
+                samples.size());
+        List<ChunkRange> chunks =
+                ChunkSamplingUtils.splitChunksBySamples(samples, chunkCount, ChunkRange::of);
+        return Optional.of(generateSplits(partition, tableId, chunks));
+    }
+
     /** Generates all snapshot splits (chunks) from chunk ranges. */
     private List<MySqlSnapshotSplit> generateSplits(
             MySqlPartition partition, TableId tableId, List<ChunkRange> chunks) {
@@ -468,6 +508,10 @@ public class MySqlChunkSplitter implements ChunkSplitter {
         return currentSplittingTableId;
     }
 
+    public ChunkSplitterState.ChunkBound getNextChunkStart() {
+        return nextChunkStart;
+    }
+
     public Integer getNextChunkId() {
         return nextChunkId;
     }
@@ -46,6 +46,7 @@ import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -66,6 +67,10 @@ import java.util.stream.Collectors;
  * A {@link MySqlSplitAssigner} that splits tables into small chunk splits based on primary key
  * range and chunk size.
  *
+ * <p>Tables are split asynchronously by a pool of {@link MySqlChunkSplitter}s, each of which splits
+ * one table at a time. The splits of a table are available for assignment as soon as they are
+ * generated.
+ *
  * @see MySqlSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE
  */
 public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
@@ -85,9 +90,19 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     private final MySqlPartition partition;
     private final Object lock = new Object();
 
+    private final List<MySqlChunkSplitter> chunkSplitters;
+
+    /** The tables that are being split by one of the chunk splitters, guarded by the lock. */
+    private final Set<TableId> splittingTables;
+
+    /**
+     * The states of the tables that are being split chunk by chunk, which are updated together with
+     * the splits of these tables under the lock, so that checkpoints are consistent per table.
+     */
+    private final Map<TableId, ChunkSplitterState> splittingTableStates;
+
     private volatile Throwable uncaughtSplitterException;
     private AssignerStatus assignerStatus;
-    private MySqlChunkSplitter chunkSplitter;
     private boolean isTableIdCaseSensitive;
     private ExecutorService executor;
 
@@ -111,7 +126,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                 remainingTables,
                 isTableIdCaseSensitive,
                 true,
-                ChunkSplitterState.NO_SPLITTING_TABLE_STATE,
+                Collections.emptyList(),
                 enumeratorContext);
     }
 
@@ -132,7 +147,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                 checkpoint.getRemainingTables(),
                 checkpoint.isTableIdCaseSensitive(),
                 checkpoint.isRemainingTablesCheckpointed(),
-                checkpoint.getChunkSplitterState(),
+                checkpoint.getChunkSplitterStates(),
                 enumeratorContext);
     }
 
@@ -148,7 +163,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
             List<TableId> remainingTables,
             boolean isTableIdCaseSensitive,
             boolean isRemainingTablesCheckpointed,
-            ChunkSplitterState chunkSplitterState,
+            List<ChunkSplitterState> chunkSplitterStates,
             SplitEnumeratorContext<MySqlSplit> enumeratorContext) {
         this.sourceConfig = sourceConfig;
         this.currentParallelism = currentParallelism;
@@ -171,8 +186,27 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         this.remainingTables = new CopyOnWriteArrayList<>(remainingTables);
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
-        this.chunkSplitter =
-                createChunkSplitter(sourceConfig, isTableIdCaseSensitive, chunkSplitterState);
+        this.chunkSplitters = new ArrayList<>();
+        this.splittingTables = new HashSet<>();
+        this.splittingTableStates = new LinkedHashMap<>();
+        for (ChunkSplitterState chunkSplitterState : chunkSplitterStates) {
+            // resume splitting the tables from the previous checkpoint
+            TableId tableId = chunkSplitterState.getCurrentSplittingTableId();
+            if (tableId != null && sourceConfig.getTableFilter().test(tableId)) {
+                chunkSplitters.add(
+                        createChunkSplitter(
+                                sourceConfig, isTableIdCaseSensitive, chunkSplitterState));
+                splittingTables.add(tableId);
+                splittingTableStates.put(tableId, chunkSplitterState);
+            }
+        }
+        while (chunkSplitters.size() < sourceConfig.getChunkSplittingParallelism()) {
+            chunkSplitters.add(
+                    createChunkSplitter(
+                            sourceConfig,
+                            isTableIdCaseSensitive,
+                            ChunkSplitterState.NO_SPLITTING_TABLE_STATE));
+        }
         this.partition =
                 new MySqlPartition(sourceConfig.getMySqlConnectorConfig().getLogicalName());
         this.enumeratorContext = enumeratorContext;
@@ -181,7 +215,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     @Override
     public void open() {
         shouldEnterProcessingBacklog();
-        chunkSplitter.open();
+        chunkSplitters.forEach(MySqlChunkSplitter::open);
         discoveryCaptureTables();
         captureNewlyAddedTables();
         startAsynchronouslySplit();
@@ -284,39 +318,41 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     }
 
     private void startAsynchronouslySplit() {
-        if (chunkSplitter.hasNextChunk() || !remainingTables.isEmpty()) {
+        if (!splittingTables.isEmpty() || !remainingTables.isEmpty()) {
             if (executor == null) {
                 ThreadFactory threadFactory =
-                        new ThreadFactoryBuilder().setNameFormat("snapshot-splitting").build();
-                this.executor = Executors.newSingleThreadExecutor(threadFactory);
+                        new ThreadFactoryBuilder().setNameFormat("snapshot-splitting-%d").build();
+                this.executor = Executors.newFixedThreadPool(chunkSplitters.size(), threadFactory);
+            }
+            for (MySqlChunkSplitter chunkSplitter : chunkSplitters) {
+                executor.submit(() -> splitChunksForRemainingTables(chunkSplitter));
             }
-            executor.submit(this::splitChunksForRemainingTables);
         }
     }
 
-    private void splitTable(TableId nextTable) {
+    private void splitTable(MySqlChunkSplitter chunkSplitter, TableId nextTable) {
         LOG.info("Start splitting table {} into chunks...", nextTable);
         long start = System.currentTimeMillis();
         int chunkNum = 0;
         boolean hasRecordSchema = false;
         // split the given table into chunks (snapshot splits)
         do {
-            synchronized (lock) {
-                List<MySqlSnapshotSplit> splits;
-                try {
-                    splits = chunkSplitter.splitChunks(partition, nextTable);
-                } catch (Exception e) {
-                    throw new IllegalStateException(
-                            "Error when splitting chunks for " + nextTable, e);
-                }
+            // query chunks without holding the lock, so that other tables could be split and
+            // splits could be assigned meanwhile
+            List<MySqlSnapshotSplit> splits;
+            try {
+                splits = chunkSplitter.splitChunks(partition, nextTable);
+            } catch (Exception e) {
+                throw new IllegalStateException("Error when splitting chunks for " + nextTable, e);
+            }
 
+            synchronized (lock) {
                 if (!hasRecordSchema && !splits.isEmpty()) {
                     hasRecordSchema = true;
-                    final Map<TableId, TableChanges.TableChange> tableSchema = new HashMap<>();
-                    tableSchema.putAll(splits.iterator().next().getTableSchemas());
-                    tableSchemas.putAll(tableSchema);
+                    tableSchemas.putAll(splits.iterator().next().getTableSchemas());
                 }
 
+                List<MySqlSchemalessSnapshotSplit> boundedSplits = new ArrayList<>(splits.size());
                 for (MySqlSnapshotSplit split : splits) {
                     MySqlSchemalessSnapshotSplit schemalessSnapshotSplit =
                             split.toSchemalessSnapshotSplit();
@@ -324,12 +360,23 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                         // assign unbounded split first
                         remainingSplits.add(0, schemalessSnapshotSplit);
                     } else {
-                        remainingSplits.add(schemalessSnapshotSplit);
+                        boundedSplits.add(schemalessSnapshotSplit);
                     }
                 }
+                // add splits in batch to avoid copying the remaining splits for every split
+                remainingSplits.addAll(boundedSplits);
 
                 chunkNum += splits.size();
-                if (!chunkSplitter.hasNextChunk()) {
+                if (chunkSplitter.hasNextChunk()) {
+                    splittingTableStates.put(
+                            nextTable,
+                            new ChunkSplitterState(
+                                    chunkSplitter.getCurrentSplittingTableId(),
+                                    chunkSplitter.getNextChunkStart(),
+                                    chunkSplitter.getNextChunkId()));
+                } else {
+                    splittingTableStates.remove(nextTable);
+                    splittingTables.remove(nextTable);
                     remainingTables.remove(nextTable);
                 }
                 lock.notify();
@@ -437,18 +484,23 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
 
     @Override
     public SnapshotPendingSplitsState snapshotState(long checkpointId) {
-        SnapshotPendingSplitsState state =
-                new SnapshotPendingSplitsState(
-                        alreadyProcessedTables,
-                        remainingSplits,
-                        assignedSplits,
-                        tableSchemas,
-                        splitFinishedOffsets,
-                        assignerStatus,
-                        remainingTables,
-                        isTableIdCaseSensitive,
-                        true,
-                        chunkSplitter.snapshotState(checkpointId));
+        SnapshotPendingSplitsState state;
+        synchronized (lock) {
+            // take a consistent view of the remaining splits and tables, as they might be
+            // updated by the splitting threads concurrently
+            state =
+                    new SnapshotPendingSplitsState(
+                            alreadyProcessedTables,
+                            new ArrayList<>(remainingSplits),
+                            assignedSplits,
+                            new HashMap<>(tableSchemas),
+                            splitFinishedOffsets,
+                            assignerStatus,
+                            new ArrayList<>(remainingTables),
+                            isTableIdCaseSensitive,
+                            true,
+                            new ArrayList<>(splittingTableStates.values()));
+        }
         // we need a complete checkpoint before mark this assigner to be finished, to wait for
         // all records of snapshot splits are completely processed
         if (checkpointIdToFinish == null
@@ -499,15 +551,19 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     @Override
     public void close() {
         closeExecutorService();
-        if (chunkSplitter != null) {
+        for (MySqlChunkSplitter chunkSplitter : chunkSplitters) {
             try {
                 chunkSplitter.close();
-                // clear jdbc connection pools
-                JdbcConnectionPools.getInstance().clear();
             } catch (Exception e) {
                 LOG.warn("Fail to close the chunk splitter.");
             }
         }
+        try {
+            // clear jdbc connection pools
+            JdbcConnectionPools.getInstance().clear();
+        } catch (Exception e) {
+            LOG.warn("Fail to clear the jdbc connection pools.");
+        }
     }
 
     private void closeExecutorService() {
@@ -567,7 +623,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         return noMoreSplits() && assignedSplits.size() == splitFinishedOffsets.size();
     }
 
-    private void splitChunksForRemainingTables() {
+    private void splitChunksForRemainingTables(MySqlChunkSplitter chunkSplitter) {
         try {
             // restore from a checkpoint and start to split the table from the previous
             // checkpoint
@@ -575,12 +631,13 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                 LOG.info(
                         "Start splitting remaining chunks for table {}",
                         chunkSplitter.getCurrentSplittingTableId());
-                splitTable(chunkSplitter.getCurrentSplittingTableId());
+                splitTable(chunkSplitter, chunkSplitter.getCurrentSplittingTableId());
             }
 
             // split the remaining tables
-            for (TableId nextTable : remainingTables) {
-                splitTable(nextTable);
+            TableId nextTable;
+            while ((nextTable = pollNextTableToSplit()) != null) {
+                splitTable(chunkSplitter, nextTable);
             }
         } catch (Throwable e) {
             synchronized (lock) {
@@ -595,6 +652,19 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         }
     }
 
+    /** Picks a remaining table that is not being split by any other chunk splitter. */
+    @Nullable
+    private TableId pollNextTableToSplit() {
+        synchronized (lock) {
+            for (TableId tableId : remainingTables) {
+                if (splittingTables.add(tableId)) {
+                    return tableId;
+                }
+            }
+            return null;
+        }
+    }
+
     private void checkSplitterErrors() {
         if (uncaughtSplitterException != null) {
             throw new FlinkRuntimeException(
@@ -607,16 +677,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
             boolean isTableIdCaseSensitive,
             ChunkSplitterState chunkSplitterState) {
         MySqlSchema mySqlSchema = new MySqlSchema(sourceConfig, isTableIdCaseSensitive);
-        if (!ChunkSplitterState.NO_SPLITTING_TABLE_STATE.equals(chunkSplitterState)) {
-            TableId tableId = chunkSplitterState.getCurrentSplittingTableId();
-            return new MySqlChunkSplitter(
-                    mySqlSchema,
-                    sourceConfig,
-                    tableId != null && sourceConfig.getTableFilter().test(tableId)
-                            ? chunkSplitterState
-                            : ChunkSplitterState.NO_SPLITTING_TABLE_STATE);
-        }
-        return new MySqlChunkSplitter(mySqlSchema, sourceConfig);
+        return new MySqlChunkSplitter(mySqlSchema, sourceConfig, chunkSplitterState);
     }
 
     private void shouldEnterProcessingBacklog() {
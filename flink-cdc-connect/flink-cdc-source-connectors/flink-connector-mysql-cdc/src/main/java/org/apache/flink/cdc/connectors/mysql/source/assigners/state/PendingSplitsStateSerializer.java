@@ -45,7 +45,7 @@ import java.util.Map;
 public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<PendingSplitsState> {
 
     // TODO: need proper implementation of the new version
-    private static final int VERSION = 5;
+    private static final int VERSION = 6;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -109,6 +109,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             case 3:
             case 4:
             case 5:
+            case 6:
                 return deserializePendingSplitsState(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -164,19 +165,23 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         out.writeBoolean(state.isTableIdCaseSensitive());
         MySqlSplitSerializer.writeTableSchemas(state.getTableSchemas(), out);
 
-        boolean hasTableIsSplitting =
-                state.getChunkSplitterState().getCurrentSplittingTableId() != null;
-        out.writeBoolean(hasTableIsSplitting);
-        if (hasTableIsSplitting) {
-            ChunkSplitterState chunkSplitterState = state.getChunkSplitterState();
-            out.writeUTF(chunkSplitterState.getCurrentSplittingTableId().toDoubleQuotedString());
-            out.writeUTF(
-                    SerializerUtils.rowToSerializedString(
-                            new Object[] {chunkSplitterState.getNextChunkStart().getValue()}));
-            out.writeInt(chunkSplitterState.getNextChunkId());
+        // The modification of 6th version: write the states of all tables that are being split
+        List<ChunkSplitterState> chunkSplitterStates = state.getChunkSplitterStates();
+        out.writeInt(chunkSplitterStates.size());
+        for (ChunkSplitterState chunkSplitterState : chunkSplitterStates) {
+            writeChunkSplitterState(chunkSplitterState, out);
         }
     }
 
+    private void writeChunkSplitterState(
+            ChunkSplitterState chunkSplitterState, DataOutputSerializer out) throws IOException {
+        out.writeUTF(chunkSplitterState.getCurrentSplittingTableId().toDoubleQuotedString());
+        out.writeUTF(
+                SerializerUtils.rowToSerializedString(
+                        new Object[] {chunkSplitterState.getNextChunkStart().getValue()}));
+        out.writeInt(chunkSplitterState.getNextChunkId());
+    }
+
     private void serializeHybridPendingSplitsState(
             HybridPendingSplitsState state, DataOutputSerializer out) throws IOException {
         serializeSnapshotPendingSplitsState(state.getSnapshotPendingSplits(), out);
@@ -287,15 +292,16 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             tableSchemas.putAll(MySqlSplitSerializer.readTableSchemas(splitVersion, in));
         }
 
-        TableId splittingTableId = null;
-        Object nextChunkStart = null;
-        Integer nextChunkId = null;
-        if (version > 4) {
+        List<ChunkSplitterState> chunkSplitterStates = new ArrayList<>();
+        if (version >= 6) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                chunkSplitterStates.add(readChunkSplitterState(in));
+            }
+        } else if (version > 4) {
             boolean hasTableIsSplitting = in.readBoolean();
             if (hasTableIsSplitting) {
-                splittingTableId = TableId.parse(in.readUTF());
-                nextChunkStart = SerializerUtils.serializedStringToRow(in.readUTF())[0];
-                nextChunkId = in.readInt();
+                chunkSplitterStates.add(readChunkSplitterState(in));
             }
         }
         return new SnapshotPendingSplitsState(
@@ -308,12 +314,18 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
                 remainingTableIds,
                 isTableIdCaseSensitive,
                 true,
-                splittingTableId == null
-                        ? ChunkSplitterState.NO_SPLITTING_TABLE_STATE
-                        : new ChunkSplitterState(
-                                splittingTableId,
-                                ChunkSplitterState.ChunkBound.middleOf(nextChunkStart),
-                                nextChunkId));
+                chunkSplitterStates);
+    }
+
+    private ChunkSplitterState readChunkSplitterState(DataInputDeserializer in)
+            throws IOException {
+        TableId splittingTableId = TableId.parse(in.readUTF());
+        Object nextChunkStart = SerializerUtils.serializedStringToRow(in.readUTF())[0];
+        int nextChunkId = in.readInt();
+        return new ChunkSplitterState(
+                splittingTableId,
+                ChunkSplitterState.ChunkBound.middleOf(nextChunkStart),
+                nextChunkId);
     }
 
     private HybridPendingSplitsState deserializeHybridPendingSplitsState(
@@ -27,6 +27,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSchemalessSnapsho
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -69,8 +70,11 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
 
     private final Map<TableId, TableChange> tableSchemas;
 
-    /** The data structure to record the state of a {@link ChunkSplitter}. */
-    private final ChunkSplitterState chunkSplitterState;
+    /**
+     * The data structures to record the states of {@link ChunkSplitter}s, one for each table that
+     * is being split.
+     */
+    private final List<ChunkSplitterState> chunkSplitterStates;
 
     public SnapshotPendingSplitsState(
             List<TableId> alreadyProcessedTables,
@@ -83,6 +87,32 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
             boolean isTableIdCaseSensitive,
             boolean isRemainingTablesCheckpointed,
             ChunkSplitterState chunkSplitterState) {
+        this(
+                alreadyProcessedTables,
+                remainingSplits,
+                assignedSplits,
+                tableSchemas,
+                splitFinishedOffsets,
+                assignerStatus,
+                remainingTables,
+                isTableIdCaseSensitive,
+                isRemainingTablesCheckpointed,
+                chunkSplitterState.getCurrentSplittingTableId() == null
+                        ? Collections.emptyList()
+                        : Collections.singletonList(chunkSplitterState));
+    }
+
+    public SnapshotPendingSplitsState(
+            List<TableId> alreadyProcessedTables,
+            List<MySqlSchemalessSnapshotSplit> remainingSplits,
+            Map<String, MySqlSchemalessSnapshotSplit> assignedSplits,
+            Map<TableId, TableChange> tableSchemas,
+            Map<String, BinlogOffset> splitFinishedOffsets,
+            AssignerStatus assignerStatus,
+            List<TableId> remainingTables,
+            boolean isTableIdCaseSensitive,
+            boolean isRemainingTablesCheckpointed,
+            List<ChunkSplitterState> chunkSplitterStates) {
         this.alreadyProcessedTables = alreadyProcessedTables;
         this.remainingSplits = remainingSplits;
         this.assignedSplits = assignedSplits;
@@ -92,7 +122,7 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
         this.tableSchemas = tableSchemas;
-        this.chunkSplitterState = chunkSplitterState;
+        this.chunkSplitterStates = chunkSplitterStates;
     }
 
     public List<TableId> getAlreadyProcessedTables() {
@@ -131,8 +161,8 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
         return isRemainingTablesCheckpointed;
     }
 
-    public ChunkSplitterState getChunkSplitterState() {
-        return chunkSplitterState;
+    public List<ChunkSplitterState> getChunkSplitterStates() {
+        return chunkSplitterStates;
     }
 
     @Override
@@ -152,7 +182,7 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
                 && Objects.equals(remainingSplits, that.remainingSplits)
                 && Objects.equals(assignedSplits, that.assignedSplits)
                 && Objects.equals(splitFinishedOffsets, that.splitFinishedOffsets)
-                && Objects.equals(chunkSplitterState, that.chunkSplitterState);
+                && Objects.equals(chunkSplitterStates, that.chunkSplitterStates);
     }
 
     @Override
@@ -166,7 +196,7 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
                 assignerStatus,
                 isTableIdCaseSensitive,
                 isRemainingTablesCheckpointed,
-                chunkSplitterState);
+                chunkSplitterStates);
     }
 
     @Override
@@ -188,8 +218,8 @@ public class SnapshotPendingSplitsState extends PendingSplitsState {
                 + isTableIdCaseSensitive
                 + ", isRemainingTablesCheckpointed="
                 + isRemainingTablesCheckpointed
-                + ", chunkSplitterState="
-                + chunkSplitterState
+                + ", chunkSplitterStates="
+                + chunkSplitterStates
                 + '}';
     }
 }
@@ -71,6 +71,9 @@ public class MySqlSourceConfig implements Serializable {
     private final boolean parseOnLineSchemaChanges;
     public static boolean useLegacyJsonFormat = true;
     private final boolean assignUnboundedChunkFirst;
+    private final long snapshotChunkBufferMaxMemory;
+    private final int chunkSplittingParallelism;
+    private final int samplesPerChunk;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -110,7 +113,10 @@ public class MySqlSourceConfig implements Serializable {
             boolean parseOnLineSchemaChanges,
             boolean treatTinyInt1AsBoolean,
             boolean useLegacyJsonFormat,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            long snapshotChunkBufferMaxMemory,
+            int chunkSplittingParallelism,
+            int samplesPerChunk) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
         this.username = checkNotNull(username);
@@ -155,6 +161,9 @@ public class MySqlSourceConfig implements Serializable {
         this.treatTinyInt1AsBoolean = treatTinyInt1AsBoolean;
         this.useLegacyJsonFormat = useLegacyJsonFormat;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotChunkBufferMaxMemory = snapshotChunkBufferMaxMemory;
+        this.chunkSplittingParallelism = chunkSplittingParallelism;
+        this.samplesPerChunk = samplesPerChunk;
     }
 
     public String getHostname() {
@@ -250,6 +259,18 @@ public class MySqlSourceConfig implements Serializable {
         return assignUnboundedChunkFirst;
     }
 
+    public long getSnapshotChunkBufferMaxMemory() {
+        return snapshotChunkBufferMaxMemory;
+    }
+
+    public int getChunkSplittingParallelism() {
+        return chunkSplittingParallelism;
+    }
+
+    public int getSamplesPerChunk() {
+        return samplesPerChunk;
+    }
+
     public Properties getDbzProperties() {
         return dbzProperties;
     }
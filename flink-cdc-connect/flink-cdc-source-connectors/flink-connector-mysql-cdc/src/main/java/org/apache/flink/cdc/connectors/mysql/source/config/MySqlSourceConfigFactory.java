@@ -23,6 +23,8 @@ import org.apache.flink.cdc.connectors.mysql.source.MySqlSource;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
 import org.apache.flink.table.catalog.ObjectPath;
 
+import io.debezium.connector.mysql.BinlogEventDeserializationPipeline;
+
 import java.io.Serializable;
 import java.time.Duration;
 import java.time.ZoneId;
@@ -75,6 +77,10 @@ public class MySqlSourceConfigFactory implements Serializable {
     private boolean treatTinyInt1AsBoolean = true;
     private boolean useLegacyJsonFormat = true;
     private boolean assignUnboundedChunkFirst = false;
+    private long snapshotChunkBufferMaxMemory = Long.MAX_VALUE;
+    private int chunkSplittingParallelism = 1;
+    private int samplesPerChunk = 0;
+    private int binlogDeserializationParallelism = 0;
 
     public MySqlSourceConfigFactory hostname(String hostname) {
         this.hostname = hostname;
@@ -331,6 +337,45 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * The max memory in bytes to buffer the events of a snapshot split before spilling them to
+     * local disk. Defaults to unbounded.
+     */
+    public MySqlSourceConfigFactory snapshotChunkBufferMaxMemory(long maxMemoryBytes) {
+        this.snapshotChunkBufferMaxMemory = maxMemoryBytes;
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently, each of them holds a connection of
+     * the connection pool. Defaults to 1.
+     */
+    public MySqlSourceConfigFactory chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.chunkSplittingParallelism = chunkSplittingParallelism;
+        return this;
+    }
+
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed. Chunk boundaries are then derived from a random sample of chunk key
+     * values, instead of querying the end of every chunk one by one. Defaults to 0, which disables
+     * sampling.
+     */
+    public MySqlSourceConfigFactory samplesPerChunk(int samplesPerChunk) {
+        this.samplesPerChunk = samplesPerChunk;
+        return this;
+    }
+
+    /**
+     * The number of threads used to deserialize binlog row events in parallel. Defaults to 0, which
+     * deserializes row events by the binlog client thread.
+     */
+    public MySqlSourceConfigFactory binlogDeserializationParallelism(
+            int binlogDeserializationParallelism) {
+        this.binlogDeserializationParallelism = binlogDeserializationParallelism;
+        return this;
+    }
+
     /** Creates a new {@link MySqlSourceConfig} for the given subtask {@code subtaskId}. */
     public MySqlSourceConfig createConfig(int subtaskId) {
         // hard code server name, because we don't need to distinguish it, docs:
@@ -375,6 +420,9 @@ public class MySqlSourceConfigFactory implements Serializable {
         // but it'll cause lose of precise when the value is larger than 2^63,
         // so use "precise" mode to avoid it.
         props.put("bigint.unsigned.handling.mode", "precise");
+        props.setProperty(
+                BinlogEventDeserializationPipeline.DESERIALIZATION_PARALLELISM.name(),
+                String.valueOf(binlogDeserializationParallelism));
 
         if (serverIdRange != null) {
             int serverId = serverIdRange.getServerId(subtaskId);
@@ -429,6 +477,9 @@ public class MySqlSourceConfigFactory implements Serializable {
                 parseOnLineSchemaChanges,
                 treatTinyInt1AsBoolean,
                 useLegacyJsonFormat,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotChunkBufferMaxMemory,
+                chunkSplittingParallelism,
+                samplesPerChunk);
     }
 }
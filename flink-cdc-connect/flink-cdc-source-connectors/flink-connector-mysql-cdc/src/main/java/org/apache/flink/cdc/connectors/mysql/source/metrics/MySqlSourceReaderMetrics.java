@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mysql.source.metrics;
 
 import org.apache.flink.cdc.connectors.mysql.source.reader.MySqlSourceReader;
+import org.apache.flink.cdc.debezium.internal.RecordEmitMetrics;
 import org.apache.flink.metrics.Gauge;
 import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.runtime.metrics.MetricNames;
@@ -29,6 +30,8 @@ public class MySqlSourceReaderMetrics {
 
     private final MetricGroup metricGroup;
 
+    private final RecordEmitMetrics emitMetrics = new RecordEmitMetrics();
+
     /**
      * currentFetchEventTimeLag = FetchTime - messageTimestamp, where the FetchTime is the time the
      * record fetched into the source operator.
@@ -42,6 +45,7 @@ public class MySqlSourceReaderMetrics {
     public void registerMetrics() {
         metricGroup.gauge(
                 MetricNames.CURRENT_FETCH_EVENT_TIME_LAG, (Gauge<Long>) this::getFetchDelay);
+        emitMetrics.registerMetrics(metricGroup);
     }
 
     public long getFetchDelay() {
@@ -51,4 +55,9 @@ public class MySqlSourceReaderMetrics {
     public void recordFetchDelay(long fetchDelay) {
         this.fetchDelay = fetchDelay;
     }
+
+    /** Records a batch of records fetched at given {@link System#nanoTime()} has been emitted. */
+    public void recordEmittedBatch(long fetchNanoTime, int numRecords) {
+        emitMetrics.recordEmittedBatch(fetchNanoTime, numRecords);
+    }
 }
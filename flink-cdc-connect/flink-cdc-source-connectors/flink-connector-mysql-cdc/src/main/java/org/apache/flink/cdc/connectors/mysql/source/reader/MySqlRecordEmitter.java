@@ -76,6 +76,8 @@ public class MySqlRecordEmitter<T> implements RecordEmitter<SourceRecords, T, My
         while (elementIterator.hasNext()) {
             processElement(elementIterator.next(), output, splitState);
         }
+        sourceReaderMetrics.recordEmittedBatch(
+                sourceRecords.getFetchNanoTime(), sourceRecords.getSourceRecordList().size());
     }
 
     protected void processElement(
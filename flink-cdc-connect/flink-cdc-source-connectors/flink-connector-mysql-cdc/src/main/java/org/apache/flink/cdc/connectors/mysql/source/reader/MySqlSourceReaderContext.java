@@ -18,6 +18,9 @@
 package org.apache.flink.cdc.connectors.mysql.source.reader;
 
 import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.configuration.ConfigurationUtils;
+
+import java.io.File;
 
 /**
  * A wrapper class that wraps {@link SourceReaderContext} for sharing message between {@link
@@ -39,6 +42,11 @@ public class MySqlSourceReaderContext {
         return sourceReaderContext;
     }
 
+    /** Returns one of the temporary directories configured by Flink {@code io.tmp.dirs}. */
+    public File getTmpDirectory() {
+        return ConfigurationUtils.getRandomTempDirectory(sourceReaderContext.getConfiguration());
+    }
+
     public boolean isBinlogSplitReaderSuspended() {
         return isBinlogSplitReaderSuspended;
     }
@@ -225,7 +225,9 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
 
     private SnapshotSplitReader getSnapshotSplitReader() {
         if (reusedSnapshotReader == null) {
-            reusedSnapshotReader = new SnapshotSplitReader(sourceConfig, subtaskId, snapshotHooks);
+            reusedSnapshotReader =
+                    new SnapshotSplitReader(
+                            sourceConfig, subtaskId, snapshotHooks, context.getTmpDirectory());
         }
         return reusedSnapshotReader;
     }
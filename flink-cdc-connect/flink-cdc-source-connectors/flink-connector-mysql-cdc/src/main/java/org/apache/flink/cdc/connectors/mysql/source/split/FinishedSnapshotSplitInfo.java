@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mysql.source.split;
 
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.debezium.utils.SplitBoundarySerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
 import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.util.FlinkRuntimeException;
@@ -29,8 +30,6 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
-import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
 
 /** The information used to describe a finished snapshot split. */
@@ -127,8 +126,9 @@ public class FinishedSnapshotSplitInfo {
             final DataOutputSerializer out = SERIALIZER_CACHE.get();
             out.writeUTF(splitInfo.getTableId().toString());
             out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+            SplitBoundarySerializer.writeSplitBoundary(splitInfo.getSplitStart(), null, out);
+            SplitBoundarySerializer.writeSplitBoundary(
+                    splitInfo.getSplitEnd(), splitInfo.getSplitStart(), out);
             writeBinlogPosition(splitInfo.getHighWatermark(), out);
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
@@ -143,8 +143,8 @@ public class FinishedSnapshotSplitInfo {
             final DataInputDeserializer in = new DataInputDeserializer(serialized);
             TableId tableId = TableId.parse(in.readUTF());
             String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
+            Object[] splitStart = SplitBoundarySerializer.readSplitBoundary(null, in);
+            Object[] splitEnd = SplitBoundarySerializer.readSplitBoundary(splitStart, in);
             BinlogOffset highWatermark = readBinlogPosition(in);
             in.releaseArrays();
             return new FinishedSnapshotSplitInfo(
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.mysql.source.split;
 
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import org.apache.flink.cdc.debezium.utils.SplitBoundarySerializer;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 import org.apache.flink.core.memory.DataInputDeserializer;
 import org.apache.flink.core.memory.DataOutputSerializer;
@@ -40,17 +41,22 @@ import java.util.List;
 import java.util.Map;
 
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.StatementUtils.quote;
 
-/** A serializer for the {@link MySqlSplit}. */
+/**
+ * A serializer for the {@link MySqlSplit}.
+ *
+ * <p>The modification of 5th version: split boundaries are written by {@link
+ * SplitBoundarySerializer} instead of hex strings of Java serialized objects, and boundaries of
+ * finished snapshot splits are encoded relatively to the previous one.
+ */
 public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MySqlSplit> {
 
     public static final MySqlSplitSerializer INSTANCE = new MySqlSplitSerializer();
 
-    private static final int VERSION = 4;
+    private static final int VERSION = 5;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -79,9 +85,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
             final Object[] splitStart = snapshotSplit.getSplitStart();
             final Object[] splitEnd = snapshotSplit.getSplitEnd();
-            // rowToSerializedString deals null case
-            out.writeUTF(rowToSerializedString(splitStart));
-            out.writeUTF(rowToSerializedString(splitEnd));
+            SplitBoundarySerializer.writeSplitBoundary(splitStart, null, out);
+            SplitBoundarySerializer.writeSplitBoundary(splitEnd, splitStart, out);
             writeBinlogPosition(snapshotSplit.getHighWatermark(), out);
             writeTableSchemas(snapshotSplit.getTableSchemas(), out);
             final byte[] result = out.getCopyOfBuffer();
@@ -122,6 +127,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             case 2:
             case 3:
             case 4:
+            case 5:
                 return deserializeSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -136,8 +142,16 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             TableId tableId = TableId.parse(in.readUTF());
             String splitId = in.readUTF();
             RowType splitKeyType = (RowType) LogicalTypeParser.parse(in.readUTF());
-            Object[] splitBoundaryStart = serializedStringToRow(in.readUTF());
-            Object[] splitBoundaryEnd = serializedStringToRow(in.readUTF());
+            Object[] splitBoundaryStart;
+            Object[] splitBoundaryEnd;
+            if (version >= 5) {
+                splitBoundaryStart = SplitBoundarySerializer.readSplitBoundary(null, in);
+                splitBoundaryEnd =
+                        SplitBoundarySerializer.readSplitBoundary(splitBoundaryStart, in);
+            } else {
+                splitBoundaryStart = serializedStringToRow(in.readUTF());
+                splitBoundaryEnd = serializedStringToRow(in.readUTF());
+            }
             BinlogOffset highWatermark = readBinlogPosition(version, in);
             Map<TableId, TableChange> tableSchemas = readTableSchemas(version, in);
 
@@ -216,6 +230,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                 case 2:
                 case 3:
                 case 4:
+                case 5:
                     final int len = in.readInt();
                     final byte[] bytes = new byte[len];
                     in.read(bytes);
@@ -236,24 +251,38 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             throws IOException {
         final int size = finishedSplitsInfo.size();
         out.writeInt(size);
+        // Adjacent splits of a table share their boundaries, encode them relatively
+        Object[] previousBoundary = null;
         for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
             out.writeUTF(splitInfo.getTableId().toDoubleQuotedString());
             out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+            SplitBoundarySerializer.writeSplitBoundary(
+                    splitInfo.getSplitStart(), previousBoundary, out);
+            SplitBoundarySerializer.writeSplitBoundary(
+                    splitInfo.getSplitEnd(), splitInfo.getSplitStart(), out);
             writeBinlogPosition(splitInfo.getHighWatermark(), out);
+            previousBoundary = splitInfo.getSplitEnd();
         }
     }
 
     private static List<FinishedSnapshotSplitInfo> readFinishedSplitsInfo(
             int version, DataInputDeserializer in) throws IOException {
-        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>();
         final int size = in.readInt();
+        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(size);
+        Object[] previousBoundary = null;
         for (int i = 0; i < size; i++) {
             TableId tableId = TableId.parse(in.readUTF());
             String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
+            Object[] splitStart;
+            Object[] splitEnd;
+            if (version >= 5) {
+                splitStart = SplitBoundarySerializer.readSplitBoundary(previousBoundary, in);
+                splitEnd = SplitBoundarySerializer.readSplitBoundary(splitStart, in);
+                previousBoundary = splitEnd;
+            } else {
+                splitStart = serializedStringToRow(in.readUTF());
+                splitEnd = serializedStringToRow(in.readUTF());
+            }
             BinlogOffset highWatermark = readBinlogPosition(version, in);
             finishedSplitsInfo.add(
                     new FinishedSnapshotSplitInfo(
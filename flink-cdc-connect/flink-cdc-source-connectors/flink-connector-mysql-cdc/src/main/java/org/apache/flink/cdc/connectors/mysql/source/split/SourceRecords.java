@@ -28,14 +28,22 @@ public final class SourceRecords {
 
     private final List<SourceRecord> sourceRecords;
 
+    /** The {@link System#nanoTime()} when records are fetched, used to measure emit latency. */
+    private final long fetchNanoTime;
+
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
+        this.fetchNanoTime = System.nanoTime();
     }
 
     public List<SourceRecord> getSourceRecordList() {
         return sourceRecords;
     }
 
+    public long getFetchNanoTime() {
+        return fetchNanoTime;
+    }
+
     public Iterator<SourceRecord> iterator() {
         return sourceRecords.iterator();
     }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source.utils;
+
+import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An index of the finished snapshot splits of one table, used to look up the split a chunk key
+ * belongs to.
+ *
+ * <p>If all split boundaries are integral numbers, which is the case for most auto-increment
+ * primary keys, boundaries are kept in primitive interval arrays and integral keys are looked up
+ * without boxing or generic comparisons. Otherwise, it falls back to {@link
+ * SplitKeyUtils#findSplitByKeyBinary}.
+ */
+public class FinishedSnapshotSplitIndex {
+
+    private final List<FinishedSnapshotSplitInfo> sortedSplits;
+
+    // Interval arrays of [start, end) boundaries, only present if all boundaries are integral
+    @Nullable private final long[] starts;
+    @Nullable private final long[] ends;
+    @Nullable private final boolean[] unboundedEnds;
+
+    private FinishedSnapshotSplitIndex(List<FinishedSnapshotSplitInfo> splits) {
+        this.sortedSplits = new ArrayList<>(splits);
+        SplitKeyUtils.sortFinishedSplitInfos(sortedSplits);
+
+        int size = sortedSplits.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        boolean[] unboundedEnds = new boolean[size];
+        boolean integral = true;
+        for (int i = 0; i < size && integral; i++) {
+            FinishedSnapshotSplitInfo split = sortedSplits.get(i);
+            Object[] splitStart = split.getSplitStart();
+            Object[] splitEnd = split.getSplitEnd();
+            if (splitStart == null) {
+                starts[i] = Long.MIN_VALUE;
+            } else if (isIntegralBoundary(splitStart)) {
+                starts[i] = ((Number) splitStart[0]).longValue();
+            } else {
+                integral = false;
+            }
+            if (splitEnd == null) {
+                unboundedEnds[i] = true;
+            } else if (isIntegralBoundary(splitEnd)) {
+                ends[i] = ((Number) splitEnd[0]).longValue();
+            } else {
+                integral = false;
+            }
+        }
+        this.starts = integral ? starts : null;
+        this.ends = integral ? ends : null;
+        this.unboundedEnds = integral ? unboundedEnds : null;
+    }
+
+    public static FinishedSnapshotSplitIndex of(List<FinishedSnapshotSplitInfo> splits) {
+        return new FinishedSnapshotSplitIndex(splits);
+    }
+
+    /** Returns the split containing given single-field chunk key, or null if there's none. */
+    @Nullable
+    public FinishedSnapshotSplitInfo findSplit(Object chunkKey) {
+        if (starts != null && isIntegral(chunkKey)) {
+            return findSplit(((Number) chunkKey).longValue());
+        }
+        return SplitKeyUtils.findSplitByKeyBinary(sortedSplits, new Object[] {chunkKey});
+    }
+
+    private FinishedSnapshotSplitInfo findSplit(long chunkKey) {
+        // Find the last split whose start is not greater than the key
+        int low = 0;
+        int high = starts.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= chunkKey) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate == -1) {
+            return null;
+        }
+        return unboundedEnds[candidate] || chunkKey < ends[candidate]
+                ? sortedSplits.get(candidate)
+                : null;
+    }
+
+    public int size() {
+        return sortedSplits.size();
+    }
+
+    private static boolean isIntegralBoundary(Object[] boundary) {
+        return boundary.length == 1 && isIntegral(boundary[0]);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+}
@@ -51,6 +51,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -104,6 +105,28 @@ public class RecordUtils {
             SchemaNameAdjuster nameAdjuster,
             Object[] splitStart,
             Object[] splitEnd) {
+        upsertBinlog(
+                binlogRecord,
+                splitBoundaryType,
+                nameAdjuster,
+                splitStart,
+                splitEnd,
+                (keyStruct, isDelete) ->
+                        upsertBinlog(snapshotRecords, binlogRecord, keyStruct, isDelete));
+    }
+
+    /**
+     * Resolves the upserts of a binlog event to snapshot events without applying them. The given
+     * function accepts the key struct of snapshot events to upsert and whether it is a deletion,
+     * which could be applied later by {@link #upsertBinlog(Map, SourceRecord, Struct, boolean)}.
+     */
+    public static void upsertBinlog(
+            SourceRecord binlogRecord,
+            RowType splitBoundaryType,
+            SchemaNameAdjuster nameAdjuster,
+            Object[] splitStart,
+            Object[] splitEnd,
+            BiConsumer<Struct, Boolean> upsertFunction) {
         if (isDataChangeRecord(binlogRecord)) {
             Struct value = (Struct) binlogRecord.value();
             if (value != null) {
@@ -118,9 +141,7 @@ public class RecordUtils {
                                     value.getString(Envelope.FieldName.OPERATION));
                     switch (operation) {
                         case CREATE:
-                            upsertBinlog(
-                                    snapshotRecords,
-                                    binlogRecord,
+                            upsertFunction.accept(
                                     hasPrimaryKey
                                             ? (Struct) binlogRecord.key()
                                             : createReadOpValue(
@@ -131,9 +152,7 @@ public class RecordUtils {
                             Struct structFromAfter =
                                     createReadOpValue(binlogRecord, Envelope.FieldName.AFTER);
                             if (!hasPrimaryKey) {
-                                upsertBinlog(
-                                        snapshotRecords,
-                                        binlogRecord,
+                                upsertFunction.accept(
                                         createReadOpValue(binlogRecord, Envelope.FieldName.BEFORE),
                                         true);
                                 if (!SplitKeyUtils.splitKeyRangeContains(
@@ -147,16 +166,12 @@ public class RecordUtils {
                             }
                             // If the chunk key changed, we still send here
                             // This will cause the at-least-once semantics
-                            upsertBinlog(
-                                    snapshotRecords,
-                                    binlogRecord,
+                            upsertFunction.accept(
                                     hasPrimaryKey ? (Struct) binlogRecord.key() : structFromAfter,
                                     false);
                             break;
                         case DELETE:
-                            upsertBinlog(
-                                    snapshotRecords,
-                                    binlogRecord,
+                            upsertFunction.accept(
                                     hasPrimaryKey
                                             ? (Struct) binlogRecord.key()
                                             : createReadOpValue(
@@ -174,7 +189,8 @@ public class RecordUtils {
         }
     }
 
-    private static void upsertBinlog(
+    /** Applies an upsert of a binlog event resolved by {@link #upsertBinlog}. */
+    public static void upsertBinlog(
             Map<Struct, List<SourceRecord>> snapshotRecords,
             SourceRecord binlogRecord,
             Struct keyStruct,
@@ -229,33 +245,31 @@ public class RecordUtils {
     public static List<SourceRecord> formatMessageTimestamp(
             Collection<SourceRecord> snapshotRecords) {
         return snapshotRecords.stream()
-                .map(
-                        record -> {
-                            Envelope envelope = Envelope.fromSchema(record.valueSchema());
-                            Struct value = (Struct) record.value();
-                            Struct updateAfter = value.getStruct(Envelope.FieldName.AFTER);
-                            // set message timestamp (source.ts_ms) to 0L
-                            Struct source = value.getStruct(Envelope.FieldName.SOURCE);
-                            source.put(Envelope.FieldName.TIMESTAMP, 0L);
-                            // extend the fetch timestamp(ts_ms)
-                            Instant fetchTs =
-                                    Instant.ofEpochMilli(
-                                            value.getInt64(Envelope.FieldName.TIMESTAMP));
-                            SourceRecord sourceRecord =
-                                    new SourceRecord(
-                                            record.sourcePartition(),
-                                            record.sourceOffset(),
-                                            record.topic(),
-                                            record.kafkaPartition(),
-                                            record.keySchema(),
-                                            record.key(),
-                                            record.valueSchema(),
-                                            envelope.read(updateAfter, source, fetchTs));
-                            return sourceRecord;
-                        })
+                .map(RecordUtils::formatMessageTimestamp)
                 .collect(Collectors.toList());
     }
 
+    /** Format message timestamp(source.ts_ms) value to 0L for a record read in snapshot phase. */
+    public static SourceRecord formatMessageTimestamp(SourceRecord record) {
+        Envelope envelope = Envelope.fromSchema(record.valueSchema());
+        Struct value = (Struct) record.value();
+        Struct updateAfter = value.getStruct(Envelope.FieldName.AFTER);
+        // set message timestamp (source.ts_ms) to 0L
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        source.put(Envelope.FieldName.TIMESTAMP, 0L);
+        // extend the fetch timestamp(ts_ms)
+        Instant fetchTs = Instant.ofEpochMilli(value.getInt64(Envelope.FieldName.TIMESTAMP));
+        return new SourceRecord(
+                record.sourcePartition(),
+                record.sourceOffset(),
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                record.valueSchema(),
+                envelope.read(updateAfter, source, fetchTs));
+    }
+
     public static boolean isWatermarkEvent(SourceRecord record) {
         Optional<WatermarkKind> watermarkKind = getWatermarkKind(record);
         return watermarkKind.isPresent();
@@ -25,7 +25,9 @@ import io.debezium.relational.TableId;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -130,6 +132,36 @@ public class StatementUtils {
                 });
     }
 
+    /**
+     * Query a random sample of the column values in ascending order, each row is sampled with the
+     * given probability. Null values are excluded.
+     */
+    public static List<Object> querySampledValues(
+            JdbcConnection jdbc, TableId tableId, String columnName, double samplingRate)
+            throws SQLException {
+        return jdbc.prepareQueryAndMap(
+                buildSampledValuesQuery(tableId, columnName),
+                ps -> ps.setDouble(1, samplingRate),
+                rs -> {
+                    List<Object> samples = new ArrayList<>();
+                    while (rs.next()) {
+                        samples.add(rs.getObject(1));
+                    }
+                    return samples;
+                });
+    }
+
+    /**
+     * Builds the query of {@link #querySampledValues}, the sampling rate is bound to its only
+     * parameter.
+     */
+    public static String buildSampledValuesQuery(TableId tableId, String columnName) {
+        String quotedColumn = quote(columnName);
+        return String.format(
+                "SELECT %s FROM %s WHERE %s IS NOT NULL AND RAND() < ? ORDER BY %s ASC",
+                quotedColumn, quote(tableId), quotedColumn, quotedColumn);
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
         return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
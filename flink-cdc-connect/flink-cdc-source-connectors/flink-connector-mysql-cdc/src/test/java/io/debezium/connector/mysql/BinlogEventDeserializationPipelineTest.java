@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.mysql;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import io.debezium.DebeziumException;
+import io.debezium.connector.mysql.BinlogEventDeserializationPipeline.DeferredRowsEventData;
+import io.debezium.pipeline.ErrorHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link BinlogEventDeserializationPipeline}. */
+class BinlogEventDeserializationPipelineTest {
+
+    private static final int EVENT_COUNT = 1000;
+
+    @Test
+    void testReadTableId() {
+        byte[] body = new byte[] {0x01, 0x02, 0x00, 0x00, 0x00, 0x01, 0x7F};
+        assertThat(DeferredRowsEventData.readTableId(body)).isEqualTo(0x0100_0000_0201L);
+    }
+
+    @Test
+    void testEventsAreDispatchedInBinlogOrder() {
+        List<Event> dispatched = new CopyOnWriteArrayList<>();
+        List<Thread> dispatchingThreads = new CopyOnWriteArrayList<>();
+        List<EventType> expectedTypes = new ArrayList<>();
+        RecordingErrorHandler errorHandler = new RecordingErrorHandler();
+        try (BinlogEventDeserializationPipeline pipeline =
+                new BinlogEventDeserializationPipeline(
+                        "test",
+                        4,
+                        event -> {
+                            dispatched.add(event);
+                            dispatchingThreads.add(Thread.currentThread());
+                        },
+                        errorHandler)) {
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                if (i % 3 == 0) {
+                    pipeline.onEvent(new Event(header(EventType.XID, i), null));
+                    expectedTypes.add(EventType.XID);
+                } else {
+                    // Rows of unknown tables fail to decode and are reported as incidents
+                    pipeline.onEvent(
+                            new Event(
+                                    header(EventType.WRITE_ROWS, i),
+                                    new DeferredRowsEventData(
+                                            EventType.WRITE_ROWS, new byte[8], 42L, null)));
+                    expectedTypes.add(EventType.INCIDENT);
+                }
+            }
+            // The last XID event waits for all pending row events to be dispatched
+            assertThat(dispatched).hasSize(EVENT_COUNT);
+        }
+
+        assertThat(dispatched.stream().map(e -> e.getHeader().getEventType()))
+                .containsExactlyElementsOf(expectedTypes);
+        assertThat(
+                        dispatched.stream()
+                                .map(e -> ((EventHeaderV4) e.getHeader()).getNextPosition())
+                                .collect(Collectors.toList()))
+                .isSorted();
+        // Handlers are only accessed by the binlog client thread
+        assertThat(dispatchingThreads).containsOnly(Thread.currentThread());
+        assertThat(errorHandler.errors).isEmpty();
+    }
+
+    @Test
+    void testFailureOfDownstreamIsReported() {
+        List<Event> dispatched = new ArrayList<>();
+        RecordingErrorHandler errorHandler = new RecordingErrorHandler();
+        try (BinlogEventDeserializationPipeline pipeline =
+                new BinlogEventDeserializationPipeline(
+                        "test",
+                        2,
+                        event -> {
+                            if (event.getHeader().getEventType() == EventType.INCIDENT) {
+                                throw new IllegalStateException("Downstream failure");
+                            }
+                            dispatched.add(event);
+                        },
+                        errorHandler)) {
+            pipeline.onEvent(new Event(header(EventType.XID, 0), null));
+            pipeline.onEvent(
+                    new Event(
+                            header(EventType.WRITE_ROWS, 1),
+                            new DeferredRowsEventData(
+                                    EventType.WRITE_ROWS, new byte[8], 42L, null)));
+            pipeline.onEvent(new Event(header(EventType.XID, 2), null));
+            // Events after the failure are not dispatched any more
+            pipeline.onEvent(new Event(header(EventType.XID, 3), null));
+        }
+
+        assertThat(dispatched).hasSize(1);
+        assertThat(errorHandler.errors)
+                .singleElement()
+                .isInstanceOf(DebeziumException.class)
+                .hasRootCauseMessage("Downstream failure");
+    }
+
+    @Test
+    void testInterruptionWhileAwaitingRowsIsReported() {
+        List<Event> dispatched = new ArrayList<>();
+        RecordingErrorHandler errorHandler = new RecordingErrorHandler();
+        CountDownLatch decodingLatch = new CountDownLatch(1);
+        try (BinlogEventDeserializationPipeline pipeline =
+                new BinlogEventDeserializationPipeline(
+                        "test", 2, dispatched::add, errorHandler)) {
+            pipeline.onEvent(
+                    new Event(
+                            header(EventType.WRITE_ROWS, 0),
+                            new DeferredRowsEventData(
+                                    EventType.WRITE_ROWS, new byte[8], 42L, null) {
+                                @Override
+                                EventData deserialize() throws IOException {
+                                    try {
+                                        decodingLatch.await();
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                    }
+                                    return super.deserialize();
+                                }
+                            }));
+            Thread.currentThread().interrupt();
+            pipeline.onEvent(new Event(header(EventType.XID, 1), null));
+            assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            decodingLatch.countDown();
+        }
+
+        assertThat(dispatched).isEmpty();
+        assertThat(errorHandler.errors)
+                .singleElement()
+                .isInstanceOf(DebeziumException.class)
+                .hasMessageContaining("Interrupted");
+    }
+
+    private static EventHeaderV4 header(EventType eventType, long position) {
+        EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(eventType);
+        header.setTimestamp(1L);
+        header.setNextPosition(position);
+        return header;
+    }
+
+    /** {@link ErrorHandler} which records the reported errors. */
+    private static class RecordingErrorHandler extends ErrorHandler {
+
+        private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        RecordingErrorHandler() {
+            super(MySqlConnector.class, null, null);
+        }
+
+        @Override
+        public void setProducerThrowable(Throwable producerThrowable) {
+            errors.add(producerThrowable);
+        }
+    }
+}
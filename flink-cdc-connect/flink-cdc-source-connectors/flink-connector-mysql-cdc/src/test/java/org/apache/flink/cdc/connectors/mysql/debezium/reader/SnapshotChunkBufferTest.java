@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.data.Envelope;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link SnapshotChunkBuffer}. */
+class SnapshotChunkBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("test.Key").field("id", Schema.INT64_SCHEMA).build();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.Value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("created", Timestamp.builder().optional().build())
+                    .build();
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.Source")
+                    .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                    .build();
+
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("test.Envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+
+    private static final SchemaNameAdjuster NAME_ADJUSTER = SchemaNameAdjuster.create();
+
+    @TempDir File tempDir;
+
+    @Test
+    void testStreamLargeChunkWithoutBackfill() throws Exception {
+        final int size = 100_000;
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(64 * 1024, tempDir);
+        for (long id = 0; id < size; id++) {
+            buffer.addSnapshotRecord(snapshotRecord(id));
+        }
+        assertThat(buffer.isSpilled()).isTrue();
+
+        List<Long> ids = new ArrayList<>(size);
+        Iterator<SourceRecord> records = buffer.normalizedRecords();
+        while (records.hasNext()) {
+            SourceRecord record = records.next();
+            Struct value = (Struct) record.value();
+            long id = ((Struct) record.key()).getInt64("id");
+            assertThat(record.valueSchema()).isSameAs(ENVELOPE.schema());
+            assertThat(value.getStruct(Envelope.FieldName.AFTER)).isEqualTo(row(id, "name"));
+            assertThat(value.getStruct(Envelope.FieldName.SOURCE).getInt64("ts_ms")).isZero();
+            ids.add(id);
+        }
+        // events are emitted in reading order and the spill file is removed afterward
+        assertThat(ids)
+                .containsExactlyElementsOf(
+                        LongStream.range(0, size).boxed().collect(Collectors.toList()));
+        assertThat(tempDir.listFiles()).isEmpty();
+    }
+
+    @Test
+    void testBackfillLargeChunk() throws Exception {
+        final long size = 20_000;
+        final Object[] splitStart = new Object[] {0L};
+        final Object[] splitEnd = new Object[] {size + 1};
+
+        List<SourceRecord> snapshotRecords = new ArrayList<>();
+        for (long id = 0; id < size; id++) {
+            snapshotRecords.add(snapshotRecord(id));
+        }
+        List<SourceRecord> binlogRecords = new ArrayList<>();
+        binlogRecords.add(update(row(5, "name"), row(5, "new")));
+        binlogRecords.add(binlogRecord(ENVELOPE.delete(row(7, "name"), source(), ts())));
+        binlogRecords.add(binlogRecord(ENVELOPE.create(row(size, "name"), source(), ts())));
+        binlogRecords.add(update(row(9, "name"), row(9, "a")));
+        binlogRecords.add(update(row(9, "a"), row(9, "b")));
+        // out of the split range
+        binlogRecords.add(binlogRecord(ENVELOPE.create(row(size + 5, "x"), source(), ts())));
+
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(64 * 1024, tempDir);
+        Map<Struct, List<SourceRecord>> expectedRecords = new HashMap<>();
+        for (SourceRecord record : snapshotRecords) {
+            buffer.addSnapshotRecord(record);
+            expectedRecords.put((Struct) record.key(), Collections.singletonList(record));
+        }
+        for (SourceRecord record : binlogRecords) {
+            buffer.addBinlogRecord(record, SPLIT_KEY_TYPE, NAME_ADJUSTER, splitStart, splitEnd);
+            RecordUtils.upsertBinlog(
+                    expectedRecords, record, SPLIT_KEY_TYPE, NAME_ADJUSTER, splitStart, splitEnd);
+        }
+        assertThat(buffer.isSpilled()).isTrue();
+
+        Map<Long, Struct> actual = new HashMap<>();
+        buffer.normalizedRecords()
+                .forEachRemaining(
+                        record -> {
+                            Struct after = ((Struct) record.value()).getStruct("after");
+                            assertThat(actual.put(after.getInt64("id"), after)).isNull();
+                        });
+
+        // consistent with normalizing events in a map
+        Map<Long, Struct> expected =
+                expectedRecords.values().stream()
+                        .flatMap(List::stream)
+                        .map(record -> ((Struct) record.value()).getStruct("after"))
+                        .collect(Collectors.toMap(after -> after.getInt64("id"), after -> after));
+        assertThat(actual).isEqualTo(expected).hasSize((int) size);
+        assertThat(actual.get(5L)).isEqualTo(row(5, "new"));
+        assertThat(actual.get(9L)).isEqualTo(row(9, "b"));
+        assertThat(actual).doesNotContainKey(7L).containsKey(size).doesNotContainKey(size + 5);
+        assertThat(tempDir.listFiles()).isEmpty();
+    }
+
+    @Test
+    void testInMemoryBuffer() throws Exception {
+        SnapshotChunkBuffer buffer = SnapshotChunkBuffer.inMemory();
+        for (long id = 0; id < 1000; id++) {
+            buffer.addSnapshotRecord(snapshotRecord(id));
+        }
+        buffer.addBinlogRecord(
+                binlogRecord(ENVELOPE.delete(row(0, "name"), source(), ts())),
+                SPLIT_KEY_TYPE,
+                NAME_ADJUSTER,
+                null,
+                null);
+        assertThat(buffer.isSpilled()).isFalse();
+
+        List<SourceRecord> records = new ArrayList<>();
+        buffer.normalizedRecords().forEachRemaining(records::add);
+        assertThat(records).hasSize(999);
+        assertThat(((Struct) records.get(0).key()).getInt64("id")).isEqualTo(1L);
+    }
+
+    @Test
+    void testSpillNullValueOfFieldWithDefault() throws Exception {
+        Schema rowSchema =
+                SchemaBuilder.struct()
+                        .name("test.DefaultValue")
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field(
+                                "status",
+                                SchemaBuilder.string().optional().defaultValue("active").build())
+                        .build();
+        Envelope envelope =
+                Envelope.defineSchema()
+                        .withName("test.DefaultEnvelope")
+                        .withRecord(rowSchema)
+                        .withSource(SOURCE_SCHEMA)
+                        .build();
+
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(1, tempDir);
+        for (long id = 0; id < 10; id++) {
+            Struct row = new Struct(rowSchema).put("id", id).put("status", id == 0 ? null : "x");
+            buffer.addSnapshotRecord(sourceRecord(id, envelope.read(row, source(), ts())));
+        }
+        assertThat(buffer.isSpilled()).isTrue();
+
+        List<Struct> rows = new ArrayList<>();
+        buffer.normalizedRecords()
+                .forEachRemaining(
+                        record -> rows.add(((Struct) record.value()).getStruct("after")));
+        assertThat(rows).hasSize(10);
+        // null values are kept instead of being replaced by the default of the field
+        assertThat(rows.get(0).getWithoutDefault("status")).isNull();
+        assertThat(rows.get(1).getWithoutDefault("status")).isEqualTo("x");
+    }
+
+    private static Struct row(long id, String name) {
+        return new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("name", name)
+                .put("price", BigDecimal.valueOf(id, 2))
+                .put("payload", id % 2 == 0 ? ByteBuffer.wrap(new byte[] {(byte) id}) : null)
+                .put("created", new Date(1_700_000_000_000L + id));
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA).put(Envelope.FieldName.TIMESTAMP, 1_700_000_000_000L);
+    }
+
+    private static Instant ts() {
+        return Instant.ofEpochMilli(1_700_000_000_000L);
+    }
+
+    private static SourceRecord snapshotRecord(long id) {
+        return sourceRecord(id, ENVELOPE.read(row(id, "name"), source(), ts()));
+    }
+
+    private static SourceRecord update(Struct before, Struct after) {
+        return binlogRecord(ENVELOPE.update(before, after, source(), ts()));
+    }
+
+    private static SourceRecord binlogRecord(Struct value) {
+        Struct row =
+                value.getStruct(Envelope.FieldName.AFTER) != null
+                        ? value.getStruct(Envelope.FieldName.AFTER)
+                        : value.getStruct(Envelope.FieldName.BEFORE);
+        return sourceRecord(row.getInt64("id"), value);
+    }
+
+    private static SourceRecord sourceRecord(long id, Struct value) {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000001");
+        offset.put("pos", id);
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                offset,
+                "test.topic",
+                null,
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                ENVELOPE.schema(),
+                value);
+    }
+}
@@ -30,6 +30,7 @@ import io.debezium.relational.TableEditor;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -70,6 +71,35 @@ class PendingSplitsStateSerializerTest {
         Assertions.assertThat(serializeAndDeserializeSourceEnumState(state)).isEqualTo(state);
     }
 
+    @Test
+    void testSerializeMultipleSplittingTables() throws Exception {
+        SnapshotPendingSplitsState state = getTestSnapshotPendingSplitsState(true);
+        List<ChunkSplitterState> chunkSplitterStates =
+                Arrays.asList(
+                        new ChunkSplitterState(
+                                tableId1, ChunkSplitterState.ChunkBound.middleOf("test"), 3),
+                        new ChunkSplitterState(
+                                tableId2, ChunkSplitterState.ChunkBound.middleOf(100L), 7));
+        SnapshotPendingSplitsState multipleSplittingTablesState =
+                new SnapshotPendingSplitsState(
+                        state.getAlreadyProcessedTables(),
+                        state.getRemainingSplits(),
+                        state.getAssignedSplits(),
+                        state.getTableSchemas(),
+                        state.getSplitFinishedOffsets(),
+                        state.getSnapshotAssignerStatus(),
+                        state.getRemainingTables(),
+                        state.isTableIdCaseSensitive(),
+                        state.isRemainingTablesCheckpointed(),
+                        chunkSplitterStates);
+
+        PendingSplitsState restored =
+                serializeAndDeserializeSourceEnumState(multipleSplittingTablesState);
+        Assertions.assertThat(restored).isEqualTo(multipleSplittingTablesState);
+        Assertions.assertThat(((SnapshotPendingSplitsState) restored).getChunkSplitterStates())
+                .isEqualTo(chunkSplitterStates);
+    }
+
     @ParameterizedTest
     @MethodSource("params")
     void testTableSchemasAfterSerializeAndDeserialize(PendingSplitsState state) throws Exception {
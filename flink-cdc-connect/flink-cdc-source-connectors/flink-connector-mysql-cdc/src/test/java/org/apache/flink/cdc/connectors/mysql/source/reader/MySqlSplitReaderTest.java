@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.connectors.mysql.source.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.MySqlSourceTestBase;
+import org.apache.flink.cdc.connectors.mysql.source.assigners.MySqlSnapshotSplitAssigner;
+import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
+import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
+import org.apache.flink.cdc.connectors.mysql.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
+import org.apache.flink.cdc.connectors.mysql.testutils.RecordsFormatter;
+import org.apache.flink.cdc.connectors.mysql.testutils.UniqueDatabase;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.CoreOptions;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.DataType;
+
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.apache.flink.cdc.connectors.mysql.testutils.MetricsUtils.getMySqlSplitEnumeratorContext;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link MySqlSplitReader}. */
+class MySqlSplitReaderTest extends MySqlSourceTestBase {
+
+    private final UniqueDatabase customerDatabase =
+            new UniqueDatabase(MYSQL_CONTAINER, "customer", "mysqluser", "mysqlpw");
+
+    @TempDir File tmpDirectory;
+
+    @AfterEach
+    public void clear() {
+        customerDatabase.dropDatabase();
+    }
+
+    /**
+     * The records of a snapshot split are emitted by the source reader thread, which may happen
+     * after the split reader has moved on and closed its snapshot split reader.
+     */
+    @ParameterizedTest(name = "snapshotChunkBufferMaxMemory = {0}")
+    @ValueSource(longs = {Long.MAX_VALUE, 1L})
+    void testDrainLastSnapshotSplitAfterNextFetch(long snapshotChunkBufferMaxMemory)
+            throws Exception {
+        customerDatabase.createAndInitialize();
+        MySqlSourceConfig sourceConfig = getConfig(snapshotChunkBufferMaxMemory);
+        List<MySqlSplit> splits = getMySqlSplits(sourceConfig);
+        assertThat(splits).hasSize(1);
+
+        Configuration configuration = new Configuration();
+        configuration.set(CoreOptions.TMP_DIRS, tmpDirectory.getAbsolutePath());
+        MySqlSplitReader splitReader =
+                new MySqlSplitReader(
+                        sourceConfig,
+                        0,
+                        new MySqlSourceReaderContext(
+                                new TestingReaderContext(
+                                        configuration,
+                                        UnregisteredMetricsGroup.createSourceReaderMetricGroup())),
+                        SnapshotPhaseHooks.empty());
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+
+        RecordsWithSplitIds<SourceRecords> splitRecords = splitReader.fetch();
+        assertThat(splitRecords.nextSplit()).isEqualTo(splits.get(0).splitId());
+        assertThat(splitRecords.finishedSplits()).isEmpty();
+
+        // finishes the last snapshot split and closes the snapshot split reader
+        RecordsWithSplitIds<SourceRecords> finishedRecords = splitReader.fetch();
+        assertThat(finishedRecords.nextSplit()).isNull();
+        assertThat(finishedRecords.finishedSplits()).containsExactly(splits.get(0).splitId());
+
+        List<SourceRecord> records = new ArrayList<>();
+        SourceRecords sourceRecords;
+        while ((sourceRecords = splitRecords.nextRecordFromSplit()) != null) {
+            records.addAll(sourceRecords.getSourceRecordList());
+        }
+        splitReader.close();
+
+        DataType dataType =
+                DataTypes.ROW(
+                        DataTypes.FIELD("id", DataTypes.BIGINT()),
+                        DataTypes.FIELD("name", DataTypes.STRING()),
+                        DataTypes.FIELD("address", DataTypes.STRING()),
+                        DataTypes.FIELD("phone_number", DataTypes.STRING()));
+        String[] expected =
+                new String[] {
+                    "+I[101, user_1, Shanghai, 123567891234]",
+                    "+I[102, user_2, Shanghai, 123567891234]",
+                    "+I[103, user_3, Shanghai, 123567891234]",
+                    "+I[104, user_4, Shanghai, 123567891234]",
+                    "+I[105, user_5, Shanghai, 123567891234]",
+                    "+I[106, user_6, Shanghai, 123567891234]",
+                    "+I[107, user_7, Shanghai, 123567891234]",
+                    "+I[108, user_8, Shanghai, 123567891234]",
+                    "+I[109, user_9, Shanghai, 123567891234]",
+                    "+I[110, user_10, Shanghai, 123567891234]"
+                };
+        assertEqualsInAnyOrder(
+                Arrays.asList(expected), new RecordsFormatter(dataType).format(records));
+        // spill files are removed once the records are drained
+        assertThat(tmpDirectory.listFiles()).isEmpty();
+    }
+
+    private MySqlSourceConfig getConfig(long snapshotChunkBufferMaxMemory) {
+        return new MySqlSourceConfigFactory()
+                .startupOptions(StartupOptions.initial())
+                .databaseList(customerDatabase.getDatabaseName())
+                .tableList(customerDatabase.getDatabaseName() + ".customers_even_dist")
+                .hostname(MYSQL_CONTAINER.getHost())
+                .port(MYSQL_CONTAINER.getDatabasePort())
+                .username(customerDatabase.getUsername())
+                .password(customerDatabase.getPassword())
+                .splitSize(100)
+                .fetchSize(2)
+                .snapshotChunkBufferMaxMemory(snapshotChunkBufferMaxMemory)
+                .createConfig(0);
+    }
+
+    private List<MySqlSplit> getMySqlSplits(MySqlSourceConfig sourceConfig) {
+        MySqlSnapshotSplitAssigner assigner =
+                new MySqlSnapshotSplitAssigner(
+                        sourceConfig,
+                        DEFAULT_PARALLELISM,
+                        Collections.singletonList(
+                                TableId.parse(
+                                        customerDatabase.getDatabaseName()
+                                                + ".customers_even_dist")),
+                        false,
+                        getMySqlSplitEnumeratorContext());
+        assigner.open();
+        List<MySqlSplit> splits = new ArrayList<>();
+        Optional<MySqlSplit> split;
+        while ((split = assigner.getNext()).isPresent()) {
+            splits.add(split.get());
+        }
+        assigner.close();
+        return splits;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.mysql.source.split;
 
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.table.types.logical.BigIntType;
 import org.apache.flink.table.types.logical.RowType;
 
@@ -36,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.apache.flink.cdc.connectors.mysql.source.split.MySqlBinlogSplit.toSuspendedBinlogSplit;
+import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
+import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
 
 /** Tests for {@link org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplitSerializer}. */
 class MySqlSplitSerializerTest {
@@ -136,6 +139,70 @@ class MySqlSplitSerializerTest {
         Assertions.assertThat(ser1).isSameAs(ser2);
     }
 
+    @Test
+    void testDeserializeVersion4BinlogSplit() throws Exception {
+        final MySqlBinlogSplit split = createBinlogSplitWithChunks("test_db.test_table", 10);
+        final MySqlSplit restored =
+                new MySqlSplitSerializer().deserialize(4, serializeAsVersion4(split));
+        Assertions.assertThat(restored).isEqualTo(split);
+        Assertions.assertThat(serializeAndDeserializeSplit(restored)).isEqualTo(split);
+    }
+
+    @Test
+    void testCompactFinishedSplitsInfo() throws Exception {
+        final MySqlBinlogSplit split = createBinlogSplitWithChunks("test_db.test_table", 100_000);
+        final byte[] serialized = new MySqlSplitSerializer().serialize(split);
+        Assertions.assertThat(serializeAndDeserializeSplit(split)).isEqualTo(split);
+        // Boundaries used to be written as hex strings of Java serialized objects
+        Assertions.assertThat(serialized.length * 4).isLessThan(serializeAsVersion4(split).length);
+    }
+
+    private static MySqlBinlogSplit createBinlogSplitWithChunks(String tableName, int chunks)
+            throws Exception {
+        final TableId tableId = TableId.parse(tableName);
+        final List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            finishedSplitsInfo.add(
+                    new FinishedSnapshotSplitInfo(
+                            tableId,
+                            tableId + ":" + i,
+                            i == 0 ? null : new Object[] {i * 8096L, "key-" + i},
+                            i == chunks - 1 ? null : new Object[] {(i + 1) * 8096L, "key-" + (i + 1)},
+                            BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L + i)));
+        }
+        final Map<TableId, TableChange> databaseHistory = new HashMap<>();
+        databaseHistory.put(tableId, getTestTableSchema());
+        return new MySqlBinlogSplit(
+                "binlog-split",
+                BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                BinlogOffset.ofNonStopping(),
+                finishedSplitsInfo,
+                databaseHistory,
+                finishedSplitsInfo.size());
+    }
+
+    /** Serializes a binlog split in the layout of version 4 of {@link MySqlSplitSerializer}. */
+    private static byte[] serializeAsVersion4(MySqlBinlogSplit split) throws Exception {
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeInt(2);
+        out.writeUTF(split.splitId());
+        out.writeUTF("");
+        writeBinlogPosition(split.getStartingOffset(), out);
+        writeBinlogPosition(split.getEndingOffset(), out);
+        out.writeInt(split.getFinishedSnapshotSplitInfos().size());
+        for (FinishedSnapshotSplitInfo splitInfo : split.getFinishedSnapshotSplitInfos()) {
+            out.writeUTF(splitInfo.getTableId().toDoubleQuotedString());
+            out.writeUTF(splitInfo.getSplitId());
+            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
+            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+            writeBinlogPosition(splitInfo.getHighWatermark(), out);
+        }
+        MySqlSplitSerializer.writeTableSchemas(split.getTableSchemas(), out);
+        out.writeInt(split.getTotalFinishedSplitSize());
+        out.writeBoolean(split.isSuspended());
+        return out.getCopyOfBuffer();
+    }
+
     private MySqlSplit serializeAndDeserializeSplit(MySqlSplit split) throws Exception {
         final MySqlSplitSerializer sqlSplitSerializer = new MySqlSplitSerializer();
         byte[] serialized = sqlSplitSerializer.serialize(split);
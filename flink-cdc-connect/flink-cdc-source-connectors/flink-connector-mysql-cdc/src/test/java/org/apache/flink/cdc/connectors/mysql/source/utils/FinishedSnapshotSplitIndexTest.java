@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source.utils;
+
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link FinishedSnapshotSplitIndex}. */
+class FinishedSnapshotSplitIndexTest {
+
+    private static final TableId TABLE_ID = new TableId("test_db", null, "test_table");
+
+    @Test
+    void testFindSplitWithIntegralBoundaries() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(createSplit("split-2", new Object[] {200L}, new Object[] {300L}));
+        splits.add(createSplit("split-0", null, new Object[] {100L}));
+        splits.add(createSplit("split-3", new Object[] {300L}, null));
+        splits.add(createSplit("split-1", new Object[] {100L}, new Object[] {200L}));
+        FinishedSnapshotSplitIndex index = FinishedSnapshotSplitIndex.of(splits);
+
+        assertThat(index.findSplit(Long.MIN_VALUE).getSplitId()).isEqualTo("split-0");
+        assertThat(index.findSplit(99L).getSplitId()).isEqualTo("split-0");
+        assertThat(index.findSplit(100L).getSplitId()).isEqualTo("split-1");
+        assertThat(index.findSplit(250).getSplitId()).isEqualTo("split-2");
+        assertThat(index.findSplit((short) 300).getSplitId()).isEqualTo("split-3");
+        assertThat(index.findSplit(Long.MAX_VALUE).getSplitId()).isEqualTo("split-3");
+        // Non-integral keys fall back to generic comparison
+        assertThat(index.findSplit(new BigDecimal("150")).getSplitId()).isEqualTo("split-1");
+    }
+
+    @Test
+    void testFindSplitWithGaps() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(createSplit("split-0", new Object[] {0}, new Object[] {100}));
+        splits.add(createSplit("split-1", new Object[] {200}, new Object[] {300}));
+        FinishedSnapshotSplitIndex index = FinishedSnapshotSplitIndex.of(splits);
+
+        assertThat(index.findSplit(-1)).isNull();
+        assertThat(index.findSplit(150)).isNull();
+        assertThat(index.findSplit(300)).isNull();
+        assertThat(index.findSplit(299L).getSplitId()).isEqualTo("split-1");
+    }
+
+    @Test
+    void testFindSplitWithNonIntegralBoundaries() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(createSplit("split-0", null, new Object[] {"m"}));
+        splits.add(createSplit("split-1", new Object[] {"m"}, null));
+        FinishedSnapshotSplitIndex index = FinishedSnapshotSplitIndex.of(splits);
+
+        assertThat(index.findSplit("a").getSplitId()).isEqualTo("split-0");
+        assertThat(index.findSplit("x").getSplitId()).isEqualTo("split-1");
+    }
+
+    @Test
+    void testConsistentWithBinarySearchOnManySplits() {
+        int splitCount = 100_000;
+        int chunkSize = 1024;
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>(splitCount);
+        for (int i = 0; i < splitCount; i++) {
+            Object[] start = i == 0 ? null : new Object[] {(long) i * chunkSize};
+            Object[] end = i == splitCount - 1 ? null : new Object[] {(long) (i + 1) * chunkSize};
+            splits.add(createSplit("split-" + i, start, end));
+        }
+        Collections.shuffle(splits, new Random(42));
+        FinishedSnapshotSplitIndex index = FinishedSnapshotSplitIndex.of(splits);
+        assertThat(index.size()).isEqualTo(splitCount);
+
+        List<FinishedSnapshotSplitInfo> sortedSplits = new ArrayList<>(splits);
+        SplitKeyUtils.sortFinishedSplitInfos(sortedSplits);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(splitCount * chunkSize + chunkSize) - chunkSize;
+            assertThat(index.findSplit(key))
+                    .isSameAs(SplitKeyUtils.findSplitByKeyBinary(sortedSplits, new Object[] {key}));
+        }
+    }
+
+    private static FinishedSnapshotSplitInfo createSplit(
+            String splitId, Object[] splitStart, Object[] splitEnd) {
+        return new FinishedSnapshotSplitInfo(
+                TABLE_ID, splitId, splitStart, splitEnd, BinlogOffset.ofEarliest());
+    }
+}
@@ -46,9 +46,13 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -60,6 +64,9 @@ import java.util.regex.Pattern;
  * extend.
  *
  * <p>Lines 411, 423: pass ROWID to LogMinerChangeRecordEmitter.
+ *
+ * <p>processResults, parseDmlStatement, startParallelDmlParser, closeParallelDmlParser: optionally
+ * parse DML redo SQL with {@link ParallelDmlParser}.
  */
 public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransaction>
         implements LogMinerEventProcessor {
@@ -77,6 +84,9 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
     private final OracleStreamingChangeEventSourceMetrics metrics;
     private final LogMinerDmlParser dmlParser;
     private final SelectLobParser selectLobParser;
+    private ParallelDmlParser parallelDmlParser;
+    private final Map<LogMinerEventRow, ParallelDmlParser.PendingDmlEntry> pendingDmlEntries =
+            new IdentityHashMap<>();
 
     protected final Counters counters;
 
@@ -105,6 +115,28 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
         this.selectLobParser = new SelectLobParser();
     }
 
+    /**
+     * Starts the workers of the {@link ParallelDmlParser} if enabled. The Debezium processors don't
+     * chain {@code close()}, so only the processor implementations which call {@link
+     * #closeParallelDmlParser()} on close may start them, the other ones parse rows inline.
+     */
+    protected void startParallelDmlParser() {
+        final int dmlParserParallelism =
+                connectorConfig.getConfig().getInteger(ParallelDmlParser.DML_PARSER_PARALLELISM);
+        if (parallelDmlParser == null && dmlParserParallelism > 0) {
+            parallelDmlParser =
+                    new ParallelDmlParser(connectorConfig.getLogicalName(), dmlParserParallelism);
+        }
+    }
+
+    /** Stops the workers of the {@link ParallelDmlParser} if started. */
+    protected void closeParallelDmlParser() {
+        if (parallelDmlParser != null) {
+            parallelDmlParser.close();
+            parallelDmlParser = null;
+        }
+    }
+
     protected OracleConnectorConfig getConfig() {
         return connectorConfig;
     }
@@ -257,6 +289,10 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
      */
     protected void processResults(OraclePartition partition, ResultSet resultSet)
             throws SQLException, InterruptedException {
+        if (parallelDmlParser != null) {
+            processResultsWithParallelDmlParser(partition, resultSet);
+            return;
+        }
         while (context.isRunning() && hasNextWithMetricsUpdate(resultSet)) {
             counters.rows++;
             processRow(
@@ -266,6 +302,78 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
         }
     }
 
+    /**
+     * Processes the LogMiner results while the redo SQL of fetched DML rows is parsed ahead by the
+     * {@link ParallelDmlParser}. Rows are still processed one by one in the result set order.
+     *
+     * @param resultSet the result set from a LogMiner query
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the dispatcher was interrupted sending an event
+     */
+    private void processResultsWithParallelDmlParser(
+            OraclePartition partition, ResultSet resultSet)
+            throws SQLException, InterruptedException {
+        final Deque<LogMinerEventRow> pendingRows = new ArrayDeque<>();
+        try {
+            while (context.isRunning() && hasNextWithMetricsUpdate(resultSet)) {
+                counters.rows++;
+                final LogMinerEventRow row =
+                        LogMinerEventRow.fromResultSet(
+                                resultSet, getConfig().getCatalogName(), isTrxIdRawValue());
+                submitDmlStatement(row);
+                pendingRows.add(row);
+                if (pendingRows.size() >= parallelDmlParser.getMaxPendingRows()) {
+                    processPendingRow(partition, pendingRows.poll());
+                }
+            }
+            while (context.isRunning() && !pendingRows.isEmpty()) {
+                processPendingRow(partition, pendingRows.poll());
+            }
+        } finally {
+            for (ParallelDmlParser.PendingDmlEntry entry : pendingDmlEntries.values()) {
+                entry.cancel();
+            }
+            pendingDmlEntries.clear();
+        }
+    }
+
+    private void processPendingRow(OraclePartition partition, LogMinerEventRow row)
+            throws SQLException, InterruptedException {
+        try {
+            processRow(partition, row);
+        } finally {
+            // the entry is left over if the row has been skipped
+            final ParallelDmlParser.PendingDmlEntry entry = pendingDmlEntries.remove(row);
+            if (entry != null) {
+                entry.cancel();
+            }
+        }
+    }
+
+    /**
+     * Submits the redo SQL of a DML row to the {@link ParallelDmlParser}. Rows of tables which are
+     * not known yet are parsed by the mining thread once the table has been captured.
+     *
+     * @param row the event row, must not be {@code null}
+     */
+    private void submitDmlStatement(LogMinerEventRow row) {
+        switch (row.getEventType()) {
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+                break;
+            default:
+                return;
+        }
+        if (row.getRedoSql() == null || row.isRollbackFlag()) {
+            return;
+        }
+        final Table table = getSchema().tableFor(row.getTableId());
+        if (table != null) {
+            pendingDmlEntries.put(row, parallelDmlParser.submit(row.getRedoSql(), table));
+        }
+    }
+
     /**
      * Processes a single LogMinerEventRow.
      *
@@ -851,8 +959,7 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
                 row.getTransactionId(),
                 row,
                 () -> {
-                    final LogMinerDmlEntry dmlEntry =
-                            parseDmlStatement(row.getRedoSql(), table, row.getTransactionId());
+                    final LogMinerDmlEntry dmlEntry = parseDmlStatement(row, table);
                     dmlEntry.setObjectName(row.getTableName());
                     dmlEntry.setObjectOwner(row.getTablespaceName());
                     return new DmlEvent(row, dmlEntry);
@@ -1078,14 +1185,57 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
             dmlEntry = dmlParser.parse(redoSql, table);
             metrics.addCurrentParseTime(Duration.between(parseStart, Instant.now()));
         } catch (DmlParserException e) {
-            String message =
-                    "DML statement couldn't be parsed."
-                            + " Please open a Jira issue with the statement '"
-                            + redoSql
-                            + "'.";
-            throw new DmlParserException(message, e);
+            throw createDmlParserException(redoSql, e);
+        }
+
+        checkDmlEntry(redoSql, dmlEntry);
+        return dmlEntry;
+    }
+
+    /**
+     * Gets the parsed DML redo SQL statement of a row, which is taken from the {@link
+     * ParallelDmlParser} if the row has been parsed ahead against the current table definition.
+     *
+     * @param row the event row, must not be {@code null}
+     * @param table the table the SQL statement is for
+     * @return a parse object for the redo SQL statement
+     */
+    private LogMinerDmlEntry parseDmlStatement(LogMinerEventRow row, Table table) {
+        final ParallelDmlParser.PendingDmlEntry pending = pendingDmlEntries.remove(row);
+        if (pending != null) {
+            // the table definition may have been changed by a schema change in between, the
+            // entry is discarded in that case even if parsing failed against the old definition
+            final ParallelDmlParser.ParsedDmlEntry parsed;
+            try {
+                parsed = pending.getIfParsedAgainst(table);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DebeziumException("Interrupted while parsing DML statement", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DmlParserException) {
+                    throw createDmlParserException(row.getRedoSql(), e.getCause());
+                }
+                throw new DebeziumException("Failed to parse DML statement", e.getCause());
+            }
+            if (parsed != null) {
+                metrics.addCurrentParseTime(parsed.getParseTime());
+                checkDmlEntry(row.getRedoSql(), parsed.getDmlEntry());
+                return parsed.getDmlEntry();
+            }
         }
+        return parseDmlStatement(row.getRedoSql(), table, row.getTransactionId());
+    }
 
+    private static DmlParserException createDmlParserException(String redoSql, Throwable cause) {
+        String message =
+                "DML statement couldn't be parsed."
+                        + " Please open a Jira issue with the statement '"
+                        + redoSql
+                        + "'.";
+        return new DmlParserException(message, cause);
+    }
+
+    private void checkDmlEntry(String redoSql, LogMinerDmlEntry dmlEntry) {
         if (dmlEntry.getOldValues().length == 0) {
             if (EventType.UPDATE == dmlEntry.getEventType()
                     || EventType.DELETE == dmlEntry.getEventType()) {
@@ -1093,8 +1243,6 @@ public abstract class AbstractLogMinerEventProcessor<T extends AbstractTransacti
                 metrics.incrementWarningCount();
             }
         }
-
-        return dmlEntry;
     }
 
     private static final Pattern LOB_WRITE_SQL_PATTERN =
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer.processor;
+
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
+
+import io.debezium.config.Field;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.relational.Table;
+import org.apache.kafka.common.config.ConfigDef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parses the redo SQL of LogMiner DML rows on a pool of worker threads.
+ *
+ * <p>The mining thread submits the rows it has fetched and keeps at most {@link
+ * #getMaxPendingRows()} rows in flight, which back-pressures fetching when parsing falls behind.
+ * The parsed entries are awaited in the result set order, so events are still appended to the
+ * transaction buffer in the order they were mined.
+ *
+ * <p>The workers are stopped by {@link #close()} once the event processor is closed.
+ */
+public class ParallelDmlParser implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelDmlParser.class);
+
+    public static final Field DML_PARSER_PARALLELISM =
+            Field.create("log.mining.dml.parser.parallelism")
+                    .withDisplayName("LogMiner DML parser parallelism")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(0)
+                    .withDescription(
+                            "The number of threads used to parse the redo SQL of LogMiner DML rows in parallel. "
+                                    + "Rows are parsed by the mining thread if set to 0.");
+
+    /** Number of in-flight rows per worker before the mining thread stops fetching rows. */
+    private static final int PENDING_ROWS_PER_WORKER = 256;
+
+    private final ExecutorService workers;
+
+    private final ThreadLocal<LogMinerDmlParser> parsers =
+            ThreadLocal.withInitial(LogMinerDmlParser::new);
+
+    private final int maxPendingRows;
+
+    public ParallelDmlParser(String logicalName, int parallelism) {
+        this.workers =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ExecutorThreadFactory("logminer-dml-parser-" + logicalName));
+        this.maxPendingRows = parallelism * PENDING_ROWS_PER_WORKER;
+        LOGGER.info("Parsing LogMiner DML rows with {} threads", parallelism);
+    }
+
+    /** Returns the maximum number of fetched rows which wait to be processed. */
+    public int getMaxPendingRows() {
+        return maxPendingRows;
+    }
+
+    /** Submits the redo SQL of a DML row to be parsed against the given table. */
+    public PendingDmlEntry submit(String redoSql, Table table) {
+        return new PendingDmlEntry(
+                table,
+                workers.submit(
+                        () -> {
+                            Instant parseStart = Instant.now();
+                            LogMinerDmlEntry dmlEntry = parsers.get().parse(redoSql, table);
+                            return new ParsedDmlEntry(
+                                    dmlEntry, Duration.between(parseStart, Instant.now()));
+                        }));
+    }
+
+    /** Stops the workers, the entries which are not parsed yet are discarded. */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /** A DML entry which is submitted to the workers. */
+    public static class PendingDmlEntry {
+
+        private final Table table;
+        private final Future<ParsedDmlEntry> future;
+
+        PendingDmlEntry(Table table, Future<ParsedDmlEntry> future) {
+            this.table = table;
+            this.future = future;
+        }
+
+        /** Returns the table definition the redo SQL is parsed against. */
+        public Table getTable() {
+            return table;
+        }
+
+        /**
+         * Waits for the parsed entry if the redo SQL is parsed against the given table definition.
+         *
+         * @return the parsed entry, or {@code null} if the table definition has been changed in
+         *     between, e.g. by a DDL, in which case the row must be parsed again
+         * @throws ExecutionException if parsing failed against the current table definition
+         */
+        @Nullable
+        public ParsedDmlEntry getIfParsedAgainst(Table currentTable)
+                throws InterruptedException, ExecutionException {
+            if (table != currentTable) {
+                cancel();
+                return null;
+            }
+            return future.get();
+        }
+
+        /** Discards the entry, e.g. the row has been skipped. */
+        public void cancel() {
+            future.cancel(false);
+        }
+    }
+
+    /** A DML entry parsed by a worker. */
+    public static class ParsedDmlEntry {
+
+        private final LogMinerDmlEntry dmlEntry;
+        private final Duration parseTime;
+
+        ParsedDmlEntry(LogMinerDmlEntry dmlEntry, Duration parseTime) {
+            this.dmlEntry = dmlEntry;
+            this.parseTime = parseTime;
+        }
+
+        public LogMinerDmlEntry getDmlEntry() {
+            return dmlEntry;
+        }
+
+        public Duration getParseTime() {
+            return parseTime;
+        }
+    }
+}
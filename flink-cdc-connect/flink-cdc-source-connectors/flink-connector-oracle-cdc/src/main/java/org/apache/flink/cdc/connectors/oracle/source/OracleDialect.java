@@ -135,7 +135,7 @@ public class OracleDialect implements JdbcDataSourceDialect {
     }
 
     @Override
-    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+    public synchronized TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
         if (oracleSchema == null) {
             oracleSchema = new OracleSchema();
         }
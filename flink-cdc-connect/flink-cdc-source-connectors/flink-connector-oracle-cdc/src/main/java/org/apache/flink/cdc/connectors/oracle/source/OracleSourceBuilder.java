@@ -17,12 +17,17 @@
 
 package org.apache.flink.cdc.connectors.oracle.source;
 
+import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.options.JdbcSourceOptions;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
+import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceReader;
 import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
 import org.apache.flink.cdc.connectors.oracle.source.meta.offset.RedoLogOffsetFactory;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.configuration.ConfigurationUtils;
 
 import javax.annotation.Nullable;
 
@@ -258,6 +263,24 @@ public class OracleSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed, see {@link JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES}.
+     */
+    public OracleSourceBuilder<T> samplesPerChunk(int samplesPerChunk) {
+        this.configFactory.samplesPerChunk(samplesPerChunk);
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently by the enumerator, see {@link
+     * JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM}.
+     */
+    public OracleSourceBuilder<T> chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.configFactory.chunkSplittingParallelism(chunkSplittingParallelism);
+        return this;
+    }
+
     /**
      * Build the {@link OracleIncrementalSource}.
      *
@@ -273,12 +296,25 @@ public class OracleSourceBuilder<T> {
     /** The {@link JdbcIncrementalSource} implementation for Oracle. */
     public static class OracleIncrementalSource<T> extends JdbcIncrementalSource<T> {
 
+        private final OracleSourceConfigFactory oracleConfigFactory;
+
         public OracleIncrementalSource(
                 OracleSourceConfigFactory configFactory,
                 DebeziumDeserializationSchema<T> deserializationSchema,
                 RedoLogOffsetFactory offsetFactory,
                 OracleDialect dataSourceDialect) {
             super(configFactory, deserializationSchema, offsetFactory, dataSourceDialect);
+            this.oracleConfigFactory = configFactory;
+        }
+
+        @Override
+        public IncrementalSourceReader<T, JdbcSourceConfig> createReader(
+                SourceReaderContext readerContext) throws Exception {
+            // local files of the reader, e.g. the mapped transaction buffer, go to io.tmp.dirs
+            oracleConfigFactory.tmpDirectory(
+                    ConfigurationUtils.getRandomTempDirectory(readerContext.getConfiguration())
+                            .getPath());
+            return super.createReader(readerContext);
         }
 
         public static <T> OracleSourceBuilder<T> builder() {
@@ -37,7 +37,9 @@ import oracle.sql.ROWID;
 
 import javax.annotation.Nullable;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * The {@code ChunkSplitter} used to split Oracle table into a set of chunks for JDBC data source.
@@ -89,6 +91,13 @@ public class OracleChunkSplitter extends JdbcSourceChunkSplitter {
         return OracleUtils.queryApproximateRowCnt(jdbc, tableId);
     }
 
+    @Override
+    protected List<Object> querySampledSplitKeys(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, BigDecimal samplingPercent)
+            throws SQLException {
+        return OracleUtils.querySampledValues(jdbc, tableId, splitColumn.name(), samplingPercent);
+    }
+
     @Override
     public DataType fromDbzColumn(Column splitColumn) {
         return OracleTypeUtils.fromDbzColumn(splitColumn);
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.oracle.source.config;
 
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfigFactory;
 import org.apache.flink.cdc.connectors.base.source.EmbeddedFlinkDatabaseHistory;
+import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer.MappedFileLogMinerEventProcessor;
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.oracle.OracleConnector;
@@ -42,6 +43,7 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
 
     @Nullable private String url;
     private List<String> schemaList;
+    @Nullable private String tmpDirectory;
 
     /** Url to use when connecting to the Oracle database server. */
     public JdbcSourceConfigFactory url(@Nullable String url) {
@@ -59,6 +61,12 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
         return this;
     }
 
+    /** The local directory of the task manager to create temporary files in. */
+    public JdbcSourceConfigFactory tmpDirectory(@Nullable String tmpDirectory) {
+        this.tmpDirectory = tmpDirectory;
+        return this;
+    }
+
     /** Creates a new {@link OracleSourceConfig} for the given subtask {@code subtaskId}. */
     public OracleSourceConfig create(int subtaskId) {
         checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
@@ -103,6 +111,12 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
             props.setProperty("table.include.list", String.join(",", tableList));
         }
 
+        if (tmpDirectory != null) {
+            props.setProperty(
+                    MappedFileLogMinerEventProcessor.LOG_MINING_BUFFER_MAPPED_FILE_DIRECTORY.name(),
+                    tmpDirectory);
+        }
+
         // override the user-defined debezium properties
         if (dbzProperties != null) {
             props.putAll(dbzProperties);
@@ -135,6 +149,8 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                samplesPerChunk,
+                chunkSplittingParallelism);
     }
 }
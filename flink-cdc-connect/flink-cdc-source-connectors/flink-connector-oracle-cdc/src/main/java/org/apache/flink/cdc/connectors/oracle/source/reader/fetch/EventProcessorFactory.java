@@ -22,6 +22,7 @@ import org.apache.flink.cdc.connectors.base.WatermarkDispatcher;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
 import org.apache.flink.cdc.connectors.oracle.source.meta.offset.RedoLogOffset;
+import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer.MappedFileLogMinerEventProcessor;
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.oracle.OracleConnection;
@@ -66,6 +67,20 @@ public class EventProcessorFactory {
             OracleStreamingChangeEventSourceMetrics metrics,
             ErrorHandler errorHandler,
             StreamSplit redoLogSplit) {
+        if (MappedFileLogMinerEventProcessor.isEnabled(connectorConfig)) {
+            return new CDCMappedFileLogMinerEventProcessor(
+                    context,
+                    connectorConfig,
+                    jdbcConnection,
+                    eventDispatcher,
+                    watermarkDispatcher,
+                    partition,
+                    offsetContext,
+                    schema,
+                    metrics,
+                    errorHandler,
+                    redoLogSplit);
+        }
         final OracleConnectorConfig.LogMiningBufferType bufferType =
                 connectorConfig.getLogMiningBufferType();
         if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)) {
@@ -150,6 +165,7 @@ public class EventProcessorFactory {
             this.errorHandler = errorHandler;
             this.context = context;
             this.watermarkDispatcher = watermarkDispatcher;
+            startParallelDmlParser();
         }
 
         @Override
@@ -161,6 +177,15 @@ public class EventProcessorFactory {
             }
             super.processRow(partition, row);
         }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                super.close();
+            } finally {
+                closeParallelDmlParser();
+            }
+        }
     }
 
     /**
@@ -200,6 +225,7 @@ public class EventProcessorFactory {
             this.errorHandler = errorHandler;
             this.context = context;
             this.watermarkDispatcher = watermarkDispatcher;
+            startParallelDmlParser();
         }
 
         @Override
@@ -211,6 +237,15 @@ public class EventProcessorFactory {
             }
             super.processRow(partition, row);
         }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                super.close();
+            } finally {
+                closeParallelDmlParser();
+            }
+        }
     }
 
     /**
@@ -250,6 +285,7 @@ public class EventProcessorFactory {
             this.errorHandler = errorHandler;
             this.context = context;
             this.watermarkDispatcher = watermarkDispatcher;
+            startParallelDmlParser();
         }
 
         @Override
@@ -261,6 +297,75 @@ public class EventProcessorFactory {
             }
             super.processRow(partition, row);
         }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                super.close();
+            } finally {
+                closeParallelDmlParser();
+            }
+        }
+    }
+
+    /**
+     * A {@link MappedFileLogMinerEventProcessor} with enhanced processRow method to distinguish
+     * whether is bounded.
+     */
+    public static class CDCMappedFileLogMinerEventProcessor
+            extends MappedFileLogMinerEventProcessor {
+        private final StreamSplit redoLogSplit;
+        private final ErrorHandler errorHandler;
+
+        private ChangeEventSource.ChangeEventSourceContext context;
+        private final WatermarkDispatcher watermarkDispatcher;
+
+        public CDCMappedFileLogMinerEventProcessor(
+                ChangeEventSource.ChangeEventSourceContext context,
+                OracleConnectorConfig connectorConfig,
+                OracleConnection jdbcConnection,
+                EventDispatcher<OraclePartition, TableId> eventDispatcher,
+                WatermarkDispatcher watermarkDispatcher,
+                OraclePartition partition,
+                OracleOffsetContext offsetContext,
+                OracleDatabaseSchema schema,
+                OracleStreamingChangeEventSourceMetrics metrics,
+                ErrorHandler errorHandler,
+                StreamSplit redoLogSplit) {
+            super(
+                    context,
+                    connectorConfig,
+                    jdbcConnection,
+                    eventDispatcher,
+                    partition,
+                    offsetContext,
+                    schema,
+                    metrics);
+            this.redoLogSplit = redoLogSplit;
+            this.errorHandler = errorHandler;
+            this.context = context;
+            this.watermarkDispatcher = watermarkDispatcher;
+            startParallelDmlParser();
+        }
+
+        @Override
+        protected void processRow(OraclePartition partition, LogMinerEventRow row)
+                throws SQLException, InterruptedException {
+            if (reachEndingOffset(
+                    partition, row, redoLogSplit, errorHandler, watermarkDispatcher, context)) {
+                return;
+            }
+            super.processRow(partition, row);
+        }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                super.close();
+            } finally {
+                closeParallelDmlParser();
+            }
+        }
     }
 
     public static boolean reachEndingOffset(
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleValueConverters;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LobEraseEvent;
+import io.debezium.connector.oracle.logminer.events.LobWriteEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.SelectLobLocatorEvent;
+import io.debezium.connector.oracle.logminer.events.TruncateEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.apache.flink.util.StringUtils.readNullableString;
+import static org.apache.flink.util.StringUtils.writeNullableString;
+
+/**
+ * Serializes the {@link LogMinerEvent}s buffered by {@link MappedTransaction} into the records of
+ * a {@link MappedEventLog}.
+ *
+ * <p>The column values of a {@link LogMinerDmlEntry} are the strings produced by the LogMiner DML
+ * parsers, {@code null} or the {@link OracleValueConverters#UNAVAILABLE_VALUE} placeholder.
+ */
+@Internal
+public class LogMinerEventSerializer {
+
+    private static final byte LOG_MINER_EVENT = 0;
+    private static final byte DML_EVENT = 1;
+    private static final byte SELECT_LOB_LOCATOR_EVENT = 2;
+    private static final byte LOB_WRITE_EVENT = 3;
+    private static final byte LOB_ERASE_EVENT = 4;
+    private static final byte TRUNCATE_EVENT = 5;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte UNAVAILABLE_VALUE = 2;
+
+    private final DataOutputSerializer out = new DataOutputSerializer(256);
+
+    public byte[] serialize(LogMinerEvent event) throws IOException {
+        out.clear();
+        if (event instanceof SelectLobLocatorEvent) {
+            SelectLobLocatorEvent lobLocatorEvent = (SelectLobLocatorEvent) event;
+            out.writeByte(SELECT_LOB_LOCATOR_EVENT);
+            writeEventHeader(event);
+            writeDmlEntry(lobLocatorEvent.getDmlEntry());
+            writeNullableString(lobLocatorEvent.getColumnName(), out);
+            out.writeBoolean(lobLocatorEvent.isBinary());
+        } else if (event instanceof TruncateEvent) {
+            out.writeByte(TRUNCATE_EVENT);
+            writeEventHeader(event);
+            writeDmlEntry(((TruncateEvent) event).getDmlEntry());
+        } else if (event instanceof DmlEvent) {
+            out.writeByte(DML_EVENT);
+            writeEventHeader(event);
+            writeDmlEntry(((DmlEvent) event).getDmlEntry());
+        } else if (event instanceof LobWriteEvent) {
+            LobWriteEvent lobWriteEvent = (LobWriteEvent) event;
+            out.writeByte(LOB_WRITE_EVENT);
+            writeEventHeader(event);
+            writeNullableString(lobWriteEvent.getData(), out);
+            out.writeInt(lobWriteEvent.getOffset());
+            out.writeInt(lobWriteEvent.getLength());
+        } else if (event instanceof LobEraseEvent) {
+            out.writeByte(LOB_ERASE_EVENT);
+            writeEventHeader(event);
+        } else {
+            out.writeByte(LOG_MINER_EVENT);
+            writeEventHeader(event);
+        }
+        return out.getCopyOfBuffer();
+    }
+
+    public LogMinerEvent deserialize(byte[] record) throws IOException {
+        DataInputDeserializer in = new DataInputDeserializer(record);
+        byte kind = in.readByte();
+        EventType eventType = EventType.from(in.readInt());
+        Scn scn = Scn.valueOf(in.readUTF());
+        String tableId = readNullableString(in);
+        TableId table = tableId == null ? null : TableId.parse(tableId);
+        String rowId = readNullableString(in);
+        String rsId = readNullableString(in);
+        Instant changeTime = in.readBoolean() ? readInstant(in) : null;
+        switch (kind) {
+            case DML_EVENT:
+                return new DmlEvent(
+                        eventType, scn, table, rowId, rsId, changeTime, readDmlEntry(in));
+            case SELECT_LOB_LOCATOR_EVENT:
+                return new SelectLobLocatorEvent(
+                        eventType,
+                        scn,
+                        table,
+                        rowId,
+                        rsId,
+                        changeTime,
+                        readDmlEntry(in),
+                        readNullableString(in),
+                        in.readBoolean());
+            case LOB_WRITE_EVENT:
+                return new LobWriteEvent(
+                        eventType,
+                        scn,
+                        table,
+                        rowId,
+                        rsId,
+                        changeTime,
+                        readNullableString(in),
+                        in.readInt(),
+                        in.readInt());
+            case LOB_ERASE_EVENT:
+                return new LobEraseEvent(eventType, scn, table, rowId, rsId, changeTime);
+            case TRUNCATE_EVENT:
+                return new TruncateEvent(
+                        eventType, scn, table, rowId, rsId, changeTime, readDmlEntry(in));
+            case LOG_MINER_EVENT:
+                return new LogMinerEvent(eventType, scn, table, rowId, rsId, changeTime);
+            default:
+                throw new DebeziumException("Unknown buffered LogMiner event kind: " + kind);
+        }
+    }
+
+    private void writeEventHeader(LogMinerEvent event) throws IOException {
+        out.writeInt(event.getEventType().getValue());
+        out.writeUTF(event.getScn().toString());
+        writeNullableString(event.getTableId() == null ? null : event.getTableId().toString(), out);
+        writeNullableString(event.getRowId(), out);
+        writeNullableString(event.getRsId(), out);
+        Instant changeTime = event.getChangeTime();
+        out.writeBoolean(changeTime != null);
+        if (changeTime != null) {
+            out.writeLong(changeTime.getEpochSecond());
+            out.writeInt(changeTime.getNano());
+        }
+    }
+
+    private void writeDmlEntry(LogMinerDmlEntry dmlEntry) throws IOException {
+        out.writeInt(dmlEntry.getEventType().getValue());
+        writeNullableString(dmlEntry.getObjectOwner(), out);
+        writeNullableString(dmlEntry.getObjectName(), out);
+        writeValues(dmlEntry.getNewValues());
+        writeValues(dmlEntry.getOldValues());
+    }
+
+    private void writeValues(Object[] values) throws IOException {
+        out.writeInt(values.length);
+        for (Object value : values) {
+            if (value == null) {
+                out.writeByte(NULL_VALUE);
+            } else if (value == OracleValueConverters.UNAVAILABLE_VALUE) {
+                out.writeByte(UNAVAILABLE_VALUE);
+            } else if (value instanceof String) {
+                out.writeByte(STRING_VALUE);
+                writeNullableString((String) value, out);
+            } else {
+                throw new DebeziumException(
+                        "Unsupported column value type for the mapped transaction buffer: "
+                                + value.getClass().getName());
+            }
+        }
+    }
+
+    private static LogMinerDmlEntry readDmlEntry(DataInputDeserializer in) throws IOException {
+        int eventType = in.readInt();
+        String objectOwner = readNullableString(in);
+        String objectName = readNullableString(in);
+        Object[] newValues = readValues(in);
+        Object[] oldValues = readValues(in);
+        return new LogMinerDmlEntryImpl(eventType, newValues, oldValues, objectOwner, objectName);
+    }
+
+    private static Object[] readValues(DataInputDeserializer in) throws IOException {
+        Object[] values = new Object[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            byte tag = in.readByte();
+            if (tag == STRING_VALUE) {
+                values[i] = readNullableString(in);
+            } else if (tag == UNAVAILABLE_VALUE) {
+                values[i] = OracleValueConverters.UNAVAILABLE_VALUE;
+            }
+        }
+        return values;
+    }
+
+    private static Instant readInstant(DataInputDeserializer in) throws IOException {
+        long epochSecond = in.readLong();
+        return Instant.ofEpochSecond(epochSecond, in.readInt());
+    }
+}
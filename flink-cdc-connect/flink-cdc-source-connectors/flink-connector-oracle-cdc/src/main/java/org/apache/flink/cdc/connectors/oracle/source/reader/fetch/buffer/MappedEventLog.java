@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+import static org.apache.flink.util.Preconditions.checkState;
+
+/**
+ * An append-only log of byte records, which is stored in memory-mapped segment files under a local
+ * directory.
+ *
+ * <p>Each appended record is identified by an address which encodes its segment and its offset in
+ * the segment. Records are never updated in place; a record is released once it is not needed any
+ * more. A segment file is deleted as soon as all of its records have been released, and the segment
+ * currently written is rewound instead, so the disk usage follows the records which are still
+ * alive. The mapped memory of a deleted segment is given back when its buffer is garbage collected.
+ *
+ * <p>This class is not thread-safe.
+ */
+@Internal
+public class MappedEventLog implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedEventLog.class);
+
+    /** The length of a record is stored in front of its bytes. */
+    private static final int RECORD_HEADER_BYTES = 4;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final Map<Integer, Segment> segments = new HashMap<>();
+
+    private Segment currentSegment;
+
+    private int nextSegmentId;
+
+    private long bufferedBytes;
+
+    private long bufferedRecords;
+
+    private long spilledBytes;
+
+    private long spilledRecords;
+
+    private long mappedBytes;
+
+    private boolean closed;
+
+    private MappedEventLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Creates an empty log in a new sub directory of the given base directory.
+     *
+     * @param baseDirectory the directory to create the segment files in
+     * @param segmentSize the size of a segment file in bytes, larger records get their own segment
+     */
+    public static MappedEventLog create(Path baseDirectory, int segmentSize) throws IOException {
+        checkArgument(
+                segmentSize > RECORD_HEADER_BYTES,
+                "Segment size must be larger than %s bytes.",
+                RECORD_HEADER_BYTES);
+        Files.createDirectories(baseDirectory);
+        Path directory = Files.createTempDirectory(baseDirectory, "logminer-buffer-");
+        LOG.info("Buffering LogMiner transactions in {}.", directory);
+        return new MappedEventLog(directory, segmentSize);
+    }
+
+    /**
+     * Appends a record to the end of the log.
+     *
+     * @return the address of the record
+     */
+    public long append(byte[] record) throws IOException {
+        checkState(!closed, "The log has been closed.");
+        int requiredBytes = RECORD_HEADER_BYTES + record.length;
+        if (currentSegment == null || currentSegment.remaining() < requiredBytes) {
+            sealCurrentSegment();
+            currentSegment = openSegment(Math.max(segmentSize, requiredBytes));
+        }
+        int offset = currentSegment.position;
+        MappedByteBuffer buffer = currentSegment.buffer;
+        buffer.putInt(offset, record.length);
+        ByteBuffer target = buffer.duplicate();
+        target.position(offset + RECORD_HEADER_BYTES);
+        target.put(record);
+        currentSegment.position += requiredBytes;
+        currentSegment.liveRecords++;
+
+        bufferedBytes += requiredBytes;
+        bufferedRecords++;
+        spilledBytes += requiredBytes;
+        spilledRecords++;
+        return address(currentSegment.id, offset);
+    }
+
+    /** Reads the record of the given address, which must not have been released. */
+    public byte[] read(long address) {
+        Segment segment = segmentOf(address);
+        int offset = offset(address);
+        int length = segment.buffer.getInt(offset);
+        byte[] record = new byte[length];
+        ByteBuffer source = segment.buffer.duplicate();
+        source.position(offset + RECORD_HEADER_BYTES);
+        source.get(record);
+        return record;
+    }
+
+    /**
+     * Releases the record of the given address. The segment of the record is dropped once all of
+     * its records have been released.
+     */
+    public void release(long address) throws IOException {
+        Segment segment = segmentOf(address);
+        int length = segment.buffer.getInt(offset(address));
+        segment.liveRecords--;
+        bufferedBytes -= RECORD_HEADER_BYTES + length;
+        bufferedRecords--;
+        if (segment.liveRecords == 0) {
+            if (segment == currentSegment) {
+                // nothing in the segment is referenced any more, write it again from the start
+                segment.position = 0;
+            } else {
+                dropSegment(segment);
+            }
+        }
+    }
+
+    /** Returns the number of bytes held by records which have not been released. */
+    public long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    /** Returns the number of records which have not been released. */
+    public long getBufferedRecords() {
+        return bufferedRecords;
+    }
+
+    /** Returns the total number of bytes which have been written to the log. */
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    /** Returns the total number of records which have been written to the log. */
+    public long getSpilledRecords() {
+        return spilledRecords;
+    }
+
+    /** Returns the number of segment files currently mapped. */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /** Returns the size in bytes of the segment files currently mapped. */
+    public long getMappedBytes() {
+        return mappedBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        IOException exception = null;
+        for (Segment segment : segments.values()) {
+            try {
+                Files.deleteIfExists(segment.file);
+            } catch (IOException e) {
+                exception = addSuppressed(exception, e);
+            }
+        }
+        segments.clear();
+        currentSegment = null;
+        mappedBytes = 0;
+        bufferedBytes = 0;
+        bufferedRecords = 0;
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            exception = addSuppressed(exception, e);
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private void sealCurrentSegment() throws IOException {
+        if (currentSegment != null && currentSegment.liveRecords == 0) {
+            dropSegment(currentSegment);
+        }
+        currentSegment = null;
+    }
+
+    private Segment openSegment(int capacity) throws IOException {
+        int id = nextSegmentId++;
+        Path file = directory.resolve("segment-" + id + ".log");
+        MappedByteBuffer buffer;
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel has been closed
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        Segment segment = new Segment(id, file, buffer);
+        segments.put(id, segment);
+        mappedBytes += capacity;
+        return segment;
+    }
+
+    private void dropSegment(Segment segment) throws IOException {
+        segments.remove(segment.id);
+        mappedBytes -= segment.buffer.capacity();
+        Files.deleteIfExists(segment.file);
+    }
+
+    private Segment segmentOf(long address) {
+        Segment segment = segments.get(segmentId(address));
+        checkState(segment != null, "The record at address %s has been released.", address);
+        return segment;
+    }
+
+    private static IOException addSuppressed(IOException exception, IOException e) {
+        if (exception == null) {
+            return e;
+        }
+        exception.addSuppressed(e);
+        return exception;
+    }
+
+    private static long address(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentId(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    /** A memory-mapped segment file of the log. */
+    private static class Segment {
+
+        private final int id;
+
+        private final Path file;
+
+        private final MappedByteBuffer buffer;
+
+        /** The offset the next record is written at. */
+        private int position;
+
+        /** The number of records in this segment which have not been released. */
+        private int liveRecords;
+
+        private Segment(int id, Path file, MappedByteBuffer buffer) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+    }
+}
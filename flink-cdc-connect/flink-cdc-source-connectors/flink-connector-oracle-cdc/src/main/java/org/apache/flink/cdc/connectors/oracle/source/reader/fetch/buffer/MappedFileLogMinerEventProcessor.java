@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.relational.TableId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link MemoryLogMinerEventProcessor} which buffers the events of in-flight transactions in an
+ * append-only, memory-mapped {@link MappedEventLog} on local disk instead of in heap.
+ *
+ * <p>Only the addresses of the buffered events are kept per transaction id, so a transaction of
+ * tens of millions of rows costs a few bytes of heap per row. The events of a committed transaction
+ * are read back from the log in the order they were mined, and the events of a rolled back
+ * transaction are released without being read.
+ *
+ * <p>Debezium's {@link OracleConnectorConfig.LogMiningBufferType} can not be extended, this buffer
+ * is enabled by the Debezium property {@code log.mining.buffer.mapped.file.enabled} instead.
+ */
+@Internal
+public class MappedFileLogMinerEventProcessor extends MemoryLogMinerEventProcessor {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(MappedFileLogMinerEventProcessor.class);
+
+    public static final Field LOG_MINING_BUFFER_MAPPED_FILE_ENABLED =
+            Field.create("log.mining.buffer.mapped.file.enabled")
+                    .withDescription(
+                            "Whether to buffer the events of in-flight transactions in memory-mapped files on local disk.")
+                    .withDefault(false);
+
+    public static final Field LOG_MINING_BUFFER_MAPPED_FILE_DIRECTORY =
+            Field.create("log.mining.buffer.mapped.file.directory")
+                    .withDescription(
+                            "The local directory to create the memory-mapped buffer files in. The incremental snapshot source defaults to one of Flink io.tmp.dirs.")
+                    .withDefault(System.getProperty("java.io.tmpdir"));
+
+    public static final Field LOG_MINING_BUFFER_MAPPED_FILE_SEGMENT_SIZE =
+            Field.create("log.mining.buffer.mapped.file.segment.size")
+                    .withDescription(
+                            "The size in bytes of a memory-mapped buffer file. Disk space is given back per file once all of its events are committed or rolled back.")
+                    .withDefault(64 * 1024 * 1024);
+
+    private final MappedEventLog eventLog;
+
+    private final LogMinerEventSerializer serializer = new LogMinerEventSerializer();
+
+    /** The transactions which may still hold events in the log. */
+    private final Set<MappedTransaction> bufferedTransactions =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public MappedFileLogMinerEventProcessor(
+            ChangeEventSourceContext context,
+            OracleConnectorConfig connectorConfig,
+            OracleConnection jdbcConnection,
+            EventDispatcher<OraclePartition, TableId> dispatcher,
+            OraclePartition partition,
+            OracleOffsetContext offsetContext,
+            OracleDatabaseSchema schema,
+            OracleStreamingChangeEventSourceMetrics metrics) {
+        super(
+                context,
+                connectorConfig,
+                jdbcConnection,
+                dispatcher,
+                partition,
+                offsetContext,
+                schema,
+                metrics);
+        try {
+            this.eventLog =
+                    MappedEventLog.create(
+                            Paths.get(
+                                    connectorConfig
+                                            .getConfig()
+                                            .getString(LOG_MINING_BUFFER_MAPPED_FILE_DIRECTORY)),
+                            connectorConfig
+                                    .getConfig()
+                                    .getInteger(LOG_MINING_BUFFER_MAPPED_FILE_SEGMENT_SIZE));
+        } catch (IOException e) {
+            throw new DebeziumException("Failed to create the mapped transaction buffer", e);
+        }
+    }
+
+    /** Returns whether the mapped file buffer is enabled by the given connector config. */
+    public static boolean isEnabled(OracleConnectorConfig connectorConfig) {
+        return connectorConfig.getConfig().getBoolean(LOG_MINING_BUFFER_MAPPED_FILE_ENABLED);
+    }
+
+    @Override
+    protected MemoryTransaction createTransaction(LogMinerEventRow row) {
+        MappedTransaction transaction =
+                new MappedTransaction(
+                        row.getTransactionId(),
+                        row.getScn(),
+                        row.getChangeTime(),
+                        row.getUserName(),
+                        eventLog,
+                        serializer);
+        bufferedTransactions.add(transaction);
+        return transaction;
+    }
+
+    @Override
+    protected void removeEventWithRowId(LogMinerEventRow row) {
+        MemoryTransaction transaction = getTransactionCache().get(row.getTransactionId());
+        if (transaction != null) {
+            if (!((MappedTransaction) transaction).undoEventWithRowId(row.getRowId())) {
+                LOG.warn("Cannot undo change '{}' since the row id was not found.", row);
+            }
+            return;
+        }
+        if (isTransactionIdWithNoSequence(row.getTransactionId())) {
+            // the undo row only refers to the undo segment and slot of its transaction
+            final String prefix = getTransactionIdPrefix(row.getTransactionId());
+            for (Map.Entry<String, MemoryTransaction> entry : getTransactionCache().entrySet()) {
+                if (entry.getKey().startsWith(prefix)
+                        && ((MappedTransaction) entry.getValue())
+                                .undoEventWithRowId(row.getRowId())) {
+                    return;
+                }
+            }
+        }
+        LOG.warn("Cannot undo change '{}' since transaction was not found.", row);
+    }
+
+    @Override
+    protected Iterator<LogMinerEvent> getTransactionEventIterator(MemoryTransaction transaction) {
+        return transaction.getEvents().iterator();
+    }
+
+    @Override
+    protected int getTransactionEventCount(MemoryTransaction transaction) {
+        return transaction.getEvents().size();
+    }
+
+    @Override
+    protected void removeTransactionAndEventsFromCache(MemoryTransaction transaction) {
+        super.removeTransactionAndEventsFromCache(transaction);
+        release((MappedTransaction) transaction);
+    }
+
+    @Override
+    protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {
+        MemoryTransaction transaction = getTransactionCache().get(transactionId);
+        super.finalizeTransactionRollback(transactionId, rollbackScn);
+        if (transaction != null) {
+            LOG.debug(
+                    "Releasing {} buffered bytes of rolled back transaction {}.",
+                    ((MappedTransaction) transaction).getBufferedBytes(),
+                    transactionId);
+            release((MappedTransaction) transaction);
+        }
+    }
+
+    @Override
+    protected Scn calculateNewStartScn(Scn endScn, Scn maxCommittedScn)
+            throws InterruptedException {
+        Scn newStartScn = super.calculateNewStartScn(endScn, maxCommittedScn);
+        releaseEvictedTransactions(bufferedTransactions, getTransactionCache());
+        LOG.debug(
+                "Mapped transaction buffer holds {} events in {} bytes of {} segments ({} bytes mapped), {} events in {} bytes spilled in total.",
+                eventLog.getBufferedRecords(),
+                eventLog.getBufferedBytes(),
+                eventLog.getSegmentCount(),
+                eventLog.getMappedBytes(),
+                eventLog.getSpilledRecords(),
+                eventLog.getSpilledBytes());
+        return newStartScn;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            super.close();
+        } finally {
+            LOG.info(
+                    "Closing mapped transaction buffer, {} events in {} bytes spilled in total.",
+                    eventLog.getSpilledRecords(),
+                    eventLog.getSpilledBytes());
+            bufferedTransactions.clear();
+            eventLog.close();
+        }
+    }
+
+    /** Returns the log the events of in-flight transactions are buffered in. */
+    public MappedEventLog getEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * Releases the events of transactions which have left the transaction cache without being
+     * committed or rolled back, e.g. abandoned transactions.
+     */
+    @VisibleForTesting
+    static void releaseEvictedTransactions(
+            Set<MappedTransaction> bufferedTransactions,
+            Map<String, MemoryTransaction> transactionCache) {
+        Iterator<MappedTransaction> iterator = bufferedTransactions.iterator();
+        while (iterator.hasNext()) {
+            MappedTransaction transaction = iterator.next();
+            if (transactionCache.get(transaction.getTransactionId()) != transaction) {
+                transaction.release();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void release(MappedTransaction transaction) {
+        transaction.release();
+        bufferedTransactions.remove(transaction);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link MemoryTransaction} whose events are written to a {@link MappedEventLog}, only the
+ * addresses of the events are kept in heap.
+ */
+@Internal
+public class MappedTransaction extends MemoryTransaction {
+
+    private final MappedEventList events;
+
+    public MappedTransaction(
+            String transactionId,
+            Scn startScn,
+            Instant changeTime,
+            String userName,
+            MappedEventLog eventLog,
+            LogMinerEventSerializer serializer) {
+        super(transactionId, startScn, changeTime, userName);
+        this.events = new MappedEventList(eventLog, serializer);
+    }
+
+    @Override
+    public List<LogMinerEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Removes the last buffered event of the given row id.
+     *
+     * @return whether an event has been removed
+     */
+    public boolean undoEventWithRowId(String rowId) {
+        for (int i = events.size() - 1; i >= 0; i--) {
+            if (Objects.equals(events.get(i).getRowId(), rowId)) {
+                events.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Releases all buffered events of this transaction from the log. */
+    public void release() {
+        events.clear();
+    }
+
+    /** Returns the number of log bytes held by the buffered events of this transaction. */
+    public long getBufferedBytes() {
+        return events.bufferedBytes;
+    }
+
+    /** The events of a transaction, which are read from the log on access. */
+    private static class MappedEventList extends AbstractList<LogMinerEvent> {
+
+        private final MappedEventLog eventLog;
+
+        private final LogMinerEventSerializer serializer;
+
+        private long[] addresses = new long[16];
+
+        private int size;
+
+        private long bufferedBytes;
+
+        private MappedEventList(MappedEventLog eventLog, LogMinerEventSerializer serializer) {
+            this.eventLog = eventLog;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public boolean add(LogMinerEvent event) {
+            if (size == addresses.length) {
+                addresses = Arrays.copyOf(addresses, size * 2);
+            }
+            try {
+                long bufferedBytesBefore = eventLog.getBufferedBytes();
+                addresses[size++] = eventLog.append(serializer.serialize(event));
+                bufferedBytes += eventLog.getBufferedBytes() - bufferedBytesBefore;
+            } catch (IOException e) {
+                throw new DebeziumException("Failed to buffer LogMiner event " + event, e);
+            }
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public LogMinerEvent get(int index) {
+            checkIndex(index);
+            try {
+                return serializer.deserialize(eventLog.read(addresses[index]));
+            } catch (IOException e) {
+                throw new DebeziumException("Failed to read buffered LogMiner event", e);
+            }
+        }
+
+        @Override
+        public LogMinerEvent remove(int index) {
+            LogMinerEvent event = get(index);
+            release(addresses[index]);
+            System.arraycopy(addresses, index + 1, addresses, index, size - index - 1);
+            size--;
+            modCount++;
+            return event;
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < size; i++) {
+                release(addresses[i]);
+            }
+            addresses = new long[16];
+            size = 0;
+            bufferedBytes = 0;
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void release(long address) {
+            try {
+                long bufferedBytesBefore = eventLog.getBufferedBytes();
+                eventLog.release(address);
+                bufferedBytes -= bufferedBytesBefore - eventLog.getBufferedBytes();
+            } catch (IOException e) {
+                throw new DebeziumException("Failed to release buffered LogMiner event", e);
+            }
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+    }
+}
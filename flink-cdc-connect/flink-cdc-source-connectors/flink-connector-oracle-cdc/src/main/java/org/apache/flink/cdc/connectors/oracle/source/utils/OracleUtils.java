@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.oracle.source.utils;
 
+import org.apache.flink.cdc.connectors.base.source.utils.JdbcChunkUtils;
 import org.apache.flink.cdc.connectors.oracle.source.meta.offset.RedoLogOffset;
 import org.apache.flink.table.types.logical.RowType;
 
@@ -33,11 +34,13 @@ import io.debezium.schema.TopicSelector;
 import io.debezium.util.SchemaNameAdjuster;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -103,6 +106,28 @@ public class OracleUtils {
                 });
     }
 
+    public static List<Object> querySampledValues(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            BigDecimal samplingPercent)
+            throws SQLException {
+        return JdbcChunkUtils.querySamples(
+                jdbc, buildSampledValuesQuery(tableId, splitColumnName, samplingPercent));
+    }
+
+    public static String buildSampledValuesQuery(
+            TableId tableId, String splitColumnName, BigDecimal samplingPercent) {
+        String quotedColumn = quote(splitColumnName);
+        return String.format(
+                "SELECT %s FROM %s SAMPLE (%s) WHERE %s IS NOT NULL ORDER BY %s ASC",
+                quotedColumn,
+                quoteSchemaAndTable(tableId),
+                samplingPercent.toPlainString(),
+                quotedColumn,
+                quotedColumn);
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
         return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer.processor;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AbstractLogMinerEventProcessor} which processes LogMiner results with the
+ * {@link ParallelDmlParser}.
+ */
+class AbstractLogMinerEventProcessorTest {
+
+    private static final String LOGICAL_NAME = "parallel_dml_test";
+
+    private static final int ROW_COUNT = 1200;
+
+    private static final Table TABLE =
+            Table.editor()
+                    .tableId(new TableId("ORCLPDB1", "DEBEZIUM", "CUSTOMERS"))
+                    .addColumn(Column.editor().name("ID").create())
+                    .addColumn(Column.editor().name("NAME").create())
+                    .create();
+
+    private static final Scn SNAPSHOT_SCN = Scn.valueOf(10);
+
+    @Test
+    void testProcessResultsWithParallelDmlParser() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        List<String> expectedRedoSql = new ArrayList<>();
+        // the row is encompassed by the snapshot, its pre-parsed entry is discarded
+        rows.add(row(5, 1, insertSql(-1, "snapshot"), "AAA-1", 0));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            String redoSql;
+            int operationCode;
+            if (i % 3 == 0) {
+                redoSql = insertSql(i, "name " + i);
+                operationCode = 1;
+            } else if (i % 3 == 1) {
+                redoSql =
+                        "update \"DEBEZIUM\".\"CUSTOMERS\" set \"NAME\" = 'new "
+                                + i
+                                + "' where \"ID\" = '"
+                                + i
+                                + "' and \"NAME\" = 'old "
+                                + i
+                                + "';";
+                operationCode = 3;
+            } else {
+                redoSql =
+                        "delete from \"DEBEZIUM\".\"CUSTOMERS\" where \"ID\" = '"
+                                + i
+                                + "' and \"NAME\" = 'name "
+                                + i
+                                + "';";
+                operationCode = 2;
+            }
+            rows.add(row(100 + i, operationCode, redoSql, "AAA" + i, 0));
+            expectedRedoSql.add(redoSql);
+        }
+        // unsupported rows and rows rolled back by a constraint violation are not parsed ahead
+        rows.add(row(100 + ROW_COUNT, 255, null, "AAB", 0));
+        rows.add(row(101 + ROW_COUNT, 1, insertSql(0, "name 0"), "AAA" + (ROW_COUNT - 1), 1));
+        expectedRedoSql.remove(ROW_COUNT - 1);
+
+        TestingLogMinerEventProcessor processor = createProcessor();
+        assertThat(countParserThreads()).isZero();
+        processor.startParallelDmlParser();
+        try {
+            processor.processResults(new OraclePartition(LOGICAL_NAME), resultSet(rows));
+            assertThat(countParserThreads()).isEqualTo(2);
+        } finally {
+            processor.close();
+        }
+
+        LogMinerDmlParser inlineParser = new LogMinerDmlParser();
+        assertThat(processor.events).hasSize(expectedRedoSql.size());
+        for (int i = 0; i < expectedRedoSql.size(); i++) {
+            DmlEvent event = (DmlEvent) processor.events.get(i);
+            assertThat(event.getRowId()).isEqualTo("AAA" + i);
+            assertThat(event.getDmlEntry().getEventType())
+                    .isEqualTo(inlineParser.parse(expectedRedoSql.get(i), TABLE).getEventType());
+            assertThat(event.getDmlEntry().getOldValues())
+                    .containsExactly(
+                            inlineParser.parse(expectedRedoSql.get(i), TABLE).getOldValues());
+            assertThat(event.getDmlEntry().getNewValues())
+                    .containsExactly(
+                            inlineParser.parse(expectedRedoSql.get(i), TABLE).getNewValues());
+        }
+        waitUntilParserThreadsStopped();
+        assertThat(countParserThreads()).isZero();
+    }
+
+    @Test
+    void testParserIsOnlyStartedOnDemand() throws Exception {
+        TestingLogMinerEventProcessor processor = createProcessor();
+        processor.processResults(
+                new OraclePartition(LOGICAL_NAME),
+                resultSet(Collections.singletonList(row(100, 1, insertSql(1, "name"), "AAA0", 0))));
+        assertThat(processor.events).hasSize(1);
+        assertThat(countParserThreads()).isZero();
+        processor.close();
+    }
+
+    private static TestingLogMinerEventProcessor createProcessor() {
+        OracleConnectorConfig connectorConfig =
+                new OracleConnectorConfig(
+                        Configuration.create()
+                                .with("database.server.name", LOGICAL_NAME)
+                                .with("database.dbname", "ORCLPDB1")
+                                .with("table.include.list", "DEBEZIUM.CUSTOMERS")
+                                .with(ParallelDmlParser.DML_PARSER_PARALLELISM, 2)
+                                .build());
+        OracleDatabaseSchema schema = mock(OracleDatabaseSchema.class);
+        when(schema.tableFor(TABLE.id())).thenReturn(TABLE);
+        OracleOffsetContext offsetContext = mock(OracleOffsetContext.class);
+        when(offsetContext.getSnapshotScn()).thenReturn(SNAPSHOT_SCN);
+        return new TestingLogMinerEventProcessor(
+                connectorConfig,
+                schema,
+                offsetContext,
+                mock(OracleStreamingChangeEventSourceMetrics.class));
+    }
+
+    private static String insertSql(int id, String name) {
+        return "insert into \"DEBEZIUM\".\"CUSTOMERS\"(\"ID\",\"NAME\") values ('"
+                + id
+                + "','"
+                + name
+                + "');";
+    }
+
+    /** Creates the columns of a LogMiner result set row, indexed by the column position. */
+    private static Object[] row(
+            long scn, int operationCode, String redoSql, String rowId, int rollbackFlag) {
+        return new Object[] {
+            null,
+            String.valueOf(scn),
+            redoSql,
+            operationCode,
+            new Timestamp(0),
+            new byte[] {1, 2, 3, 4},
+            0,
+            "CUSTOMERS",
+            "DEBEZIUM",
+            "OPERATION",
+            "DEBEZIUM",
+            rowId,
+            rollbackFlag,
+            "RS_ID",
+            0,
+            null,
+            0L,
+            1
+        };
+    }
+
+    /** Creates a forward-only result set of LogMiner rows whose columns are read by position. */
+    private static ResultSet resultSet(List<Object[]> rows) {
+        Iterator<Object[]> iterator = rows.iterator();
+        Object[][] current = new Object[1][];
+        Object[] lastValue = new Object[1];
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        ResultSet.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "next":
+                                    current[0] = iterator.hasNext() ? iterator.next() : null;
+                                    return current[0] != null;
+                                case "wasNull":
+                                    return lastValue[0] == null;
+                                case "close":
+                                    return null;
+                                default:
+                                    break;
+                            }
+                            if (!method.getName().startsWith("get")
+                                    || args == null
+                                    || !(args[0] instanceof Integer)) {
+                                throw new UnsupportedOperationException(method.getName());
+                            }
+                            Object value = current[0][(Integer) args[0]];
+                            lastValue[0] = value;
+                            return convert(value, method.getReturnType());
+                        });
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (type == int.class) {
+            return value == null ? 0 : ((Number) value).intValue();
+        } else if (type == long.class) {
+            return value == null ? 0L : ((Number) value).longValue();
+        } else if (value == null) {
+            return null;
+        } else if (type == String.class) {
+            return String.valueOf(value);
+        } else if (type == BigDecimal.class) {
+            return new BigDecimal(value.toString());
+        }
+        return value;
+    }
+
+    private static void waitUntilParserThreadsStopped() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (countParserThreads() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static long countParserThreads() {
+        String threadNamePrefix = "logminer-dml-parser-" + LOGICAL_NAME;
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(threadNamePrefix))
+                .count();
+    }
+
+    /** A processor which collects the events of all transactions in the order they are added. */
+    private static class TestingLogMinerEventProcessor
+            extends AbstractLogMinerEventProcessor<MemoryTransaction> {
+
+        private final List<LogMinerEvent> events = new ArrayList<>();
+
+        private TestingLogMinerEventProcessor(
+                OracleConnectorConfig connectorConfig,
+                OracleDatabaseSchema schema,
+                OracleOffsetContext offsetContext,
+                OracleStreamingChangeEventSourceMetrics metrics) {
+            super(
+                    () -> true,
+                    connectorConfig,
+                    schema,
+                    new OraclePartition(LOGICAL_NAME),
+                    offsetContext,
+                    mock(EventDispatcher.class),
+                    metrics);
+        }
+
+        @Override
+        protected Map<String, MemoryTransaction> getTransactionCache() {
+            return new HashMap<>();
+        }
+
+        @Override
+        protected MemoryTransaction createTransaction(LogMinerEventRow row) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void removeEventWithRowId(LogMinerEventRow row) {
+            for (int i = events.size() - 1; i >= 0; i--) {
+                if (events.get(i).getRowId().equals(row.getRowId())) {
+                    events.remove(i);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected int getTransactionEventCount(MemoryTransaction transaction) {
+            return 0;
+        }
+
+        @Override
+        protected PreparedStatement createQueryStatement() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Scn calculateNewStartScn(Scn endScn, Scn maxCommittedScn) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected MemoryTransaction getAndRemoveTransactionFromCache(String transactionId) {
+            return null;
+        }
+
+        @Override
+        protected void removeTransactionAndEventsFromCache(MemoryTransaction transaction) {}
+
+        @Override
+        protected Iterator<LogMinerEvent> getTransactionEventIterator(
+                MemoryTransaction transaction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void finalizeTransactionCommit(String transactionId, Scn commitScn) {}
+
+        @Override
+        protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {}
+
+        @Override
+        protected void addToTransaction(
+                String transactionId, LogMinerEventRow row, Supplier<LogMinerEvent> eventSupplier) {
+            events.add(eventSupplier.get());
+        }
+
+        @Override
+        protected Scn getTransactionCacheMinimumScn() {
+            return Scn.NULL;
+        }
+
+        @Override
+        public void abandonTransactions(Duration retention) {
+            // transactions are not buffered, so there is nothing to abandon
+        }
+
+        @Override
+        public void close() {
+            closeParallelDmlParser();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer.processor;
+
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Unit test for {@link ParallelDmlParser}. */
+class ParallelDmlParserTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final Table TABLE =
+            Table.editor()
+                    .tableId(new TableId("ORCLPDB1", "DEBEZIUM", "CUSTOMERS"))
+                    .addColumn(Column.editor().name("ID").create())
+                    .addColumn(Column.editor().name("NAME").create())
+                    .create();
+
+    /** The definition of {@link #TABLE} after a column has been added. */
+    private static final Table ALTERED_TABLE =
+            TABLE.edit().addColumn(Column.editor().name("EMAIL").create()).create();
+
+    @Test
+    void testParsedEntriesMatchInlineParsing() throws Exception {
+        ParallelDmlParser parser = new ParallelDmlParser("test", 4);
+        assertThat(parser.getMaxPendingRows()).isEqualTo(4 * 256);
+
+        List<String> statements = new ArrayList<>();
+        List<ParallelDmlParser.PendingDmlEntry> futures = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            String redoSql =
+                    "insert into \"DEBEZIUM\".\"CUSTOMERS\"(\"ID\",\"NAME\") values ('"
+                            + i
+                            + "','name "
+                            + i
+                            + "');";
+            statements.add(redoSql);
+            futures.add(parser.submit(redoSql, TABLE));
+        }
+
+        LogMinerDmlParser inlineParser = new LogMinerDmlParser();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertThat(futures.get(i).getTable()).isSameAs(TABLE);
+            ParallelDmlParser.ParsedDmlEntry parsed = futures.get(i).getIfParsedAgainst(TABLE);
+            LogMinerDmlEntry expected = inlineParser.parse(statements.get(i), TABLE);
+            assertThat(parsed).isNotNull();
+            assertThat(parsed.getParseTime().isNegative()).isFalse();
+            assertThat(parsed.getDmlEntry().getEventType()).isEqualTo(EventType.INSERT);
+            assertThat(parsed.getDmlEntry().getNewValues())
+                    .containsExactly(expected.getNewValues())
+                    .containsExactly(String.valueOf(i), "name " + i);
+        }
+        parser.close();
+    }
+
+    @Test
+    void testSchemaChangeBetweenFetchAndProcess() throws Exception {
+        ParallelDmlParser parser = new ParallelDmlParser("test", 2);
+        String redoSql =
+                "insert into \"DEBEZIUM\".\"CUSTOMERS\"(\"ID\",\"NAME\",\"EMAIL\") values ('1','name 1','a@b.c');";
+
+        // the row has been fetched before the DDL, so it is parsed against the old definition
+        ParallelDmlParser.PendingDmlEntry pending = parser.submit(redoSql, TABLE);
+        // processing the DDL row replaces the table definition, the entry is stale afterward
+        assertThat(pending.getIfParsedAgainst(ALTERED_TABLE)).isNull();
+
+        LogMinerDmlEntry reparsed = new LogMinerDmlParser().parse(redoSql, ALTERED_TABLE);
+        assertThat(reparsed.getNewValues()).containsExactly("1", "name 1", "a@b.c");
+        parser.close();
+    }
+
+    @Test
+    void testFailedEntryOfOldTableDefinition() throws Exception {
+        ParallelDmlParser parser = new ParallelDmlParser("test", 2);
+        String invalidSql = "select 1 from dual";
+
+        // failures are only reported if the entry is parsed against the current definition
+        ParallelDmlParser.PendingDmlEntry stale = parser.submit(invalidSql, TABLE);
+        assertThat(stale.getIfParsedAgainst(ALTERED_TABLE)).isNull();
+
+        ParallelDmlParser.PendingDmlEntry current = parser.submit(invalidSql, TABLE);
+        assertThatThrownBy(() -> current.getIfParsedAgainst(TABLE))
+                .isInstanceOf(ExecutionException.class);
+        parser.close();
+    }
+
+    @Test
+    void testClose() {
+        ParallelDmlParser parser = new ParallelDmlParser("test", 2);
+        parser.close();
+        assertThatThrownBy(() -> parser.submit("insert", TABLE))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import io.debezium.connector.oracle.OracleValueConverters;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LobEraseEvent;
+import io.debezium.connector.oracle.logminer.events.LobWriteEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.SelectLobLocatorEvent;
+import io.debezium.connector.oracle.logminer.events.TruncateEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link LogMinerEventSerializer}. */
+class LogMinerEventSerializerTest {
+
+    private static final TableId TABLE_ID = TableId.parse("ORCLCDB.DEBEZIUM.PRODUCTS");
+
+    private static final Scn SCN = Scn.valueOf(1234567890123L);
+
+    private static final Instant CHANGE_TIME = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+
+    private final LogMinerEventSerializer serializer = new LogMinerEventSerializer();
+
+    @Test
+    void testDmlEvent() throws Exception {
+        LogMinerDmlEntry insert =
+                new LogMinerDmlEntryImpl(
+                        EventType.INSERT.getValue(),
+                        new Object[] {"101", "scooter", null, ""},
+                        new Object[0],
+                        "DEBEZIUM",
+                        "PRODUCTS");
+        assertRoundTrip(
+                new DmlEvent(EventType.INSERT, SCN, TABLE_ID, "AAA", "0x01", CHANGE_TIME, insert));
+
+        LogMinerDmlEntry update =
+                new LogMinerDmlEntryImpl(
+                        EventType.UPDATE.getValue(),
+                        new Object[] {"101", OracleValueConverters.UNAVAILABLE_VALUE},
+                        new Object[] {"101", "scooter"},
+                        "DEBEZIUM",
+                        "PRODUCTS");
+        assertRoundTrip(
+                new DmlEvent(EventType.UPDATE, SCN, TABLE_ID, "AAA", "0x01", CHANGE_TIME, update));
+    }
+
+    @Test
+    void testSelectLobLocatorEvent() throws Exception {
+        LogMinerDmlEntry dmlEntry =
+                new LogMinerDmlEntryImpl(
+                        EventType.SELECT_LOB_LOCATOR.getValue(),
+                        new Object[] {"101", null},
+                        new Object[] {"101", null},
+                        "DEBEZIUM",
+                        "PRODUCTS");
+        assertRoundTrip(
+                new SelectLobLocatorEvent(
+                        EventType.SELECT_LOB_LOCATOR,
+                        SCN,
+                        TABLE_ID,
+                        "AAA",
+                        "0x01",
+                        CHANGE_TIME,
+                        dmlEntry,
+                        "DESCRIPTION",
+                        true));
+    }
+
+    @Test
+    void testLobWriteEvent() throws Exception {
+        assertRoundTrip(
+                new LobWriteEvent(
+                        EventType.LOB_WRITE,
+                        SCN,
+                        TABLE_ID,
+                        "AAA",
+                        "0x01",
+                        CHANGE_TIME,
+                        "Hello LOB",
+                        16,
+                        9));
+        assertRoundTrip(
+                new LobWriteEvent(
+                        EventType.LOB_WRITE, SCN, TABLE_ID, "AAA", "0x01", null, null, 0, 0));
+    }
+
+    @Test
+    void testLobEraseEvent() throws Exception {
+        assertRoundTrip(
+                new LobEraseEvent(EventType.LOB_ERASE, SCN, TABLE_ID, "AAA", "0x01", CHANGE_TIME));
+    }
+
+    @Test
+    void testTruncateEvent() throws Exception {
+        LogMinerDmlEntry dmlEntry = LogMinerDmlEntryImpl.forValuelessDdl();
+        dmlEntry.setObjectOwner("DEBEZIUM");
+        dmlEntry.setObjectName("PRODUCTS");
+        assertRoundTrip(
+                new TruncateEvent(
+                        EventType.DDL, SCN, TABLE_ID, "AAA", "0x01", CHANGE_TIME, dmlEntry));
+    }
+
+    @Test
+    void testLogMinerEvent() throws Exception {
+        assertRoundTrip(new LogMinerEvent(EventType.DDL, SCN, null, null, null, null));
+    }
+
+    @Test
+    void testReuseSerializer() throws Exception {
+        LogMinerEvent large =
+                new LobWriteEvent(
+                        EventType.LOB_WRITE,
+                        SCN,
+                        TABLE_ID,
+                        "AAA",
+                        "0x01",
+                        CHANGE_TIME,
+                        new String(new char[10_000]).replace('\0', 'x'),
+                        0,
+                        10_000);
+        LogMinerEvent small =
+                new LobEraseEvent(EventType.LOB_ERASE, SCN, TABLE_ID, "BBB", "0x02", CHANGE_TIME);
+        byte[] largeRecord = serializer.serialize(large);
+        byte[] smallRecord = serializer.serialize(small);
+
+        assertThat(smallRecord.length).isLessThan(largeRecord.length);
+        assertThat(serializer.deserialize(largeRecord)).usingRecursiveComparison().isEqualTo(large);
+        assertThat(serializer.deserialize(smallRecord)).usingRecursiveComparison().isEqualTo(small);
+    }
+
+    private void assertRoundTrip(LogMinerEvent event) throws Exception {
+        LogMinerEvent actual = serializer.deserialize(serializer.serialize(event));
+        assertThat(actual).isExactlyInstanceOf(event.getClass());
+        assertThat(actual).usingRecursiveComparison().isEqualTo(event);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link MappedEventLog}. */
+class MappedEventLogTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    void testAppendReadAndRelease() throws Exception {
+        try (MappedEventLog log = MappedEventLog.create(tempDir, 64)) {
+            List<Long> addresses = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                addresses.add(log.append(record(i)));
+            }
+            // 10 bytes per record including the length header, 6 records fit into a segment
+            assertThat(log.getSegmentCount()).isEqualTo(2);
+            assertThat(log.getBufferedRecords()).isEqualTo(10);
+            assertThat(log.getBufferedBytes()).isEqualTo(100);
+            for (int i = 0; i < 10; i++) {
+                assertThat(log.read(addresses.get(i))).isEqualTo(record(i));
+            }
+
+            // the first segment is dropped once all of its records are released
+            for (int i = 0; i < 6; i++) {
+                log.release(addresses.get(i));
+            }
+            assertThat(log.getSegmentCount()).isEqualTo(1);
+            assertThat(log.getBufferedBytes()).isEqualTo(40);
+            assertThatThrownBy(() -> log.read(addresses.get(0)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(log.read(addresses.get(9))).isEqualTo(record(9));
+
+            // the current segment is rewound once all of its records are released
+            for (int i = 6; i < 10; i++) {
+                log.release(addresses.get(i));
+            }
+            long address = log.append(record(10));
+            assertThat(log.getSegmentCount()).isEqualTo(1);
+            assertThat(log.read(address)).isEqualTo(record(10));
+            assertThat(log.getSpilledRecords()).isEqualTo(11);
+            assertThat(log.getSpilledBytes()).isEqualTo(110);
+        }
+    }
+
+    @Test
+    void testLargeRecord() throws Exception {
+        try (MappedEventLog log = MappedEventLog.create(tempDir, 64)) {
+            long small = log.append(record("small"));
+            byte[] large = new byte[1000];
+            for (int i = 0; i < large.length; i++) {
+                large[i] = (byte) i;
+            }
+            long address = log.append(large);
+            assertThat(log.getSegmentCount()).isEqualTo(2);
+            assertThat(log.getMappedBytes()).isEqualTo(64 + 1004);
+            assertThat(log.read(address)).isEqualTo(large);
+            assertThat(log.read(small)).isEqualTo(record("small"));
+        }
+    }
+
+    @Test
+    void testCloseDeletesFiles() throws Exception {
+        MappedEventLog log = MappedEventLog.create(tempDir, 64);
+        for (int i = 0; i < 20; i++) {
+            log.append(record(i));
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);
+        }
+        log.close();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThatThrownBy(() -> log.append(record("closed")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static byte[] record(int id) {
+        return record(String.format("ev-%03d", id));
+    }
+
+    private static byte[] record(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch.buffer;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link MappedTransaction}. */
+class MappedTransactionTest {
+
+    private static final TableId TABLE_ID = TableId.parse("ORCLCDB.DEBEZIUM.PRODUCTS");
+
+    private final LogMinerEventSerializer serializer = new LogMinerEventSerializer();
+
+    @TempDir Path tempDir;
+
+    @Test
+    void testReadEventsInMiningOrder() throws Exception {
+        try (MappedEventLog log = MappedEventLog.create(tempDir, 256)) {
+            MappedTransaction transaction = createTransaction("tx1", log);
+            for (int i = 0; i < 20; i++) {
+                transaction.getEvents().add(event("row" + i, String.valueOf(i)));
+            }
+
+            assertThat(transaction.getEvents()).hasSize(20);
+            assertThat(rowIds(transaction)).startsWith("row0", "row1").endsWith("row19");
+            assertThat(transaction.getBufferedBytes()).isEqualTo(log.getBufferedBytes());
+        }
+    }
+
+    @Test
+    void testUndoEventWithRowId() throws Exception {
+        try (MappedEventLog log = MappedEventLog.create(tempDir, 1024)) {
+            MappedTransaction transaction = createTransaction("tx1", log);
+            transaction.getEvents().add(event("A", "1"));
+            transaction.getEvents().add(event("B", "2"));
+            transaction.getEvents().add(event("A", "3"));
+            transaction.getEvents().add(event("C", "4"));
+            long bufferedBytes = transaction.getBufferedBytes();
+
+            // only the last event of the row is undone
+            assertThat(transaction.undoEventWithRowId("A")).isTrue();
+            assertThat(rowIds(transaction)).containsExactly("A", "B", "C");
+            assertThat(((DmlEvent) transaction.getEvents().get(0)).getDmlEntry().getNewValues())
+                    .containsExactly("1");
+            assertThat(transaction.getBufferedBytes()).isLessThan(bufferedBytes);
+            assertThat(log.getBufferedRecords()).isEqualTo(3);
+
+            assertThat(transaction.undoEventWithRowId("D")).isFalse();
+            assertThat(rowIds(transaction)).containsExactly("A", "B", "C");
+
+            assertThat(transaction.undoEventWithRowId("A")).isTrue();
+            assertThat(transaction.undoEventWithRowId("A")).isFalse();
+            assertThat(rowIds(transaction)).containsExactly("B", "C");
+        }
+    }
+
+    @Test
+    void testReleaseRolledBackTransaction() throws Exception {
+        try (MappedEventLog log = MappedEventLog.create(tempDir, 256)) {
+            MappedTransaction committed = createTransaction("tx1", log);
+            MappedTransaction rolledBack = createTransaction("tx2", log);
+            for (int i = 0; i < 20; i++) {
+                committed.getEvents().add(event("row" + i, String.valueOf(i)));
+                rolledBack.getEvents().add(event("row" + i, String.valueOf(i)));
+            }
+
+            rolledBack.release();
+            assertThat(rolledBack.getEvents()).isEmpty();
+            assertThat(rolledBack.getBufferedBytes()).isZero();
+            assertThat(log.getBufferedRecords()).isEqualTo(20);
+            assertThat(log.getBufferedBytes()).isEqualTo(committed.getBufferedBytes());
+
+            committed.release();
+            assertThat(log.getBufferedRecords()).isZero();
+            assertThat(log.getBufferedBytes()).isZero();
+            assertThat(log.getSegmentCount()).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void testReleaseAbandonedTransactions() throws Exception {
+        try (MappedEventLog log = MappedEventLog.create(tempDir, 256)) {
+            MappedTransaction inFlight = createTransaction("tx1", log);
+            MappedTransaction abandoned = createTransaction("tx2", log);
+            MappedTransaction replaced = createTransaction("tx3", log);
+            for (MappedTransaction transaction : Arrays.asList(inFlight, abandoned, replaced)) {
+                transaction.getEvents().add(event("A", "1"));
+                transaction.getEvents().add(event("B", "2"));
+            }
+            Set<MappedTransaction> bufferedTransactions =
+                    Collections.newSetFromMap(new IdentityHashMap<>());
+            bufferedTransactions.add(inFlight);
+            bufferedTransactions.add(abandoned);
+            bufferedTransactions.add(replaced);
+
+            // abandoned transaction has been evicted, and the id of tx3 refers to a new instance
+            Map<String, MemoryTransaction> transactionCache = new HashMap<>();
+            transactionCache.put("tx1", inFlight);
+            transactionCache.put("tx3", createTransaction("tx3", log));
+
+            MappedFileLogMinerEventProcessor.releaseEvictedTransactions(
+                    bufferedTransactions, transactionCache);
+            assertThat(bufferedTransactions).containsExactly(inFlight);
+            assertThat(abandoned.getEvents()).isEmpty();
+            assertThat(replaced.getEvents()).isEmpty();
+            assertThat(rowIds(inFlight)).containsExactly("A", "B");
+            assertThat(log.getBufferedRecords()).isEqualTo(2);
+            assertThat(log.getBufferedBytes()).isEqualTo(inFlight.getBufferedBytes());
+        }
+    }
+
+    private MappedTransaction createTransaction(String transactionId, MappedEventLog log) {
+        return new MappedTransaction(
+                transactionId, Scn.valueOf(1), Instant.EPOCH, "DEBEZIUM", log, serializer);
+    }
+
+    private static LogMinerEvent event(String rowId, String value) {
+        return new DmlEvent(
+                EventType.INSERT,
+                Scn.valueOf(2),
+                TABLE_ID,
+                rowId,
+                "0x01",
+                Instant.EPOCH,
+                new LogMinerDmlEntryImpl(
+                        EventType.INSERT.getValue(),
+                        new Object[] {value},
+                        new Object[0],
+                        "DEBEZIUM",
+                        "PRODUCTS"));
+    }
+
+    private static List<String> rowIds(MappedTransaction transaction) {
+        return transaction.getEvents().stream()
+                .map(LogMinerEvent::getRowId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.connectors.oracle.source.utils;
+
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+/** Tests for {@link OracleUtils}. */
+class OracleUtilsTest {
+
+    @Test
+    void testBuildSampledValuesQuery() {
+        Assertions.assertThat(
+                        OracleUtils.buildSampledValuesQuery(
+                                new TableId("ORCLCDB", "DEBEZIUM", "PRODUCTS"),
+                                "ID",
+                                new BigDecimal("0.024720")))
+                .isEqualTo(
+                        "SELECT \"ID\" FROM \"DEBEZIUM\".\"PRODUCTS\" SAMPLE (0.024720) WHERE \"ID\" IS NOT NULL ORDER BY \"ID\" ASC");
+    }
+}
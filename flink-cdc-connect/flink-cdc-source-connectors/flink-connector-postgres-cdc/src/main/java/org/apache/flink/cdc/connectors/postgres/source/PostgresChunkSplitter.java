@@ -30,7 +30,9 @@ import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
 import io.debezium.relational.TableId;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * The splitter to split the table into chunks using primary-key (by default) or a given split key.
@@ -82,6 +84,13 @@ public class PostgresChunkSplitter extends JdbcSourceChunkSplitter {
         return PostgresQueryUtils.queryApproximateRowCnt(jdbc, tableId);
     }
 
+    @Override
+    protected List<Object> querySampledSplitKeys(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, BigDecimal samplingPercent)
+            throws SQLException {
+        return PostgresQueryUtils.querySampledValues(jdbc, tableId, splitColumn, samplingPercent);
+    }
+
     @Override
     protected DataType fromDbzColumn(Column splitColumn) {
         return PostgresTypeUtils.fromDbzColumn(splitColumn);
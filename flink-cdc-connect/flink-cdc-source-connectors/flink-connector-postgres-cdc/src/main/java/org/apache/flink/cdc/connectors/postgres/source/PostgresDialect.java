@@ -103,8 +103,13 @@ public class PostgresDialect implements JdbcDataSourceDialect {
 
     public PostgresReplicationConnection openPostgresReplicationConnection(
             PostgresConnection jdbcConnection) {
+        return openPostgresReplicationConnection(
+                jdbcConnection, sourceConfig.getDbzConnectorConfig());
+    }
+
+    public PostgresReplicationConnection openPostgresReplicationConnection(
+            PostgresConnection jdbcConnection, PostgresConnectorConfig pgConnectorConfig) {
         try {
-            PostgresConnectorConfig pgConnectorConfig = sourceConfig.getDbzConnectorConfig();
             TopicSelector<TableId> topicSelector = PostgresTopicSelector.create(pgConnectorConfig);
             PostgresConnection.PostgresValueConverterBuilder valueConverterBuilder =
                     newPostgresValueConverterBuilder(pgConnectorConfig);
@@ -142,10 +147,14 @@ public class PostgresDialect implements JdbcDataSourceDialect {
     }
 
     public Offset displayCommittedOffset(JdbcSourceConfig sourceConfig) {
+        return displayCommittedOffset(sourceConfig, getSlotName());
+    }
+
+    public Offset displayCommittedOffset(JdbcSourceConfig sourceConfig, String slotName) {
 
         try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
             return PostgresConnectionUtils.committedOffset(
-                    (PostgresConnection) jdbc, getSlotName(), getPluginName());
+                    (PostgresConnection) jdbc, slotName, getPluginName());
 
         } catch (SQLException e) {
             throw new FlinkRuntimeException(e);
@@ -209,14 +218,14 @@ public class PostgresDialect implements JdbcDataSourceDialect {
     }
 
     @Override
-    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+    public synchronized TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
         if (schema == null) {
             schema = new CustomPostgresSchema((PostgresConnection) jdbc, sourceConfig);
         }
         return schema.getTableSchema(tableId);
     }
 
-    private Map<TableId, TableChange> queryTableSchema(
+    private synchronized Map<TableId, TableChange> queryTableSchema(
             JdbcConnection jdbc, List<TableId> tableIds) {
         if (schema == null) {
             schema = new CustomPostgresSchema((PostgresConnection) jdbc, sourceConfig);
@@ -21,6 +21,7 @@ import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.options.JdbcSourceOptions;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.assigner.HybridSplitAssigner;
 import org.apache.flink.cdc.connectors.base.source.assigner.SplitAssigner;
@@ -37,6 +38,7 @@ import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceSplit
 import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
 import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfigFactory;
 import org.apache.flink.cdc.connectors.postgres.source.enumerator.PostgresSourceEnumerator;
+import org.apache.flink.cdc.connectors.postgres.source.enumerator.StreamShardSplitAssigner;
 import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
 import org.apache.flink.cdc.connectors.postgres.source.reader.PostgresSourceReader;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
@@ -51,6 +53,7 @@ import java.util.List;
 import java.util.Properties;
 import java.util.function.Supplier;
 
+import static org.apache.flink.util.Preconditions.checkArgument;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /** The source builder for PostgresIncrementalSource. */
@@ -293,6 +296,24 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed, see {@link JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES}.
+     */
+    public PostgresSourceBuilder<T> samplesPerChunk(int samplesPerChunk) {
+        this.configFactory.samplesPerChunk(samplesPerChunk);
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently by the enumerator, see {@link
+     * JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM}.
+     */
+    public PostgresSourceBuilder<T> chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.configFactory.chunkSplittingParallelism(chunkSplittingParallelism);
+        return this;
+    }
+
     /** Set the {@code LSN} checkpoints delay number for Postgres to commit the offsets. */
     public PostgresSourceBuilder<T> lsnCommitCheckpointsDelay(int lsnCommitDelay) {
         this.configFactory.setLsnCommitCheckpointsDelay(lsnCommitDelay);
@@ -305,6 +326,30 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Whether the snapshot splits of a reader share one long-lived replication slot for backfill.
+     * By default, a slot is created before reading each snapshot split and dropped after its
+     * backfill, which is expensive for tables with many chunks. A shared slot is advanced to the
+     * high watermark of each split and dropped when the snapshot phase of the reader finishes.
+     */
+    public PostgresSourceBuilder<T> backfillSlotShared(boolean backfillSlotShared) {
+        this.configFactory.setBackfillSlotShared(backfillSlotShared);
+        return this;
+    }
+
+    /**
+     * The number of shards to read the WAL log in stream phase. The captured tables are partitioned
+     * into shards by the hash of their ids, and each shard is read by its own subtask with its own
+     * publication and replication slot, named after the configured ones with suffix
+     * "_shard_{index}". Only the changes of the same table are kept in order.
+     *
+     * <p>Stream shards are only supported by the startup modes without snapshot phase.
+     */
+    public PostgresSourceBuilder<T> streamShards(int streamShards) {
+        this.configFactory.setStreamShards(streamShards);
+        return this;
+    }
+
     /**
      * Build the {@link PostgresIncrementalSource}.
      *
@@ -337,7 +382,15 @@ public class PostgresSourceBuilder<T> {
                 SplitEnumeratorContext<SourceSplitBase> enumContext) {
             final SplitAssigner splitAssigner;
             PostgresSourceConfig sourceConfig = (PostgresSourceConfig) configFactory.create(0);
-            if (!sourceConfig.getStartupOptions().isStreamOnly()) {
+            if (sourceConfig.getStreamShards() > 1) {
+                validateStreamShards(sourceConfig, enumContext);
+                splitAssigner =
+                        new StreamShardSplitAssigner(
+                                sourceConfig,
+                                (PostgresDialect) dataSourceDialect,
+                                offsetFactory,
+                                enumContext);
+            } else if (!sourceConfig.getStartupOptions().isStreamOnly()) {
                 try {
                     final List<TableId> remainingTables =
                             dataSourceDialect.discoverDataCollections(sourceConfig);
@@ -385,6 +438,16 @@ public class PostgresSourceBuilder<T> {
                                 dataSourceDialect,
                                 offsetFactory,
                                 enumContext);
+            } else if (checkpoint instanceof StreamPendingSplitsState
+                    && sourceConfig.getStreamShards() > 1) {
+                validateStreamShards(sourceConfig, enumContext);
+                splitAssigner =
+                        new StreamShardSplitAssigner(
+                                sourceConfig,
+                                (StreamPendingSplitsState) checkpoint,
+                                (PostgresDialect) dataSourceDialect,
+                                offsetFactory,
+                                enumContext);
             } else if (checkpoint instanceof StreamPendingSplitsState) {
                 splitAssigner =
                         new StreamSplitAssigner(
@@ -406,6 +469,20 @@ public class PostgresSourceBuilder<T> {
                     getBoundedness());
         }
 
+        private static void validateStreamShards(
+                PostgresSourceConfig sourceConfig,
+                SplitEnumeratorContext<SourceSplitBase> enumContext) {
+            checkArgument(
+                    sourceConfig.getStartupOptions().isStreamOnly(),
+                    "Stream shards are only supported by the startup modes without snapshot phase, but the startup mode is %s.",
+                    sourceConfig.getStartupOptions().startupMode);
+            checkArgument(
+                    sourceConfig.getStreamShards() <= enumContext.currentParallelism(),
+                    "The number of stream shards %s should not be larger than the parallelism %s of the source.",
+                    sourceConfig.getStreamShards(),
+                    enumContext.currentParallelism());
+        }
+
         @Override
         public PostgresSourceReader createReader(SourceReaderContext readerContext)
                 throws Exception {
@@ -39,6 +39,8 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
     private final int subtaskId;
     private final int lsnCommitCheckpointsDelay;
     private final boolean includePartitionedTables;
+    private final boolean backfillSlotShared;
+    private final int streamShards;
 
     public PostgresSourceConfig(
             int subtaskId,
@@ -69,7 +71,11 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
             boolean isScanNewlyAddedTableEnabled,
             int lsnCommitCheckpointsDelay,
             boolean assignUnboundedChunkFirst,
-            boolean includePartitionedTables) {
+            boolean includePartitionedTables,
+            int samplesPerChunk,
+            int chunkSplittingParallelism,
+            boolean backfillSlotShared,
+            int streamShards) {
         super(
                 startupOptions,
                 databaseList,
@@ -96,10 +102,14 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 isScanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                samplesPerChunk,
+                chunkSplittingParallelism);
         this.subtaskId = subtaskId;
         this.lsnCommitCheckpointsDelay = lsnCommitCheckpointsDelay;
         this.includePartitionedTables = includePartitionedTables;
+        this.backfillSlotShared = backfillSlotShared;
+        this.streamShards = streamShards;
     }
 
     /**
@@ -129,6 +139,26 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
         return includePartitionedTables;
     }
 
+    /**
+     * Returns whether the snapshot splits of a subtask share one long-lived backfill slot instead
+     * of creating and dropping a slot for each split.
+     *
+     * @return whether the backfill slot is shared
+     */
+    public boolean isBackfillSlotShared() {
+        return backfillSlotShared;
+    }
+
+    /**
+     * Returns the number of shards to read the WAL log in stream phase, each shard reads the
+     * changes of a part of the captured tables with its own publication and replication slot.
+     *
+     * @return the number of stream shards
+     */
+    public int getStreamShards() {
+        return streamShards;
+    }
+
     /**
      * Returns the slot name for backfill task.
      *
@@ -54,6 +54,10 @@ public class PostgresSourceConfigFactory extends JdbcSourceConfigFactory {
 
     private boolean includePartitionedTables;
 
+    private boolean backfillSlotShared;
+
+    private int streamShards = 1;
+
     /** Creates a new {@link PostgresSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public PostgresSourceConfig create(int subtaskId) {
@@ -136,7 +140,11 @@ public class PostgresSourceConfigFactory extends JdbcSourceConfigFactory {
                 scanNewlyAddedTableEnabled,
                 lsnCommitCheckpointsDelay,
                 assignUnboundedChunkFirst,
-                includePartitionedTables);
+                includePartitionedTables,
+                samplesPerChunk,
+                chunkSplittingParallelism,
+                backfillSlotShared,
+                streamShards);
     }
 
     /**
@@ -189,4 +197,14 @@ public class PostgresSourceConfigFactory extends JdbcSourceConfigFactory {
     public void setIncludePartitionedTables(boolean includePartitionedTables) {
         this.includePartitionedTables = includePartitionedTables;
     }
+
+    /** Enable sharing one backfill slot among the snapshot splits of a subtask. */
+    public void setBackfillSlotShared(boolean backfillSlotShared) {
+        this.backfillSlotShared = backfillSlotShared;
+    }
+
+    /** The number of shards to read the WAL log in stream phase. */
+    public void setStreamShards(int streamShards) {
+        this.streamShards = streamShards;
+    }
 }
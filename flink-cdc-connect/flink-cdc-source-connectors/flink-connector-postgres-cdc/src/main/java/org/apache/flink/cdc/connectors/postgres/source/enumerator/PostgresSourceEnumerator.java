@@ -32,12 +32,18 @@ import org.apache.flink.cdc.connectors.postgres.source.events.OffsetCommitAckEve
 import org.apache.flink.cdc.connectors.postgres.source.events.OffsetCommitEvent;
 import org.apache.flink.util.FlinkRuntimeException;
 
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.PostgresReplicationConnection;
 import io.debezium.connector.postgresql.spi.SlotState;
+import io.debezium.relational.TableId;
+
+import java.util.List;
 
 import static org.apache.flink.cdc.connectors.base.source.assigner.AssignerStatus.isNewlyAddedAssigning;
 import static org.apache.flink.cdc.connectors.base.source.assigner.AssignerStatus.isNewlyAddedAssigningSnapshotFinished;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardDbzConfig;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardTables;
 
 /**
  * The Postgres source enumerator that enumerates receive the split request and assign the split to
@@ -63,7 +69,11 @@ public class PostgresSourceEnumerator extends IncrementalSourceEnumerator {
 
     @Override
     public void start() {
-        createSlotForGlobalStreamSplit();
+        if (sourceConfig.getStreamShards() > 1) {
+            createSlotsForStreamShards();
+        } else {
+            createSlotForGlobalStreamSplit();
+        }
         super.start();
     }
 
@@ -122,24 +132,44 @@ public class PostgresSourceEnumerator extends IncrementalSourceEnumerator {
      * reading the globalStreamSplit to catch all data changes.
      */
     private void createSlotForGlobalStreamSplit() {
+        createSlotIfNotExists(sourceConfig.getDbzConnectorConfig());
+    }
+
+    /**
+     * Create slots for the stream splits of all stream shards, the publication of each shard is
+     * created together with its slot.
+     */
+    private void createSlotsForStreamShards() {
+        int streamShards = sourceConfig.getStreamShards();
+        List<TableId> capturedTables = postgresDialect.discoverDataCollections(sourceConfig);
+        for (int shard = 0; shard < streamShards; shard++) {
+            createSlotIfNotExists(
+                    getStreamShardDbzConfig(
+                            sourceConfig.getDbzConnectorConfig(),
+                            shard,
+                            getStreamShardTables(capturedTables, shard, streamShards)));
+        }
+    }
+
+    private void createSlotIfNotExists(PostgresConnectorConfig dbzConfig) {
+        String slotName = dbzConfig.slotName();
         try (PostgresConnection connection = postgresDialect.openJdbcConnection()) {
             SlotState slotInfo =
-                    connection.getReplicationSlotState(
-                            postgresDialect.getSlotName(), postgresDialect.getPluginName());
+                    connection.getReplicationSlotState(slotName, postgresDialect.getPluginName());
             // skip creating the replication slot when the slot exists.
             if (slotInfo != null) {
                 return;
             }
             PostgresReplicationConnection replicationConnection =
-                    postgresDialect.openPostgresReplicationConnection(connection);
+                    postgresDialect.openPostgresReplicationConnection(connection, dbzConfig);
             replicationConnection.createReplicationSlot();
             replicationConnection.close(false);
 
         } catch (Throwable t) {
             throw new FlinkRuntimeException(
                     String.format(
-                            "Fail to get or create slot for global stream split, the slot name is %s. Due to: ",
-                            postgresDialect.getSlotName()),
+                            "Fail to get or create slot for stream split, the slot name is %s. Due to: ",
+                            slotName),
                     t);
         }
     }
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.enumerator;
+
+import org.apache.flink.api.connector.source.SourceSplit;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.base.options.StartupMode;
+import org.apache.flink.cdc.connectors.base.source.assigner.AssignerStatus;
+import org.apache.flink.cdc.connectors.base.source.assigner.SplitAssigner;
+import org.apache.flink.cdc.connectors.base.source.assigner.StreamSplitAssigner;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.PendingSplitsState;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.StreamPendingSplitsState;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
+import org.apache.flink.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceEnumeratorMetrics;
+import org.apache.flink.cdc.connectors.postgres.source.PostgresDialect;
+import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardSlotName;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardSplitId;
+
+/**
+ * Assigner for the stream splits of stream shards, each of which is assigned to its own reader and
+ * reads the changes of a part of the captured tables with its own publication and replication
+ * slot.
+ *
+ * <p>The assigned splits are kept in the state of the readers, the state of the assigner records
+ * which shards have been assigned and the splits added back that are not assigned again, so that
+ * a restored assigner only creates the splits of the shards which no reader holds.
+ */
+@Internal
+public class StreamShardSplitAssigner implements SplitAssigner {
+
+    private final PostgresSourceConfig sourceConfig;
+    private final PostgresDialect dialect;
+    private final OffsetFactory offsetFactory;
+    private final SplitEnumeratorContext<? extends SourceSplit> enumeratorContext;
+
+    /** Resolves the starting offset of the startup modes which are the same for all shards. */
+    private final StreamSplitAssigner streamSplitAssigner;
+
+    /** The stream splits added back, which are assigned again as they are. */
+    private final Deque<StreamSplit> pendingSplits;
+
+    /** The ids of the stream splits which have been assigned to the readers. */
+    private final Set<String> assignedSplitIds;
+
+    private SourceEnumeratorMetrics enumeratorMetrics;
+
+    public StreamShardSplitAssigner(
+            PostgresSourceConfig sourceConfig,
+            PostgresDialect dialect,
+            OffsetFactory offsetFactory,
+            SplitEnumeratorContext<? extends SourceSplit> enumeratorContext) {
+        this(
+                sourceConfig,
+                Collections.emptySet(),
+                Collections.emptyList(),
+                dialect,
+                offsetFactory,
+                enumeratorContext);
+    }
+
+    public StreamShardSplitAssigner(
+            PostgresSourceConfig sourceConfig,
+            StreamPendingSplitsState checkpoint,
+            PostgresDialect dialect,
+            OffsetFactory offsetFactory,
+            SplitEnumeratorContext<? extends SourceSplit> enumeratorContext) {
+        this(
+                sourceConfig,
+                restoreAssignedSplitIds(sourceConfig, checkpoint),
+                checkpoint.getRemainingStreamSplits(),
+                dialect,
+                offsetFactory,
+                enumeratorContext);
+    }
+
+    private StreamShardSplitAssigner(
+            PostgresSourceConfig sourceConfig,
+            Collection<String> assignedSplitIds,
+            Collection<StreamSplit> remainingSplits,
+            PostgresDialect dialect,
+            OffsetFactory offsetFactory,
+            SplitEnumeratorContext<? extends SourceSplit> enumeratorContext) {
+        this.sourceConfig = sourceConfig;
+        this.dialect = dialect;
+        this.offsetFactory = offsetFactory;
+        this.enumeratorContext = enumeratorContext;
+        this.streamSplitAssigner =
+                new StreamSplitAssigner(sourceConfig, dialect, offsetFactory, enumeratorContext);
+        this.pendingSplits = new ArrayDeque<>(remainingSplits);
+        this.assignedSplitIds = new HashSet<>(assignedSplitIds);
+    }
+
+    @Override
+    public void open() {
+        this.enumeratorMetrics = new SourceEnumeratorMetrics(enumeratorContext.metricGroup());
+        if (noMoreSplits()) {
+            enumeratorMetrics.enterStreamReading();
+        } else {
+            enumeratorMetrics.exitStreamReading();
+        }
+    }
+
+    @Override
+    public Optional<SourceSplitBase> getNext() {
+        StreamSplit split;
+        if (!pendingSplits.isEmpty()) {
+            split = pendingSplits.poll();
+        } else {
+            int shard = nextUnassignedShard();
+            if (shard < 0) {
+                return Optional.empty();
+            }
+            split = createStreamSplit(shard);
+        }
+        assignedSplitIds.add(split.splitId());
+        if (noMoreSplits()) {
+            enumeratorMetrics.enterStreamReading();
+        }
+        return Optional.of(split);
+    }
+
+    @Override
+    public boolean waitingForFinishedSplits() {
+        return false;
+    }
+
+    @Override
+    public List<FinishedSnapshotSplitInfo> getFinishedSplitInfos() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void onFinishedSplits(Map<String, Offset> splitFinishedOffsets) {
+        // do nothing
+    }
+
+    @Override
+    public void addSplits(Collection<SourceSplitBase> splits) {
+        for (SourceSplitBase split : splits) {
+            assignedSplitIds.remove(split.splitId());
+            pendingSplits.add(split.asStreamSplit());
+        }
+        enumeratorMetrics.exitStreamReading();
+    }
+
+    @Override
+    public PendingSplitsState snapshotState(long checkpointId) {
+        return new StreamPendingSplitsState(
+                noMoreSplits(), new HashSet<>(assignedSplitIds), new ArrayList<>(pendingSplits));
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {
+        // nothing to do
+    }
+
+    @Override
+    public AssignerStatus getAssignerStatus() {
+        return AssignerStatus.INITIAL_ASSIGNING_FINISHED;
+    }
+
+    @Override
+    public void startAssignNewlyAddedTables() {}
+
+    @Override
+    public void onStreamSplitUpdated() {}
+
+    @Override
+    public boolean noMoreSplits() {
+        return pendingSplits.isEmpty() && nextUnassignedShard() < 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        dialect.close();
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the first shard whose stream split is neither assigned nor waiting to be assigned
+     * again, or -1 if there is no such shard.
+     */
+    private int nextUnassignedShard() {
+        for (int shard = 0; shard < sourceConfig.getStreamShards(); shard++) {
+            String splitId = getStreamShardSplitId(shard);
+            if (!assignedSplitIds.contains(splitId)
+                    && pendingSplits.stream().noneMatch(s -> s.splitId().equals(splitId))) {
+                return shard;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The state before the assigned stream split ids are recorded only tells whether all stream
+     * splits have been assigned.
+     */
+    private static Collection<String> restoreAssignedSplitIds(
+            PostgresSourceConfig sourceConfig, StreamPendingSplitsState checkpoint) {
+        if (!checkpoint.getAssignedStreamSplitIds().isEmpty()
+                || !checkpoint.isStreamSplitAssigned()) {
+            return checkpoint.getAssignedStreamSplitIds();
+        }
+        List<String> assignedSplitIds = new ArrayList<>();
+        for (int shard = 0; shard < sourceConfig.getStreamShards(); shard++) {
+            assignedSplitIds.add(getStreamShardSplitId(shard));
+        }
+        return assignedSplitIds;
+    }
+
+    private StreamSplit createStreamSplit(int shard) {
+        Offset startingOffset;
+        if (sourceConfig.getStartupOptions().startupMode == StartupMode.COMMITTED_OFFSETS) {
+            startingOffset =
+                    dialect.displayCommittedOffset(
+                            sourceConfig, getStreamShardSlotName(dialect.getSlotName(), shard));
+        } else {
+            startingOffset = streamSplitAssigner.createStreamSplit().getStartingOffset();
+        }
+        return new StreamSplit(
+                getStreamShardSplitId(shard),
+                startingOffset,
+                offsetFactory.createNoStoppingOffset(),
+                new ArrayList<>(),
+                new HashMap<>(),
+                0);
+    }
+}
@@ -17,11 +17,14 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.fetch;
 
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
 import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffset;
 import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetUtils;
 import org.apache.flink.cdc.connectors.postgres.source.utils.PostgresQueryUtils;
 import org.apache.flink.util.FlinkRuntimeException;
@@ -31,6 +34,7 @@ import io.debezium.connector.postgresql.PostgresEventDispatcher;
 import io.debezium.connector.postgresql.PostgresOffsetContext;
 import io.debezium.connector.postgresql.PostgresPartition;
 import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.PostgresReplicationConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
@@ -45,14 +49,17 @@ import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
+import io.debezium.util.Metronome;
 import io.debezium.util.Strings;
 import io.debezium.util.Threads;
+import org.postgresql.util.PSQLState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -65,6 +72,11 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
 
     private static final Logger LOG = LoggerFactory.getLogger(PostgresScanFetchTask.class);
 
+    private static final int ADVANCE_SLOT_ATTEMPTS = 10;
+
+    /** The high watermark of the split, to which the shared backfill slot is advanced. */
+    private Offset highWatermark;
+
     public PostgresScanFetchTask(SnapshotSplit split) {
         super(split);
     }
@@ -74,6 +86,10 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
 
         PostgresSourceFetchTaskContext ctx = (PostgresSourceFetchTaskContext) context;
         PostgresSourceConfig sourceConfig = (PostgresSourceConfig) context.getSourceConfig();
+        if (sourceConfig.isBackfillSlotShared() && !sourceConfig.isSkipSnapshotBackfill()) {
+            executeWithSharedBackfillSlot(ctx, sourceConfig);
+            return;
+        }
         try {
             // create slot here,  because a slot can only read wal-log after its own creation.
             // if skip backfill, no need to create slot here
@@ -92,6 +108,42 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
         }
     }
 
+    /**
+     * Reads the split with the backfill slot shared by all snapshot splits of this subtask. The
+     * slot is created before reading the first split, so that it tracks the WAL log since the low
+     * watermark of every following split, and is dropped when the fetch task context is closed.
+     *
+     * <p>After the split is read, the slot is advanced to its high watermark, which is not after
+     * the low watermark of the next split, so that the WAL log of read splits can be recycled.
+     */
+    private void executeWithSharedBackfillSlot(
+            PostgresSourceFetchTaskContext ctx, PostgresSourceConfig sourceConfig)
+            throws Exception {
+        String slotName = sourceConfig.getSlotNameForBackfillTask();
+        if (!ctx.isSharedBackfillSlotCreated()) {
+            maybeCreateSlotForBackFillReadTask(
+                    ctx.getConnection(),
+                    ctx.getReplicationConnection(),
+                    slotName,
+                    ctx.getPluginName(),
+                    false);
+            ctx.setSharedBackfillSlotCreated(true);
+            LOG.info("Created the shared backfill slot {}", slotName);
+        }
+        super.execute(ctx);
+        if (highWatermark != null) {
+            advanceSlotForBackFillReadTask(
+                    ctx.getConnection(), slotName, ((PostgresOffset) highWatermark).getLsn());
+        }
+    }
+
+    @Override
+    protected void dispatchHighWaterMarkEvent(
+            Context context, SourceSplitBase split, Offset highWatermark) throws Exception {
+        this.highWatermark = highWatermark;
+        super.dispatchHighWaterMarkEvent(context, split, highWatermark);
+    }
+
     @Override
     protected void executeDataSnapshot(Context context) throws Exception {
         PostgresSourceFetchTaskContext ctx = (PostgresSourceFetchTaskContext) context;
@@ -191,6 +243,47 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
         }
     }
 
+    /**
+     * Advance the confirmed position of the shared backfill slot. The slot may still be active for
+     * a short while after the backfill read task closes its replication connection, so the advance
+     * is retried. It is only an optimization to recycle WAL log, thus failures are logged.
+     */
+    private void advanceSlotForBackFillReadTask(
+            PostgresConnection jdbcConnection, String slotName, Lsn lsn) {
+        for (int attempt = 1; attempt <= ADVANCE_SLOT_ATTEMPTS; attempt++) {
+            try {
+                jdbcConnection.execute(
+                        String.format(
+                                "SELECT pg_replication_slot_advance('%s', '%s')",
+                                slotName, lsn.asString()));
+                LOG.debug("Advanced the shared backfill slot {} to {}", slotName, lsn);
+                return;
+            } catch (SQLException e) {
+                try {
+                    // the connection may not be in auto-commit mode after snapshot reading
+                    jdbcConnection.rollback();
+                } catch (SQLException rollbackException) {
+                    e.addSuppressed(rollbackException);
+                }
+                if (!PSQLState.OBJECT_IN_USE.getState().equals(e.getSQLState())
+                        || attempt == ADVANCE_SLOT_ATTEMPTS) {
+                    LOG.warn(
+                            "Unable to advance the shared backfill slot {} to {}",
+                            slotName,
+                            lsn,
+                            e);
+                    return;
+                }
+            }
+            try {
+                Metronome.parker(Duration.ofMillis(200), Clock.SYSTEM).pause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
     /** Drop slot for backfill task and close replication connection. */
     private void maybeDropSlotForBackFillReadTask(
             PostgresReplicationConnection replicationConnection, boolean skipSnapshotBackfill) {
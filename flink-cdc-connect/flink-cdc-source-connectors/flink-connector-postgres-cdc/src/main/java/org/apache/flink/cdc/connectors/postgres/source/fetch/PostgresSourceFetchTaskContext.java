@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.fetch;
 
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.connectors.base.WatermarkDispatcher;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.source.EmbeddedFlinkDatabaseHistory;
@@ -69,6 +70,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static io.debezium.connector.AbstractSourceInfo.SCHEMA_NAME_KEY;
 import static io.debezium.connector.AbstractSourceInfo.TABLE_NAME_KEY;
@@ -78,6 +81,9 @@ import static io.debezium.connector.postgresql.PostgresConnectorConfig.SLOT_NAME
 import static io.debezium.connector.postgresql.PostgresConnectorConfig.SNAPSHOT_MODE;
 import static io.debezium.connector.postgresql.PostgresObjectUtils.createReplicationConnection;
 import static io.debezium.connector.postgresql.PostgresObjectUtils.newPostgresValueConverterBuilder;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShard;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardDbzConfig;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardTables;
 
 /** The context of {@link PostgresScanFetchTask} and {@link PostgresStreamFetchTask}. */
 public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
@@ -98,6 +104,9 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
     private EventMetadataProvider metadataProvider;
     private SnapshotChangeEventSourceMetrics<PostgresPartition> snapshotChangeEventSourceMetrics;
     private Snapshotter snapShotter;
+    // whether the shared backfill slot of this subtask has been created and should be dropped
+    // when the snapshot phase of this subtask finishes
+    private boolean sharedBackfillSlotCreated;
 
     public PostgresSourceFetchTaskContext(
             JdbcSourceConfig sourceConfig, PostgresDialect dataSourceDialect) {
@@ -139,33 +148,22 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                                             SLOT_NAME.name(),
                                             ((PostgresSourceConfig) sourceConfig)
                                                     .getSlotNameForBackfillTask())
-                                    // drop slot for backfill stream split
-                                    .with(DROP_SLOT_ON_STOP.name(), true)
+                                    // drop slot for backfill stream split, unless the slot is
+                                    // shared by all snapshot splits of this subtask
+                                    .with(
+                                            DROP_SLOT_ON_STOP.name(),
+                                            !((PostgresSourceConfig) sourceConfig)
+                                                    .isBackfillSlotShared())
                                     // Disable heartbeat event in snapshot split fetcher
                                     .with(Heartbeat.HEARTBEAT_INTERVAL, 0)
                                     .build());
         } else {
-
-            Configuration.Builder builder = dbzConfig.getConfig().edit();
-            if (isBackFillSplit(sourceSplitBase)) {
-                // when backfilled split, only current table schema should be scan
-                builder.with(
-                        "table.include.list",
-                        sourceSplitBase
-                                .asStreamSplit()
-                                .getTableSchemas()
-                                .keySet()
-                                .iterator()
-                                .next()
-                                .toString());
-            }
-
             dbzConfig =
-                    new PostgresConnectorConfig(
-                            builder
-                                    // never drop slot for stream split, which is also global split
-                                    .with(DROP_SLOT_ON_STOP.name(), false)
-                                    .build());
+                    getStreamSplitDbzConfig(
+                            dbzConfig,
+                            sourceSplitBase.asStreamSplit(),
+                            ((PostgresSourceConfig) sourceConfig).getStreamShards(),
+                            () -> dataSourceDialect.discoverDataCollections(sourceConfig));
         }
         setDbzConnectorConfig(dbzConfig);
         PostgresConnectorConfig.SnapshotMode snapshotMode =
@@ -341,12 +339,22 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
 
     @Override
     public void close() throws Exception {
-        if (jdbcConnection != null) {
-            jdbcConnection.close();
-        }
         if (replicationConnection != null) {
             replicationConnection.close();
         }
+        if (sharedBackfillSlotCreated && jdbcConnection != null) {
+            String slotName = ((PostgresSourceConfig) sourceConfig).getSlotNameForBackfillTask();
+            LOG.info("Dropping the shared backfill slot {}", slotName);
+            if (!jdbcConnection.dropReplicationSlot(slotName)) {
+                LOG.warn(
+                        "Failed to drop the shared backfill slot {}, please drop it manually.",
+                        slotName);
+            }
+            sharedBackfillSlotCreated = false;
+        }
+        if (jdbcConnection != null) {
+            jdbcConnection.close();
+        }
     }
 
     public PostgresConnection getConnection() {
@@ -361,6 +369,14 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
         return replicationConnection;
     }
 
+    public boolean isSharedBackfillSlotCreated() {
+        return sharedBackfillSlotCreated;
+    }
+
+    public void setSharedBackfillSlotCreated(boolean sharedBackfillSlotCreated) {
+        this.sharedBackfillSlotCreated = sharedBackfillSlotCreated;
+    }
+
     public SnapshotChangeEventSourceMetrics<PostgresPartition>
             getSnapshotChangeEventSourceMetrics() {
         return snapshotChangeEventSourceMetrics;
@@ -380,9 +396,46 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                 .getPostgresPluginName();
     }
 
-    private boolean isBackFillSplit(SourceSplitBase sourceSplitBase) {
+    /**
+     * Returns the Debezium connector config to read the given stream split. A stream shard split
+     * reads the tables of its shard with the slot and publication of the shard, and a backfill
+     * split only reads the table of its snapshot split.
+     */
+    @VisibleForTesting
+    static PostgresConnectorConfig getStreamSplitDbzConfig(
+            PostgresConnectorConfig dbzConfig,
+            StreamSplit streamSplit,
+            int streamShards,
+            Supplier<List<TableId>> capturedTables) {
+        int streamShard = getStreamShard(streamSplit);
+        if (streamShard >= 0) {
+            // read the tables of the stream shard with the slot and publication of the shard
+            dbzConfig =
+                    getStreamShardDbzConfig(
+                            dbzConfig,
+                            streamShard,
+                            getStreamShardTables(capturedTables.get(), streamShard, streamShards));
+        }
+
+        Configuration.Builder builder = dbzConfig.getConfig().edit();
+        if (isBackFillSplit(streamSplit)) {
+            // when backfilled split, only current table schema should be scan
+            builder.with(
+                    "table.include.list",
+                    streamSplit.getTableSchemas().keySet().iterator().next().toString());
+        }
+
+        return new PostgresConnectorConfig(
+                builder
+                        // never drop slot for stream split, which is also global split
+                        .with(DROP_SLOT_ON_STOP.name(), false)
+                        .build());
+    }
+
+    private static boolean isBackFillSplit(SourceSplitBase sourceSplitBase) {
         return sourceSplitBase.isStreamSplit()
                 && !StreamSplit.STREAM_SPLIT_ID.equalsIgnoreCase(
-                        sourceSplitBase.asStreamSplit().splitId());
+                        sourceSplitBase.asStreamSplit().splitId())
+                && getStreamShard(sourceSplitBase) < 0;
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.utils;
 
+import org.apache.flink.cdc.connectors.base.source.utils.JdbcChunkUtils;
 import org.apache.flink.table.types.logical.RowType;
 
 import io.debezium.jdbc.JdbcConnection;
@@ -25,6 +26,7 @@ import io.debezium.relational.TableId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -150,6 +152,25 @@ public class PostgresQueryUtils {
                 });
     }
 
+    public static List<Object> querySampledValues(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, BigDecimal samplingPercent)
+            throws SQLException {
+        return JdbcChunkUtils.querySamples(
+                jdbc, buildSampledValuesQuery(tableId, splitColumn, samplingPercent));
+    }
+
+    public static String buildSampledValuesQuery(
+            TableId tableId, Column splitColumn, BigDecimal samplingPercent) {
+        String quotedColumn = quote(splitColumn.name());
+        return String.format(
+                "SELECT %s FROM %s TABLESAMPLE SYSTEM (%s) WHERE %s IS NOT NULL ORDER BY %s ASC",
+                quoteForMinMax(splitColumn),
+                quote(tableId),
+                samplingPercent.toPlainString(),
+                quotedColumn,
+                quotedColumn);
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId,
             RowType pkRowType,
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.utils;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.AutoCreateMode;
+import io.debezium.relational.TableId;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.DROP_SLOT_ON_STOP;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.PUBLICATION_NAME;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.SLOT_NAME;
+import static org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit.STREAM_SPLIT_ID;
+
+/**
+ * Utilities for stream shards. When the stream phase is sharded, the captured tables are
+ * partitioned into shards by the hash of their ids, and each shard is read by its own stream split
+ * with its own publication and replication slot.
+ */
+public class StreamShardUtils {
+
+    private static final String SHARD_SPLIT_ID_PREFIX = STREAM_SPLIT_ID + "-shard-";
+
+    private static final String SHARD_NAME_INFIX = "_shard_";
+
+    private StreamShardUtils() {}
+
+    /** Returns the split id of the stream split which reads the given shard. */
+    public static String getStreamShardSplitId(int shard) {
+        return SHARD_SPLIT_ID_PREFIX + shard;
+    }
+
+    /** Returns the shard read by the given split, or -1 if it is not a stream shard split. */
+    public static int getStreamShard(SourceSplitBase split) {
+        String splitId = split.splitId();
+        if (!split.isStreamSplit() || !splitId.startsWith(SHARD_SPLIT_ID_PREFIX)) {
+            return -1;
+        }
+        return Integer.parseInt(splitId.substring(SHARD_SPLIT_ID_PREFIX.length()));
+    }
+
+    /**
+     * Returns the shard of the given table. The hash of the table id is stable, so that a table
+     * always belongs to the same shard even if other tables are added or dropped.
+     */
+    public static int getStreamShard(TableId tableId, int streamShards) {
+        return Math.floorMod(tableId.toString().hashCode(), streamShards);
+    }
+
+    /** Returns the tables of the given shard among the captured tables. */
+    public static List<TableId> getStreamShardTables(
+            List<TableId> capturedTables, int shard, int streamShards) {
+        return capturedTables.stream()
+                .filter(tableId -> getStreamShard(tableId, streamShards) == shard)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public static String getStreamShardSlotName(String slotName, int shard) {
+        return slotName + SHARD_NAME_INFIX + shard;
+    }
+
+    public static String getStreamShardPublicationName(String publicationName, int shard) {
+        return publicationName + SHARD_NAME_INFIX + shard;
+    }
+
+    /**
+     * Returns the Debezium connector config to read the given shard, which only includes the tables
+     * of the shard and uses the slot and publication of the shard. A publication for all tables
+     * would make every shard decode the changes of all tables, so it is replaced by a publication
+     * for the tables of the shard.
+     */
+    public static PostgresConnectorConfig getStreamShardDbzConfig(
+            PostgresConnectorConfig dbzConfig, int shard, List<TableId> shardTables) {
+        if (shardTables.isEmpty()) {
+            throw new IllegalStateException(
+                    String.format(
+                            "There is no captured table in stream shard %s, please decrease the number of stream shards.",
+                            shard));
+        }
+        AutoCreateMode autoCreateMode =
+                dbzConfig.publicationAutocreateMode() == AutoCreateMode.ALL_TABLES
+                        ? AutoCreateMode.FILTERED
+                        : dbzConfig.publicationAutocreateMode();
+        return new PostgresConnectorConfig(
+                dbzConfig
+                        .getConfig()
+                        .edit()
+                        .with(
+                                "table.include.list",
+                                shardTables.stream()
+                                        .map(tableId -> Pattern.quote(tableId.toString()))
+                                        .collect(Collectors.joining(",")))
+                        .with(
+                                SLOT_NAME.name(),
+                                getStreamShardSlotName(dbzConfig.slotName(), shard))
+                        .with(
+                                PUBLICATION_NAME.name(),
+                                getStreamShardPublicationName(dbzConfig.publicationName(), shard))
+                        .with(PUBLICATION_AUTOCREATE_MODE.name(), autoCreateMode.getValue())
+                        // never drop slot for stream shard, which is also a global split
+                        .with(DROP_SLOT_ON_STOP.name(), false)
+                        .build());
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source;
+
+import org.apache.flink.api.common.JobID;
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.api.common.restartstrategy.RestartStrategies;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.postgres.PostgresTestBase;
+import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import org.apache.flink.cdc.connectors.postgres.testutils.PostgresTestUtils;
+import org.apache.flink.cdc.connectors.postgres.testutils.UniqueDatabase;
+import org.apache.flink.cdc.connectors.utils.ExternalResourceProxy;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.core.execution.JobClient;
+import org.apache.flink.runtime.minicluster.RpcServiceSharing;
+import org.apache.flink.runtime.testutils.MiniClusterResourceConfiguration;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.test.util.MiniClusterWithClientResource;
+import org.apache.flink.util.CloseableIterator;
+import org.apache.flink.util.Collector;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.api.common.JobStatus.RUNNING;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShard;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardPublicationName;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardSlotName;
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardTables;
+import static org.apache.flink.cdc.connectors.postgres.testutils.PostgresTestUtils.hasNextData;
+import static org.apache.flink.cdc.connectors.postgres.testutils.PostgresTestUtils.triggerFailover;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** IT tests for {@link PostgresSourceBuilder.PostgresIncrementalSource} with stream shards. */
+@Timeout(value = 300, unit = TimeUnit.SECONDS)
+class PostgresStreamShardITCase extends PostgresTestBase {
+
+    private static final int STREAM_SHARDS = 2;
+
+    private static final int MAX_SHARD_TABLES = 16;
+
+    private static final String DB_NAME_PREFIX = "postgres";
+    private static final String SCHEMA_NAME = "customer";
+    private static final String TABLE_NAME_PREFIX = "shard_table_";
+
+    @RegisterExtension
+    public final ExternalResourceProxy<MiniClusterWithClientResource> miniClusterResource =
+            new ExternalResourceProxy<>(
+                    new MiniClusterWithClientResource(
+                            new MiniClusterResourceConfiguration.Builder()
+                                    .setNumberTaskManagers(1)
+                                    .setNumberSlotsPerTaskManager(STREAM_SHARDS)
+                                    .setRpcServiceSharing(RpcServiceSharing.DEDICATED)
+                                    .withHaLeadershipControl()
+                                    .build()));
+
+    private final UniqueDatabase customDatabase =
+            new UniqueDatabase(
+                    POSTGRES_CONTAINER,
+                    DB_NAME_PREFIX,
+                    SCHEMA_NAME,
+                    POSTGRES_CONTAINER.getUsername(),
+                    POSTGRES_CONTAINER.getPassword());
+
+    private String slotName;
+
+    @BeforeEach
+    public void before() {
+        customDatabase.createAndInitialize();
+        this.slotName = getSlotName();
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        // sleep 1000ms to wait until connections are closed.
+        Thread.sleep(1000L);
+        for (int shard = 0; shard < STREAM_SHARDS; shard++) {
+            customDatabase.removeSlot(getStreamShardSlotName(slotName, shard));
+        }
+    }
+
+    @Test
+    void testReadStreamShardsWithTaskManagerFailover() throws Exception {
+        List<TableId> capturedTables = createShardTables();
+
+        PostgresSourceConfig sourceConfig =
+                getMockPostgresSourceConfigFactory(
+                                customDatabase, SCHEMA_NAME, TABLE_NAME_PREFIX + ".*", 10)
+                        .create(0);
+        String publicationName = sourceConfig.getDbzConnectorConfig().publicationName();
+        List<List<TableId>> shardTables = new ArrayList<>();
+        try (PostgresDialect dialect = new PostgresDialect(sourceConfig)) {
+            List<TableId> discoveredTables = dialect.discoverDataCollections(sourceConfig);
+            assertThat(discoveredTables).containsExactlyInAnyOrderElementsOf(capturedTables);
+            for (int shard = 0; shard < STREAM_SHARDS; shard++) {
+                shardTables.add(getStreamShardTables(discoveredTables, shard, STREAM_SHARDS));
+                assertThat(shardTables.get(shard)).isNotEmpty();
+            }
+        }
+
+        PostgresSourceBuilder.PostgresIncrementalSource<String> source =
+                PostgresSourceBuilder.PostgresIncrementalSource.<String>builder()
+                        .hostname(customDatabase.getHost())
+                        .port(customDatabase.getDatabasePort())
+                        .database(customDatabase.getDatabaseName())
+                        .schemaList(SCHEMA_NAME)
+                        .tableList(SCHEMA_NAME + "." + TABLE_NAME_PREFIX + ".*")
+                        .username(customDatabase.getUsername())
+                        .password(customDatabase.getPassword())
+                        .slotName(slotName)
+                        .decodingPluginName("pgoutput")
+                        .startupOptions(StartupOptions.latest())
+                        .streamShards(STREAM_SHARDS)
+                        .lsnCommitCheckpointsDelay(0)
+                        .deserializer(new ChangeEventDeserializer())
+                        .build();
+
+        StreamExecutionEnvironment env = StreamExecutionEnvironment.getExecutionEnvironment();
+        env.setParallelism(STREAM_SHARDS);
+        env.enableCheckpointing(200L);
+        env.setRestartStrategy(RestartStrategies.fixedDelayRestart(1, 0));
+        CloseableIterator<String> iterator =
+                env.fromSource(source, WatermarkStrategy.noWatermarks(), "Postgres Source")
+                        .collectAsync();
+        JobClient jobClient = env.executeAsync("Postgres Stream Shards");
+
+        // every shard reads its own tables through its own slot and publication
+        Map<String, String> initialFlushLsns = new HashMap<>();
+        for (int shard = 0; shard < STREAM_SHARDS; shard++) {
+            String shardSlotName = getStreamShardSlotName(slotName, shard);
+            String shardPublicationName = getStreamShardPublicationName(publicationName, shard);
+            waitUntil(() -> getConfirmedFlushLsn(shardSlotName) != null);
+            waitUntil(() -> getPublicationTables(shardPublicationName) != null);
+            assertThat(getPublicationTables(shardPublicationName))
+                    .containsExactlyInAnyOrderElementsOf(shardTables.get(shard));
+            initialFlushLsns.put(shardSlotName, getConfirmedFlushLsn(shardSlotName));
+        }
+        waitUntilJobRunning(jobClient);
+        // wait for the stream reading
+        Thread.sleep(2000L);
+
+        List<String> expectedFirstPart = new ArrayList<>();
+        try (PostgresConnection connection = getConnection()) {
+            for (TableId tableId : capturedTables) {
+                connection.execute(String.format("INSERT INTO %s VALUES (1, 'first')", tableId));
+                expectedFirstPart.add(tableId.table() + ":c:1:first");
+            }
+        }
+        assertEqualsInAnyOrder(expectedFirstPart, fetchRows(iterator, expectedFirstPart.size()));
+
+        // the offset of every shard is committed to the slot of the shard
+        for (Map.Entry<String, String> entry : initialFlushLsns.entrySet()) {
+            waitUntil(() -> !entry.getValue().equals(getConfirmedFlushLsn(entry.getKey())));
+        }
+
+        List<String> expectedSecondPart = new ArrayList<>();
+        for (TableId tableId : capturedTables) {
+            expectedSecondPart.add(tableId.table() + ":u:1:second");
+            expectedSecondPart.add(tableId.table() + ":c:2:second");
+        }
+        JobID jobId = jobClient.getJobID();
+        triggerFailover(
+                PostgresTestUtils.FailoverType.TM,
+                jobId,
+                miniClusterResource.get().getMiniCluster(),
+                () -> makeSecondPartStreamEvents(capturedTables));
+        waitUntilJobRunning(jobClient);
+
+        // the shards are restored from the checkpoint without reading the first part again
+        assertEqualsInAnyOrder(expectedSecondPart, fetchRows(iterator, expectedSecondPart.size()));
+        assertThat(hasNextData(iterator)).isFalse();
+
+        iterator.close();
+        jobClient.cancel().get();
+    }
+
+    /** Creates the captured tables until every stream shard owns some of them. */
+    private List<TableId> createShardTables() throws SQLException {
+        List<TableId> tableIds = new ArrayList<>();
+        boolean[] coveredShards = new boolean[STREAM_SHARDS];
+        try (PostgresConnection connection = getConnection()) {
+            for (int i = 0; i < MAX_SHARD_TABLES; i++) {
+                TableId tableId = new TableId(null, SCHEMA_NAME, TABLE_NAME_PREFIX + i);
+                connection.execute(
+                        String.format(
+                                "CREATE TABLE %s (id INTEGER PRIMARY KEY, name VARCHAR(255))",
+                                tableId));
+                tableIds.add(tableId);
+                coveredShards[getStreamShard(tableId, STREAM_SHARDS)] = true;
+                if (tableIds.size() >= STREAM_SHARDS && allTrue(coveredShards)) {
+                    return tableIds;
+                }
+            }
+        }
+        throw new IllegalStateException("Failed to create tables for all stream shards.");
+    }
+
+    private void makeSecondPartStreamEvents(List<TableId> tableIds) {
+        try (PostgresConnection connection = getConnection()) {
+            for (TableId tableId : tableIds) {
+                connection.execute(
+                        String.format("UPDATE %s SET name = 'second' WHERE id = 1", tableId),
+                        String.format("INSERT INTO %s VALUES (2, 'second')", tableId));
+            }
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(e);
+        }
+    }
+
+    private String getConfirmedFlushLsn(String shardSlotName) throws SQLException {
+        try (PostgresConnection connection = getConnection()) {
+            return connection.prepareQueryAndMap(
+                    "SELECT confirmed_flush_lsn FROM pg_replication_slots WHERE slot_name = ?",
+                    statement -> statement.setString(1, shardSlotName),
+                    rs -> rs.next() ? rs.getString(1) : null);
+        }
+    }
+
+    /** Returns the tables of the given publication, or null if it does not exist. */
+    private List<TableId> getPublicationTables(String publicationName) throws SQLException {
+        try (PostgresConnection connection = getConnection()) {
+            boolean exists =
+                    connection.prepareQueryAndMap(
+                            "SELECT 1 FROM pg_publication WHERE pubname = ?",
+                            statement -> statement.setString(1, publicationName),
+                            rs -> rs.next());
+            if (!exists) {
+                return null;
+            }
+            return connection.prepareQueryAndMap(
+                    "SELECT schemaname, tablename FROM pg_publication_tables WHERE pubname = ?",
+                    statement -> statement.setString(1, publicationName),
+                    rs -> {
+                        List<TableId> tableIds = new ArrayList<>();
+                        while (rs.next()) {
+                            tableIds.add(new TableId(null, rs.getString(1), rs.getString(2)));
+                        }
+                        return tableIds;
+                    });
+        }
+    }
+
+    private PostgresConnection getConnection() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("hostname", customDatabase.getHost());
+        properties.put("port", String.valueOf(customDatabase.getDatabasePort()));
+        properties.put("user", customDatabase.getUsername());
+        properties.put("password", customDatabase.getPassword());
+        properties.put("dbname", customDatabase.getDatabaseName());
+        return createConnection(properties);
+    }
+
+    private static boolean allTrue(boolean[] values) {
+        for (boolean value : values) {
+            if (!value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void waitUntilJobRunning(JobClient jobClient) throws Exception {
+        do {
+            Thread.sleep(1000L);
+        } while (jobClient.getJobStatus().get() != RUNNING);
+    }
+
+    private static void waitUntil(Callable<Boolean> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 60_000L;
+        while (!condition.call()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(100L);
+        }
+    }
+
+    /** Emits the changes as {@code <table>:<op>:<id>:<name>}. */
+    private static class ChangeEventDeserializer implements DebeziumDeserializationSchema<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<String> out) {
+            Envelope.Operation op = Envelope.operationFor(record);
+            if (op == null) {
+                return;
+            }
+            Struct value = (Struct) record.value();
+            Struct after = value.getStruct(Envelope.FieldName.AFTER);
+            out.collect(
+                    String.join(
+                            ":",
+                            value.getStruct(Envelope.FieldName.SOURCE).getString("table"),
+                            op.code(),
+                            String.valueOf(after.getInt32("id")),
+                            after.getString("name")));
+        }
+
+        @Override
+        public TypeInformation<String> getProducedType() {
+            return BasicTypeInfo.STRING_TYPE_INFO;
+        }
+    }
+}
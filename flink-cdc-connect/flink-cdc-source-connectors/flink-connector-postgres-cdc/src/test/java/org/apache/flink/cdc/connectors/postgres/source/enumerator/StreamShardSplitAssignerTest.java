@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.cdc.connectors.postgres.source.enumerator;
+
+import org.apache.flink.api.connector.source.mocks.MockSplitEnumeratorContext;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.StreamPendingSplitsState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.postgres.source.PostgresDialect;
+import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
+import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfigFactory;
+import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
+
+import io.debezium.connector.postgresql.SourceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils.getStreamShardSplitId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link StreamShardSplitAssigner}. */
+class StreamShardSplitAssignerTest {
+
+    private static final int STREAM_SHARDS = 3;
+
+    private final PostgresOffsetFactory offsetFactory = new PostgresOffsetFactory();
+    private PostgresSourceConfig sourceConfig;
+
+    @BeforeEach
+    void setUp() {
+        PostgresSourceConfigFactory configFactory = new PostgresSourceConfigFactory();
+        configFactory.hostname("localhost");
+        configFactory.database("postgres");
+        configFactory.username("postgres");
+        configFactory.password("postgres");
+        configFactory.slotName("flink");
+        configFactory.startupOptions(StartupOptions.earliest());
+        configFactory.setStreamShards(STREAM_SHARDS);
+        sourceConfig = configFactory.create(0);
+    }
+
+    @Test
+    void testAssignStreamSplitOfEveryShard() {
+        StreamShardSplitAssigner assigner = createAssigner(null);
+
+        assertThat(assignSplitIds(assigner))
+                .containsExactly(
+                        getStreamShardSplitId(0),
+                        getStreamShardSplitId(1),
+                        getStreamShardSplitId(2));
+        assertThat(assigner.noMoreSplits()).isTrue();
+        assertThat(assigner.snapshotState(1L))
+                .isEqualTo(
+                        new StreamPendingSplitsState(
+                                true,
+                                new HashSet<>(
+                                        Arrays.asList(
+                                                getStreamShardSplitId(0),
+                                                getStreamShardSplitId(1),
+                                                getStreamShardSplitId(2))),
+                                Collections.emptyList()));
+    }
+
+    @Test
+    void testRestoreWithPartiallyAssignedShards() {
+        StreamShardSplitAssigner assigner = createAssigner(null);
+        assertThat(assigner.getNext()).isPresent();
+        assertThat(assigner.getNext()).isPresent();
+        StreamPendingSplitsState state = (StreamPendingSplitsState) assigner.snapshotState(1L);
+        assertThat(state.isStreamSplitAssigned()).isFalse();
+
+        // the splits of the shards held by the readers are not created again
+        StreamShardSplitAssigner restoredAssigner = createAssigner(state);
+        assertThat(restoredAssigner.noMoreSplits()).isFalse();
+        assertThat(assignSplitIds(restoredAssigner)).containsExactly(getStreamShardSplitId(2));
+        assertThat(restoredAssigner.noMoreSplits()).isTrue();
+    }
+
+    @Test
+    void testRestoreAddedBackSplits() {
+        StreamShardSplitAssigner assigner = createAssigner(null);
+        assignSplitIds(assigner);
+        StreamSplit addedBackSplit =
+                new StreamSplit(
+                        getStreamShardSplitId(1),
+                        offsetFactory.newOffset(
+                                Collections.singletonMap(SourceInfo.LSN_KEY, "100")),
+                        offsetFactory.createNoStoppingOffset(),
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        0);
+        assigner.addSplits(Collections.singletonList(addedBackSplit));
+        StreamPendingSplitsState state = (StreamPendingSplitsState) assigner.snapshotState(1L);
+        assertThat(state.getRemainingStreamSplits()).containsExactly(addedBackSplit);
+        assertThat(state.getAssignedStreamSplitIds())
+                .containsExactlyInAnyOrder(getStreamShardSplitId(0), getStreamShardSplitId(2));
+
+        // the added back split is assigned again as it is
+        StreamShardSplitAssigner restoredAssigner = createAssigner(state);
+        assertThat(restoredAssigner.getNext()).contains(addedBackSplit);
+        assertThat(restoredAssigner.getNext()).isEmpty();
+        assertThat(restoredAssigner.noMoreSplits()).isTrue();
+    }
+
+    @Test
+    void testRestoreLegacyState() {
+        assertThat(assignSplitIds(createAssigner(new StreamPendingSplitsState(true)))).isEmpty();
+        assertThat(assignSplitIds(createAssigner(new StreamPendingSplitsState(false))))
+                .containsExactly(
+                        getStreamShardSplitId(0),
+                        getStreamShardSplitId(1),
+                        getStreamShardSplitId(2));
+    }
+
+    private StreamShardSplitAssigner createAssigner(StreamPendingSplitsState checkpoint) {
+        PostgresDialect dialect = new PostgresDialect(sourceConfig);
+        StreamShardSplitAssigner assigner =
+                checkpoint == null
+                        ? new StreamShardSplitAssigner(
+                                sourceConfig,
+                                dialect,
+                                offsetFactory,
+                                new MockSplitEnumeratorContext<>(STREAM_SHARDS))
+                        : new StreamShardSplitAssigner(
+                                sourceConfig,
+                                checkpoint,
+                                dialect,
+                                offsetFactory,
+                                new MockSplitEnumeratorContext<>(STREAM_SHARDS));
+        assigner.open();
+        return assigner;
+    }
+
+    private static List<String> assignSplitIds(StreamShardSplitAssigner assigner) {
+        List<String> splitIds = new ArrayList<>();
+        Optional<SourceSplitBase> split;
+        while ((split = assigner.getNext()).isPresent()) {
+            splitIds.add(split.get().splitId());
+        }
+        return splitIds;
+    }
+}
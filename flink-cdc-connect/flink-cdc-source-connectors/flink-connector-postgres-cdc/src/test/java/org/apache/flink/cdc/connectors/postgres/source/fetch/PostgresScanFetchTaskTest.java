@@ -43,12 +43,16 @@ import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.types.DataType;
 
+import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -76,8 +80,9 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
                     POSTGRES_CONTAINER.getUsername(),
                     POSTGRES_CONTAINER.getPassword());
 
-    @Test
-    void testChangingDataInSnapshotScan() throws Exception {
+    @ParameterizedTest(name = "backfillSlotShared = {0}")
+    @ValueSource(booleans = {false, true})
+    void testChangingDataInSnapshotScan(boolean backfillSlotShared) throws Exception {
         customDatabase.createAndInitialize();
 
         TestTableId tableId = new TestTableId(schemaName, tableName);
@@ -107,12 +112,18 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
                 };
         List<String> actual =
                 getDataInSnapshotScan(
-                        changingDataSql, schemaName, tableName, USE_PRE_HIGHWATERMARK_HOOK, false);
+                        changingDataSql,
+                        schemaName,
+                        tableName,
+                        USE_PRE_HIGHWATERMARK_HOOK,
+                        false,
+                        backfillSlotShared);
         assertEqualsInAnyOrder(Arrays.asList(expected), actual);
     }
 
-    @Test
-    void testInsertDataInSnapshotScan() throws Exception {
+    @ParameterizedTest(name = "backfillSlotShared = {0}")
+    @ValueSource(booleans = {false, true})
+    void testInsertDataInSnapshotScan(boolean backfillSlotShared) throws Exception {
         customDatabase.createAndInitialize();
         TestTableId tableId = new TestTableId(schemaName, tableName);
         String[] insertDataSql =
@@ -140,12 +151,18 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
                 };
         List<String> actual =
                 getDataInSnapshotScan(
-                        insertDataSql, schemaName, tableName, USE_POST_LOWWATERMARK_HOOK, false);
+                        insertDataSql,
+                        schemaName,
+                        tableName,
+                        USE_POST_LOWWATERMARK_HOOK,
+                        false,
+                        backfillSlotShared);
         assertEqualsInAnyOrder(Arrays.asList(expected), actual);
     }
 
-    @Test
-    void testDeleteDataInSnapshotScan() throws Exception {
+    @ParameterizedTest(name = "backfillSlotShared = {0}")
+    @ValueSource(booleans = {false, true})
+    void testDeleteDataInSnapshotScan(boolean backfillSlotShared) throws Exception {
         customDatabase.createAndInitialize();
         TestTableId tableId = new TestTableId(schemaName, tableName);
         String[] deleteDataSql =
@@ -165,7 +182,12 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
                 };
         List<String> actual =
                 getDataInSnapshotScan(
-                        deleteDataSql, schemaName, tableName, USE_PRE_HIGHWATERMARK_HOOK, false);
+                        deleteDataSql,
+                        schemaName,
+                        tableName,
+                        USE_PRE_HIGHWATERMARK_HOOK,
+                        false,
+                        backfillSlotShared);
         assertEqualsInAnyOrder(Arrays.asList(expected), actual);
     }
 
@@ -243,6 +265,68 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
         assertEqualsInAnyOrder(Arrays.asList(expected), actual);
     }
 
+    @Test
+    void testSharedBackfillSlotAcrossSnapshotSplits() throws Exception {
+        customDatabase.createAndInitialize();
+        TestTableId tableId = new TestTableId(schemaName, tableName);
+        PostgresSourceConfigFactory sourceConfigFactory =
+                getMockPostgresSourceConfigFactory(customDatabase, schemaName, tableName, 10);
+        sourceConfigFactory.setBackfillSlotShared(true);
+        PostgresSourceConfig sourceConfig = sourceConfigFactory.create(0);
+        PostgresDialect postgresDialect = new PostgresDialect(sourceConfigFactory.create(0));
+        String slotName = sourceConfig.getSlotNameForBackfillTask();
+        List<SnapshotSplit> snapshotSplits = getSnapshotSplits(sourceConfig, postgresDialect);
+        assertThat(snapshotSplits).hasSizeGreaterThan(1);
+
+        List<Lsn> confirmedFlushLsns = new ArrayList<>();
+        try (PostgresConnection postgresConnection = postgresDialect.openJdbcConnection()) {
+            SnapshotPhaseHooks hooks = new SnapshotPhaseHooks();
+            // the slot of the previous split has been advanced when the next split is read
+            hooks.setPostLowWatermarkAction(
+                    (postgresSourceConfig, split) ->
+                            confirmedFlushLsns.add(
+                                    getConfirmedFlushLsn(postgresConnection, slotName)));
+            // write WAL log in every split, so that the high watermarks of the splits differ
+            hooks.setPreHighWatermarkAction(
+                    (postgresSourceConfig, split) -> {
+                        postgresConnection.execute(
+                                "UPDATE "
+                                        + tableId.toSql()
+                                        + " SET address = 'Shanghai' where \"Id\" = 101");
+                        postgresConnection.commit();
+                    });
+
+            PostgresSourceFetchTaskContext taskContext =
+                    new PostgresSourceFetchTaskContext(sourceConfig, postgresDialect);
+            IncrementalSourceScanFetcher sourceScanFetcher =
+                    new IncrementalSourceScanFetcher(taskContext, 0);
+            for (SnapshotSplit snapshotSplit : snapshotSplits) {
+                FetchTask<SourceSplitBase> fetchTask =
+                        postgresDialect.createFetchTask(snapshotSplit);
+                ((AbstractScanFetchTask) fetchTask).setSnapshotPhaseHooks(hooks);
+                sourceScanFetcher.submitTask(fetchTask);
+                while (!sourceScanFetcher.isFinished()) {
+                    if (sourceScanFetcher.pollSplitRecords() == null) {
+                        Thread.sleep(100L);
+                    }
+                }
+                // the slot is kept after the backfill of each split
+                assertThat(customDatabase.checkSlot(slotName)).isEqualTo(slotName);
+            }
+
+            // the slot is created once before the first split and advanced after each split
+            assertThat(confirmedFlushLsns).hasSameSizeAs(snapshotSplits).doesNotContainNull();
+            for (int i = 1; i < confirmedFlushLsns.size(); i++) {
+                assertThat(confirmedFlushLsns.get(i)).isGreaterThan(confirmedFlushLsns.get(i - 1));
+            }
+
+            // the slot is dropped when the fetch task context is closed
+            sourceScanFetcher.close();
+            assertThat(customDatabase.checkSlot(slotName))
+                    .isEqualTo(String.format("Replication slot \"%s\" does not exist", slotName));
+        }
+    }
+
     @Test
     void testSnapshotFetchSize() throws Exception {
         customDatabase.createAndInitialize();
@@ -289,9 +373,22 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
             int hookType,
             boolean skipSnapshotBackfill)
             throws Exception {
+        return getDataInSnapshotScan(
+                changingDataSql, schemaName, tableName, hookType, skipSnapshotBackfill, false);
+    }
+
+    private List<String> getDataInSnapshotScan(
+            String[] changingDataSql,
+            String schemaName,
+            String tableName,
+            int hookType,
+            boolean skipSnapshotBackfill,
+            boolean backfillSlotShared)
+            throws Exception {
         PostgresSourceConfigFactory sourceConfigFactory =
                 getMockPostgresSourceConfigFactory(
                         customDatabase, schemaName, tableName, 10, skipSnapshotBackfill);
+        sourceConfigFactory.setBackfillSlotShared(backfillSlotShared);
         PostgresSourceConfig sourceConfig = sourceConfigFactory.create(0);
         PostgresDialect postgresDialect = new PostgresDialect(sourceConfigFactory.create(0));
         SnapshotPhaseHooks hooks = new SnapshotPhaseHooks();
@@ -369,6 +466,16 @@ class PostgresScanFetchTaskTest extends PostgresTestBase {
         return formatResult(result, dataType);
     }
 
+    private Lsn getConfirmedFlushLsn(PostgresConnection postgresConnection, String slotName)
+            throws SQLException {
+        return postgresConnection.queryAndMap(
+                String.format(
+                        "SELECT confirmed_flush_lsn FROM pg_replication_slots"
+                                + " WHERE slot_name = '%s'",
+                        slotName),
+                rs -> rs.next() ? Lsn.valueOf(rs.getString(1)) : null);
+    }
+
     private List<String> formatResult(List<SourceRecord> records, DataType dataType) {
         final RecordsFormatter formatter = new RecordsFormatter(dataType);
         return formatter.format(records);
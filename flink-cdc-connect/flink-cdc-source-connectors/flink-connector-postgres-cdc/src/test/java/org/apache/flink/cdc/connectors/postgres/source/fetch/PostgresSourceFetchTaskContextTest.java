@@ -17,6 +17,9 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.fetch;
 
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
+import org.apache.flink.cdc.connectors.postgres.source.utils.StreamShardUtils;
 import org.apache.flink.cdc.connectors.postgres.testutils.TestHelper;
 
 import io.debezium.connector.postgresql.PostgresConnectorConfig;
@@ -24,18 +27,37 @@ import io.debezium.connector.postgresql.PostgresOffsetContext;
 import io.debezium.connector.postgresql.SourceInfo;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.DROP_SLOT_ON_STOP;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.PUBLICATION_NAME;
+import static io.debezium.connector.postgresql.PostgresConnectorConfig.SLOT_NAME;
 import static io.debezium.connector.postgresql.Utils.lastKnownLsn;
 
 /** Unit test for {@link PostgresSourceFetchTaskContext}. */
 class PostgresSourceFetchTaskContextTest {
 
+    private static final List<TableId> TABLES =
+            Arrays.asList(
+                    new TableId(null, "inventory", "products"),
+                    new TableId(null, "inventory", "orders"),
+                    new TableId(null, "inventory", "customers"),
+                    new TableId(null, "sales", "orders"),
+                    new TableId(null, "sales", "items"),
+                    new TableId(null, "sales", "refunds"));
+
     private PostgresConnectorConfig connectorConfig;
     private OffsetContext.Loader<PostgresOffsetContext> offsetLoader;
 
@@ -55,4 +77,102 @@ class PostgresSourceFetchTaskContextTest {
         final PostgresOffsetContext offsetContext = offsetLoader.load(offsetValues);
         Assertions.assertThat(lastKnownLsn(offsetContext)).isEqualTo(Lsn.valueOf(12345L));
     }
+
+    @Test
+    void testStreamShardSplitDbzConfig() {
+        int streamShards = 2;
+        int shard = StreamShardUtils.getStreamShard(TABLES.get(0), streamShards);
+        List<TableId> shardTables =
+                StreamShardUtils.getStreamShardTables(TABLES, shard, streamShards);
+
+        PostgresConnectorConfig shardConfig =
+                PostgresSourceFetchTaskContext.getStreamSplitDbzConfig(
+                        streamShardConnectorConfig(),
+                        streamSplit(StreamShardUtils.getStreamShardSplitId(shard), new HashMap<>()),
+                        streamShards,
+                        () -> TABLES);
+
+        Assertions.assertThat(shardConfig.slotName()).isEqualTo("flink_shard_" + shard);
+        Assertions.assertThat(shardConfig.publicationName())
+                .isEqualTo("dbz_publication_shard_" + shard);
+        Assertions.assertThat(shardConfig.getConfig().getBoolean(DROP_SLOT_ON_STOP)).isFalse();
+        for (TableId tableId : TABLES) {
+            Assertions.assertThat(
+                            shardConfig
+                                    .getTableFilters()
+                                    .dataCollectionFilter()
+                                    .isIncluded(tableId))
+                    .isEqualTo(shardTables.contains(tableId));
+        }
+    }
+
+    @Test
+    void testGlobalStreamSplitDbzConfig() {
+        Supplier<List<TableId>> capturedTables =
+                () -> {
+                    throw new AssertionError("Captured tables of global stream split are queried");
+                };
+        PostgresConnectorConfig config =
+                PostgresSourceFetchTaskContext.getStreamSplitDbzConfig(
+                        streamShardConnectorConfig(),
+                        streamSplit(StreamSplit.STREAM_SPLIT_ID, new HashMap<>()),
+                        2,
+                        capturedTables);
+
+        Assertions.assertThat(config.slotName()).isEqualTo("flink");
+        Assertions.assertThat(config.publicationName()).isEqualTo("dbz_publication");
+        Assertions.assertThat(config.getConfig().getBoolean(DROP_SLOT_ON_STOP)).isFalse();
+        for (TableId tableId : TABLES) {
+            Assertions.assertThat(
+                            config.getTableFilters().dataCollectionFilter().isIncluded(tableId))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void testBackfillSplitDbzConfig() {
+        TableId tableId = TABLES.get(3);
+        Map<TableId, TableChanges.TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(
+                tableId,
+                new TableChanges.TableChange(
+                        TableChanges.TableChangeType.CREATE,
+                        new Tables().editOrCreateTable(tableId).create()));
+
+        PostgresConnectorConfig config =
+                PostgresSourceFetchTaskContext.getStreamSplitDbzConfig(
+                        streamShardConnectorConfig(),
+                        streamSplit("sales.orders:0", tableSchemas),
+                        2,
+                        () -> TABLES);
+
+        Assertions.assertThat(config.slotName()).isEqualTo("flink");
+        for (TableId capturedTable : TABLES) {
+            Assertions.assertThat(
+                            config.getTableFilters()
+                                    .dataCollectionFilter()
+                                    .isIncluded(capturedTable))
+                    .isEqualTo(capturedTable.equals(tableId));
+        }
+    }
+
+    private static PostgresConnectorConfig streamShardConnectorConfig() {
+        return new PostgresConnectorConfig(
+                TestHelper.defaultConfig()
+                        .with(SLOT_NAME, "flink")
+                        .with(PUBLICATION_NAME, "dbz_publication")
+                        .build());
+    }
+
+    private static StreamSplit streamSplit(
+            String splitId, Map<TableId, TableChanges.TableChange> tableSchemas) {
+        PostgresOffsetFactory offsetFactory = new PostgresOffsetFactory();
+        return new StreamSplit(
+                splitId,
+                offsetFactory.createNoStoppingOffset(),
+                offsetFactory.createNoStoppingOffset(),
+                new ArrayList<>(),
+                tableSchemas,
+                0);
+    }
 }
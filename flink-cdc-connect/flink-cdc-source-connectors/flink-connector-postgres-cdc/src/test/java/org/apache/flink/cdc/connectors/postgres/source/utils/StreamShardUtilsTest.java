@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.postgres.source.utils;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link StreamShardUtils}. */
+class StreamShardUtilsTest {
+
+    private static final List<TableId> TABLES =
+            Arrays.asList(
+                    new TableId(null, "inventory", "products"),
+                    new TableId(null, "inventory", "orders"),
+                    new TableId(null, "inventory", "customers"),
+                    new TableId(null, "sales", "orders"),
+                    new TableId(null, "sales", "items"),
+                    new TableId(null, "sales", "refunds"));
+
+    @Test
+    void testStreamShardOfSplit() {
+        assertThat(StreamShardUtils.getStreamShard(streamSplit(StreamSplit.STREAM_SPLIT_ID)))
+                .isEqualTo(-1);
+        assertThat(StreamShardUtils.getStreamShardSplitId(3)).isEqualTo("stream-split-shard-3");
+        assertThat(
+                        StreamShardUtils.getStreamShard(
+                                streamSplit(StreamShardUtils.getStreamShardSplitId(3))))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void testStreamShardTables() {
+        int streamShards = 3;
+        List<TableId> allShardTables = new ArrayList<>();
+        for (int shard = 0; shard < streamShards; shard++) {
+            List<TableId> shardTables =
+                    StreamShardUtils.getStreamShardTables(TABLES, shard, streamShards);
+            for (TableId tableId : shardTables) {
+                assertThat(StreamShardUtils.getStreamShard(tableId, streamShards))
+                        .isEqualTo(shard);
+            }
+            allShardTables.addAll(shardTables);
+        }
+        assertThat(allShardTables).containsExactlyInAnyOrderElementsOf(TABLES);
+
+        // the shard of a table does not depend on the other captured tables
+        TableId tableId = TABLES.get(0);
+        int shard = StreamShardUtils.getStreamShard(tableId, streamShards);
+        assertThat(
+                        StreamShardUtils.getStreamShardTables(
+                                TABLES.subList(0, 1), shard, streamShards))
+                .containsExactly(tableId);
+    }
+
+    @Test
+    void testStreamShardDbzConfig() {
+        PostgresConnectorConfig dbzConfig =
+                new PostgresConnectorConfig(
+                        Configuration.create()
+                                .with("database.server.name", "postgres_cdc_source")
+                                .with("slot.name", "flink")
+                                .with("publication.name", "dbz_publication")
+                                .build());
+        PostgresConnectorConfig shardConfig =
+                StreamShardUtils.getStreamShardDbzConfig(dbzConfig, 1, TABLES.subList(0, 2));
+
+        assertThat(shardConfig.slotName()).isEqualTo("flink_shard_1");
+        assertThat(shardConfig.publicationName()).isEqualTo("dbz_publication_shard_1");
+        assertThat(shardConfig.publicationAutocreateMode())
+                .isEqualTo(PostgresConnectorConfig.AutoCreateMode.FILTERED);
+        assertThat(
+                        shardConfig
+                                .getTableFilters()
+                                .dataCollectionFilter()
+                                .isIncluded(TABLES.get(1)))
+                .isTrue();
+        assertThat(
+                        shardConfig
+                                .getTableFilters()
+                                .dataCollectionFilter()
+                                .isIncluded(TABLES.get(3)))
+                .isFalse();
+
+        assertThatThrownBy(
+                        () ->
+                                StreamShardUtils.getStreamShardDbzConfig(
+                                        dbzConfig, 2, new ArrayList<>()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("There is no captured table in stream shard 2");
+    }
+
+    private static StreamSplit streamSplit(String splitId) {
+        PostgresOffsetFactory offsetFactory = new PostgresOffsetFactory();
+        return new StreamSplit(
+                splitId,
+                offsetFactory.createNoStoppingOffset(),
+                offsetFactory.createNoStoppingOffset(),
+                new ArrayList<>(),
+                new HashMap<>(),
+                0);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.sqlserver.source;
 
+import org.apache.flink.cdc.connectors.base.options.JdbcSourceOptions;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
 import org.apache.flink.cdc.connectors.sqlserver.source.config.SqlServerSourceConfigFactory;
@@ -238,6 +239,24 @@ public class SqlServerSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of chunk key values to sample per chunk when the chunk key of a table is not
+     * evenly distributed, see {@link JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES}.
+     */
+    public SqlServerSourceBuilder<T> samplesPerChunk(int samplesPerChunk) {
+        this.configFactory.samplesPerChunk(samplesPerChunk);
+        return this;
+    }
+
+    /**
+     * The number of tables to split into chunks concurrently by the enumerator, see {@link
+     * JdbcSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTING_PARALLELISM}.
+     */
+    public SqlServerSourceBuilder<T> chunkSplittingParallelism(int chunkSplittingParallelism) {
+        this.configFactory.chunkSplittingParallelism(chunkSplittingParallelism);
+        return this;
+    }
+
     /**
      * Build the {@link SqlServerIncrementalSource}.
      *
@@ -57,7 +57,9 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
             int connectionPoolSize,
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int samplesPerChunk,
+            int chunkSplittingParallelism) {
         super(
                 startupOptions,
                 databaseList,
@@ -84,7 +86,9 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 false,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                samplesPerChunk,
+                chunkSplittingParallelism);
     }
 
     @Override
@@ -30,7 +30,9 @@ import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
 import io.debezium.relational.TableId;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * The {@code ChunkSplitter} used to split SqlServer table into a set of chunks for JDBC data
@@ -69,6 +71,14 @@ public class SqlServerChunkSplitter extends JdbcSourceChunkSplitter {
         return SqlServerUtils.queryApproximateRowCnt(jdbc, tableId);
     }
 
+    @Override
+    protected List<Object> querySampledSplitKeys(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, BigDecimal samplingPercent)
+            throws SQLException {
+        return SqlServerUtils.querySampledValues(
+                jdbc, tableId, splitColumn.name(), samplingPercent);
+    }
+
     protected boolean isChunkEndLeMax(
             JdbcConnection jdbc, Object chunkEnd, Object max, Column splitColumn) {
         return SqlServerUtils.compare(chunkEnd, max, splitColumn) <= 0;
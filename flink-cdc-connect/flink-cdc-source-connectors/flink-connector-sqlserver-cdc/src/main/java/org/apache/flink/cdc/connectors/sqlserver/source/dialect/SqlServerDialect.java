@@ -134,7 +134,7 @@ public class SqlServerDialect implements JdbcDataSourceDialect {
     }
 
     @Override
-    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+    public synchronized TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
         if (sqlserverSchema == null) {
             sqlserverSchema = new SqlServerSchema();
         }
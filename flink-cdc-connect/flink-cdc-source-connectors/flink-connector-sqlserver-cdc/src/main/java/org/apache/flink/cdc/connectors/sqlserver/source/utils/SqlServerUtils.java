@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.sqlserver.source.utils;
 
 import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.utils.JdbcChunkUtils;
 import org.apache.flink.cdc.connectors.base.utils.ObjectUtils;
 import org.apache.flink.cdc.connectors.sqlserver.source.offset.LsnOffset;
 import org.apache.flink.table.api.ValidationException;
@@ -41,6 +42,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 
 import javax.annotation.Nullable;
 
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -123,6 +125,28 @@ public class SqlServerUtils {
                 });
     }
 
+    public static List<Object> querySampledValues(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            BigDecimal samplingPercent)
+            throws SQLException {
+        return JdbcChunkUtils.querySamples(
+                jdbc, buildSampledValuesQuery(tableId, splitColumnName, samplingPercent));
+    }
+
+    public static String buildSampledValuesQuery(
+            TableId tableId, String splitColumnName, BigDecimal samplingPercent) {
+        String quotedColumn = quote(splitColumnName);
+        return String.format(
+                "SELECT %s FROM %s TABLESAMPLE SYSTEM (%s PERCENT) WHERE %s IS NOT NULL ORDER BY %s ASC",
+                quotedColumn,
+                quote(tableId),
+                samplingPercent.toPlainString(),
+                quotedColumn,
+                quotedColumn);
+    }
+
     public static Column getSplitColumn(Table table, @Nullable String chunkKeyColumn) {
         List<Column> primaryKeys = table.primaryKeyColumns();
         if (primaryKeys.isEmpty()) {
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.schema.common;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A precompiled plan to coerce records of an upstream schema into an evolved schema.
+ *
+ * <p>Column mappings and type differences are resolved once when the plan is created. Fields of
+ * identical types are copied as internal data straight from upstream binary records, and only
+ * widened columns go through {@link SchemaMergingUtils#coerceField}. Columns absent from upstream
+ * schema are filled with nulls.
+ */
+public class SchemaCoercionPlan {
+
+    private static final int ABSENT = -1;
+
+    private final boolean identity;
+    private final int[] upstreamIndexes;
+    private final boolean[] needsCoercion;
+    private final RecordData.FieldGetter[] fieldGetters;
+    private final DataType[] upstreamTypes;
+    private final DataType[] evolvedTypes;
+    private final BinaryRecordDataGenerator evolvedWriter;
+
+    private SchemaCoercionPlan(Schema upstreamSchema, Schema evolvedSchema) {
+        this.identity = upstreamSchema.equals(evolvedSchema);
+
+        List<Column> evolvedColumns = evolvedSchema.getColumns();
+        int columnCount = evolvedColumns.size();
+        this.upstreamIndexes = new int[columnCount];
+        this.needsCoercion = new boolean[columnCount];
+        this.fieldGetters = new RecordData.FieldGetter[columnCount];
+        this.upstreamTypes = new DataType[columnCount];
+        this.evolvedTypes = evolvedSchema.getColumnDataTypes().toArray(new DataType[0]);
+
+        List<String> upstreamColumnNames = upstreamSchema.getColumnNames();
+        List<DataType> upstreamColumnTypes = upstreamSchema.getColumnDataTypes();
+        for (int i = 0; i < columnCount; i++) {
+            int upstreamIndex = upstreamColumnNames.indexOf(evolvedColumns.get(i).getName());
+            upstreamIndexes[i] = upstreamIndex;
+            if (upstreamIndex == ABSENT) {
+                continue;
+            }
+            DataType upstreamType = upstreamColumnTypes.get(upstreamIndex);
+            upstreamTypes[i] = upstreamType;
+            needsCoercion[i] = !Objects.equals(upstreamType, evolvedTypes[i]);
+            fieldGetters[i] = RecordData.createFieldGetter(upstreamType, upstreamIndex);
+        }
+        this.evolvedWriter = new BinaryRecordDataGenerator(evolvedTypes);
+    }
+
+    public static SchemaCoercionPlan of(Schema upstreamSchema, Schema evolvedSchema) {
+        return new SchemaCoercionPlan(upstreamSchema, evolvedSchema);
+    }
+
+    /** Whether upstream records could be forwarded as-is without any coercion. */
+    public boolean isIdentity() {
+        return identity;
+    }
+
+    /** Coerce an upstream record into evolved schema layout. */
+    public BinaryRecordData coerce(String timezone, RecordData upstreamRecord) {
+        Object[] coercedRow = new Object[evolvedTypes.length];
+        for (int i = 0; i < evolvedTypes.length; i++) {
+            if (upstreamIndexes[i] == ABSENT) {
+                continue;
+            }
+            Object field = fieldGetters[i].getFieldOrNull(upstreamRecord);
+            coercedRow[i] =
+                    needsCoercion[i]
+                            ? SchemaMergingUtils.coerceField(
+                                    timezone, field, upstreamTypes[i], evolvedTypes[i], true)
+                            : field;
+        }
+        return evolvedWriter.generate(coercedRow);
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.flink.cdc.runtime.operators.schema.common;
 
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.AlterColumnTypeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
@@ -33,21 +32,16 @@ import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
-import org.apache.flink.cdc.common.utils.SchemaUtils;
-import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
+import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
 import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
-import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
 import org.apache.flink.shaded.guava31.com.google.common.collect.Table;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -55,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -63,36 +58,13 @@ public class SchemaDerivator {
 
     private static final Logger LOG = LoggerFactory.getLogger(SchemaDerivator.class);
 
-    private static final Duration CACHE_EXPIRE_DURATION = Duration.ofDays(1);
-    private final LoadingCache<Schema, List<RecordData.FieldGetter>> upstreamRecordGetterCache;
-    private final LoadingCache<Schema, BinaryRecordDataGenerator> evolvedRecordWriterCache;
+    // Both levels are weak-keyed, which compares schemas by identity rather than deep equality.
+    // Schema instances held by schema operators only change on schema change events, so coercion
+    // plans are compiled once per (upstream schema, evolved schema) version pair.
+    private final Cache<Schema, Cache<Schema, SchemaCoercionPlan>> coercionPlanCache;
 
     public SchemaDerivator() {
-        upstreamRecordGetterCache =
-                CacheBuilder.newBuilder()
-                        .expireAfterAccess(CACHE_EXPIRE_DURATION)
-                        .build(
-                                new CacheLoader<Schema, List<RecordData.FieldGetter>>() {
-                                    @Override
-                                    public @Nonnull List<RecordData.FieldGetter> load(
-                                            @Nonnull Schema schema) {
-                                        return SchemaUtils.createFieldGetters(schema);
-                                    }
-                                });
-
-        evolvedRecordWriterCache =
-                CacheBuilder.newBuilder()
-                        .expireAfterAccess(CACHE_EXPIRE_DURATION)
-                        .build(
-                                new CacheLoader<Schema, BinaryRecordDataGenerator>() {
-                                    @Override
-                                    public @Nonnull BinaryRecordDataGenerator load(
-                                            @Nonnull Schema schema) {
-                                        return new BinaryRecordDataGenerator(
-                                                schema.getColumnDataTypes()
-                                                        .toArray(new DataType[0]));
-                                    }
-                                });
+        coercionPlanCache = CacheBuilder.newBuilder().weakKeys().build();
     }
 
     /** Get affected evolved table IDs based on changed upstream tables. */
@@ -305,44 +277,56 @@ public class SchemaDerivator {
             return Optional.empty();
         }
 
-        if (upstreamSchema.equals(evolvedSchema)) {
-            // If there's no schema difference, just return the original event.
+        if (upstreamSchema == evolvedSchema) {
             return Optional.of(dataChangeEvent);
         }
 
-        List<RecordData.FieldGetter> upstreamSchemaReader =
-                upstreamRecordGetterCache.getUnchecked(upstreamSchema);
-        BinaryRecordDataGenerator evolvedSchemaWriter =
-                evolvedRecordWriterCache.getUnchecked(evolvedSchema);
+        SchemaCoercionPlan coercionPlan = getCoercionPlan(upstreamSchema, evolvedSchema);
+        if (coercionPlan.isIdentity()) {
+            // If there's no schema difference, just return the original event.
+            return Optional.of(dataChangeEvent);
+        }
 
         // Coerce binary data records
         if (dataChangeEvent.before() != null) {
-            List<Object> upstreamFields =
-                    SchemaUtils.restoreOriginalData(dataChangeEvent.before(), upstreamSchemaReader);
-            Object[] coercedRow =
-                    SchemaMergingUtils.coerceRow(
-                            timezone, evolvedSchema, upstreamSchema, upstreamFields);
-
             dataChangeEvent =
                     DataChangeEvent.projectBefore(
-                            dataChangeEvent, evolvedSchemaWriter.generate(coercedRow));
+                            dataChangeEvent,
+                            coercionPlan.coerce(timezone, dataChangeEvent.before()));
         }
 
         if (dataChangeEvent.after() != null) {
-            List<Object> upstreamFields =
-                    SchemaUtils.restoreOriginalData(dataChangeEvent.after(), upstreamSchemaReader);
-            Object[] coercedRow =
-                    SchemaMergingUtils.coerceRow(
-                            timezone, evolvedSchema, upstreamSchema, upstreamFields);
-
             dataChangeEvent =
                     DataChangeEvent.projectAfter(
-                            dataChangeEvent, evolvedSchemaWriter.generate(coercedRow));
+                            dataChangeEvent,
+                            coercionPlan.coerce(timezone, dataChangeEvent.after()));
         }
 
         return Optional.of(dataChangeEvent);
     }
 
+    private SchemaCoercionPlan getCoercionPlan(Schema upstreamSchema, Schema evolvedSchema) {
+        try {
+            return coercionPlanCache
+                    .get(
+                            upstreamSchema,
+                            () ->
+                                    CacheBuilder.newBuilder()
+                                            .weakKeys()
+                                            .concurrencyLevel(1)
+                                            .<Schema, SchemaCoercionPlan>build())
+                    .get(
+                            evolvedSchema,
+                            () -> SchemaCoercionPlan.of(upstreamSchema, evolvedSchema));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Failed to create coercion plan from schema %s to %s",
+                            upstreamSchema, evolvedSchema),
+                    e);
+        }
+    }
+
     /** Deduce merged CreateTableEvent. */
     public static List<CreateTableEvent> deduceMergedCreateTableEvent(
             TableIdRouter router, List<CreateTableEvent> createTableEvents) {
@@ -21,29 +21,28 @@ import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.route.RouteRule;
 import org.apache.flink.cdc.common.schema.Selectors;
+import org.apache.flink.cdc.common.schema.SelectorsIndex;
 
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
-import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
-
-import javax.annotation.Nonnull;
-
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 /**
  * Calculates how upstream data change events should be dispatched to downstream tables. Returns one
  * or many destination Table IDs based on provided routing rules.
+ *
+ * <p>All routing rules are compiled into a {@link SelectorsIndex}, and routing results are cached
+ * until being invalidated by {@link #invalidate(TableId)}.
  */
 public class TableIdRouter {
 
     private final List<Tuple3<Selectors, String, String>> routes;
-    private final LoadingCache<TableId, List<TableId>> routingCache;
-    private static final Duration CACHE_EXPIRE_DURATION = Duration.ofDays(1);
+    private final SelectorsIndex<Tuple3<Selectors, String, String>> routeIndex;
+    private final Map<TableId, List<TableId>> routingCache;
 
     public TableIdRouter(List<RouteRule> routingRules) {
         this.routes = new ArrayList<>();
@@ -61,26 +60,22 @@ public class TableIdRouter {
                         e);
             }
         }
-        this.routingCache =
-                CacheBuilder.newBuilder()
-                        .expireAfterAccess(CACHE_EXPIRE_DURATION)
-                        .build(
-                                new CacheLoader<TableId, List<TableId>>() {
-                                    @Override
-                                    public @Nonnull List<TableId> load(@Nonnull TableId key) {
-                                        return calculateRoute(key);
-                                    }
-                                });
+        this.routeIndex = new SelectorsIndex<>(routes, route -> route.f0);
+        this.routingCache = new ConcurrentHashMap<>();
     }
 
     public List<TableId> route(TableId sourceTableId) {
-        return routingCache.getUnchecked(sourceTableId);
+        return routingCache.computeIfAbsent(sourceTableId, this::calculateRoute);
+    }
+
+    /** Drops the cached routing result of given source table, e.g. after it has been dropped. */
+    public void invalidate(TableId sourceTableId) {
+        routingCache.remove(sourceTableId);
     }
 
     private List<TableId> calculateRoute(TableId sourceTableId) {
         List<TableId> routedTableIds =
-                routes.stream()
-                        .filter(route -> route.f0.isMatch(sourceTableId))
+                routeIndex.match(sourceTableId).stream()
                         .map(route -> resolveReplacement(sourceTableId, route))
                         .collect(Collectors.toList());
         if (routedTableIds.isEmpty()) {
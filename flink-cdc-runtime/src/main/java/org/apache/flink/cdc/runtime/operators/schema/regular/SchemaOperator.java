@@ -17,9 +17,11 @@
 
 package org.apache.flink.cdc.runtime.operators.schema.regular;
 
+import org.apache.flink.api.common.operators.MailboxExecutor;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.DropTableEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.FlushEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
@@ -49,11 +51,16 @@ import org.apache.flink.util.SerializedValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -63,6 +70,11 @@ import static org.apache.flink.cdc.common.pipeline.PipelineOptions.DEFAULT_SCHEM
  * The operator will evolve schemas in {@link
  * org.apache.flink.cdc.runtime.operators.schema.regular.SchemaCoordinator} for incoming {@link
  * SchemaChangeEvent}s and block the stream for tables before their schema changes finish.
+ *
+ * <p>By default, the whole stream is blocked until the coordinator responds. If asynchronous schema
+ * evolution is enabled, only data change events of tables routed to the evolving sink tables are
+ * held back in a bounded buffer, and they are released once the schema change has been applied.
+ * Events of other tables keep flowing in the meantime.
  */
 @Internal
 public class SchemaOperator extends AbstractStreamOperator<Event>
@@ -76,6 +88,8 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     private final Duration rpcTimeout;
     private final SchemaChangeBehavior schemaChangeBehavior;
     private final List<RouteRule> routingRules;
+    private final boolean asyncSchemaEvolution;
+    private final int maxBufferedRecords;
 
     // Transient fields that are set during open()
     private transient int subTaskId;
@@ -86,6 +100,13 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     private transient TableIdRouter router;
     private transient SchemaDerivator derivator;
 
+    // Transient fields for asynchronous schema evolution
+    private transient MailboxExecutor mailboxExecutor;
+    private transient @Nullable SchemaChangeRequest pendingRequest;
+    private transient @Nullable CompletableFuture<CoordinationResponse> pendingResponse;
+    private transient Set<TableId> pendingSinkTables;
+    private transient List<DataChangeEvent> bufferedDataChangeEvents;
+
     @VisibleForTesting
     public SchemaOperator(List<RouteRule> routingRules) {
         this(routingRules, DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT);
@@ -109,11 +130,23 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
             Duration rpcTimeOut,
             SchemaChangeBehavior schemaChangeBehavior,
             String timezone) {
+        this(routingRules, rpcTimeOut, schemaChangeBehavior, timezone, false, 0);
+    }
+
+    public SchemaOperator(
+            List<RouteRule> routingRules,
+            Duration rpcTimeOut,
+            SchemaChangeBehavior schemaChangeBehavior,
+            String timezone,
+            boolean asyncSchemaEvolution,
+            int maxBufferedRecords) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.rpcTimeout = rpcTimeOut;
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.timezone = timezone;
         this.routingRules = routingRules;
+        this.asyncSchemaEvolution = asyncSchemaEvolution;
+        this.maxBufferedRecords = maxBufferedRecords;
     }
 
     @Override
@@ -136,6 +169,27 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         this.evolvedSchemaMap = new HashMap<>();
         this.router = new TableIdRouter(routingRules);
         this.derivator = new SchemaDerivator();
+        if (asyncSchemaEvolution) {
+            this.mailboxExecutor =
+                    getContainingTask()
+                            .getMailboxExecutorFactory()
+                            .createExecutor(getOperatorConfig().getChainIndex());
+            this.pendingSinkTables = new HashSet<>();
+            this.bufferedDataChangeEvents = new ArrayList<>();
+        }
+    }
+
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        super.prepareSnapshotPreBarrier(checkpointId);
+        // Held back records are not part of any state, release them before checkpointing
+        finishPendingSchemaChange();
+    }
+
+    @Override
+    public void finish() throws Exception {
+        finishPendingSchemaChange();
+        super.finish();
     }
 
     /**
@@ -145,9 +199,16 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     public void processElement(StreamRecord<Event> streamRecord) throws Exception {
         Event event = streamRecord.getValue();
         if (event instanceof SchemaChangeEvent) {
+            // Schema change requests from one subTask must be handled one by one
+            finishPendingSchemaChange();
             handleSchemaChangeEvent((SchemaChangeEvent) event);
         } else if (event instanceof DataChangeEvent) {
-            handleDataChangeEvent((DataChangeEvent) event);
+            DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+            if (isBlockedByPendingSchemaChange(dataChangeEvent.tableId())) {
+                bufferDataChangeEvent(dataChangeEvent);
+            } else {
+                handleDataChangeEvent(dataChangeEvent);
+            }
         } else {
             throw new RuntimeException("Unknown event type in Stream record: " + event);
         }
@@ -169,9 +230,20 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
 
         LOG.info("{}> Going to request schema change...", subTaskId);
 
+        if (asyncSchemaEvolution) {
+            // Then, request schema change without waiting, records of evolving sink tables will be
+            // held back until the response arrives.
+            requestSchemaChangeAsync(tableId, originalEvent, sinkTables);
+            return;
+        }
+
         // Then, queue to request schema change to SchemaCoordinator.
         SchemaChangeResponse response = requestSchemaChange(tableId, originalEvent);
+        applySchemaChangeResponse(originalEvent, response);
+    }
 
+    private void applySchemaChangeResponse(
+            SchemaChangeEvent originalEvent, SchemaChangeResponse response) {
         LOG.info(
                 "{}> Finished schema change events: {}",
                 subTaskId,
@@ -191,6 +263,98 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         }
 
         schemaOperatorMetrics.increaseFinishedSchemaChangeEvents(finishedSchemaChangeEvents.size());
+
+        // Routing results of dropped tables are no longer needed
+        if (originalEvent instanceof DropTableEvent) {
+            router.invalidate(originalEvent.tableId());
+        }
+    }
+
+    private void requestSchemaChangeAsync(
+            TableId tableId, SchemaChangeEvent schemaChangeEvent, List<TableId> sinkTables) {
+        SchemaChangeRequest request =
+                new SchemaChangeRequest(tableId, schemaChangeEvent, subTaskId);
+        CompletableFuture<CoordinationResponse> responseFuture;
+        try {
+            responseFuture =
+                    toCoordinator
+                            .sendRequestToCoordinator(
+                                    getOperatorID(), new SerializedValue<>(request))
+                            .orTimeout(rpcTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Failed to send request to coordinator: " + request.toString(), e);
+        }
+        pendingRequest = request;
+        pendingResponse = responseFuture;
+        pendingSinkTables.addAll(sinkTables);
+        responseFuture.whenComplete(
+                (response, throwable) ->
+                        mailboxExecutor.execute(
+                                () -> {
+                                    // Might have been finished in advance by task thread
+                                    if (pendingResponse == responseFuture) {
+                                        finishPendingSchemaChange();
+                                    }
+                                },
+                                "Finish schema change request of table %s",
+                                tableId));
+    }
+
+    /**
+     * Waits for the pending schema change request if there's any, and then releases all held back
+     * records.
+     */
+    private void finishPendingSchemaChange() throws Exception {
+        if (pendingResponse == null) {
+            return;
+        }
+        SchemaChangeRequest request = pendingRequest;
+        SchemaChangeResponse response;
+        try {
+            response = CoordinationResponseUtils.unwrap(pendingResponse.get());
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Failed to send request to coordinator: " + request.toString(), e);
+        }
+        pendingRequest = null;
+        pendingResponse = null;
+        pendingSinkTables.clear();
+        applySchemaChangeResponse(request.getSchemaChangeEvent(), response);
+
+        LOG.info(
+                "{}> Releasing {} held back data change events.",
+                subTaskId,
+                bufferedDataChangeEvents.size());
+        List<DataChangeEvent> releasedEvents = bufferedDataChangeEvents;
+        bufferedDataChangeEvents = new ArrayList<>();
+        for (DataChangeEvent dataChangeEvent : releasedEvents) {
+            handleDataChangeEvent(dataChangeEvent);
+        }
+    }
+
+    private boolean isBlockedByPendingSchemaChange(TableId tableId) {
+        if (pendingResponse == null) {
+            return false;
+        }
+        for (TableId sinkTableId : router.route(tableId)) {
+            if (pendingSinkTables.contains(sinkTableId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void bufferDataChangeEvent(DataChangeEvent dataChangeEvent) throws Exception {
+        bufferedDataChangeEvents.add(dataChangeEvent);
+        if (bufferedDataChangeEvents.size() >= maxBufferedRecords) {
+            // Buffer is full, fall back to blocking the whole stream
+            LOG.info(
+                    "{}> Held back data change events exceeded the limit {}, waiting for pending schema change...",
+                    subTaskId,
+                    maxBufferedRecords);
+            finishPendingSchemaChange();
+        }
     }
 
     private void handleDataChangeEvent(DataChangeEvent dataChangeEvent) {
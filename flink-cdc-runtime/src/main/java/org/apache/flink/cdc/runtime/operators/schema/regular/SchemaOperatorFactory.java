@@ -49,7 +49,32 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
             Duration rpcTimeout,
             SchemaChangeBehavior schemaChangeBehavior,
             String timezone) {
-        super(new SchemaOperator(routingRules, rpcTimeout, schemaChangeBehavior, timezone));
+        this(
+                metadataApplier,
+                routingRules,
+                rpcTimeout,
+                schemaChangeBehavior,
+                timezone,
+                false,
+                Integer.MAX_VALUE);
+    }
+
+    public SchemaOperatorFactory(
+            MetadataApplier metadataApplier,
+            List<RouteRule> routingRules,
+            Duration rpcTimeout,
+            SchemaChangeBehavior schemaChangeBehavior,
+            String timezone,
+            boolean asyncSchemaEvolution,
+            int maxBufferedRecords) {
+        super(
+                new SchemaOperator(
+                        routingRules,
+                        rpcTimeout,
+                        schemaChangeBehavior,
+                        timezone,
+                        asyncSchemaEvolution,
+                        maxBufferedRecords));
         this.metadataApplier = metadataApplier;
         this.routingRules = routingRules;
         this.schemaChangeBehavior = schemaChangeBehavior;
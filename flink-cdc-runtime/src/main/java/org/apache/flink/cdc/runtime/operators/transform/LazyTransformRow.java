@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
+
+import java.util.List;
+
+/**
+ * A lazily materialized view of an upstream {@link RecordData} during Post-transform phase.
+ *
+ * <p>Pre-transformed fields are read from the underlying record and converted to their original
+ * form only when an expression references them, and projection columns are evaluated only when
+ * they're required by the filter or by the final projection. This allows rows that fail the filter
+ * predicate to be dropped without paying for full projection.
+ */
+class LazyTransformRow {
+
+    private final RecordData recordData;
+    private final RecordData.FieldGetter[] preFieldGetters;
+    private final List<DataType> preDataTypes;
+    private final TransformProjectionProcessor projectionProcessor;
+
+    private final Object[] preRow;
+    private final boolean[] preMaterialized;
+    private final Object[] postRow;
+    private final boolean[] postEvaluated;
+
+    LazyTransformRow(
+            RecordData recordData,
+            PostTransformChangeInfo info,
+            TransformProjectionProcessor projectionProcessor) {
+        this.recordData = recordData;
+        this.preFieldGetters = info.getPreTransformedFieldGetters();
+        this.preDataTypes = info.getPreTransformedSchema().getColumnDataTypes();
+        this.projectionProcessor = projectionProcessor;
+
+        this.preRow = new Object[preFieldGetters.length];
+        this.preMaterialized = new boolean[preFieldGetters.length];
+        this.postRow = new Object[projectionProcessor.getColumnCount()];
+        this.postEvaluated = new boolean[postRow.length];
+    }
+
+    /** Tests the filter predicate, evaluating referenced columns only. */
+    boolean test(TransformFilterProcessor filterProcessor, TransformContext context) {
+        if (filterProcessor.isNoOp()) {
+            return true;
+        }
+        for (int index : filterProcessor.getReferencedPostTransformedColumnIndexes()) {
+            evaluatePostColumn(index, context);
+        }
+        materializePreColumns(filterProcessor.getReferencedPreTransformedColumnIndexes());
+        return filterProcessor.test(preRow, postRow, context);
+    }
+
+    /** Evaluates all remaining projection columns and returns the post-transformed row. */
+    Object[] project(TransformContext context) {
+        for (int i = 0; i < postRow.length; i++) {
+            evaluatePostColumn(i, context);
+        }
+        return postRow;
+    }
+
+    private void evaluatePostColumn(int index, TransformContext context) {
+        if (postEvaluated[index]) {
+            return;
+        }
+        materializePreColumns(projectionProcessor.getReferencedPreTransformedColumnIndexes(index));
+        postRow[index] = projectionProcessor.evaluate(index, preRow, context);
+        postEvaluated[index] = true;
+    }
+
+    private void materializePreColumns(int[] indexes) {
+        for (int index : indexes) {
+            if (!preMaterialized[index]) {
+                preRow[index] =
+                        DataTypeConverter.convertToOriginal(
+                                preFieldGetters[index].getFieldOrNull(recordData),
+                                preDataTypes.get(index));
+                preMaterialized[index] = true;
+            }
+        }
+    }
+}
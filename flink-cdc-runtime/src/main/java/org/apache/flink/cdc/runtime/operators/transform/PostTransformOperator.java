@@ -17,7 +17,6 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.data.RecordData;
@@ -30,6 +29,7 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.schema.Selectors;
+import org.apache.flink.cdc.common.schema.SelectorsIndex;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
@@ -45,8 +45,6 @@ import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.shaded.guava31.com.google.common.collect.HashBasedTable;
 import org.apache.flink.shaded.guava31.com.google.common.collect.Table;
 
-import javax.annotation.Nullable;
-
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -78,6 +76,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     private final List<Tuple3<String, String, Map<String, String>>> udfFunctions;
 
     private transient List<PostTransformer> transformers;
+    private transient SelectorsIndex<PostTransformer> transformerIndex;
     private transient List<UserDefinedFunctionDescriptor> udfDescriptors;
     private transient List<Object> udfFunctionInstances;
 
@@ -87,6 +86,9 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
             projectionProcessors;
     private transient Table<TableId, PostTransformer, TransformFilterProcessor> filterProcessors;
 
+    // Querying effective post-transformers with an upstream TableId.
+    private transient Map<TableId, List<PostTransformer>> effectiveTransformers;
+
     public static PostTransformOperatorBuilder newBuilder() {
         return new PostTransformOperatorBuilder();
     }
@@ -110,11 +112,13 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         // Initialize multi-key lookup tables
         this.projectionProcessors = HashBasedTable.create();
         this.filterProcessors = HashBasedTable.create();
+        this.effectiveTransformers = new HashMap<>();
 
         // Be sure to initialize UDF related fields before creating transformers
         initializeUdf();
 
         this.transformers = createTransformers();
+        this.transformerIndex = new SelectorsIndex<>(transformers, PostTransformer::getSelectors);
     }
 
     @Override
@@ -290,35 +294,41 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                     getProjectionProcessor(tableId, transformer);
             TransformFilterProcessor filterProcessor = getFilterProcessor(tableId, transformer);
 
-            RecordData beforeRow = null;
-            RecordData afterRow = null;
+            LazyTransformRow beforeRow =
+                    event.before() != null
+                            ? new LazyTransformRow(event.before(), info, projectionProcessor)
+                            : null;
+            LazyTransformRow afterRow =
+                    event.after() != null
+                            ? new LazyTransformRow(event.after(), info, projectionProcessor)
+                            : null;
+
+            // Filter predicate is decided by the after row (or the before row if absent), and it
+            // is tested before projecting anything, so filtered rows won't pay for evaluating
+            // unreferenced columns and encoding binary records.
             boolean filterPassed = true;
-
-            if (event.before() != null) {
-                context.opType = beforeOp;
-                Tuple2<BinaryRecordData, Boolean> result =
-                        transformRecord(
-                                event.before(),
-                                info,
-                                projectionProcessor,
-                                filterProcessor,
-                                context);
-                beforeRow = result.f0;
-                filterPassed = result.f1;
-            }
-
-            if (event.after() != null) {
+            if (afterRow != null) {
                 context.opType = afterOp;
-                Tuple2<BinaryRecordData, Boolean> result =
-                        transformRecord(
-                                event.after(), info, projectionProcessor, filterProcessor, context);
-                afterRow = result.f0;
-                filterPassed = result.f1;
+                filterPassed = afterRow.test(filterProcessor, context);
+            } else if (beforeRow != null) {
+                context.opType = beforeOp;
+                filterPassed = beforeRow.test(filterProcessor, context);
             }
 
             if (filterPassed) {
+                RecordData projectedBeforeRow = null;
+                RecordData projectedAfterRow = null;
+                if (beforeRow != null) {
+                    context.opType = beforeOp;
+                    projectedBeforeRow = projectRecord(beforeRow, info, context);
+                }
+                if (afterRow != null) {
+                    context.opType = afterOp;
+                    projectedAfterRow = projectRecord(afterRow, info, context);
+                }
                 DataChangeEvent finalEvent =
-                        DataChangeEvent.projectRecords(event, beforeRow, afterRow);
+                        DataChangeEvent.projectRecords(
+                                event, projectedBeforeRow, projectedAfterRow);
                 if (transformer.getPostTransformConverter().isPresent()) {
                     return transformer
                             .getPostTransformConverter()
@@ -354,41 +364,19 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                         .collect(Collectors.toList()));
     }
 
-    /** Projects given {@link RecordData} based on given processor. */
-    private Tuple2<BinaryRecordData, Boolean> transformRecord(
-            RecordData recordData,
-            PostTransformChangeInfo info,
-            @Nullable TransformProjectionProcessor projectionProcessor,
-            @Nullable TransformFilterProcessor filterProcessor,
-            TransformContext context) {
-        RecordData.FieldGetter[] preFieldGetters = info.getPreTransformedFieldGetters();
-        Schema preSchema = info.getPreTransformedSchema();
+    /** Projects given {@link LazyTransformRow} and encodes it into a binary record. */
+    private BinaryRecordData projectRecord(
+            LazyTransformRow row, PostTransformChangeInfo info, TransformContext context) {
         Schema postSchema = info.getPostTransformedSchema();
         BinaryRecordDataGenerator postGenerator = info.getPostTransformedRecordDataGenerator();
 
-        Object[] preRow = new Object[preFieldGetters.length];
-        for (int i = 0; i < preFieldGetters.length; i++) {
-            preRow[i] =
-                    DataTypeConverter.convertToOriginal(
-                            preFieldGetters[i].getFieldOrNull(recordData),
-                            preSchema.getColumnDataTypes().get(i));
-        }
-
-        Object[] postRow =
-                projectionProcessor != null ? projectionProcessor.project(preRow, context) : preRow;
-
-        // Filter predicate test might refer to both PreTransformed only columns (that have been
-        // eliminated from transform result) and PostTransformed only columns (that do not exist
-        // until expression evaluation finishes). So we need pass both rows to FilterProcessor.
-        boolean filterPassed =
-                filterProcessor == null || filterProcessor.test(preRow, postRow, context);
-
+        Object[] postRow = row.project(context);
         Object[] postRowBinary = new Object[postSchema.getColumnCount()];
         for (int i = 0; i < postRow.length; i++) {
             postRowBinary[i] =
                     DataTypeConverter.convert(postRow[i], postSchema.getColumnDataTypes().get(i));
         }
-        return Tuple2.of(postGenerator.generate(postRowBinary), filterPassed);
+        return postGenerator.generate(postRowBinary);
     }
 
     // -------------------
@@ -397,20 +385,22 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     /** Obtain effective transformers based on given {@link TableId}. */
     private List<PostTransformer> getEffectiveTransformers(TableId tableId) {
-        List<PostTransformer> effectiveTransformers = new ArrayList<>();
-        for (PostTransformer transformer : transformers) {
-            if (transformer.getSelectors().isMatch(tableId)) {
-                effectiveTransformers.add(transformer);
-
-                // Transform module works with "First-match" rule. If we have met an uncondition
-                // transform rule (without any filtering expression), then any following transform
-                // rule will not be effective.
-                if (!transformer.getFilter().isPresent()) {
-                    break;
-                }
+        return effectiveTransformers.computeIfAbsent(tableId, this::calculateEffectiveTransformers);
+    }
+
+    private List<PostTransformer> calculateEffectiveTransformers(TableId tableId) {
+        List<PostTransformer> matchedTransformers = new ArrayList<>();
+        for (PostTransformer transformer : transformerIndex.match(tableId)) {
+            matchedTransformers.add(transformer);
+
+            // Transform module works with "First-match" rule. If we have met an uncondition
+            // transform rule (without any filtering expression), then any following transform
+            // rule will not be effective.
+            if (!transformer.getFilter().isPresent()) {
+                break;
             }
         }
-        return effectiveTransformers;
+        return matchedTransformers;
     }
 
     /**
@@ -469,6 +459,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
      * has been changed!
      */
     private void invalidateCache(TableId tableId) {
+        effectiveTransformers.remove(tableId);
         projectionProcessors.row(tableId).clear();
         filterProcessors.row(tableId).clear();
     }
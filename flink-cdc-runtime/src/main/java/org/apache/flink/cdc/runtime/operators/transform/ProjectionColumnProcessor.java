@@ -46,6 +46,8 @@ public class ProjectionColumnProcessor {
     private final Map<String, SupportedMetadataColumn> supportedMetadataColumns;
     private final List<Object> udfFunctionInstances;
     private final ExpressionEvaluator expressionEvaluator;
+    private final List<String> originalColumnNames;
+    private final int[] referencedPreTransformedColumnIndexes;
 
     public ProjectionColumnProcessor(
             PostTransformChangeInfo tableInfo,
@@ -63,6 +65,21 @@ public class ProjectionColumnProcessor {
                 TransformExpressionCompiler.compileExpression(
                         transformExpressionKey, udfDescriptors);
         this.udfFunctionInstances = udfFunctionInstances;
+        this.originalColumnNames =
+                new ArrayList<>(new LinkedHashSet<>(projectionColumn.getOriginalColumnNames()));
+
+        List<Integer> preIndexes = new ArrayList<>();
+        for (String columnName : originalColumnNames) {
+            if (supportedMetadataColumns.containsKey(columnName)) {
+                continue;
+            }
+            Integer preIndex = tableInfo.getPreTransformedSchemaFieldIndex(columnName);
+            if (preIndex != null) {
+                preIndexes.add(preIndex);
+            }
+        }
+        this.referencedPreTransformedColumnIndexes =
+                preIndexes.stream().mapToInt(Integer::intValue).toArray();
     }
 
     public static ProjectionColumnProcessor of(
@@ -81,6 +98,14 @@ public class ProjectionColumnProcessor {
                 supportedMetadataColumns);
     }
 
+    /**
+     * Indexes of pre-transformed columns that must be materialized before evaluating this
+     * projection column.
+     */
+    public int[] getReferencedPreTransformedColumnIndexes() {
+        return referencedPreTransformedColumnIndexes;
+    }
+
     public Object evaluate(Object[] rowData, TransformContext context) {
         try {
             Object[] params = generateParams(rowData, context);
@@ -102,8 +127,6 @@ public class ProjectionColumnProcessor {
         List<Object> params = new ArrayList<>();
 
         // 1 - Add referenced columns
-        LinkedHashSet<String> originalColumnNames =
-                new LinkedHashSet<>(projectionColumn.getOriginalColumnNames());
         for (String columnName : originalColumnNames) {
             params.add(
                     lookupObjectByName(
@@ -27,12 +27,14 @@ import org.codehaus.janino.ExpressionEvaluator;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.apache.flink.cdc.runtime.operators.transform.TransformContext.lookupObjectByName;
 import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
@@ -40,6 +42,9 @@ import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METAD
 /** The processor of the transform filter. It processes the data change event of matched table. */
 public class TransformFilterProcessor {
 
+    private static final Set<String> METADATA_COLUMN_NAMES =
+            METADATA_COLUMNS.stream().map(col -> col.f0).collect(Collectors.toSet());
+
     private final boolean isNoOp;
     private final PostTransformChangeInfo tableInfo;
     private final TransformFilter transformFilter;
@@ -50,6 +55,11 @@ public class TransformFilterProcessor {
     private final TransformExpressionKey transformExpressionKey;
     private final ExpressionEvaluator expressionEvaluator;
 
+    // Referenced column names are resolved once here, instead of for every single record.
+    private final List<String> argumentNames;
+    private final int[] referencedPreTransformedColumnIndexes;
+    private final int[] referencedPostTransformedColumnIndexes;
+
     protected TransformFilterProcessor(
             boolean isNoOp,
             PostTransformChangeInfo tableInfo,
@@ -68,11 +78,38 @@ public class TransformFilterProcessor {
         if (isNoOp) {
             this.transformExpressionKey = null;
             this.expressionEvaluator = null;
+            this.argumentNames = Collections.emptyList();
+            this.referencedPreTransformedColumnIndexes = new int[0];
+            this.referencedPostTransformedColumnIndexes = new int[0];
         } else {
             this.transformExpressionKey = generateTransformExpressionKey();
             this.expressionEvaluator =
                     TransformExpressionCompiler.compileExpression(
                             transformExpressionKey, udfDescriptors);
+            this.argumentNames = generateArguments(false).f0;
+
+            List<Integer> preIndexes = new ArrayList<>();
+            List<Integer> postIndexes = new ArrayList<>();
+            for (String argumentName : argumentNames) {
+                // Keep in sync with the lookup order of TransformContext#lookupObjectByName
+                if (METADATA_COLUMN_NAMES.contains(argumentName)
+                        || supportedMetadataColumns.containsKey(argumentName)) {
+                    continue;
+                }
+                Integer postIndex = tableInfo.getPostTransformedSchemaFieldIndex(argumentName);
+                if (postIndex != null) {
+                    postIndexes.add(postIndex);
+                    continue;
+                }
+                Integer preIndex = tableInfo.getPreTransformedSchemaFieldIndex(argumentName);
+                if (preIndex != null) {
+                    preIndexes.add(preIndex);
+                }
+            }
+            this.referencedPreTransformedColumnIndexes =
+                    preIndexes.stream().mapToInt(Integer::intValue).toArray();
+            this.referencedPostTransformedColumnIndexes =
+                    postIndexes.stream().mapToInt(Integer::intValue).toArray();
         }
     }
 
@@ -102,6 +139,25 @@ public class TransformFilterProcessor {
                 supportedMetadataColumnsMap);
     }
 
+    public boolean isNoOp() {
+        return isNoOp;
+    }
+
+    /**
+     * Indexes of pre-transformed columns that must be materialized before evaluating this filter.
+     */
+    public int[] getReferencedPreTransformedColumnIndexes() {
+        return referencedPreTransformedColumnIndexes;
+    }
+
+    /**
+     * Indexes of post-transformed columns that must be evaluated before evaluating this filter.
+     * Filter expressions might refer to calculated columns that do not exist until projection.
+     */
+    public int[] getReferencedPostTransformedColumnIndexes() {
+        return referencedPostTransformedColumnIndexes;
+    }
+
     public boolean test(Object[] preRow, Object[] postRow, TransformContext context) {
         if (isNoOp) {
             return true;
@@ -176,8 +232,7 @@ public class TransformFilterProcessor {
         List<Object> params = new ArrayList<>();
 
         // 1 - Add referenced columns
-        Tuple2<List<String>, List<Class<?>>> args = generateArguments(false);
-        for (String columnName : args.f0) {
+        for (String columnName : argumentNames) {
             params.add(
                     lookupObjectByName(
                             columnName,
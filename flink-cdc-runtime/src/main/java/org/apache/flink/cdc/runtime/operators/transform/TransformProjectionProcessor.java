@@ -83,6 +83,19 @@ public class TransformProjectionProcessor {
                 .toArray();
     }
 
+    public int getColumnCount() {
+        return columnProcessors.size();
+    }
+
+    /** Evaluates a single projection column, leaving other columns untouched. */
+    public Object evaluate(int index, Object[] rowData, TransformContext context) {
+        return columnProcessors.get(index).evaluate(rowData, context);
+    }
+
+    public int[] getReferencedPreTransformedColumnIndexes(int index) {
+        return columnProcessors.get(index).getReferencedPreTransformedColumnIndexes();
+    }
+
     private List<ProjectionColumnProcessor> createProjectionColumnProcessors() {
         Preconditions.checkNotNull(
                 changeInfo,
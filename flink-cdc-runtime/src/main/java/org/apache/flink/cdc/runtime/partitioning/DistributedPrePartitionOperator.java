@@ -27,7 +27,6 @@ import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.runtime.operators.schema.regular.SchemaOperator;
-import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
 import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.ChainingStrategy;
@@ -108,12 +107,10 @@ public class DistributedPrePartitionOperator extends AbstractStreamOperator<Part
     }
 
     private void broadcastEvent(Event toBroadcast) {
+        // Same instance is shared by all subTasks, see RegularPrePartitionOperator#broadcastEvent
         for (int i = 0; i < downstreamParallelism; i++) {
-            // Deep-copying each event is required since downstream subTasks might run in the same
-            // JVM
-            Event copiedEvent = EventSerializer.INSTANCE.copy(toBroadcast);
             output.collect(
-                    new StreamRecord<>(PartitioningEvent.ofDistributed(copiedEvent, subTaskId, i)));
+                    new StreamRecord<>(PartitioningEvent.ofDistributed(toBroadcast, subTaskId, i)));
         }
     }
 
@@ -28,7 +28,6 @@ import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.runtime.operators.schema.regular.SchemaOperator;
 import org.apache.flink.cdc.runtime.operators.sink.SchemaEvolutionClient;
-import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
 import org.apache.flink.runtime.state.StateSnapshotContext;
@@ -37,12 +36,9 @@ import org.apache.flink.streaming.api.operators.ChainingStrategy;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
-import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
-import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
-
 import java.io.Serializable;
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -54,14 +50,15 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         implements OneInputStreamOperator<Event, PartitioningEvent>, Serializable {
 
     private static final long serialVersionUID = 1L;
-    private static final Duration CACHE_EXPIRE_DURATION = Duration.ofDays(1);
 
     private final OperatorID schemaOperatorId;
     private final int downstreamParallelism;
     private final HashFunctionProvider<DataChangeEvent> hashFunctionProvider;
 
     private transient SchemaEvolutionClient schemaEvolutionClient;
-    private transient LoadingCache<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
+    // Hash functions are only replaced on schema changes, so a plain map is enough and avoids
+    // per-record bookkeeping of an access-expiring cache.
+    private transient Map<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
 
     public RegularPrePartitionOperator(
             OperatorID schemaOperatorId,
@@ -79,7 +76,7 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         TaskOperatorEventGateway toCoordinator =
                 getContainingTask().getEnvironment().getOperatorCoordinatorEventGateway();
         schemaEvolutionClient = new SchemaEvolutionClient(toCoordinator, schemaOperatorId);
-        cachedHashFunctions = createCache();
+        cachedHashFunctions = new HashMap<>();
     }
 
     @Override
@@ -100,23 +97,26 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         }
     }
 
-    private void partitionBy(DataChangeEvent dataChangeEvent) throws Exception {
+    private void partitionBy(DataChangeEvent dataChangeEvent) {
+        TableId tableId = dataChangeEvent.tableId();
+        HashFunction<DataChangeEvent> hashFunction = cachedHashFunctions.get(tableId);
+        if (hashFunction == null) {
+            hashFunction = recreateHashFunction(tableId);
+            cachedHashFunctions.put(tableId, hashFunction);
+        }
         output.collect(
                 new StreamRecord<>(
                         PartitioningEvent.ofRegular(
                                 dataChangeEvent,
-                                cachedHashFunctions
-                                                .get(dataChangeEvent.tableId())
-                                                .hashcode(dataChangeEvent)
-                                        % downstreamParallelism)));
+                                hashFunction.hashcode(dataChangeEvent) % downstreamParallelism)));
     }
 
     private void broadcastEvent(Event toBroadcast) {
+        // Schema change and flush events are never mutated once emitted, and records are
+        // serialized as soon as they are collected into the partitioned output. Hence the same
+        // instance could be shared by all downstream subTasks without being deep-copied.
         for (int i = 0; i < downstreamParallelism; i++) {
-            // Deep-copying each event is required since downstream subTasks might run in the same
-            // JVM
-            Event copiedEvent = EventSerializer.INSTANCE.copy(toBroadcast);
-            output.collect(new StreamRecord<>(PartitioningEvent.ofRegular(copiedEvent, i)));
+            output.collect(new StreamRecord<>(PartitioningEvent.ofRegular(toBroadcast, i)));
         }
     }
 
@@ -140,18 +140,6 @@ public class RegularPrePartitionOperator extends AbstractStreamOperator<Partitio
         return hashFunctionProvider.getHashFunction(tableId, loadLatestSchemaFromRegistry(tableId));
     }
 
-    private LoadingCache<TableId, HashFunction<DataChangeEvent>> createCache() {
-        return CacheBuilder.newBuilder()
-                .expireAfterAccess(CACHE_EXPIRE_DURATION)
-                .build(
-                        new CacheLoader<TableId, HashFunction<DataChangeEvent>>() {
-                            @Override
-                            public HashFunction<DataChangeEvent> load(TableId key) {
-                                return recreateHashFunction(key);
-                            }
-                        });
-    }
-
     @Override
     public void snapshotState(StateSnapshotContext context) throws Exception {
         // Needless to do anything, since AbstractStreamOperator#snapshotState and #processElement
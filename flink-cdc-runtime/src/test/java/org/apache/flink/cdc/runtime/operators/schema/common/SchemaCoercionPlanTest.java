@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.schema.common;
+
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link SchemaCoercionPlan}. */
+class SchemaCoercionPlanTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("foo", "bar", "baz");
+
+    private static final Schema UPSTREAM_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final Schema EVOLVED_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.BIGINT())
+                    .physicalColumn("age", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testIdentityPlan() {
+        Schema copiedSchema = UPSTREAM_SCHEMA.copy(UPSTREAM_SCHEMA.getColumns());
+        assertThat(SchemaCoercionPlan.of(UPSTREAM_SCHEMA, copiedSchema).isIdentity()).isTrue();
+        assertThat(SchemaCoercionPlan.of(UPSTREAM_SCHEMA, EVOLVED_SCHEMA).isIdentity()).isFalse();
+    }
+
+    @Test
+    void testCoerceWidenedAndAddedColumns() {
+        BinaryRecordDataGenerator upstreamGenerator =
+                new BinaryRecordDataGenerator((RowType) UPSTREAM_SCHEMA.toRowDataType());
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator((RowType) EVOLVED_SCHEMA.toRowDataType());
+
+        SchemaCoercionPlan plan = SchemaCoercionPlan.of(UPSTREAM_SCHEMA, EVOLVED_SCHEMA);
+        assertThat(
+                        plan.coerce(
+                                "UTC",
+                                upstreamGenerator.generate(
+                                        new Object[] {17, BinaryStringData.fromString("Alice")})))
+                .isEqualTo(
+                        evolvedGenerator.generate(
+                                new Object[] {17L, null, BinaryStringData.fromString("Alice")}));
+    }
+
+    @Test
+    void testCoerceDataRecordWithSchemaDerivator() {
+        BinaryRecordDataGenerator upstreamGenerator =
+                new BinaryRecordDataGenerator((RowType) UPSTREAM_SCHEMA.toRowDataType());
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator((RowType) EVOLVED_SCHEMA.toRowDataType());
+        SchemaDerivator derivator = new SchemaDerivator();
+
+        DataChangeEvent updateEvent =
+                DataChangeEvent.updateEvent(
+                        TABLE_ID,
+                        upstreamGenerator.generate(
+                                new Object[] {1, BinaryStringData.fromString("Alice")}),
+                        upstreamGenerator.generate(
+                                new Object[] {1, BinaryStringData.fromString("Bob")}));
+
+        assertThat(derivator.coerceDataRecord("UTC", updateEvent, UPSTREAM_SCHEMA, UPSTREAM_SCHEMA))
+                .containsSame(updateEvent);
+
+        // Evaluate twice to make sure cached plans are correctly reused
+        for (int i = 0; i < 2; i++) {
+            assertThat(
+                            derivator.coerceDataRecord(
+                                    "UTC", updateEvent, UPSTREAM_SCHEMA, EVOLVED_SCHEMA))
+                    .contains(
+                            DataChangeEvent.updateEvent(
+                                    TABLE_ID,
+                                    evolvedGenerator.generate(
+                                            new Object[] {
+                                                1L, null, BinaryStringData.fromString("Alice")
+                                            }),
+                                    evolvedGenerator.generate(
+                                            new Object[] {
+                                                1L, null, BinaryStringData.fromString("Bob")
+                                            })));
+        }
+    }
+}
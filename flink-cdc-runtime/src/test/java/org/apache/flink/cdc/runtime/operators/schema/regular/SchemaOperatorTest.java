@@ -22,6 +22,7 @@ import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
@@ -62,6 +63,14 @@ class SchemaOperatorTest {
                     .primaryKey("id")
                     .build();
 
+    private static final TableId ORDERS = TableId.tableId("my_company", "my_branch", "orders");
+    private static final Schema ORDERS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("amount", DataTypes.BIGINT())
+                    .primaryKey("id")
+                    .build();
+
     @Test
     void testProcessElement() throws Exception {
         final int maxParallelism = 4;
@@ -155,6 +164,57 @@ class SchemaOperatorTest {
         harness.close();
     }
 
+    @Test
+    void testHoldBackDataChangeEventsDuringAsyncSchemaEvolution() throws Exception {
+        SchemaOperator schemaOperator =
+                new SchemaOperator(
+                        new ArrayList<>(),
+                        Duration.ofSeconds(30),
+                        SchemaChangeBehavior.EVOLVE,
+                        "UTC",
+                        true,
+                        100);
+        RegularEventOperatorTestHarness<SchemaOperator, Event> harness =
+                RegularEventOperatorTestHarness.withDuration(
+                        schemaOperator, 1, Duration.ofSeconds(3));
+        harness.open();
+
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS,
+                        recordDataGenerator.generate(
+                                new Object[] {1, BinaryStringData.fromString("Alice"), 12345678L}));
+        DataChangeEvent ordersInsertEvent =
+                DataChangeEvent.insertEvent(
+                        ORDERS,
+                        new BinaryRecordDataGenerator((RowType) ORDERS_SCHEMA.toRowDataType())
+                                .generate(new Object[] {1, 100L}));
+        schemaOperator.processElement(
+                new StreamRecord<>(new CreateTableEvent(ORDERS, ORDERS_SCHEMA)));
+        schemaOperator.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)));
+        schemaOperator.processElement(new StreamRecord<>(insertEvent));
+        // Records of the other tables are not held back by the pending schema change
+        schemaOperator.processElement(new StreamRecord<>(ordersInsertEvent));
+        assertThat(harness.getOutputRecords())
+                .map(StreamRecord::getValue)
+                .contains(new CreateTableEvent(ORDERS, ORDERS_SCHEMA))
+                .doesNotContain(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA), insertEvent)
+                .endsWith(ordersInsertEvent);
+
+        // Held back records must be released before checkpointing
+        schemaOperator.prepareSnapshotPreBarrier(1L);
+        assertThat(harness.getOutputRecords())
+                .map(StreamRecord::getValue)
+                .endsWith(
+                        ordersInsertEvent,
+                        new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA),
+                        insertEvent);
+        harness.close();
+    }
+
     private OneInputStreamOperatorTestHarness<Event, Event> createTestHarness(
             int maxParallelism,
             int parallelism,
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.sink.MurmurDataChangeEventHashFunctionProvider;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link MurmurDataChangeEventHashFunctionProvider}. */
+class MurmurDataChangeEventHashFunctionProviderTest {
+
+    private static final TableId ORDERS = TableId.tableId("my_company", "my_branch", "orders");
+    private static final Schema ORDERS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.BIGINT())
+                    .physicalColumn("region", DataTypes.STRING())
+                    .physicalColumn("day", DataTypes.DATE())
+                    .physicalColumn("note", DataTypes.STRING())
+                    .primaryKey("id", "region", "day")
+                    .build();
+
+    private final BinaryRecordDataGenerator generator =
+            new BinaryRecordDataGenerator((RowType) ORDERS_SCHEMA.toRowDataType());
+    private final HashFunction<DataChangeEvent> hashFunction =
+            new MurmurDataChangeEventHashFunctionProvider().getHashFunction(ORDERS, ORDERS_SCHEMA);
+
+    @Test
+    void testHashOnlyDependsOnPrimaryKeys() {
+        int hash = hashFunction.hashcode(insert(1L, "eu-west", 19000, "first"));
+        assertThat(hash).isNotNegative();
+        assertThat(hashFunction.hashcode(insert(1L, "eu-west", 19000, "second"))).isEqualTo(hash);
+        assertThat(
+                        hashFunction.hashcode(
+                                DataChangeEvent.deleteEvent(
+                                        ORDERS,
+                                        generator.generate(
+                                                new Object[] {
+                                                    1L,
+                                                    BinaryStringData.fromString("eu-west"),
+                                                    DateData.fromEpochDay(19000),
+                                                    null
+                                                }))))
+                .isEqualTo(hash);
+        assertThat(hashFunction.hashcode(insert(2L, "eu-west", 19000, "first")))
+                .isNotEqualTo(hash);
+    }
+
+    @Test
+    void testHashFunctionWithoutPrecomputedTableId() {
+        HashFunction<DataChangeEvent> sharedHashFunction =
+                new MurmurDataChangeEventHashFunctionProvider()
+                        .getHashFunction(null, ORDERS_SCHEMA);
+        // Hash of short strings stored inline and long strings stored in variable part
+        assertThat(sharedHashFunction.hashcode(insert(1L, "eu", 19000, "first")))
+                .isEqualTo(hashFunction.hashcode(insert(1L, "eu", 19000, "first")));
+        DataChangeEvent longRegionInsert = insert(1L, "a much longer region", 19000, "first");
+        assertThat(sharedHashFunction.hashcode(longRegionInsert))
+                .isEqualTo(hashFunction.hashcode(longRegionInsert));
+    }
+
+    @Test
+    void testNullPrimaryKeyFields() {
+        DataChangeEvent insert =
+                DataChangeEvent.insertEvent(
+                        ORDERS, generator.generate(new Object[] {1L, null, null, null}));
+        assertThat(hashFunction.hashcode(insert)).isNotNegative();
+    }
+
+    private DataChangeEvent insert(long id, String region, int epochDay, String note) {
+        return DataChangeEvent.insertEvent(
+                ORDERS,
+                generator.generate(
+                        new Object[] {
+                            id,
+                            BinaryStringData.fromString(region),
+                            DateData.fromEpochDay(epochDay),
+                            BinaryStringData.fromString(note)
+                        }));
+    }
+}
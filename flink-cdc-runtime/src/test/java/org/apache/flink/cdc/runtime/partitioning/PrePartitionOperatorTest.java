@@ -91,8 +91,11 @@ class PrePartitionOperatorTest {
             operator.processElement(new StreamRecord<>(flushEvent));
             assertThat(testHarness.getOutputRecords()).hasSize(DOWNSTREAM_PARALLELISM);
             for (int i = 0; i < DOWNSTREAM_PARALLELISM; i++) {
-                assertThat(testHarness.getOutputRecords().poll())
+                StreamRecord<PartitioningEvent> record = testHarness.getOutputRecords().poll();
+                assertThat(record)
                         .isEqualTo(new StreamRecord<>(PartitioningEvent.ofRegular(flushEvent, i)));
+                // Broadcast events are shared rather than copied
+                assertThat(record.getValue().getPayload()).isSameAs(flushEvent);
             }
         }
     }